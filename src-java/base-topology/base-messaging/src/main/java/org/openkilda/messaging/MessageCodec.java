@@ -0,0 +1,100 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Encoding of messages passed between components.
+ * <p/>
+ * The {@link #JSON} is the default one and remains the only format understood by all components. The {@link #SMILE}
+ * is the binary equivalent of JSON (the same data model, including the type info of polymorphic payloads), it
+ * produces smaller records and is cheaper to encode and decode. The format of a record is reported by the
+ * {@link #CONTENT_TYPE_HEADER} header, records without this header are recognized by the SMILE signature.
+ */
+public enum MessageCodec {
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile");
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+            .registerModule(new JavaTimeModule());
+
+    // ":)\n" - the header written by the SMILE generator
+    private static final byte[] SMILE_SIGNATURE = {0x3A, 0x29, 0x0A};
+
+    @Getter
+    private final String contentType;
+
+    MessageCodec(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Get the object mapper that produces/consumes this format.
+     */
+    public ObjectMapper getMapper() {
+        if (this == SMILE) {
+            return SMILE_MAPPER;
+        }
+        return SerializationUtils.MAPPER;
+    }
+
+    public byte[] encode(Object payload) throws IOException {
+        return getMapper().writeValueAsBytes(payload);
+    }
+
+    public <T> T decode(byte[] data, Class<T> base) throws IOException {
+        return getMapper().readValue(data, base);
+    }
+
+    /**
+     * Lookup the codec by the content type.
+     */
+    public static Optional<MessageCodec> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        for (MessageCodec entry : values()) {
+            if (entry.contentType.equalsIgnoreCase(contentType.trim())) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Recognize the format of the encoded message by its signature.
+     */
+    public static MessageCodec detect(byte[] data) {
+        if (data == null || data.length < SMILE_SIGNATURE.length) {
+            return JSON;
+        }
+        for (int i = 0; i < SMILE_SIGNATURE.length; i++) {
+            if (data[i] != SMILE_SIGNATURE[i]) {
+                return JSON;
+            }
+        }
+        return SMILE;
+    }
+}
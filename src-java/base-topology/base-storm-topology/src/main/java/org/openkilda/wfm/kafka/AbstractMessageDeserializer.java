@@ -17,10 +17,11 @@ package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
 import org.openkilda.messaging.AbstractMessage;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.MessageCodec;
 import org.openkilda.messaging.error.TransportErrorWrapper;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import java.io.IOException;
@@ -34,11 +35,20 @@ public class AbstractMessageDeserializer implements Deserializer<AbstractMessage
         // nothing to do
     }
 
+    @Override
+    public AbstractMessage deserialize(String topic, Headers headers, byte[] data) {
+        return decode(topic, KafkaCodecSupport.selectDecoder(headers, data), data);
+    }
+
     @Override
     public AbstractMessage deserialize(String topic, byte[] data) {
+        return decode(topic, MessageCodec.detect(data), data);
+    }
+
+    private AbstractMessage decode(String topic, MessageCodec codec, byte[] data) {
         Class<AbstractMessage> base = AbstractMessage.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            return codec.decode(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
@@ -16,11 +16,14 @@
 package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.messaging.info.DatapointEntries;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.TransportErrorWrapper;
+import org.openkilda.wfm.share.metrics.DatapointBatchCodec;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import java.io.IOException;
@@ -34,11 +37,23 @@ public class InfoDataDeserializer implements Deserializer<InfoData> {
         // No-op
     }
 
+    @Override
+    public InfoData deserialize(String topic, Headers headers, byte[] data) {
+        return decode(topic, KafkaCodecSupport.selectDecoder(headers, data), data);
+    }
+
     @Override
     public InfoData deserialize(String topic, byte[] data) {
+        return decode(topic, MessageCodec.detect(data), data);
+    }
+
+    private InfoData decode(String topic, MessageCodec codec, byte[] data) {
         Class<InfoData> base = InfoData.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            if (DatapointBatchCodec.isBatch(data)) {
+                return new DatapointEntries(DatapointBatchCodec.decode(data));
+            }
+            return codec.decode(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
@@ -0,0 +1,76 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.kafka;
+
+import org.openkilda.messaging.MessageCodec;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects {@link MessageCodec} for kafka records.
+ * <p/>
+ * Producer side uses the binary codec only for topics listed in the {@link #BINARY_TOPICS_PROPERTY} producer property
+ * and reports the used codec in the {@link MessageCodec#CONTENT_TYPE_HEADER} header. Consumer side follows the header
+ * and falls back to the payload signature for records without it.
+ */
+public final class KafkaCodecSupport {
+    public static final String BINARY_TOPICS_PROPERTY = "kilda.codec.binary-topics";
+
+    private KafkaCodecSupport() {
+    }
+
+    /**
+     * Read the set of topics that must be encoded by the binary codec from the producer properties.
+     */
+    public static Set<String> parseBinaryTopics(Map<String, ?> configs) {
+        Object value = configs != null ? configs.get(BINARY_TOPICS_PROPERTY) : null;
+        if (value == null) {
+            return ImmutableSet.of();
+        }
+        return ImmutableSet.copyOf(Splitter.on(',').trimResults().omitEmptyStrings().split(value.toString()));
+    }
+
+    /**
+     * Choose the codec for the target topic and put the content type header into the record.
+     */
+    public static MessageCodec selectEncoder(Set<String> binaryTopics, String topic, Headers headers) {
+        MessageCodec codec = binaryTopics.contains(topic) ? MessageCodec.SMILE : MessageCodec.JSON;
+        if (headers != null) {
+            headers.remove(MessageCodec.CONTENT_TYPE_HEADER);
+            headers.add(MessageCodec.CONTENT_TYPE_HEADER, codec.getContentType().getBytes(StandardCharsets.UTF_8));
+        }
+        return codec;
+    }
+
+    /**
+     * Choose the codec for the received record.
+     */
+    public static MessageCodec selectDecoder(Headers headers, byte[] data) {
+        Header header = headers != null ? headers.lastHeader(MessageCodec.CONTENT_TYPE_HEADER) : null;
+        if (header != null && header.value() != null) {
+            return MessageCodec.fromContentType(new String(header.value(), StandardCharsets.UTF_8))
+                    .orElseGet(() -> MessageCodec.detect(data));
+        }
+        return MessageCodec.detect(data);
+    }
+}
@@ -17,11 +17,12 @@ package org.openkilda.wfm.kafka;
 
 import org.openkilda.bluegreen.kafka.TransportErrorReport;
 import org.openkilda.messaging.Message;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.MessageCodec;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.TransportErrorWrapper;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import java.io.IOException;
@@ -36,11 +37,20 @@ public class MessageDeserializer implements Deserializer<Message> {
         // No-op
     }
 
+    @Override
+    public Message deserialize(String topic, Headers headers, byte[] data) {
+        return decode(topic, KafkaCodecSupport.selectDecoder(headers, data), data);
+    }
+
     @Override
     public Message deserialize(String topic, byte[] data) {
+        return decode(topic, MessageCodec.detect(data), data);
+    }
+
+    private Message decode(String topic, MessageCodec codec, byte[] data) {
         Class<Message> base = Message.class;
         try {
-            return SerializationUtils.MAPPER.readValue(data, base);
+            return codec.decode(data, base);
         } catch (IOException e) {
             TransportErrorReport errorReport = TransportErrorReport.createFromException(
                     topic, base, data, e);
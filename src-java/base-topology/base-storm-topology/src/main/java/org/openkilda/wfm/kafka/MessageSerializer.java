@@ -18,29 +18,43 @@ package org.openkilda.wfm.kafka;
 import static java.lang.String.format;
 
 import org.openkilda.messaging.Message;
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.MessageCodec;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public class MessageSerializer implements Serializer<Message> {
+    private Set<String> binaryTopics = Collections.emptySet();
 
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
-        // No-op
+        binaryTopics = KafkaCodecSupport.parseBinaryTopics(configs);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Message data) {
+        SpeakerRoutingHeaders.write(headers, data);
+        return encode(topic, KafkaCodecSupport.selectEncoder(binaryTopics, topic, headers), data);
     }
 
     @Override
     public byte[] serialize(String topic, Message data) {
+        return encode(topic, MessageCodec.JSON, data);
+    }
+
+    private byte[] encode(String topic, MessageCodec codec, Message data) {
         try {
             byte[] result = null;
             if (data != null) {
-                result = SerializationUtils.MAPPER.writeValueAsBytes(data);
+                result = codec.encode(data);
             }
             return result;
         } catch (IOException e) {
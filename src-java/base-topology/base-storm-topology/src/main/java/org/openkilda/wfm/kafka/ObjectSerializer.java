@@ -17,28 +17,42 @@ package org.openkilda.wfm.kafka;
 
 import static java.lang.String.format;
 
-import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.MessageCodec;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public class ObjectSerializer implements Serializer<Object> {
+    private Set<String> binaryTopics = Collections.emptySet();
+
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
-        // nothing to do
+        binaryTopics = KafkaCodecSupport.parseBinaryTopics(configs);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object message) {
+        return encode(topic, KafkaCodecSupport.selectEncoder(binaryTopics, topic, headers), message);
     }
 
     @Override
     public byte[] serialize(String topic, Object message) {
+        return encode(topic, MessageCodec.JSON, message);
+    }
+
+    private byte[] encode(String topic, MessageCodec codec, Object message) {
         try {
             byte[] result = null;
             if (message != null) {
-                result = SerializationUtils.MAPPER.writeValueAsBytes(message);
+                result = codec.encode(message);
             }
             return result;
         } catch (IOException e) {
@@ -0,0 +1,229 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.kafka;
+
+import org.openkilda.floodlight.api.request.SpeakerRequest;
+import org.openkilda.messaging.AbstractMessage;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.MessageContext;
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverPathCommandData;
+import org.openkilda.messaging.command.discovery.PortsCommandData;
+import org.openkilda.messaging.command.flow.DeleteMeterRequest;
+import org.openkilda.messaging.command.flow.MeterModifyCommandRequest;
+import org.openkilda.messaging.command.stats.StatsRequest;
+import org.openkilda.messaging.command.switches.DumpGroupsForFlowHsRequest;
+import org.openkilda.messaging.command.switches.DumpGroupsForSwitchManagerRequest;
+import org.openkilda.messaging.command.switches.DumpMetersForFlowHsRequest;
+import org.openkilda.messaging.command.switches.DumpMetersForSwitchManagerRequest;
+import org.openkilda.messaging.command.switches.DumpMetersRequest;
+import org.openkilda.messaging.command.switches.DumpPortDescriptionRequest;
+import org.openkilda.messaging.command.switches.DumpRulesForFlowHsRequest;
+import org.openkilda.messaging.command.switches.DumpRulesForSwitchManagerRequest;
+import org.openkilda.messaging.command.switches.DumpRulesRequest;
+import org.openkilda.messaging.command.switches.DumpSwitchPortsDescriptionRequest;
+import org.openkilda.messaging.command.switches.PortConfigurationRequest;
+import org.openkilda.messaging.command.switches.SwitchRulesDeleteRequest;
+import org.openkilda.messaging.floodlight.request.PingRequest;
+import org.openkilda.messaging.floodlight.request.RemoveBfdSession;
+import org.openkilda.messaging.floodlight.request.SetupBfdSession;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata.Kind;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Reads and writes {@link SpeakerRoutingMetadata} as kafka record headers.
+ * <p/>
+ * Headers are set by the producer side serializers ({@link MessageSerializer} and
+ * {@link AbstractMessageSerializer}), so the floodlight router is able to forward unicast requests into the region
+ * topic as raw bytes. Records without headers (produced by legacy producers) must be decoded to be routed.
+ */
+@Slf4j
+public final class SpeakerRoutingHeaders {
+    public static final String SWITCH_ID = "kilda.routing.switch-id";
+    public static final String KIND = "kilda.routing.kind";
+    public static final String CORRELATION_ID = "kilda.routing.correlation-id";
+
+    private SpeakerRoutingHeaders() {
+    }
+
+    /**
+     * Put routing headers of the message into the record headers.
+     */
+    public static void write(Headers headers, Message message) {
+        if (headers == null || message == null) {
+            return;
+        }
+        write(headers, classify(message), lookupSwitchId(message).orElse(null), message.getCorrelationId());
+    }
+
+    /**
+     * Put routing headers of the message into the record headers.
+     */
+    public static void write(Headers headers, AbstractMessage message) {
+        if (headers == null || message == null) {
+            return;
+        }
+        Kind kind = message instanceof SpeakerRequest ? Kind.HS_UNICAST : null;
+        MessageContext messageContext = message.getMessageContext();
+        write(headers, kind, lookupSwitchId(message).orElse(null),
+                messageContext != null ? messageContext.getCorrelationId() : null);
+    }
+
+    private static void write(Headers headers, Kind kind, SwitchId switchId, String correlationId) {
+        if (kind == null) {
+            return;
+        }
+        writeValue(headers, KIND, kind.name());
+        if (switchId != null) {
+            writeValue(headers, SWITCH_ID, switchId.toString());
+        }
+        if (correlationId != null) {
+            writeValue(headers, CORRELATION_ID, correlationId);
+        }
+    }
+
+    /**
+     * Read routing headers of the record.
+     *
+     * @return routing data or empty result if the record was produced without (or with malformed) routing headers.
+     */
+    public static Optional<SpeakerRoutingMetadata> read(Headers headers) {
+        String kind = readValue(headers, KIND);
+        if (kind == null) {
+            return Optional.empty();
+        }
+
+        String switchId = readValue(headers, SWITCH_ID);
+        try {
+            return Optional.of(new SpeakerRoutingMetadata(
+                    Kind.valueOf(kind), switchId != null ? new SwitchId(switchId) : null,
+                    readValue(headers, CORRELATION_ID)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignore malformed routing headers (kind: \"{}\", switchId: \"{}\"): {}",
+                    kind, switchId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks if the message should be broadcasted among regions or not.
+     */
+    public static boolean isBroadcast(CommandData payload) {
+        return payload instanceof PortsCommandData;
+    }
+
+    /**
+     * Lookup SwitchId in message object.
+     */
+    public static Optional<SwitchId> lookupSwitchId(Message message) {
+        if (message instanceof CommandMessage) {
+            return Optional.ofNullable(lookupSwitchId(((CommandMessage) message).getData()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Lookup SwitchId in message object.
+     */
+    public static Optional<SwitchId> lookupSwitchId(AbstractMessage message) {
+        if (message instanceof SpeakerRequest) {
+            return Optional.ofNullable(((SpeakerRequest) message).getSwitchId());
+        }
+        return Optional.empty();
+    }
+
+    private static SwitchId lookupSwitchId(CommandData commandData) {
+        if (commandData instanceof DiscoverIslCommandData) {
+            return ((DiscoverIslCommandData) commandData).getSwitchId();
+        } else if (commandData instanceof DiscoverIslBatchCommandData) {
+            return ((DiscoverIslBatchCommandData) commandData).getSwitchId();
+        } else if (commandData instanceof PingRequest) {
+            return ((PingRequest) commandData).getPing().getSource().getDatapath();
+        } else if (commandData instanceof DiscoverPathCommandData) {
+            return ((DiscoverPathCommandData) commandData).getSrcSwitchId();
+        } else if (commandData instanceof SwitchRulesDeleteRequest) {
+            return ((SwitchRulesDeleteRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpRulesRequest) {
+            return ((DumpRulesRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DeleteMeterRequest) {
+            return ((DeleteMeterRequest) commandData).getSwitchId();
+        } else if (commandData instanceof PortConfigurationRequest) {
+            return ((PortConfigurationRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpSwitchPortsDescriptionRequest) {
+            return ((DumpSwitchPortsDescriptionRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpPortDescriptionRequest) {
+            return ((DumpPortDescriptionRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpMetersRequest) {
+            return ((DumpMetersRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpRulesForFlowHsRequest) {
+            return ((DumpRulesForFlowHsRequest) commandData).getSwitchId();
+        } else if (commandData instanceof MeterModifyCommandRequest) {
+            return ((MeterModifyCommandRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpRulesForSwitchManagerRequest) {
+            return ((DumpRulesForSwitchManagerRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpMetersForSwitchManagerRequest) {
+            return ((DumpMetersForSwitchManagerRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpMetersForFlowHsRequest) {
+            return ((DumpMetersForFlowHsRequest) commandData).getSwitchId();
+        } else if (commandData instanceof SetupBfdSession) {
+            return ((SetupBfdSession) commandData).getBfdSession().getTarget().getDatapath();
+        } else if (commandData instanceof RemoveBfdSession) {
+            return ((RemoveBfdSession) commandData).getBfdSession().getTarget().getDatapath();
+        } else if (commandData instanceof DumpGroupsForSwitchManagerRequest) {
+            return ((DumpGroupsForSwitchManagerRequest) commandData).getSwitchId();
+        } else if (commandData instanceof DumpGroupsForFlowHsRequest) {
+            return ((DumpGroupsForFlowHsRequest) commandData).getSwitchId();
+        }
+        return null;
+    }
+
+    private static Kind classify(Message message) {
+        if (message instanceof CommandMessage) {
+            CommandData payload = ((CommandMessage) message).getData();
+            if (payload instanceof StatsRequest) {
+                return Kind.STATS;
+            } else if (isBroadcast(payload)) {
+                return Kind.BROADCAST;
+            } else if (lookupSwitchId(payload) != null) {
+                return Kind.UNICAST;
+            }
+        }
+        return null;
+    }
+
+    private static void writeValue(Headers headers, String key, String value) {
+        headers.remove(key);
+        headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readValue(Headers headers, String key) {
+        Header header = headers != null ? headers.lastHeader(key) : null;
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.kafka;
+
+import org.openkilda.model.SwitchId;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Routing data of a speaker request, carried in kafka record headers. It allows to route the request without
+ * decoding of the record payload.
+ */
+@Value
+public class SpeakerRoutingMetadata implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    Kind kind;
+    SwitchId switchId;
+    String correlationId;
+
+    /**
+     * Checks if the request must be delivered to the single region, the one that owns the switch.
+     */
+    public boolean isUnicast() {
+        return (kind == Kind.UNICAST || kind == Kind.HS_UNICAST) && switchId != null;
+    }
+
+    public enum Kind {
+        UNICAST,
+        HS_UNICAST,
+        BROADCAST,
+        STATS
+    }
+}
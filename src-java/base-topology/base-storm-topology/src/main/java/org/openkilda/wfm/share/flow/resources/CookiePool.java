@@ -21,11 +21,13 @@ import org.openkilda.persistence.repositories.FlowCookieRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.persistence.tx.TransactionRequired;
+import org.openkilda.wfm.share.utils.BitmapPool;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Optional;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for cookie de-/allocation.
@@ -39,9 +41,16 @@ public class CookiePool {
     private final long maxCookie;
     private final int poolSize;
 
+    private final BitmapPool bitmapPool;
+
     private long nextCookie = 0;
 
     public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie, int poolSize) {
+        this(persistenceManager, minCookie, maxCookie, poolSize, false);
+    }
+
+    public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie, int poolSize,
+                      boolean bitmapPoolEnabled) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         flowCookieRepository = repositoryFactory.createFlowCookieRepository();
@@ -49,6 +58,11 @@ public class CookiePool {
         this.minCookie = minCookie;
         this.maxCookie = maxCookie;
         this.poolSize = poolSize;
+
+        bitmapPool = bitmapPoolEnabled ? new BitmapPool(minCookie, maxCookie,
+                () -> flowCookieRepository.findAll().stream()
+                        .map(FlowCookie::getUnmaskedCookie)
+                        .collect(Collectors.toList())) : null;
     }
 
     /**
@@ -58,6 +72,12 @@ public class CookiePool {
      */
     @TransactionRequired
     public long allocate(String flowId) {
+        if (bitmapPool != null) {
+            long cookie = bitmapPool.allocate(candidate -> !flowCookieRepository.exists(candidate))
+                    .orElseThrow(() -> new ResourceNotAvailableException("No cookie available"));
+            addCookie(flowId, cookie);
+            return cookie;
+        }
         if (nextCookie > 0) {
             if (nextCookie <= maxCookie && !flowCookieRepository.exists(nextCookie)) {
                 addCookie(flowId, nextCookie);
@@ -110,5 +130,8 @@ public class CookiePool {
                 flowCookieRepository.findByCookie(unmaskedCookie)
                         .ifPresent(flowCookieRepository::remove)
         );
+        if (bitmapPool != null) {
+            bitmapPool.release(unmaskedCookie);
+        }
     }
 }
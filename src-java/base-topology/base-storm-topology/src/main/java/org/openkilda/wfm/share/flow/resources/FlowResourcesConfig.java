@@ -45,6 +45,14 @@ public interface FlowResourcesConfig extends Serializable {
     @Default("128")
     int getPoolsCacheSizeMeterId();
 
+    /**
+     * Track allocated transit vlans, vxlans, cookies and meter ids in in-memory bitmaps, instead of querying
+     * the database for unassigned values.
+     */
+    @Key("flow.resources.bitmap-pools.enabled")
+    @Default("false")
+    boolean isBitmapPoolsEnabled();
+
     /**
      * Minimum vlan value for flows.
      */
@@ -35,6 +35,7 @@ import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.wfm.share.flow.resources.FlowResources.PathResources;
 import org.openkilda.wfm.share.flow.resources.transitvlan.TransitVlanPool;
 import org.openkilda.wfm.share.flow.resources.vxlan.VxlanPool;
+import org.openkilda.wfm.share.utils.BitmapPool;
 import org.openkilda.wfm.share.utils.PoolManager;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -45,6 +46,7 @@ import org.apache.commons.collections4.map.LRUMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -60,6 +62,7 @@ public class FlowResourcesManager {
 
     private final LRUMap<SwitchId, PoolManager<FlowMeter>> meterIdPools;
     private final PoolManager.PoolConfig meterIdPoolConfig;
+    private final LRUMap<SwitchId, BitmapPool> meterIdBitmapPools;
 
     private final Map<FlowEncapsulationType, EncapsulationResourcesProvider> encapsulationResourcesProviders;
 
@@ -70,20 +73,22 @@ public class FlowResourcesManager {
         flowMeterRepository = repositoryFactory.createFlowMeterRepository();
 
         this.cookiePool = new CookiePool(persistenceManager, config.getMinFlowCookie(), config.getMaxFlowCookie(),
-                POOL_SIZE);
+                POOL_SIZE, config.isBitmapPoolsEnabled());
 
         meterIdPools = new LRUMap<>(config.getPoolsCacheSizeMeterId());
         meterIdPoolConfig = new PoolManager.PoolConfig(
                 config.getMinFlowMeterId(), config.getMaxFlowMeterId(), config.getPoolChunksCountMeterId());
+        meterIdBitmapPools = config.isBitmapPoolsEnabled() ? new LRUMap<>(config.getPoolsCacheSizeMeterId()) : null;
 
         this.mirrorGroupIdPool = new MirrorGroupIdPool(persistenceManager,
                 new GroupId(config.getMinGroupId()), new GroupId(config.getMaxGroupId()), POOL_SIZE);
 
         encapsulationResourcesProviders = ImmutableMap.<FlowEncapsulationType, EncapsulationResourcesProvider>builder()
                 .put(FlowEncapsulationType.TRANSIT_VLAN, new TransitVlanPool(persistenceManager,
-                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan(), POOL_SIZE))
+                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan(), POOL_SIZE,
+                        config.isBitmapPoolsEnabled()))
                 .put(FlowEncapsulationType.VXLAN, new VxlanPool(persistenceManager,
-                        config.getMinFlowVxlan(), config.getMaxFlowVxlan(), POOL_SIZE))
+                        config.getMinFlowVxlan(), config.getMaxFlowVxlan(), POOL_SIZE, config.isBitmapPoolsEnabled()))
                 .build();
     }
 
@@ -289,6 +294,14 @@ public class FlowResourcesManager {
     }
 
     private void deallocateFlowMeter(FlowMeter entity) {
+        if (meterIdBitmapPools != null) {
+            flowMeterRepository.remove(entity);
+            BitmapPool bitmapPool = meterIdBitmapPools.get(entity.getSwitchId());
+            if (bitmapPool != null) {
+                bitmapPool.release(entity.getMeterId().getValue());
+            }
+            return;
+        }
         queryMeterIdPoolManager(entity.getSwitchId())
                 .deallocate(() -> {
                     flowMeterRepository.remove(entity);
@@ -301,6 +314,19 @@ public class FlowResourcesManager {
     }
 
     private FlowMeter newFlowMeter(SwitchId switchId, String flowId, PathId pathId) {
+        if (meterIdBitmapPools != null) {
+            long meterId = meterIdBitmapPools.computeIfAbsent(switchId, this::newMeterIdBitmapPool)
+                    .allocate(candidate -> !flowMeterRepository.exists(switchId, new MeterId(candidate)))
+                    .orElseThrow(() -> new ResourceNotAvailableException(format(
+                            "Unable to find any unassigned MeterId for switch %s in range from %d to %d",
+                            switchId, meterIdPoolConfig.getIdMinimum(), meterIdPoolConfig.getIdMaximum())));
+            return FlowMeter.builder()
+                    .switchId(switchId)
+                    .flowId(flowId)
+                    .pathId(pathId)
+                    .meterId(new MeterId(meterId))
+                    .build();
+        }
         return queryMeterIdPoolManager(switchId).allocate(entityId ->
                 FlowMeter.builder()
                         .switchId(switchId)
@@ -319,4 +345,11 @@ public class FlowResourcesManager {
                 flowMeterRepository, meterIdPoolConfig, switchId);
         return new PoolManager<>(meterIdPoolConfig, adapter);
     }
+
+    private BitmapPool newMeterIdBitmapPool(SwitchId switchId) {
+        return new BitmapPool(meterIdPoolConfig.getIdMinimum(), meterIdPoolConfig.getIdMaximum(),
+                () -> flowMeterRepository.findBySwitchId(switchId).stream()
+                        .map(flowMeter -> flowMeter.getMeterId().getValue())
+                        .collect(Collectors.toList()));
+    }
 }
@@ -25,12 +25,14 @@ import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.persistence.tx.TransactionRequired;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
+import org.openkilda.wfm.share.utils.BitmapPool;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for transit vlan de-/allocation.
@@ -44,10 +46,17 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
     private final int maxTransitVlan;
     private final int poolSize;
 
+    private final BitmapPool bitmapPool;
+
     private int nextVlan = 0;
 
     public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan,
                            int poolSize) {
+        this(persistenceManager, minTransitVlan, maxTransitVlan, poolSize, false);
+    }
+
+    public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan,
+                           int poolSize, boolean bitmapPoolEnabled) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         transitVlanRepository = repositoryFactory.createTransitVlanRepository();
@@ -55,6 +64,11 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
         this.minTransitVlan = minTransitVlan;
         this.maxTransitVlan = maxTransitVlan;
         this.poolSize = poolSize;
+
+        bitmapPool = bitmapPoolEnabled ? new BitmapPool(minTransitVlan, maxTransitVlan,
+                () -> transitVlanRepository.findAll().stream()
+                        .map(transitVlan -> (long) transitVlan.getVlan())
+                        .collect(Collectors.toList())) : null;
     }
 
     /**
@@ -68,6 +82,11 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
 
     @TransactionRequired
     private TransitVlanEncapsulation allocate(Flow flow, PathId pathId) {
+        if (bitmapPool != null) {
+            long vlan = bitmapPool.allocate(candidate -> !transitVlanRepository.exists((int) candidate))
+                    .orElseThrow(() -> new ResourceNotAvailableException("No vlan available"));
+            return addVlan(flow, pathId, (int) vlan);
+        }
         if (nextVlan > 0) {
             if (nextVlan <= maxTransitVlan && !transitVlanRepository.exists(nextVlan)) {
                 return addVlan(flow, pathId, nextVlan++);
@@ -122,7 +141,14 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 transitVlanRepository.findByPathId(pathId, null)
-                        .forEach(transitVlanRepository::remove));
+                        .forEach(this::removeVlan));
+    }
+
+    private void removeVlan(TransitVlan transitVlan) {
+        transitVlanRepository.remove(transitVlan);
+        if (bitmapPool != null) {
+            bitmapPool.release(transitVlan.getVlan());
+        }
     }
 
     /**
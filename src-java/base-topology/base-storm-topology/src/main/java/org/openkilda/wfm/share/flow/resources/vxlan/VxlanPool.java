@@ -25,12 +25,14 @@ import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.persistence.tx.TransactionRequired;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
+import org.openkilda.wfm.share.utils.BitmapPool;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for vxlan de-/allocation.
@@ -44,9 +46,16 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
     private final int maxVxlan;
     private final int poolSize;
 
+    private final BitmapPool bitmapPool;
+
     private int nextVxlan = 0;
 
     public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan, int poolSize) {
+        this(persistenceManager, minVxlan, maxVxlan, poolSize, false);
+    }
+
+    public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan, int poolSize,
+                     boolean bitmapPoolEnabled) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         vxlanRepository = repositoryFactory.createVxlanRepository();
@@ -54,6 +63,11 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
         this.minVxlan = minVxlan;
         this.maxVxlan = maxVxlan;
         this.poolSize = poolSize;
+
+        bitmapPool = bitmapPoolEnabled ? new BitmapPool(minVxlan, maxVxlan,
+                () -> vxlanRepository.findAll().stream()
+                        .map(vxlan -> (long) vxlan.getVni())
+                        .collect(Collectors.toList())) : null;
     }
 
     /**
@@ -67,6 +81,11 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
 
     @TransactionRequired
     private VxlanEncapsulation allocate(Flow flow, PathId pathId) {
+        if (bitmapPool != null) {
+            long vxlan = bitmapPool.allocate(candidate -> !vxlanRepository.exists((int) candidate))
+                    .orElseThrow(() -> new ResourceNotAvailableException("No vxlan available"));
+            return addVxlan(flow, pathId, (int) vxlan);
+        }
         if (nextVxlan > 0) {
             if (nextVxlan <= maxVxlan && !vxlanRepository.exists(nextVxlan)) {
                 return addVxlan(flow, pathId, nextVxlan++);
@@ -121,7 +140,14 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 vxlanRepository.findByPathId(pathId, null)
-                        .forEach(vxlanRepository::remove));
+                        .forEach(this::removeVxlan));
+    }
+
+    private void removeVxlan(Vxlan vxlan) {
+        vxlanRepository.remove(vxlan);
+        if (bitmapPool != null) {
+            bitmapPool.release(vxlan.getVni());
+        }
     }
 
     /**
@@ -26,6 +26,7 @@ import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.history.FlowEventActionRepository;
 import org.openkilda.persistence.repositories.history.FlowEventDumpRepository;
 import org.openkilda.persistence.repositories.history.FlowEventRepository;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 import org.openkilda.persistence.repositories.history.PortEventRepository;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
@@ -66,9 +67,14 @@ public class HistoryService {
         transactionManager.doInTransaction(() -> {
             String taskId = historyHolder.getTaskId();
             if (historyHolder.getFlowEventData() != null) {
-                FlowEvent event = HistoryMapper.INSTANCE.map(historyHolder.getFlowEventData());
-                event.setTaskId(taskId);
-                flowEventRepository.add(event);
+                // Best effort deduplication, there is no unique constraint on the task id of partitioned tables.
+                if (flowEventRepository.existsByTaskId(taskId)) {
+                    log.warn("Skip flow event of task {}, it has already been stored", taskId);
+                } else {
+                    FlowEvent event = HistoryMapper.INSTANCE.map(historyHolder.getFlowEventData());
+                    event.setTaskId(taskId);
+                    flowEventRepository.add(event);
+                }
             }
 
             if (historyHolder.getFlowHistoryData() != null) {
@@ -85,6 +91,39 @@ public class HistoryService {
         });
     }
 
+    /**
+     * Save a batch of history data into data storage within a single transaction. Records of the same kind are
+     * written in the order of provided holders.
+     *
+     * @param historyHolders holders of history information.
+     */
+    public void store(List<FlowHistoryHolder> historyHolders) {
+        List<FlowEvent> events = new ArrayList<>();
+        List<FlowEventAction> actions = new ArrayList<>();
+        List<FlowEventDump> dumps = new ArrayList<>();
+        for (FlowHistoryHolder historyHolder : historyHolders) {
+            String taskId = historyHolder.getTaskId();
+            if (historyHolder.getFlowEventData() != null) {
+                FlowEvent event = HistoryMapper.INSTANCE.map(historyHolder.getFlowEventData());
+                event.setTaskId(taskId);
+                events.add(event);
+            }
+
+            if (historyHolder.getFlowHistoryData() != null) {
+                FlowEventAction history = HistoryMapper.INSTANCE.map(historyHolder.getFlowHistoryData());
+                history.setTaskId(taskId);
+                actions.add(history);
+            }
+
+            if (historyHolder.getFlowDumpData() != null) {
+                FlowEventDump dump = HistoryMapper.INSTANCE.map(historyHolder.getFlowDumpData());
+                dump.setTaskId(taskId);
+                dumps.add(dump);
+            }
+        }
+        flowEventRepository.addBatch(events, actions, dumps);
+    }
+
     /**
      * Persist the history record.
      */
@@ -106,6 +145,22 @@ public class HistoryService {
         return result;
     }
 
+    /**
+     * Fetches a page of flow history records by a flow ID and a time period. Records are ordered by time, the next
+     * page starts right after the cursor of the last record of the previous one.
+     */
+    public List<FlowEvent> listFlowEventsPage(String flowId, Instant timeFrom, Instant timeTo,
+                                              HistoryPageCursor after, int pageSize) {
+        List<FlowEvent> result = new ArrayList<>();
+        transactionManager.doInTransaction(() -> flowEventRepository
+                .findPageByFlowIdAndTimeFrame(flowId, timeFrom, timeTo, after, pageSize)
+                .forEach(entry -> {
+                    flowEventRepository.detach(entry);
+                    result.add(entry);
+                }));
+        return result;
+    }
+
     /**
      * Fetches flow status timestamps by a flow ID and a time period.
      */
@@ -127,4 +182,37 @@ public class HistoryService {
                 }));
         return result;
     }
+
+    /**
+     * Fetches a page of port history records. Records are ordered by time, the next page starts right after
+     * the cursor of the last record of the previous one.
+     */
+    public List<PortEvent> listPortHistoryPage(SwitchId switchId, int portNumber, Instant start, Instant end,
+                                               HistoryPageCursor after, int pageSize) {
+        List<PortEvent> result = new ArrayList<>();
+        transactionManager.doInTransaction(() -> portEventRepository
+                .findPageBySwitchIdAndPortNumber(switchId, portNumber, start, end, after, pageSize)
+                .forEach(entry -> {
+                    portEventRepository.detach(entry);
+                    result.add(entry);
+                }));
+        return result;
+    }
+
+    /**
+     * Removes flow and port history records created before the specified time.
+     */
+    public void purgeOlderThan(Instant time) {
+        log.info("Purge history records created before {}", time);
+        flowEventRepository.purgeOlderThan(time);
+        portEventRepository.purgeOlderThan(time);
+    }
+
+    /**
+     * Prepares the storage of flow and port history records for the upcoming days.
+     */
+    public void addUpcomingPartitions() {
+        flowEventRepository.addUpcomingPartitions();
+        portEventRepository.addUpcomingPartitions();
+    }
 }
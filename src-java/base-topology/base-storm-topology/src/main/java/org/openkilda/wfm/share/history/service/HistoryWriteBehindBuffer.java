@@ -0,0 +1,171 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.history.service;
+
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+import org.openkilda.wfm.share.metrics.MeterRegistryHolder;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for flow history records. Records are collected in the arrival order and stored by
+ * {@link HistoryService} as a single batch, once the batch size is reached or the oldest record is delayed for
+ * too long. So the records of any task id are stored in the same order they were received.
+ * <p/>
+ * The buffer never holds more than the batch size records. If the batch can't be stored, the records are stored
+ * one by one to not lose the whole batch because of a single broken record.
+ * <p/>
+ * Every record is added with a reference to its source, the carrier is notified about each reference only after
+ * the record is committed or failed to be stored.
+ *
+ * @param <R> the type of a reference to the source of a record.
+ */
+@Slf4j
+public class HistoryWriteBehindBuffer<R> {
+    private final HistoryService historyService;
+    private final HistoryWriteBehindCarrier<R> carrier;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Clock clock;
+
+    private final List<PendingRecord<R>> pending;
+    private Instant oldestPendingTime;
+
+    public HistoryWriteBehindBuffer(HistoryService historyService, HistoryWriteBehindCarrier<R> carrier,
+                                    int batchSize, Duration maxDelay) {
+        this(historyService, carrier, batchSize, maxDelay, Clock.systemUTC());
+    }
+
+    public HistoryWriteBehindBuffer(HistoryService historyService, HistoryWriteBehindCarrier<R> carrier,
+                                    int batchSize, Duration maxDelay, Clock clock) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid history batch size %d", batchSize));
+        }
+        this.historyService = historyService;
+        this.carrier = carrier;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.clock = clock;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Adds the record into the buffer and stores the batch if it is full.
+     */
+    public void add(FlowHistoryHolder historyHolder, R reference) {
+        if (pending.isEmpty()) {
+            oldestPendingTime = clock.instant();
+        }
+        pending.add(new PendingRecord<>(historyHolder, reference));
+        if (pending.size() >= batchSize) {
+            flush("size");
+        }
+    }
+
+    /**
+     * Stores the batch if the oldest buffered record has been waiting for the max delay.
+     */
+    public void tick() {
+        if (!pending.isEmpty() && !clock.instant().isBefore(oldestPendingTime.plus(maxDelay))) {
+            flush("delay");
+        }
+    }
+
+    /**
+     * Stores all buffered records.
+     */
+    public void flush() {
+        flush("demand");
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void flush(String reason) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingRecord<R>> batch = new ArrayList<>(pending);
+        pending.clear();
+        oldestPendingTime = null;
+
+        long startTime = System.nanoTime();
+        boolean success = true;
+        if (storeBatch(batch)) {
+            batch.forEach(entry -> carrier.onRecordStored(entry.getReference()));
+        } else {
+            success = storeOneByOne(batch);
+        }
+        long duration = System.nanoTime() - startTime;
+        log.debug("Stored batch of {} history records (reason: {}) in {} ms",
+                batch.size(), reason, TimeUnit.NANOSECONDS.toMillis(duration));
+        reportMetrics(batch.size(), reason, duration, success);
+    }
+
+    private boolean storeBatch(List<PendingRecord<R>> batch) {
+        try {
+            historyService.store(batch.stream()
+                    .map(PendingRecord::getHistoryHolder)
+                    .collect(Collectors.toList()));
+            return true;
+        } catch (Exception e) {
+            log.error(String.format("Unable to store batch of %d history records, fall back to store them one by one",
+                    batch.size()), e);
+            return false;
+        }
+    }
+
+    private boolean storeOneByOne(List<PendingRecord<R>> batch) {
+        boolean success = true;
+        for (PendingRecord<R> entry : batch) {
+            try {
+                historyService.store(entry.getHistoryHolder());
+            } catch (Exception e) {
+                log.error(String.format("Unable to store history record of task %s",
+                        entry.getHistoryHolder().getTaskId()), e);
+                carrier.onRecordFailed(entry.getReference());
+                success = false;
+                continue;
+            }
+            carrier.onRecordStored(entry.getReference());
+        }
+        return success;
+    }
+
+    private void reportMetrics(int size, String reason, long duration, boolean success) {
+        MeterRegistryHolder.getRegistry().ifPresent(registry -> {
+            registry.counter("history.batch.records").increment(size);
+            registry.timer("history.batch.flush", "reason", reason, "success", String.valueOf(success))
+                    .record(duration, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    @Value
+    private static class PendingRecord<R> {
+        FlowHistoryHolder historyHolder;
+        R reference;
+    }
+}
@@ -0,0 +1,276 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.metrics;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a batch of {@link Datapoint}s, to be transferred as a single Kafka record.
+ * <p/>
+ * Metric names, tag keys and tag values are interned into a dictionary written once per batch, so a point refers
+ * to them by varint indexes. Timestamps are delta encoded against the previous point, long values are zigzag
+ * varints. The first bytes of the batch can't start a JSON document, so both formats can share a topic.
+ */
+public final class DatapointBatchCodec {
+    private static final byte[] MAGIC = {0x00, 'K', 'D', 'B'};
+    private static final byte VERSION = 1;
+
+    private static final int FLAG_TIME = 0x01;
+    private static final int VALUE_NULL = 0x00;
+    private static final int VALUE_LONG = 0x02;
+    private static final int VALUE_DOUBLE = 0x04;
+    private static final int VALUE_MASK = 0x06;
+
+    private DatapointBatchCodec() {
+    }
+
+    /**
+     * Checks whether the data is a batch produced by {@link #encode(Collection)}.
+     */
+    public static boolean isBatch(byte[] data) {
+        if (data == null || data.length < MAGIC.length + 1) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes the datapoints into a single binary batch.
+     */
+    public static byte[] encode(Collection<Datapoint> datapoints) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Datapoint datapoint : datapoints) {
+            intern(dictionary, datapoint.getMetric());
+            if (datapoint.getTags() != null) {
+                datapoint.getTags().forEach((key, value) -> {
+                    intern(dictionary, key);
+                    intern(dictionary, value);
+                });
+            }
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + datapoints.size() * 16);
+        try (DataOutputStream output = new DataOutputStream(buffer)) {
+            output.write(MAGIC);
+            output.writeByte(VERSION);
+
+            writeVarLong(output, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(output, bytes.length);
+                output.write(bytes);
+            }
+
+            writeVarLong(output, datapoints.size());
+            long previousTime = 0;
+            for (Datapoint datapoint : datapoints) {
+                previousTime = writeDatapoint(output, datapoint, dictionary, previousTime);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to encode datapoints batch", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes the batch produced by {@link #encode(Collection)}.
+     */
+    public static List<Datapoint> decode(byte[] data) throws IOException {
+        if (!isBatch(data)) {
+            throw new IOException("Data is not a datapoints batch");
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            input.skipBytes(MAGIC.length);
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new IOException(String.format("Unsupported datapoints batch version %d", version));
+            }
+
+            String[] dictionary = new String[readSize(input)];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] bytes = new byte[readSize(input)];
+                input.readFully(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int count = readSize(input);
+            List<Datapoint> datapoints = new ArrayList<>(count);
+            long previousTime = 0;
+            for (int i = 0; i < count; i++) {
+                Datapoint datapoint = readDatapoint(input, dictionary, previousTime);
+                if (datapoint.getTime() != null) {
+                    previousTime = datapoint.getTime();
+                }
+                datapoints.add(datapoint);
+            }
+            return datapoints;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupted datapoints batch", e);
+        }
+    }
+
+    private static long writeDatapoint(DataOutputStream output, Datapoint datapoint, Map<String, Integer> dictionary,
+                                       long previousTime) throws IOException {
+        Number value = datapoint.getValue();
+        int header = 0;
+        if (datapoint.getTime() != null) {
+            header |= FLAG_TIME;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            header |= VALUE_DOUBLE;
+        } else if (value != null) {
+            header |= VALUE_LONG;
+        }
+        output.writeByte(header);
+
+        writeReference(output, dictionary, datapoint.getMetric());
+        Map<String, String> tags = datapoint.getTags();
+        if (tags == null) {
+            writeVarLong(output, 0);
+        } else {
+            writeVarLong(output, tags.size() + 1);
+            for (Map.Entry<String, String> entry : tags.entrySet()) {
+                writeReference(output, dictionary, entry.getKey());
+                writeReference(output, dictionary, entry.getValue());
+            }
+        }
+
+        long time = previousTime;
+        if (datapoint.getTime() != null) {
+            time = datapoint.getTime();
+            writeVarLong(output, zigzag(time - previousTime));
+        }
+
+        if ((header & VALUE_MASK) == VALUE_DOUBLE) {
+            output.writeDouble(value.doubleValue());
+        } else if ((header & VALUE_MASK) == VALUE_LONG) {
+            writeVarLong(output, zigzag(value.longValue()));
+        }
+        return time;
+    }
+
+    private static Datapoint readDatapoint(DataInputStream input, String[] dictionary, long previousTime)
+            throws IOException {
+        int header = input.readUnsignedByte();
+        final String metric = readReference(input, dictionary);
+
+        Map<String, String> tags = null;
+        int tagsSize = readSize(input);
+        if (tagsSize > 0) {
+            tags = new HashMap<>();
+            for (int i = 0; i < tagsSize - 1; i++) {
+                tags.put(readReference(input, dictionary), readReference(input, dictionary));
+            }
+        }
+
+        Long time = null;
+        if ((header & FLAG_TIME) != 0) {
+            time = previousTime + unzigzag(readVarLong(input));
+        }
+
+        Number value;
+        switch (header & VALUE_MASK) {
+            case VALUE_DOUBLE:
+                value = input.readDouble();
+                break;
+            case VALUE_LONG:
+                // Keep the same number types JSON deserialization produces.
+                long longValue = unzigzag(readVarLong(input));
+                value = longValue == (int) longValue ? Integer.valueOf((int) longValue) : Long.valueOf(longValue);
+                break;
+            case VALUE_NULL:
+                value = null;
+                break;
+            default:
+                throw new IOException(String.format("Unknown datapoint value type in header %d", header));
+        }
+        return new Datapoint(metric, time, tags, value);
+    }
+
+    private static void intern(Map<String, Integer> dictionary, String entry) {
+        if (entry != null) {
+            dictionary.putIfAbsent(entry, dictionary.size());
+        }
+    }
+
+    /**
+     * Writes the reference into the dictionary, 0 stands for null.
+     */
+    private static void writeReference(DataOutputStream output, Map<String, Integer> dictionary, String entry)
+            throws IOException {
+        writeVarLong(output, entry == null ? 0 : dictionary.get(entry) + 1);
+    }
+
+    private static String readReference(DataInputStream input, String[] dictionary) throws IOException {
+        int reference = readSize(input);
+        return reference == 0 ? null : dictionary[reference - 1];
+    }
+
+    private static int readSize(DataInputStream input) throws IOException {
+        long size = readVarLong(input);
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new IOException(String.format("Invalid size %d in datapoints batch", size));
+        }
+        return (int) size;
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int current = input.readUnsignedByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in datapoints batch");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,141 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory bitmap of allocated ids of a resource pool. The bitmap is loaded once and then updated on each
+ * allocation and release, so a free id is found by a scan over bitmap words instead of a query for gaps.
+ * <p/>
+ * The persistence layer stays the source of truth: each candidate id is verified by the provided check before
+ * it's returned. An id allocated by another worker is just marked in the bitmap and skipped. When the bitmap has
+ * no free ids left, it's reloaded once, so ids leaked by rolled back transactions or released by other workers
+ * become available again.
+ */
+@Slf4j
+public class BitmapPool {
+    private final long idMinimum;
+    private final long idMaximum;
+    private final int size;
+    private final Supplier<Collection<Long>> loader;
+
+    private BitSet allocated;
+    private int cursor;
+
+    /**
+     * Creates the pool for ids in range [idMinimum, idMaximum]. The bitmap is loaded on the first allocation.
+     *
+     * @param loader provides ids allocated in the persistence layer.
+     */
+    public BitmapPool(long idMinimum, long idMaximum, Supplier<Collection<Long>> loader) {
+        Preconditions.checkArgument(idMinimum <= idMaximum, String.format(
+                "Resources pool must have at least one entry (%d(idMinimum) > %d(idMaximum))",
+                idMinimum, idMaximum));
+        Preconditions.checkArgument(idMaximum - idMinimum < Integer.MAX_VALUE, String.format(
+                "Resources pool is too large for a bitmap (%d(idMinimum), %d(idMaximum))", idMinimum, idMaximum));
+
+        this.idMinimum = idMinimum;
+        this.idMaximum = idMaximum;
+        this.size = (int) (idMaximum - idMinimum + 1);
+        this.loader = loader;
+    }
+
+    /**
+     * Allocates a free id. The search continues from the last allocated id, so released ids aren't reused
+     * immediately.
+     *
+     * @param isFree verifies the candidate id in the persistence layer.
+     * @return the allocated id or empty if there's no free id in the pool.
+     */
+    public Optional<Long> allocate(LongPredicate isFree) {
+        if (allocated == null) {
+            reload();
+        }
+        Optional<Long> id = allocateInBitmap(isFree);
+        if (!id.isPresent()) {
+            log.debug("No free id in the bitmap of pool from {} till {}, reloading it", idMinimum, idMaximum);
+            reload();
+            id = allocateInBitmap(isFree);
+        }
+        return id;
+    }
+
+    /**
+     * Marks the id as free. Has no effect if the bitmap is not loaded yet.
+     */
+    public void release(long id) {
+        if (allocated != null && isInRange(id)) {
+            allocated.clear((int) (id - idMinimum));
+        }
+    }
+
+    /**
+     * Gets the number of ids marked as allocated.
+     */
+    public int getAllocatedCount() {
+        return allocated != null ? allocated.cardinality() : 0;
+    }
+
+    private Optional<Long> allocateInBitmap(LongPredicate isFree) {
+        int index = nextFree(cursor);
+        while (index >= 0) {
+            allocated.set(index);
+            long id = idMinimum + index;
+            if (isFree.test(id)) {
+                cursor = index + 1 < size ? index + 1 : 0;
+                return Optional.of(id);
+            }
+            log.trace("Id {} is already taken in the persistence layer", id);
+            index = nextFree(index);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the first clear bit starting from the index, wrapping around the end of the pool.
+     */
+    private int nextFree(int fromIndex) {
+        int index = allocated.nextClearBit(fromIndex);
+        if (index < size) {
+            return index;
+        }
+        index = allocated.nextClearBit(0);
+        return index < size ? index : -1;
+    }
+
+    private void reload() {
+        BitSet loaded = new BitSet(size);
+        for (Long id : loader.get()) {
+            if (id != null && isInRange(id)) {
+                loaded.set((int) (id - idMinimum));
+            }
+        }
+        allocated = loaded;
+        log.debug("Loaded {} allocated ids of pool from {} till {}", loaded.cardinality(), idMinimum, idMaximum);
+    }
+
+    private boolean isInRange(long id) {
+        return idMinimum <= id && id <= idMaximum;
+    }
+}
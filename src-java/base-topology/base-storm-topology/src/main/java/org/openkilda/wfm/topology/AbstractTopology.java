@@ -28,6 +28,7 @@ import static org.openkilda.bluegreen.kafka.Utils.PRODUCER_ZOOKEEPER_RECONNECTIO
 import org.openkilda.bluegreen.kafka.interceptors.VersioningConsumerInterceptor;
 import org.openkilda.bluegreen.kafka.interceptors.VersioningProducerInterceptor;
 import org.openkilda.config.KafkaConfig;
+import org.openkilda.config.KafkaTopicsConfig;
 import org.openkilda.config.ZookeeperConfig;
 import org.openkilda.config.naming.KafkaNamingStrategy;
 import org.openkilda.messaging.AbstractMessage;
@@ -39,6 +40,7 @@ import org.openkilda.wfm.error.ConfigurationException;
 import org.openkilda.wfm.error.NameCollisionException;
 import org.openkilda.wfm.kafka.AbstractMessageDeserializer;
 import org.openkilda.wfm.kafka.CustomNamedSubscription;
+import org.openkilda.wfm.kafka.KafkaCodecSupport;
 import org.openkilda.wfm.kafka.MessageDeserializer;
 import org.openkilda.wfm.kafka.MessageSerializer;
 import org.openkilda.wfm.kafka.ObjectSerializer;
@@ -46,6 +48,7 @@ import org.openkilda.wfm.topology.utils.AbstractMessageTranslator;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.Deserializer;
@@ -81,6 +84,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents abstract topology.
@@ -125,6 +131,7 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
         topologyConfig = configurationProvider.getConfiguration(topologyConfigClass);
         kafkaConfig = configurationProvider.getConfiguration(KafkaConfig.class);
         zookeeperConfig = configurationProvider.getConfiguration(ZookeeperConfig.class);
+        validateBinaryTopics();
         logger.debug("Topology built {}: kafka={}, parallelism={}, workers={}",
                 topologyName, kafkaConfig.getHosts(), getTopologyParallelism(), getTopologyWorkers());
         logger.info("Starting topology {} in {} mode", topologyName, topologyConfig.getBlueGreenMode());
@@ -225,6 +232,7 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
         kafka.setProperty(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, VersioningProducerInterceptor.class.getName());
         kafka.setProperty(PRODUCER_COMPONENT_NAME_PROPERTY, getZkTopoName());
         kafka.setProperty(PRODUCER_RUN_ID_PROPERTY, topologyConfig.getBlueGreenMode());
+        kafka.setProperty(KafkaCodecSupport.BINARY_TOPICS_PROPERTY, formatBinaryTopics());
         kafka.setProperty(PRODUCER_ZOOKEEPER_CONNECTION_STRING_PROPERTY, getZookeeperConfig().getConnectString());
         kafka.setProperty(PRODUCER_ZOOKEEPER_RECONNECTION_DELAY_PROPERTY,
                 Long.toString(getZookeeperConfig().getReconnectDelay()));
@@ -232,6 +240,42 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
         return kafka;
     }
 
+    private String formatBinaryTopics() {
+        return String.join(",", getBinaryTopics());
+    }
+
+    /**
+     * Floodlight, northbound, grpc-speaker and server42-control decode JSON only, so the topics they consume must
+     * never be encoded by the binary codec. Speaker requests produced by storm topologies are transcoded by the
+     * floodlight router, so only the topics written by the router into the regions are rejected here. Region
+     * specific topics are named by the topic seed with the "_region" suffix. Topic names are compared after the kafka
+     * naming is applied, as {@link KafkaTopicsConfig} values are already named.
+     */
+    private void validateBinaryTopics() {
+        KafkaTopicsConfig topics = topologyConfig.getKafkaTopics();
+        Set<String> jsonOnly = Stream.of(
+                topics.getNorthboundTopic(), topics.getGrpcSpeakerTopic(), topics.getServer42StormCommandsTopic(),
+                topics.getSpeakerRegionTopic(), topics.getSpeakerDiscoRegionTopic(),
+                topics.getSpeakerFlowRegionTopic(), topics.getSpeakerFlowPingRegionTopic(),
+                topics.getSpeakerSwitchManagerRegionTopic(), topics.getNetworkControlRegionTopic())
+                .collect(Collectors.toSet());
+
+        Set<String> invalid = getBinaryTopics().stream()
+                .filter(topic -> jsonOnly.stream().anyMatch(seed -> topic.equals(seed) || topic.startsWith(seed + "_")))
+                .collect(Collectors.toSet());
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException(format(
+                    "Topics %s can't be listed in \"kafka.binary-topics\", their consumers decode JSON only",
+                    invalid));
+        }
+    }
+
+    private List<String> getBinaryTopics() {
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(kafkaConfig.getBinaryTopics()).stream()
+                .map(kafkaNamingStrategy::kafkaTopicName)
+                .collect(Collectors.toList());
+    }
+
     private Config makeStormConfig() {
         Config stormConfig = new Config();
 
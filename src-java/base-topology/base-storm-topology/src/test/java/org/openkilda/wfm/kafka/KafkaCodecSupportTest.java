@@ -0,0 +1,96 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.model.SwitchId;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class KafkaCodecSupportTest {
+    private static final String BINARY_TOPIC = "binary";
+    private static final String JSON_TOPIC = "json";
+
+    private final CommandMessage message = new CommandMessage(
+            new DiscoverIslCommandData(new SwitchId(1), 1, 1L), 3L, "codec-test");
+
+    private final MessageSerializer serializer = new MessageSerializer();
+    private final MessageDeserializer deserializer = new MessageDeserializer();
+
+    @Before
+    public void setUp() {
+        serializer.configure(ImmutableMap.of(
+                KafkaCodecSupport.BINARY_TOPICS_PROPERTY, String.format(" %s, other ", BINARY_TOPIC)), false);
+    }
+
+    @Test
+    public void binaryTopicUsesSmile() {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(BINARY_TOPIC, headers, message);
+
+        assertEquals(MessageCodec.SMILE, MessageCodec.detect(data));
+        assertEquals(MessageCodec.SMILE.getContentType(), readContentType(headers));
+        verifyDecoded(deserializer.deserialize(BINARY_TOPIC, headers, data));
+    }
+
+    @Test
+    public void otherTopicsUseJson() {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(JSON_TOPIC, headers, message);
+
+        assertEquals(MessageCodec.JSON, MessageCodec.detect(data));
+        assertEquals(MessageCodec.JSON.getContentType(), readContentType(headers));
+        verifyDecoded(deserializer.deserialize(JSON_TOPIC, headers, data));
+    }
+
+    @Test
+    public void recordsWithoutContentTypeAreRecognizedBySignature() {
+        byte[] data = serializer.serialize(BINARY_TOPIC, new RecordHeaders(), message);
+
+        verifyDecoded(deserializer.deserialize(BINARY_TOPIC, new RecordHeaders(), data));
+        verifyDecoded(deserializer.deserialize(BINARY_TOPIC, data));
+    }
+
+    @Test
+    public void binaryEncodingIsMoreCompact() {
+        byte[] json = serializer.serialize(JSON_TOPIC, new RecordHeaders(), message);
+        byte[] smile = serializer.serialize(BINARY_TOPIC, new RecordHeaders(), message);
+
+        assertTrue(smile.length < json.length);
+    }
+
+    private void verifyDecoded(Message decoded) {
+        assertTrue(decoded instanceof CommandMessage);
+        assertEquals(message, decoded);
+        assertEquals(message.getData(), ((CommandMessage) decoded).getData());
+    }
+
+    private static String readContentType(Headers headers) {
+        return new String(headers.lastHeader(MessageCodec.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8);
+    }
+}
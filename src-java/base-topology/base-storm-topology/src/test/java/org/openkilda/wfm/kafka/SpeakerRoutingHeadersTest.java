@@ -0,0 +1,89 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.kafka;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.SerializationUtils;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.command.stats.StatsRequest;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.SwitchChangeType;
+import org.openkilda.messaging.info.event.SwitchInfoData;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata.Kind;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public class SpeakerRoutingHeadersTest {
+    private static final SwitchId SWITCH_ID = new SwitchId(1);
+    private static final String CORRELATION_ID = "routing-headers-test";
+
+    @Test
+    public void unicastRequestHeaders() throws Exception {
+        CommandMessage request = new CommandMessage(
+                new DiscoverIslCommandData(SWITCH_ID, 1, 1L), 3L, CORRELATION_ID);
+        Headers headers = new RecordHeaders();
+        byte[] payload = new MessageSerializer().serialize("topic", headers, request);
+
+        assertArrayEquals(SerializationUtils.MAPPER.writeValueAsBytes(request), payload);
+
+        Optional<SpeakerRoutingMetadata> metadata = SpeakerRoutingHeaders.read(headers);
+        assertTrue(metadata.isPresent());
+        assertTrue(metadata.get().isUnicast());
+        assertEquals(new SpeakerRoutingMetadata(Kind.UNICAST, SWITCH_ID, CORRELATION_ID), metadata.get());
+    }
+
+    @Test
+    public void statsRequestIsNotUnicast() {
+        Headers headers = new RecordHeaders();
+        SpeakerRoutingHeaders.write(headers, new CommandMessage(new StatsRequest(), 3L, CORRELATION_ID));
+
+        SpeakerRoutingMetadata metadata = SpeakerRoutingHeaders.read(headers).get();
+        assertEquals(Kind.STATS, metadata.getKind());
+        assertNull(metadata.getSwitchId());
+        assertFalse(metadata.isUnicast());
+    }
+
+    @Test
+    public void notRoutableMessageHasNoHeaders() {
+        Headers headers = new RecordHeaders();
+        SpeakerRoutingHeaders.write(headers, new InfoMessage(
+                new SwitchInfoData(SWITCH_ID, SwitchChangeType.ACTIVATED), 3L, CORRELATION_ID));
+
+        assertFalse(headers.iterator().hasNext());
+        assertFalse(SpeakerRoutingHeaders.read(headers).isPresent());
+    }
+
+    @Test
+    public void malformedHeadersAreIgnored() {
+        Headers headers = new RecordHeaders();
+        headers.add(SpeakerRoutingHeaders.KIND, Kind.UNICAST.name().getBytes(StandardCharsets.UTF_8));
+        headers.add(SpeakerRoutingHeaders.SWITCH_ID, "not-a-switch".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(SpeakerRoutingHeaders.read(headers).isPresent());
+    }
+}
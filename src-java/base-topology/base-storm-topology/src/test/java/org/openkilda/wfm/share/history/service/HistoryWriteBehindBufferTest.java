@@ -0,0 +1,151 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.history.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.wfm.share.history.model.FlowHistoryData;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+public class HistoryWriteBehindBufferTest {
+    private static final int BATCH_SIZE = 3;
+    private static final Duration MAX_DELAY = Duration.ofSeconds(1);
+    private static final Instant NOW = Instant.parse("2022-05-01T10:00:00Z");
+
+    private HistoryService historyService;
+    private HistoryWriteBehindCarrier<String> carrier;
+    private Clock clock;
+    private HistoryWriteBehindBuffer<String> buffer;
+
+    @Before
+    public void setUp() {
+        historyService = mock(HistoryService.class);
+        carrier = mock(HistoryWriteBehindCarrier.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        buffer = new HistoryWriteBehindBuffer<>(historyService, carrier, BATCH_SIZE, MAX_DELAY, clock);
+    }
+
+    @Test
+    public void shouldStoreBatchInArrivalOrderWhenFull() {
+        FlowHistoryHolder first = buildHolder("task-1", "first");
+        FlowHistoryHolder second = buildHolder("task-2", "second");
+        FlowHistoryHolder third = buildHolder("task-1", "third");
+
+        buffer.add(first, "first");
+        buffer.add(second, "second");
+        verify(historyService, never()).store(anyList());
+        verifyNoInteractions(carrier);
+
+        buffer.add(third, "third");
+        verify(historyService).store(Lists.newArrayList(first, second, third));
+        assertEquals(0, buffer.getPendingCount());
+
+        InOrder order = inOrder(carrier);
+        order.verify(carrier).onRecordStored("first");
+        order.verify(carrier).onRecordStored("second");
+        order.verify(carrier).onRecordStored("third");
+    }
+
+    @Test
+    public void shouldStoreBatchWhenDelayExpired() {
+        FlowHistoryHolder holder = buildHolder("task-1", "first");
+        buffer.add(holder, "holder");
+
+        when(clock.instant()).thenReturn(NOW.plus(MAX_DELAY).minusMillis(1));
+        buffer.tick();
+        verify(historyService, never()).store(anyList());
+
+        when(clock.instant()).thenReturn(NOW.plus(MAX_DELAY));
+        buffer.tick();
+        verify(historyService).store(Lists.newArrayList(holder));
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    public void shouldIgnoreTickWhenEmpty() {
+        when(clock.instant()).thenReturn(NOW.plus(MAX_DELAY).plusSeconds(10));
+        buffer.tick();
+        buffer.flush();
+
+        verify(historyService, never()).store(anyList());
+    }
+
+    @Test
+    public void shouldStoreRecordsOneByOneWhenBatchFailed() {
+        FlowHistoryHolder first = buildHolder("task-1", "first");
+        FlowHistoryHolder second = buildHolder("task-1", "second");
+        doThrow(new RuntimeException("batch failed")).when(historyService).store(anyList());
+        doThrow(new RuntimeException("record failed")).when(historyService).store(first);
+
+        buffer.add(first, "first");
+        buffer.add(second, "second");
+        buffer.flush();
+
+        InOrder order = inOrder(historyService);
+        order.verify(historyService).store(anyList());
+        order.verify(historyService).store(first);
+        order.verify(historyService).store(second);
+        assertEquals(0, buffer.getPendingCount());
+
+        verify(carrier).onRecordFailed("first");
+        verify(carrier).onRecordStored("second");
+        verify(carrier, never()).onRecordStored("first");
+    }
+
+    @Test
+    public void shouldNotStoreRecordsOneByOneWhenBatchStored() {
+        buffer.add(buildHolder("task-1", "first"), "first");
+        buffer.flush();
+
+        verify(historyService).store(anyList());
+        verify(historyService, never()).store(any(FlowHistoryHolder.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidBatchSize() {
+        new HistoryWriteBehindBuffer<>(historyService, carrier, 0, MAX_DELAY, clock);
+    }
+
+    private static FlowHistoryHolder buildHolder(String taskId, String action) {
+        return FlowHistoryHolder.builder()
+                .taskId(taskId)
+                .flowHistoryData(FlowHistoryData.builder()
+                        .action(action)
+                        .flowId("flow")
+                        .time(NOW)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.Utils;
+import org.openkilda.messaging.info.Datapoint;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class DatapointBatchCodecTest {
+    private static final long TIMESTAMP = 1651399200000L;
+
+    @Test
+    public void shouldDecodeEncodedDatapoints() throws IOException {
+        Map<String, String> tags = ImmutableMap.of("switchid", "00:00:00:00:00:00:00:01", "port", "10");
+        List<Datapoint> datapoints = Arrays.asList(
+                new Datapoint("kilda.switch.rx-bytes", TIMESTAMP, tags, 100),
+                new Datapoint("kilda.switch.tx-bytes", TIMESTAMP - 1000, tags, Long.MAX_VALUE),
+                new Datapoint("kilda.switch.rx-bytes", TIMESTAMP + 5000, tags, -1.5D),
+                new Datapoint("kilda.switch.state", null, null, null));
+
+        byte[] data = DatapointBatchCodec.encode(datapoints);
+        assertTrue(DatapointBatchCodec.isBatch(data));
+
+        List<Datapoint> decoded = DatapointBatchCodec.decode(data);
+        assertEquals(datapoints, decoded);
+        assertEquals(Long.valueOf(TIMESTAMP), decoded.get(0).getTime());
+        assertEquals(Long.valueOf(TIMESTAMP - 1000), decoded.get(1).getTime());
+        assertEquals(Long.valueOf(TIMESTAMP + 5000), decoded.get(2).getTime());
+        assertNull(decoded.get(3).getTime());
+    }
+
+    @Test
+    public void shouldNotDetectJsonAsBatch() throws IOException {
+        Datapoint datapoint = new Datapoint("kilda.switch.rx-bytes", TIMESTAMP, ImmutableMap.of("port", "1"), 1);
+        byte[] json = Utils.MAPPER.writeValueAsString(datapoint).getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(DatapointBatchCodec.isBatch(json));
+        assertFalse(DatapointBatchCodec.isBatch(new byte[0]));
+        assertFalse(DatapointBatchCodec.isBatch(null));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailOnTruncatedBatch() throws IOException {
+        byte[] data = DatapointBatchCodec.encode(Arrays.asList(
+                new Datapoint("kilda.switch.rx-bytes", TIMESTAMP, ImmutableMap.of("port", "1"), 1)));
+
+        DatapointBatchCodec.decode(Arrays.copyOf(data, data.length - 1));
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() throws IOException {
+        List<Datapoint> datapoints = new ArrayList<>();
+        int jsonSize = 0;
+        for (int port = 1; port <= 48; port++) {
+            Datapoint datapoint = new Datapoint("kilda.switch.rx-bytes", TIMESTAMP,
+                    ImmutableMap.of("switchid", "00:00:00:00:00:00:00:01", "port", String.valueOf(port)),
+                    port * 1000L);
+            datapoints.add(datapoint);
+            jsonSize += Utils.MAPPER.writeValueAsBytes(datapoint).length;
+        }
+
+        byte[] data = DatapointBatchCodec.encode(datapoints);
+
+        assertTrue(data.length * 4 < jsonSize);
+        assertEquals(datapoints.size(), DatapointBatchCodec.decode(data).size());
+    }
+}
@@ -0,0 +1,103 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+public class BitmapPoolTest {
+    private static final long ID_MINIMUM = 10;
+    private static final long ID_MAXIMUM = 19;
+
+    private Set<Long> persisted;
+    private int loadCount;
+    private BitmapPool bitmapPool;
+
+    @Before
+    public void setUp() {
+        persisted = new HashSet<>();
+        loadCount = 0;
+        bitmapPool = new BitmapPool(ID_MINIMUM, ID_MAXIMUM, () -> {
+            loadCount++;
+            return new ArrayList<>(persisted);
+        });
+    }
+
+    @Test
+    public void testSequentialAllocation() {
+        for (long id = ID_MINIMUM; id <= ID_MAXIMUM; id++) {
+            Assert.assertEquals(Optional.of(id), allocate());
+        }
+        Assert.assertFalse(allocate().isPresent());
+        Assert.assertEquals(2, loadCount);
+    }
+
+    @Test
+    public void testSkipAllocatedOnLoad() {
+        persisted.add(ID_MINIMUM);
+        persisted.add(ID_MINIMUM + 1);
+
+        Assert.assertEquals(Optional.of(ID_MINIMUM + 2), allocate());
+        Assert.assertEquals(3, bitmapPool.getAllocatedCount());
+        Assert.assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void testSkipAllocatedByOthers() {
+        Assert.assertEquals(Optional.of(ID_MINIMUM), allocate());
+        persisted.add(ID_MINIMUM + 1);
+
+        Assert.assertEquals(Optional.of(ID_MINIMUM + 2), allocate());
+        Assert.assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void testReuseReleasedAfterWrapAround() {
+        for (long id = ID_MINIMUM; id < ID_MAXIMUM; id++) {
+            allocate();
+        }
+        persisted.remove(ID_MINIMUM + 3);
+        bitmapPool.release(ID_MINIMUM + 3);
+
+        Assert.assertEquals(Optional.of(ID_MAXIMUM), allocate());
+        Assert.assertEquals(Optional.of(ID_MINIMUM + 3), allocate());
+        Assert.assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void testReloadWhenFull() {
+        for (long id = ID_MINIMUM; id <= ID_MAXIMUM; id++) {
+            allocate();
+        }
+        // Emulates a rolled back allocation, the bitmap isn't aware of it.
+        persisted.remove(ID_MINIMUM + 5);
+
+        Assert.assertEquals(Optional.of(ID_MINIMUM + 5), allocate());
+        Assert.assertEquals(2, loadCount);
+    }
+
+    private Optional<Long> allocate() {
+        Optional<Long> id = bitmapPool.allocate(candidate -> !persisted.contains(candidate));
+        id.ifPresent(persisted::add);
+        return id;
+    }
+}
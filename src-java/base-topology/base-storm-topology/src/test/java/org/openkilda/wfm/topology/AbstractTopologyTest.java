@@ -49,6 +49,7 @@ public class AbstractTopologyTest extends AbstractStormTest {
     public static final Integer FIRST_BOLT_PARALLELISM = 2;
     public static final Integer FIRST_BOLT_NUM_TASKS = 3;
     public static final Integer SECOND_BOLT_PARALLELISM = 8;
+    public static final String BINARY_TOPICS_PROPERTY = "kafka.binary-topics";
 
 
     @Test
@@ -134,17 +135,45 @@ public class AbstractTopologyTest extends AbstractStormTest {
         assertEquals(numTasks, topology.getBoltInstancesCount(FIRST_BOLT_NAME));
     }
 
+    @Test
+    public void acceptStormOnlyBinaryTopicsTest() throws CmdLineException, ConfigurationException, IOException {
+        new TestTopology(getLaunchEnvironment("kilda.topo.history.storm.priv, kilda.speaker.storm"), TOPOLOGY_NAME);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNorthboundBinaryTopicTest() throws CmdLineException, ConfigurationException, IOException {
+        new TestTopology(getLaunchEnvironment("kilda.topo.history.storm.priv,kilda.northbound"), TOPOLOGY_NAME);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectSpeakerRegionBinaryTopicTest() throws CmdLineException, ConfigurationException, IOException {
+        new TestTopology(getLaunchEnvironment("kilda.speaker_1"), TOPOLOGY_NAME);
+    }
+
     private LaunchEnvironment getLaunchEnvironment() throws IOException, CmdLineException, ConfigurationException {
         return getLaunchEnvironment(FIRST_BOLT_PARALLELISM, FIRST_BOLT_NUM_TASKS);
     }
 
+    private LaunchEnvironment getLaunchEnvironment(String binaryTopics)
+            throws IOException, CmdLineException, ConfigurationException {
+        Properties extra = new Properties();
+        extra.put(BINARY_TOPICS_PROPERTY, binaryTopics);
+        return getLaunchEnvironment(FIRST_BOLT_PARALLELISM, FIRST_BOLT_NUM_TASKS, extra);
+    }
+
     /**
      * Uses /resources/test_topology.yaml config file to create launch environment.
      */
     private LaunchEnvironment getLaunchEnvironment(int firstBoltParallelism, int firstBoltNumTasks)
             throws IOException, CmdLineException, ConfigurationException {
+        return getLaunchEnvironment(firstBoltParallelism, firstBoltNumTasks, new Properties());
+    }
+
+    private LaunchEnvironment getLaunchEnvironment(int firstBoltParallelism, int firstBoltNumTasks, Properties extra)
+            throws IOException, CmdLineException, ConfigurationException {
         makeConfigFile();
         Properties properties = new Properties();
+        properties.putAll(extra);
         properties.put(FIRST_BOLT_NAME_PROPERTY, FIRST_BOLT_NAME);
         properties.put(TOPOLOGY_PARALLELISM_PROPERTY, String.valueOf(TOPOLOGY_PARALLELISM));
         properties.put(FIRST_BOLT_PARALLELISM_PROPERTY, String.valueOf(firstBoltParallelism));
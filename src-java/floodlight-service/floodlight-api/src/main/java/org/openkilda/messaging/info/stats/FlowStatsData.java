@@ -18,6 +18,7 @@ package org.openkilda.messaging.info.stats;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.model.SwitchId;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -26,12 +27,22 @@ import java.util.List;
 
 /**
  * This class contains the flow stats replies for a given switch.
+ * <p/>
+ * If delta reports are enabled in the speaker, a message may carry only the entries changed since the previous message
+ * of the switch, with a full report sent every keyframe interval. The entries missing from a delta message are
+ * unchanged, not removed. Consumers must not rely on a message to list all entries of the switch, and nothing
+ * reassembles the full state from the deltas.
+ * <p/>
+ * The only consumer is the stats topology: SpeakerStatsRouterBolt, SystemRuleMetricGenBolt, CacheBolt and
+ * FlowMetricGenBolt. Each of them turns every reported entry into datapoints on its own, so none of them needs
+ * the full state of the switch.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
         "message_type",
         "switch_id",
-        "stats"})
+        "stats",
+        "delta"})
 public class FlowStatsData extends InfoData {
 
     private static final long serialVersionUID = 1L;
@@ -42,10 +53,24 @@ public class FlowStatsData extends InfoData {
     @JsonProperty
     private List<FlowStatsEntry> stats;
 
+    /**
+     * True if {@link #stats} contains only the entries changed since the previous message for the switch, false if it
+     * contains all entries of the switch.
+     */
+    @JsonProperty("delta")
+    private boolean delta;
+
+    public FlowStatsData(SwitchId switchId, List<FlowStatsEntry> switchStats) {
+        this(switchId, switchStats, false);
+    }
+
+    @JsonCreator
     public FlowStatsData(@JsonProperty("switch_id") SwitchId switchId,
-                         @JsonProperty("stats") List<FlowStatsEntry> switchStats) {
+                         @JsonProperty("stats") List<FlowStatsEntry> switchStats,
+                         @JsonProperty("delta") boolean delta) {
         this.switchId = switchId;
         this.stats = switchStats;
+        this.delta = delta;
     }
 
     public SwitchId getSwitchId() {
@@ -55,4 +80,8 @@ public class FlowStatsData extends InfoData {
     public List<FlowStatsEntry> getStats() {
         return stats;
     }
+
+    public boolean isDelta() {
+        return delta;
+    }
 }
@@ -18,6 +18,7 @@ package org.openkilda.messaging.info.stats;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.model.SwitchId;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -26,9 +27,16 @@ import lombok.Value;
 
 import java.util.List;
 
+/**
+ * This class contains the meter stats replies for a given switch.
+ * <p/>
+ * The same delta contract as for {@link FlowStatsData} applies, a delta message carries only the changed entries.
+ * It's consumed by SpeakerStatsRouterBolt, CacheBolt and MeterStatsMetricGenBolt of the stats topology, which
+ * handle each entry on its own.
+ */
 @Value
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"switch_id", "stats"})
+@JsonPropertyOrder({"switch_id", "stats", "delta"})
 @EqualsAndHashCode(callSuper = false)
 public class MeterStatsData extends InfoData {
 
@@ -40,9 +48,23 @@ public class MeterStatsData extends InfoData {
     @JsonProperty
     private List<MeterStatsEntry> stats;
 
+    /**
+     * True if {@link #stats} contains only the entries changed since the previous message for the switch, false if it
+     * contains all entries of the switch.
+     */
+    @JsonProperty("delta")
+    private boolean delta;
+
+    public MeterStatsData(SwitchId switchId, List<MeterStatsEntry> switchStats) {
+        this(switchId, switchStats, false);
+    }
+
+    @JsonCreator
     public MeterStatsData(@JsonProperty("switch_id") SwitchId switchId,
-                          @JsonProperty("stats") List<MeterStatsEntry> switchStats) {
+                          @JsonProperty("stats") List<MeterStatsEntry> switchStats,
+                          @JsonProperty("delta") boolean delta) {
         this.switchId = switchId;
         this.stats = switchStats;
+        this.delta = delta;
     }
 }
@@ -0,0 +1,44 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.messaging.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Port and id of a discovery packet, the item of the batched discovery request and confirmation.
+ */
+@Value
+public class DiscoPacketRef implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("port_number")
+    int portNumber;
+
+    @JsonProperty("packet_id")
+    long packetId;
+
+    @JsonCreator
+    public DiscoPacketRef(@JsonProperty("port_number") int portNumber,
+                          @JsonProperty("packet_id") long packetId) {
+        this.portNumber = portNumber;
+        this.packetId = packetId;
+    }
+}
@@ -19,6 +19,7 @@ import org.openkilda.floodlight.config.provider.FloodlightModuleConfigurationPro
 import org.openkilda.floodlight.service.CommandProcessorService;
 import org.openkilda.floodlight.service.FeatureDetectorService;
 import org.openkilda.floodlight.service.IService;
+import org.openkilda.floodlight.service.SwitchTableSnapshotService;
 import org.openkilda.floodlight.service.connected.ConnectedDevicesService;
 import org.openkilda.floodlight.service.of.InputService;
 import org.openkilda.floodlight.service.session.SessionService;
@@ -53,6 +54,7 @@ public class KildaCore implements IFloodlightModule, IFloodlightService {
                 .put(CommandProcessorService.class, new CommandProcessorService(this, commandContextFactory))
                 .put(InputService.class, new InputService(commandContextFactory))
                 .put(SessionService.class, new SessionService())
+                .put(SwitchTableSnapshotService.class, new SwitchTableSnapshotService())
                 .put(FeatureDetectorService.class, new FeatureDetectorService())
                 .put(ConnectedDevicesService.class, new ConnectedDevicesService())
                 .put(ZooKeeperService.class, new ZooKeeperService())
@@ -69,4 +69,19 @@ public interface KildaCoreConfig {
     @Default("00:26:E1:FF:FF:FD")
     String getServer42IslRttMagicMacAddress();
 
+    /**
+     * How long a dump of switch table can be reused by verifications of OF batches, if there were no writes into the
+     * switch since the dump. Set 0 to share only dumps in progress.
+     */
+    @Key("table-snapshot-max-age-millis")
+    @Default("500")
+    long getTableSnapshotMaxAgeMillis();
+
+    /**
+     * The max number of cookies (meter ids) to read from the switch one by one instead of reading the whole table.
+     */
+    @Key("table-snapshot-filtered-dump-limit")
+    @Default("32")
+    int getTableSnapshotFilteredDumpLimit();
+
 }
@@ -22,6 +22,8 @@ import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
 import org.openkilda.floodlight.api.BatchCommandProcessor;
+import org.openkilda.floodlight.service.SwitchTableSnapshotService;
+import org.openkilda.floodlight.service.session.BatchWriteResult;
 import org.openkilda.floodlight.service.session.Session;
 import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.messaging.MessageContext;
@@ -39,7 +41,6 @@ import org.projectfloodlight.openflow.protocol.OFErrorMsg;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,8 @@ public class OfBatchExecutor {
     private final String kafkaKey;
     private final boolean failIfExists;
     private final String sourceTopic;
+    private final Set<Long> verifiedCookies = new HashSet<>();
+    private final Set<Long> verifiedMeterIds = new HashSet<>();
 
     private boolean hasMeters;
     private boolean hasGroups;
@@ -76,7 +79,7 @@ public class OfBatchExecutor {
     public OfBatchExecutor(IOFSwitch iofSwitch, BatchCommandProcessor commandProcessor, SessionService sessionService,
                            MessageContext messageContext, OfBatchHolder holder,
                            Set<SwitchFeature> switchFeatures, String kafkaKey, String sourceTopic,
-                           Boolean failIfExists) {
+                           Boolean failIfExists, SwitchTableSnapshotService snapshotService) {
         this.iofSwitch = iofSwitch;
         this.commandProcessor = commandProcessor;
         this.sessionService = sessionService;
@@ -85,6 +88,7 @@ public class OfBatchExecutor {
                 .messageContext(messageContext)
                 .switchFeatures(switchFeatures)
                 .kafkaKey(kafkaKey)
+                .snapshotService(snapshotService)
                 .build();
         this.messageContext = messageContext;
         this.holder = holder;
@@ -110,6 +114,9 @@ public class OfBatchExecutor {
                 hasFlows |= batchData.isFlow();
                 hasMeters |= batchData.isMeter();
                 hasGroups |= batchData.isGroup();
+                if (batchData.isPresenceBeVerified()) {
+                    collectVerifiedIds(batchData);
+                }
                 stageMessages.add(batchData);
             } else {
                 Map<UUID, String> blockingDependencies = holder.getBlockingDependencies(uuid);
@@ -128,39 +135,19 @@ public class OfBatchExecutor {
             removeAlreadyExists(stageMessages);
         }
 
-        Collection<OFMessage> ofMessages = stageMessages.stream()
+        List<OFMessage> ofMessages = stageMessages.stream()
                 .map(BatchData::getMessage)
                 .collect(Collectors.toList());
-        List<CompletableFuture<Optional<OFMessage>>> requests = new ArrayList<>();
+        CompletableFuture<BatchWriteResult> stageResult;
         try (Session session = sessionService.open(messageContext, iofSwitch)) {
-            for (OFMessage message : ofMessages) {
-                requests.add(session.write(message).whenComplete((res, ex) -> {
-                    log.debug("Check responses (key={}, xid={}, res={}, ex={})", kafkaKey, message.getXid(), res, ex);
-                    if (ex == null) {
-                        res.ifPresent(ofMessage -> {
-                            if (ofMessage instanceof OFErrorMsg) {
-                                UUID uuid = holder.popAwaitingXid(ofMessage.getXid());
-                                OFErrorMsg errorMsg = (OFErrorMsg) ofMessage;
-                                holder.recordFailedUuid(uuid, errorMsg.getErrType().toString());
-                            } else {
-                                onSuccessfulOfMessage(ofMessage);
-                            }
-                        });
-                        // session.write() completes successfully with no result.
-                        if (!res.isPresent()) {
-                            onSuccessfulOfMessage(message);
-                        }
-                    } else {
-                        log.error("Received error {}", ex.getMessage(), ex);
-                        UUID uuid = holder.popAwaitingXid(message.getXid());
-                        holder.recordFailedUuid(uuid, ex.getMessage());
-                    }
-                }));
-            }
+            stageResult = session.write(ofMessages);
         }
 
-        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
-                .thenAccept(ignore -> checkOfResponses())
+        stageResult
+                .thenAccept(result -> {
+                    checkWriteResult(result);
+                    checkOfResponses();
+                })
                 .exceptionally(ex -> {
                     holder.otherFail("Failed to process OpenFlow messages.", ex);
                     sendResponse();
@@ -168,9 +155,45 @@ public class OfBatchExecutor {
                 });
     }
 
+    private void collectVerifiedIds(BatchData batchData) {
+        if (batchData.isFlow()) {
+            verifiedCookies.add(((FlowSpeakerData) batchData.getOrigin()).getCookie().getValue());
+        } else if (batchData.isMeter()) {
+            verifiedMeterIds.add(((MeterSpeakerData) batchData.getOrigin()).getMeterId().getValue());
+        }
+    }
+
+    private void checkWriteResult(BatchWriteResult result) {
+        log.debug("Check responses (key={}, messages={})", kafkaKey, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            OFMessage message = result.getRequest(i);
+            Optional<Exception> error = result.getError(i);
+            if (error.isPresent()) {
+                log.error("Received error {} (key={}, xid={})", error.get().getMessage(), kafkaKey,
+                        message.getXid(), error.get());
+                UUID uuid = holder.popAwaitingXid(message.getXid());
+                holder.recordFailedUuid(uuid, error.get().getMessage());
+                continue;
+            }
+
+            Optional<OFMessage> response = result.getResponse(i);
+            if (response.isPresent() && response.get() instanceof OFErrorMsg) {
+                UUID uuid = holder.popAwaitingXid(response.get().getXid());
+                OFErrorMsg errorMsg = (OFErrorMsg) response.get();
+                holder.recordFailedUuid(uuid, errorMsg.getErrType().toString());
+            } else {
+                // The message is written successfully if there is no response.
+                onSuccessfulOfMessage(response.orElse(message));
+            }
+        }
+    }
+
     private void removeAlreadyExists(List<BatchData> stageMessages) {
         if (hasMeters) {
-            meterStats = switchDataProvider.getMeters();
+            meterStats = switchDataProvider.getMeters(stageMessages.stream()
+                    .filter(BatchData::isMeter)
+                    .map(data -> ((MeterSpeakerData) data.getOrigin()).getMeterId().getValue())
+                    .collect(Collectors.toSet()));
         }
         if (hasGroups) {
             groupStats = switchDataProvider.getGroups();
@@ -212,13 +235,13 @@ public class OfBatchExecutor {
 
     private void checkOfResponses() {
         if (hasMeters) {
-            meterStats = switchDataProvider.getMeters();
+            meterStats = switchDataProvider.getMeters(verifiedMeterIds);
         }
         if (hasGroups) {
             groupStats = switchDataProvider.getGroups();
         }
         if (hasFlows) {
-            flowStats = switchDataProvider.getFlows();
+            flowStats = switchDataProvider.getFlows(verifiedCookies);
         }
         CompletableFuture.allOf(meterStats, groupStats, flowStats)
                 .thenAccept(ignore -> runVerify())
@@ -242,6 +265,8 @@ public class OfBatchExecutor {
             hasMeters = false;
             hasGroups = false;
             hasFlows = false;
+            verifiedCookies.clear();
+            verifiedMeterIds.clear();
             executeBatch();
         } else {
             sendResponse();
@@ -26,6 +26,7 @@ import org.openkilda.floodlight.api.request.rulemanager.ModifySpeakerCommandsReq
 import org.openkilda.floodlight.api.request.rulemanager.OfCommand;
 import org.openkilda.floodlight.api.response.rulemanager.SpeakerCommandResponse;
 import org.openkilda.floodlight.service.FeatureDetectorService;
+import org.openkilda.floodlight.service.SwitchTableSnapshotService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
 import org.openkilda.floodlight.service.session.SessionService;
@@ -47,6 +48,7 @@ public class OfSpeakerService implements BatchCommandProcessor {
     private final SessionService sessionService;
     private final IKafkaProducerService kafkaProducerService;
     private final FeatureDetectorService featureDetectorService;
+    private final SwitchTableSnapshotService snapshotService;
 
     private final Map<String, String> responseTopics;
 
@@ -55,6 +57,7 @@ public class OfSpeakerService implements BatchCommandProcessor {
         this.sessionService = moduleContext.getServiceImpl(SessionService.class);
         this.kafkaProducerService = moduleContext.getServiceImpl(IKafkaProducerService.class);
         this.featureDetectorService = moduleContext.getServiceImpl(FeatureDetectorService.class);
+        this.snapshotService = moduleContext.getServiceImpl(SwitchTableSnapshotService.class);
 
         KafkaUtilityService kafkaUtilityService = moduleContext.getServiceImpl(KafkaUtilityService.class);
         KafkaChannel kafkaChannel = kafkaUtilityService.getKafkaChannel();
@@ -106,6 +109,7 @@ public class OfSpeakerService implements BatchCommandProcessor {
                 .kafkaKey(key)
                 .failIfExists(failIfExists)
                 .sourceTopic(request.getSourceTopic())
+                .snapshotService(snapshotService)
                 .build();
         executor.executeBatch();
     }
@@ -26,6 +26,7 @@ import org.projectfloodlight.openflow.protocol.OFGroupDescStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFMeterConfigStatsReply;
 import org.projectfloodlight.openflow.protocol.OFMeterConfigStatsRequest;
 import org.projectfloodlight.openflow.types.OFGroup;
+import org.projectfloodlight.openflow.types.U64;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -47,9 +48,26 @@ public final class OfUtils {
                 messageContext, sw.writeStatsRequest(makeMeterReadCommand(sw)));
     }
 
+    /**
+     * Run verify of the single meter.
+     * @param messageContext message context
+     * @param sw target switch
+     * @param meterId meter id to read
+     * @return future with stats reply
+     */
+    public static CompletableFuture<List<OFMeterConfigStatsReply>> getMeters(MessageContext messageContext,
+                                                                             IOFSwitch sw, long meterId) {
+        return new CompletableFutureAdapter<>(
+                messageContext, sw.writeStatsRequest(makeMeterReadCommand(sw, meterId)));
+    }
+
     private static OFMeterConfigStatsRequest makeMeterReadCommand(IOFSwitch sw) {
+        return makeMeterReadCommand(sw, 0xffffffff);
+    }
+
+    private static OFMeterConfigStatsRequest makeMeterReadCommand(IOFSwitch sw, long meterId) {
         return sw.getOFFactory().buildMeterConfigStatsRequest()
-                .setMeterId(0xffffffff)
+                .setMeterId(meterId)
                 .build();
     }
 
@@ -77,12 +95,30 @@ public final class OfUtils {
                 messageContext, sw.writeStatsRequest(makeFlowStatsCommand(sw)));
     }
 
+    /**
+     * Read flows with the specified cookie.
+     * @param messageContext message context
+     * @param sw target switch
+     * @param cookie cookie of flows to read
+     * @return future with stats reply
+     */
+    public static CompletableFuture<List<OFFlowStatsReply>> getFlows(MessageContext messageContext,
+                                                                     IOFSwitch sw, long cookie) {
+        return new CompletableFutureAdapter<>(
+                messageContext, sw.writeStatsRequest(makeFlowStatsCommand(sw, cookie)));
+    }
+
     private static OFFlowStatsRequest makeFlowStatsCommand(IOFSwitch sw) {
         OFFlowStatsRequest.Builder request = sw.getOFFactory().buildFlowStatsRequest()
                 .setOutGroup(OFGroup.ANY);
         return request.build();
     }
 
-
-
+    private static OFFlowStatsRequest makeFlowStatsCommand(IOFSwitch sw, long cookie) {
+        return sw.getOFFactory().buildFlowStatsRequest()
+                .setOutGroup(OFGroup.ANY)
+                .setCookie(U64.of(cookie))
+                .setCookieMask(U64.NO_MASK)
+                .build();
+    }
 }
@@ -18,6 +18,7 @@ package org.openkilda.floodlight.command.rulemanager;
 import org.openkilda.floodlight.converter.rulemanager.OfFlowConverter;
 import org.openkilda.floodlight.converter.rulemanager.OfGroupConverter;
 import org.openkilda.floodlight.converter.rulemanager.OfMeterConverter;
+import org.openkilda.floodlight.service.SwitchTableSnapshotService;
 import org.openkilda.messaging.MessageContext;
 import org.openkilda.model.SwitchFeature;
 import org.openkilda.model.SwitchId;
@@ -28,8 +29,12 @@ import org.openkilda.rulemanager.MeterSpeakerData;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import net.floodlightcontroller.core.IOFSwitch;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+import org.projectfloodlight.openflow.protocol.OFGroupDescStatsReply;
+import org.projectfloodlight.openflow.protocol.OFMeterConfigStatsReply;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +42,9 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides ability to read OpenFlow flows, meters and groups from switch in RuleManager format.
+ *
+ * <p>If the {@link SwitchTableSnapshotService} is provided, the data is read via it, so dumps of the switch tables are
+ * shared with other readers.
  */
 @Slf4j
 public class SwitchDataProvider {
@@ -45,21 +53,77 @@ public class SwitchDataProvider {
     private final MessageContext messageContext;
     private final Set<SwitchFeature> switchFeatures;
     private final String kafkaKey;
+    private final SwitchTableSnapshotService snapshotService;
 
     @Builder
     public SwitchDataProvider(IOFSwitch iofSwitch, MessageContext messageContext,
-                              Set<SwitchFeature> switchFeatures, String kafkaKey) {
+                              Set<SwitchFeature> switchFeatures, String kafkaKey,
+                              SwitchTableSnapshotService snapshotService) {
         this.iofSwitch = iofSwitch;
         this.messageContext = messageContext;
         this.switchFeatures = switchFeatures;
         this.kafkaKey = kafkaKey;
+        this.snapshotService = snapshotService;
     }
 
     /**
      * Request flow data from switch and convert it to RuleManager representation.
      */
     public CompletableFuture<List<FlowSpeakerData>> getFlows() {
-        return OfUtils.getFlows(messageContext, iofSwitch)
+        if (snapshotService != null) {
+            return convertFlows(snapshotService.getFlows(messageContext, iofSwitch));
+        }
+        return convertFlows(OfUtils.getFlows(messageContext, iofSwitch));
+    }
+
+    /**
+     * Request flows with the specified cookies from switch and convert them to RuleManager representation.
+     */
+    public CompletableFuture<List<FlowSpeakerData>> getFlows(Collection<Long> cookies) {
+        if (snapshotService != null) {
+            if (cookies.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return convertFlows(snapshotService.getFlows(messageContext, iofSwitch, cookies));
+        }
+        return getFlows();
+    }
+
+    /**
+     * Request meter data from switch and convert it to RuleManager representation.
+     */
+    public CompletableFuture<List<MeterSpeakerData>> getMeters() {
+        if (snapshotService != null) {
+            return convertMeters(snapshotService.getMeters(messageContext, iofSwitch));
+        }
+        return convertMeters(OfUtils.getMeters(messageContext, iofSwitch));
+    }
+
+    /**
+     * Request meters with the specified ids from switch and convert them to RuleManager representation.
+     */
+    public CompletableFuture<List<MeterSpeakerData>> getMeters(Collection<Long> meterIds) {
+        if (snapshotService != null) {
+            if (meterIds.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return convertMeters(snapshotService.getMeters(messageContext, iofSwitch, meterIds));
+        }
+        return getMeters();
+    }
+
+    /**
+     * Request group data from switch and convert it to RuleManager representation.
+     */
+    public CompletableFuture<List<GroupSpeakerData>> getGroups() {
+        if (snapshotService != null) {
+            return convertGroups(snapshotService.getGroups(messageContext, iofSwitch));
+        }
+        return convertGroups(OfUtils.getGroups(messageContext, iofSwitch));
+    }
+
+    private CompletableFuture<List<FlowSpeakerData>> convertFlows(CompletableFuture<List<OFFlowStatsReply>> request) {
+        return request
                 .thenCompose(replies -> {
                     log.debug("Get flow stats: {} (key={})", replies, kafkaKey);
                     List<FlowSpeakerData> switchFlows = new ArrayList<>();
@@ -76,11 +140,9 @@ public class SwitchDataProvider {
                 });
     }
 
-    /**
-     * Request meter data from switch and convert it to RuleManager representation.
-     */
-    public CompletableFuture<List<MeterSpeakerData>> getMeters() {
-        return OfUtils.getMeters(messageContext, iofSwitch)
+    private CompletableFuture<List<MeterSpeakerData>> convertMeters(
+            CompletableFuture<List<OFMeterConfigStatsReply>> request) {
+        return request
                 .thenCompose(replies -> {
                     log.debug("Get meter stats: {} (key={})", replies, kafkaKey);
                     boolean inaccurate = switchFeatures.contains(SwitchFeature.INACCURATE_METER);
@@ -97,11 +159,9 @@ public class SwitchDataProvider {
                 });
     }
 
-    /**
-     * Request group data from switch and convert it to RuleManager representation.
-     */
-    public CompletableFuture<List<GroupSpeakerData>> getGroups() {
-        return OfUtils.getGroups(messageContext, iofSwitch)
+    private CompletableFuture<List<GroupSpeakerData>> convertGroups(
+            CompletableFuture<List<OFGroupDescStatsReply>> request) {
+        return request
                 .thenCompose(replies -> {
                     log.debug("Get group stats: {} (key={})", replies, kafkaKey);
                     List<GroupSpeakerData> switchGroups = new ArrayList<>();
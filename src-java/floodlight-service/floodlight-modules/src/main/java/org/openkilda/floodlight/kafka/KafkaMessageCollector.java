@@ -19,6 +19,7 @@ import org.openkilda.floodlight.KafkaChannel;
 import org.openkilda.floodlight.config.provider.FloodlightModuleConfigurationProvider;
 import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.service.CommandProcessorService;
+import org.openkilda.floodlight.service.SwitchTableSnapshotService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaConsumerSetup;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
@@ -72,6 +73,7 @@ public class KafkaMessageCollector implements IFloodlightModule {
                 CommandProcessorService.class,
                 SwitchTrackingService.class,
                 SessionService.class,
+                SwitchTableSnapshotService.class,
                 IStatisticsService.class,
                 ZooKeeperService.class);
     }
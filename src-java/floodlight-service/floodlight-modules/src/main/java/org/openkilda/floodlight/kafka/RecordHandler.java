@@ -53,6 +53,7 @@ import org.openkilda.messaging.MessageData;
 import org.openkilda.messaging.command.BroadcastWrapper;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverPathCommandData;
 import org.openkilda.messaging.command.discovery.NetworkCommandData;
@@ -153,6 +154,8 @@ class RecordHandler implements Runnable {
 
         if (data instanceof DiscoverIslCommandData) {
             doDiscoverIslCommand((DiscoverIslCommandData) data, message.getCorrelationId());
+        } else if (data instanceof DiscoverIslBatchCommandData) {
+            doDiscoverIslBatchCommand((DiscoverIslBatchCommandData) data, message.getCorrelationId());
         } else if (data instanceof DiscoverPathCommandData) {
             doDiscoverPathCommand(data);
         } else if (data instanceof NetworkCommandData) {
@@ -215,6 +218,10 @@ class RecordHandler implements Runnable {
         context.getDiscoveryEmitter().handleRequest(command, correlationId);
     }
 
+    private void doDiscoverIslBatchCommand(DiscoverIslBatchCommandData command, String correlationId) {
+        context.getDiscoveryEmitter().handleRequest(command, correlationId);
+    }
+
     private void doDiscoverPathCommand(CommandData data) {
         DiscoverPathCommandData command = (DiscoverPathCommandData) data;
         logger.warn("NOT IMPLEMENTED: sending discover Path to {}", command);
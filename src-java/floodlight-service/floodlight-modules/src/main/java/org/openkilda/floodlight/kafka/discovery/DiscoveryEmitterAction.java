@@ -29,9 +29,19 @@ abstract class DiscoveryEmitterAction {
         this.discovery = discovery;
     }
 
-    public abstract void perform(NetworkDiscoveryEmitter emitter);
-
-    public abstract void flush(NetworkDiscoveryEmitter emitter);
+    /**
+     * Perform the action on the request arrival.
+     *
+     * @return the discovery to be emitted right now or null.
+     */
+    public abstract DiscoveryHolder perform(NetworkDiscoveryEmitter emitter);
+
+    /**
+     * Flush the action on the delay expiration.
+     *
+     * @return the discovery to be emitted right now or null.
+     */
+    public abstract DiscoveryHolder flush();
 
     protected abstract void suppress(NetworkDiscoveryEmitter emitter);
 }
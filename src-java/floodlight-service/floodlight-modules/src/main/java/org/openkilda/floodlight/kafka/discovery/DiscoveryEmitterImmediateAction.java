@@ -23,13 +23,14 @@ public class DiscoveryEmitterImmediateAction extends DiscoveryEmitterAction {
     }
 
     @Override
-    public void perform(NetworkDiscoveryEmitter emitter) {
-        emitter.emit(getDiscovery());
+    public DiscoveryHolder perform(NetworkDiscoveryEmitter emitter) {
+        return getDiscovery();
     }
 
     @Override
-    public void flush(NetworkDiscoveryEmitter emitter) {
+    public DiscoveryHolder flush() {
         // nothing to do here - action was immediately performed
+        return null;
     }
 
     @Override
@@ -26,13 +26,14 @@ public class DiscoveryEmitterPostponedAction extends DiscoveryEmitterAction {
     }
 
     @Override
-    public void perform(NetworkDiscoveryEmitter emitter) {
+    public DiscoveryHolder perform(NetworkDiscoveryEmitter emitter) {
         previous.suppress(emitter);
+        return null;
     }
 
     @Override
-    public void flush(NetworkDiscoveryEmitter emitter) {
-        emitter.emit(getDiscovery());
+    public DiscoveryHolder flush() {
+        return getDiscovery();
     }
 
     @Override
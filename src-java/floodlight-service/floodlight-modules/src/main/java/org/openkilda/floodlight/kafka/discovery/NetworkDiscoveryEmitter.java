@@ -19,9 +19,13 @@ import org.openkilda.floodlight.KafkaChannel;
 import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.discovery.DiscoPacketBatchSendingConfirmation;
 import org.openkilda.messaging.info.discovery.DiscoPacketSendingConfirmation;
+import org.openkilda.messaging.model.DiscoPacketRef;
 import org.openkilda.messaging.model.NetworkEndpoint;
 import org.openkilda.model.SwitchId;
 
@@ -34,9 +38,12 @@ import org.projectfloodlight.openflow.types.OFPort;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -73,18 +80,30 @@ public class NetworkDiscoveryEmitter {
      * Handle discovery request. Make a decision is it can be processed immediately or should be postponed.
      */
     public void handleRequest(DiscoverIslCommandData request, String correlationId) {
-        Target target = Target.of(request);
+        DiscoveryHolder discovery = track(new DiscoveryHolder(correlationId, request));
+        if (discovery != null) {
+            emit(request.getSwitchId(), Collections.singletonList(discovery));
+        }
+    }
 
-        DiscoveryHolder discovery = new DiscoveryHolder(correlationId, request);
-        // To put new action at the end of tracing iteration list we must perform remove and put actions.
-        DiscoveryEmitterAction replacement;
-        synchronized (tracking) {
-            DiscoveryEmitterAction current = tracking.remove(target);
-            replacement = selectAction(current, discovery);
-            tracking.put(target, replacement);
+    /**
+     * Handle batched discovery request. Each port is processed the same way as a single discovery request, all
+     * packets sent immediately are confirmed by one message.
+     */
+    public void handleRequest(DiscoverIslBatchCommandData request, String correlationId) {
+        List<DiscoveryHolder> immediate = new ArrayList<>(request.getPackets().size());
+        for (DiscoPacketRef entry : request.getPackets()) {
+            DiscoverIslCommandData portRequest = new DiscoverIslCommandData(
+                    request.getSwitchId(), entry.getPortNumber(), entry.getPacketId());
+            DiscoveryHolder discovery = track(new DiscoveryHolder(correlationId, portRequest));
+            if (discovery != null) {
+                immediate.add(discovery);
+            }
         }
 
-        replacement.perform(this);
+        if (!immediate.isEmpty()) {
+            emit(request.getSwitchId(), immediate);
+        }
     }
 
     /**
@@ -92,35 +111,70 @@ public class NetworkDiscoveryEmitter {
      */
     public void tick() {
         Instant now = clock.instant();
-        LinkedList<DiscoveryEmitterAction> toFlush = new LinkedList<>();
+        Map<SwitchId, List<DiscoveryHolder>> toFlush = new LinkedHashMap<>();
         synchronized (tracking) {
             Set<Entry<Target, DiscoveryEmitterAction>> entries = tracking.entrySet();
             Iterator<Entry<Target, DiscoveryEmitterAction>> iter = entries.iterator();
             while (iter.hasNext()) {
-                DiscoveryEmitterAction action = iter.next().getValue();
+                Entry<Target, DiscoveryEmitterAction> entry = iter.next();
+                DiscoveryEmitterAction action = entry.getValue();
                 if (now.isBefore(action.getExpireTime())) {
                     break;
                 }
 
-                toFlush.addLast(action);
+                DiscoveryHolder discovery = action.flush();
+                if (discovery != null) {
+                    toFlush.computeIfAbsent(entry.getKey().getSwitchId(), key -> new ArrayList<>())
+                            .add(discovery);
+                }
                 iter.remove();
             }
         }
 
-        for (DiscoveryEmitterAction action : toFlush) {
-            action.flush(this);
+        for (Entry<SwitchId, List<DiscoveryHolder>> entry : toFlush.entrySet()) {
+            emit(entry.getKey(), entry.getValue());
         }
     }
 
-    void emit(DiscoveryHolder discovery) {
-        DiscoverIslCommandData request = discovery.getDiscoveryRequest();
-        DatapathId dpId = DatapathId.of(request.getSwitchId().getId());
-        pathVerificationService.sendDiscoveryMessage(dpId, OFPort.of(request.getPortNumber()), request.getPacketId());
+    private DiscoveryHolder track(DiscoveryHolder discovery) {
+        Target target = Target.of(discovery.getDiscoveryRequest());
 
-        DiscoPacketSendingConfirmation confirmation = new DiscoPacketSendingConfirmation(
-                new NetworkEndpoint(request.getSwitchId(), request.getPortNumber()), request.getPacketId());
-        kafkaProducerService.sendMessageAndTrackWithZk(confirmationTopic, request.getSwitchId().toString(),
-                new InfoMessage(confirmation, System.currentTimeMillis(), discovery.getCorrelationId(), region));
+        // To put new action at the end of tracing iteration list we must perform remove and put actions.
+        DiscoveryEmitterAction replacement;
+        synchronized (tracking) {
+            DiscoveryEmitterAction current = tracking.remove(target);
+            replacement = selectAction(current, discovery);
+            tracking.put(target, replacement);
+        }
+
+        return replacement.perform(this);
+    }
+
+    /**
+     * Send discovery packets via ports of one switch and confirm them. Several packets are confirmed by one batched
+     * confirmation message.
+     */
+    private void emit(SwitchId switchId, List<DiscoveryHolder> discoveries) {
+        DatapathId dpId = DatapathId.of(switchId.getId());
+        List<DiscoPacketRef> packets = new ArrayList<>(discoveries.size());
+        for (DiscoveryHolder discovery : discoveries) {
+            DiscoverIslCommandData request = discovery.getDiscoveryRequest();
+            pathVerificationService.sendDiscoveryMessage(
+                    dpId, OFPort.of(request.getPortNumber()), request.getPacketId());
+            packets.add(new DiscoPacketRef(request.getPortNumber(), request.getPacketId()));
+        }
+
+        InfoData confirmation;
+        if (packets.size() == 1) {
+            DiscoPacketRef packet = packets.get(0);
+            confirmation = new DiscoPacketSendingConfirmation(
+                    new NetworkEndpoint(switchId, packet.getPortNumber()), packet.getPacketId());
+        } else {
+            confirmation = new DiscoPacketBatchSendingConfirmation(switchId, packets);
+        }
+        kafkaProducerService.sendMessageAndTrackWithZk(confirmationTopic, switchId.toString(),
+                new InfoMessage(confirmation, System.currentTimeMillis(), discoveries.get(0).getCorrelationId(),
+                        region));
     }
 
     void suppress(DiscoveryHolder discovery) {
@@ -0,0 +1,216 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service;
+
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.KildaCoreConfig;
+import org.openkilda.floodlight.command.rulemanager.OfUtils;
+import org.openkilda.floodlight.service.session.SessionService;
+import org.openkilda.messaging.MessageContext;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.floodlightcontroller.core.IOFSwitch;
+import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+import org.projectfloodlight.openflow.protocol.OFGroupDescStatsReply;
+import org.projectfloodlight.openflow.protocol.OFMeterConfigStatsReply;
+import org.projectfloodlight.openflow.protocol.OFVersion;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares dumps of OpenFlow tables of switches between concurrent readers.
+ *
+ * <p>Concurrent requests for the same table of the same switch are served by the single dump request. The completed
+ * dump is reused while there were no writes into the switch and it isn't older than the configured max age. Writes
+ * are tracked by {@link SessionService}, so writes which bypass it must be reported by
+ * {@link SessionService#recordWrite}, as SwitchManager does. Flows and meters can be requested by cookies and meter
+ * ids, in this case only the requested entries are read from the switch, if the OF version of the switch allows it.
+ */
+@Slf4j
+public class SwitchTableSnapshotService implements IService {
+    private final Map<SnapshotKey, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+
+    private SessionService sessionService;
+    private long maxAgeNanos;
+    private int filteredDumpLimit;
+
+    public SwitchTableSnapshotService() {
+    }
+
+    @VisibleForTesting
+    SwitchTableSnapshotService(SessionService sessionService, long maxAgeMillis, int filteredDumpLimit) {
+        init(sessionService, maxAgeMillis, filteredDumpLimit);
+    }
+
+    @Override
+    public void setup(FloodlightModuleContext moduleContext) {
+        KildaCoreConfig config = moduleContext.getServiceImpl(KildaCore.class).getConfig();
+        init(moduleContext.getServiceImpl(SessionService.class), config.getTableSnapshotMaxAgeMillis(),
+                config.getTableSnapshotFilteredDumpLimit());
+    }
+
+    /**
+     * Read all flows of the switch.
+     */
+    public CompletableFuture<List<OFFlowStatsReply>> getFlows(MessageContext context, IOFSwitch sw) {
+        return lookup(new SnapshotKey(sw.getId(), TableType.FLOW, null), sw, () -> OfUtils.getFlows(context, sw));
+    }
+
+    /**
+     * Read flows with the specified cookies. All flows of the switch are read if there are too many cookies or the
+     * switch doesn't support filtering by cookie.
+     */
+    public CompletableFuture<List<OFFlowStatsReply>> getFlows(MessageContext context, IOFSwitch sw,
+                                                              Collection<Long> cookies) {
+        if (!isFilteredDumpAllowed(sw, cookies)) {
+            return getFlows(context, sw);
+        }
+        List<CompletableFuture<List<OFFlowStatsReply>>> requests = new ArrayList<>();
+        for (Long cookie : new LinkedHashSet<>(cookies)) {
+            requests.add(lookup(new SnapshotKey(sw.getId(), TableType.FLOW, cookie), sw,
+                    () -> OfUtils.getFlows(context, sw, cookie)));
+        }
+        return joinAll(requests);
+    }
+
+    /**
+     * Read all meters of the switch.
+     */
+    public CompletableFuture<List<OFMeterConfigStatsReply>> getMeters(MessageContext context, IOFSwitch sw) {
+        return lookup(new SnapshotKey(sw.getId(), TableType.METER, null), sw, () -> OfUtils.getMeters(context, sw));
+    }
+
+    /**
+     * Read meters with the specified ids. All meters of the switch are read if there are too many meter ids.
+     */
+    public CompletableFuture<List<OFMeterConfigStatsReply>> getMeters(MessageContext context, IOFSwitch sw,
+                                                                      Collection<Long> meterIds) {
+        if (!isFilteredDumpAllowed(sw, meterIds)) {
+            return getMeters(context, sw);
+        }
+        List<CompletableFuture<List<OFMeterConfigStatsReply>>> requests = new ArrayList<>();
+        for (Long meterId : new LinkedHashSet<>(meterIds)) {
+            requests.add(lookup(new SnapshotKey(sw.getId(), TableType.METER, meterId), sw,
+                    () -> OfUtils.getMeters(context, sw, meterId)));
+        }
+        return joinAll(requests);
+    }
+
+    /**
+     * Read all groups of the switch. OpenFlow has no way to read the group description by group id, so groups are
+     * always read in full.
+     */
+    public CompletableFuture<List<OFGroupDescStatsReply>> getGroups(MessageContext context, IOFSwitch sw) {
+        return lookup(new SnapshotKey(sw.getId(), TableType.GROUP, null), sw, () -> OfUtils.getGroups(context, sw));
+    }
+
+    private void init(SessionService sessionService, long maxAgeMillis, int filteredDumpLimit) {
+        this.sessionService = sessionService;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+        this.filteredDumpLimit = filteredDumpLimit;
+    }
+
+    private boolean isFilteredDumpAllowed(IOFSwitch sw, Collection<Long> ids) {
+        return ids.size() <= filteredDumpLimit && sw.getOFFactory().getVersion().compareTo(OFVersion.OF_13) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<List<T>> lookup(SnapshotKey key, IOFSwitch sw,
+                                                  Supplier<CompletableFuture<List<T>>> request) {
+        long generation = sessionService.getWriteGeneration(sw.getId());
+        if (generation < 0) {
+            return request.get();
+        }
+
+        long now = System.nanoTime();
+        Snapshot<T> created = new Snapshot<>(generation, now);
+        Snapshot<T> snapshot = (Snapshot<T>) snapshots.compute(key, (ignore, current) ->
+                current != null && current.isUsable(generation, now, maxAgeNanos) ? current : created);
+        if (snapshot == created) {
+            dump(key, created, request);
+        } else {
+            log.debug("Reuse {} dump of switch {} (generation={})", key.getType(), key.getDpId(), generation);
+        }
+        // Don't let the caller complete the shared future.
+        return snapshot.getReplies().thenApply(Function.identity());
+    }
+
+    private <T> void dump(SnapshotKey key, Snapshot<T> snapshot, Supplier<CompletableFuture<List<T>>> request) {
+        try {
+            request.get().whenComplete((replies, error) -> {
+                // Filtered dumps are cheap, so they are shared only while in progress.
+                if (error != null || key.getFilter() != null || maxAgeNanos <= 0) {
+                    snapshots.remove(key, snapshot);
+                }
+                if (error != null) {
+                    snapshot.getReplies().completeExceptionally(error);
+                } else {
+                    snapshot.getReplies().complete(replies != null ? replies : Collections.emptyList());
+                }
+            });
+        } catch (Exception e) {
+            snapshots.remove(key, snapshot);
+            snapshot.getReplies().completeExceptionally(e);
+        }
+    }
+
+    private static <T> CompletableFuture<List<T>> joinAll(List<CompletableFuture<List<T>>> requests) {
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignore -> {
+                    List<T> result = new ArrayList<>();
+                    for (CompletableFuture<List<T>> entry : requests) {
+                        result.addAll(entry.join());
+                    }
+                    return result;
+                });
+    }
+
+    private enum TableType {
+        FLOW, METER, GROUP
+    }
+
+    @Value
+    private static class SnapshotKey {
+        DatapathId dpId;
+        TableType type;
+        Long filter;
+    }
+
+    @Value
+    private static class Snapshot<T> {
+        long generation;
+        long createdAt;
+        CompletableFuture<List<T>> replies = new CompletableFuture<>();
+
+        boolean isUsable(long currentGeneration, long now, long maxAgeNanos) {
+            return generation == currentGeneration && (!replies.isDone() || now - createdAt <= maxAgeNanos);
+        }
+    }
+}
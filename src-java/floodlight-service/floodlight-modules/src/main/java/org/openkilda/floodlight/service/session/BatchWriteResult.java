@@ -0,0 +1,61 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service.session;
+
+import org.projectfloodlight.openflow.protocol.OFMessage;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of the batch of OF messages written via {@link Session#write(List)}. Outcomes are indexed by positions of
+ * messages in the written batch. A message without the response and without the error is written successfully.
+ */
+public class BatchWriteResult {
+    private final List<OFMessage> requests;
+    private final List<OFMessage> responses;
+    private final List<Exception> errors;
+
+    /**
+     * Creates the result. All lists must be of the same size, absent responses and errors are represented by nulls.
+     */
+    public BatchWriteResult(List<OFMessage> requests, List<OFMessage> responses, List<Exception> errors) {
+        if (requests.size() != responses.size() || requests.size() != errors.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Sizes of requests (%d), responses (%d) and errors (%d) don't match",
+                    requests.size(), responses.size(), errors.size()));
+        }
+        this.requests = requests;
+        this.responses = responses;
+        this.errors = errors;
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    public OFMessage getRequest(int index) {
+        return requests.get(index);
+    }
+
+    public Optional<OFMessage> getResponse(int index) {
+        return Optional.ofNullable(responses.get(index));
+    }
+
+    public Optional<Exception> getError(int index) {
+        return Optional.ofNullable(errors.get(index));
+    }
+}
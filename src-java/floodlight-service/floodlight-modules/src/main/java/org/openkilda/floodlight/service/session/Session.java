@@ -33,11 +33,14 @@ import org.projectfloodlight.openflow.protocol.OFType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 /**
@@ -51,6 +54,9 @@ import java.util.stream.Stream;
  * successful write operation.
  *
  * <p>In other words you will not get successful confirmation for sent messaged until you close the session.
+ *
+ * <p>Large amounts of messages should be sent by {@link #write(List)}. Such batch is written into the switch with the
+ * single flush and is traced by the single future.
  */
 public class Session implements AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(Session.class);
@@ -64,6 +70,7 @@ public class Session implements AutoCloseable {
     private boolean completed = false;
 
     private final Map<Long, CompletableFuture<Optional<OFMessage>>> requestsByXid = new ConcurrentHashMap<>();
+    private final List<WriteBatch> batches = new CopyOnWriteArrayList<>();
 
     Session(SwitchSessions group, IOFSwitch sw, MessageContext context) {
         this.group = group;
@@ -78,6 +85,7 @@ public class Session implements AutoCloseable {
         ensureOpen();
 
         CompletableFuture<Optional<OFMessage>> future = prepareRequest(message);
+        group.recordWrite();
         try {
             actualWrite(message);
         } catch (SwitchWriteException e) {
@@ -90,6 +98,22 @@ public class Session implements AutoCloseable {
         return future;
     }
 
+    /**
+     * Send the batch of OF messages to the switch with the single flush and register it in session to trace possible
+     * responses. The returned future is completed when the session is completed, i.e. the same way as futures of
+     * the single message writes, and it is never completed exceptionally, errors are reported per message.
+     */
+    public CompletableFuture<BatchWriteResult> write(List<OFMessage> messages) {
+        ensureOpen();
+
+        WriteBatch batch = new WriteBatch(sw.getId(), messages);
+        batches.add(batch);
+        group.bindBatch(this);
+        group.recordWrite();
+        actualWrite(batch);
+        return batch.getFuture();
+    }
+
     public void resetError() {
         error = false;
     }
@@ -100,6 +124,7 @@ public class Session implements AutoCloseable {
             SessionRevertException e = new SessionRevertException(sw.getId());
             incompleteRequestsStream()
                     .forEach(entry -> entry.completeExceptionally(e));
+            batches.forEach(entry -> entry.complete(e));
             return;
         }
 
@@ -116,6 +141,7 @@ public class Session implements AutoCloseable {
             SessionCloseException closeError = new SessionCloseException(sw.getId());
             incompleteRequestsStream()
                     .forEach(entry -> entry.completeExceptionally(closeError));
+            batches.forEach(entry -> entry.complete(closeError));
         }
     }
 
@@ -132,6 +158,7 @@ public class Session implements AutoCloseable {
             SessionConnectionLostException e = new SessionConnectionLostException(sw.getId());
             incompleteRequestsStream()
                     .forEach(entry -> entry.completeExceptionally(e));
+            batches.forEach(entry -> entry.complete(e));
         }
     }
 
@@ -146,8 +173,13 @@ public class Session implements AutoCloseable {
         future = requestsByXid.get(message.getXid());
 
         if (future == null) {
-            throw new IllegalArgumentException(String.format(
-                    "%s must never route \"foreign\" response", group.getClass().getName()));
+            WriteBatch batch = findBatch(message.getXid());
+            if (batch == null) {
+                throw new IllegalArgumentException(String.format(
+                        "%s must never route \"foreign\" response", group.getClass().getName()));
+            }
+            batch.handleResponse(message);
+            return false;
         }
         if (future.isDone()) {
             // it can already be marked as failed by results of some session wide errors
@@ -167,12 +199,17 @@ public class Session implements AutoCloseable {
             if (closingBarrier != null && closingBarrier.isDone()) {
                 incompleteRequestsStream()
                         .forEach(entry -> entry.complete(Optional.empty()));
+                batches.forEach(entry -> entry.complete(null));
                 return true;
             }
             return false;
         }
     }
 
+    boolean isBatchXid(long xid) {
+        return findBatch(xid) != null;
+    }
+
     Set<Long> getAllXids() {
         return ImmutableSet.copyOf(requestsByXid.keySet());
     }
@@ -203,6 +240,36 @@ public class Session implements AutoCloseable {
         }
     }
 
+    private void actualWrite(WriteBatch batch) {
+        List<OFMessage> messages = batch.getMessages();
+        log.info("push {} OF messages to {}: {}", messages.size(), sw.getId(), batch.describe());
+        if (log.isDebugEnabled()) {
+            messages.forEach(message -> log.debug("push OF message to {}: {}", sw.getId(), message));
+        }
+
+        Collection<OFMessage> unsent;
+        try {
+            unsent = sw.write(messages);
+        } catch (Exception e) {
+            error = true;
+            messages.forEach(message -> batch.fail(message, new SwitchWriteException(sw.getId(), message, e)));
+            return;
+        }
+        if (!unsent.isEmpty()) {
+            error = true;
+            unsent.forEach(message -> batch.fail(message, new SwitchWriteException(sw.getId(), message)));
+        }
+    }
+
+    private WriteBatch findBatch(long xid) {
+        for (WriteBatch batch : batches) {
+            if (batch.contains(xid)) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
     private Stream<CompletableFuture<Optional<OFMessage>>> incompleteRequestsStream() {
         ImmutableList<CompletableFuture<Optional<OFMessage>>> requestsSafeCopy;
         requestsSafeCopy = ImmutableList.copyOf(requestsByXid.values());
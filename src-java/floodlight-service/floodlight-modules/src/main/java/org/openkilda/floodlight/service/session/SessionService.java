@@ -35,11 +35,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SessionService implements IService, IInputTranslator {
     private static final Logger log = LoggerFactory.getLogger(SessionService.class);
 
     private final Map<DatapathId, SwitchSessions> sessionsByDatapath = new ConcurrentHashMap<>();
+    private final AtomicLong writeSequence = new AtomicLong();
 
     public Session open(IOFSwitch sw) {
         return open(new MessageContext(), sw);
@@ -58,6 +60,27 @@ public class SessionService implements IService, IInputTranslator {
         return group.open(sw, context);
     }
 
+    /**
+     * Get the write generation of the switch. The generation is changed by each message written into the switch via
+     * its sessions and by the switch reconnect, so equal generations mean there were no writes in between.
+     *
+     * @return the write generation or -1 if the switch is not registered.
+     */
+    public long getWriteGeneration(DatapathId dpId) {
+        SwitchSessions group = sessionsByDatapath.get(dpId);
+        return group != null ? group.getWriteGeneration() : -1;
+    }
+
+    /**
+     * Change the write generation of the switch for a message written into the switch bypassing sessions.
+     */
+    public void recordWrite(DatapathId dpId) {
+        SwitchSessions group = sessionsByDatapath.get(dpId);
+        if (group != null) {
+            group.recordWrite();
+        }
+    }
+
     @Override
     public void setup(FloodlightModuleContext moduleContext) {
         InputService inputService = moduleContext.getServiceImpl(InputService.class);
@@ -97,7 +120,7 @@ public class SessionService implements IService, IInputTranslator {
      * <p>Called from main FL thread, that why we can avoid `synchronization` here.
      */
     void switchActivate(DatapathId dpId) {
-        SwitchSessions group = new SwitchSessions();
+        SwitchSessions group = new SwitchSessions(writeSequence);
         SwitchSessions previous;
         previous = sessionsByDatapath.put(dpId, group);
 
@@ -20,11 +20,22 @@ import org.openkilda.messaging.MessageContext;
 import net.floodlightcontroller.core.IOFSwitch;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 class SwitchSessions {
     private final Map<Long, Session> sessionsByXid = new HashMap<>();
+    private final List<Session> batchSessions = new ArrayList<>();
+    private final AtomicLong writeSequence;
+    private volatile long writeGeneration;
+
+    SwitchSessions(AtomicLong writeSequence) {
+        this.writeSequence = writeSequence;
+        this.writeGeneration = writeSequence.incrementAndGet();
+    }
 
     Session open(IOFSwitch sw, MessageContext context) {
         return new Session(this, sw, context);
@@ -34,6 +45,9 @@ class SwitchSessions {
         Session session;
         synchronized (sessionsByXid) {
             session = sessionsByXid.get(message.getXid());
+            if (session == null) {
+                session = findBatchSession(message.getXid());
+            }
         }
 
         if (session != null && session.handleResponse(message)) {
@@ -47,8 +61,26 @@ class SwitchSessions {
                 // so .disconnect() will be called multiple times. Session.disconnect
                 // must be ready to be called multiple times
                 .forEach(Session::disconnect);
+        batchSessions.forEach(Session::disconnect);
 
         sessionsByXid.clear();
+        batchSessions.clear();
+    }
+
+    void bindBatch(Session session) {
+        synchronized (sessionsByXid) {
+            if (!batchSessions.contains(session)) {
+                batchSessions.add(session);
+            }
+        }
+    }
+
+    void recordWrite() {
+        writeGeneration = writeSequence.incrementAndGet();
+    }
+
+    long getWriteGeneration() {
+        return writeGeneration;
     }
 
     void bindRequest(Session session, long xid) {
@@ -57,11 +89,21 @@ class SwitchSessions {
         }
     }
 
+    private Session findBatchSession(long xid) {
+        for (Session session : batchSessions) {
+            if (session.isBatchXid(xid)) {
+                return session;
+            }
+        }
+        return null;
+    }
+
     private void unbindSession(Session session) {
         synchronized (sessionsByXid) {
             for (long xid : session.getAllXids()) {
                 sessionsByXid.remove(xid);
             }
+            batchSessions.remove(session);
         }
     }
 }
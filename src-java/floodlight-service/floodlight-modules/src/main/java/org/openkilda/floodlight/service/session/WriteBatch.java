@@ -0,0 +1,149 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service.session;
+
+import org.openkilda.floodlight.error.SessionErrorResponseException;
+
+import org.projectfloodlight.openflow.protocol.OFErrorMsg;
+import org.projectfloodlight.openflow.protocol.OFMessage;
+import org.projectfloodlight.openflow.protocol.OFType;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Batch of OF messages written by the single flush. Messages are indexed by the sorted array of their xids, so there
+ * are no per-message map entries and futures.
+ */
+class WriteBatch {
+    private static final Logger log = LoggerFactory.getLogger(WriteBatch.class);
+
+    private final DatapathId dpId;
+    private final List<OFMessage> messages;
+    private final long[] xids;
+    private final int[] positions;
+    private final OFMessage[] responses;
+    private final Exception[] errors;
+
+    private final CompletableFuture<BatchWriteResult> future = new CompletableFuture<>();
+
+    WriteBatch(DatapathId dpId, List<OFMessage> messages) {
+        this.dpId = dpId;
+        this.messages = messages;
+
+        int size = messages.size();
+        xids = new long[size];
+        for (int i = 0; i < size; i++) {
+            xids[i] = messages.get(i).getXid();
+        }
+        Arrays.sort(xids);
+
+        positions = new int[size];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < size; i++) {
+            long xid = messages.get(i).getXid();
+            int index = Arrays.binarySearch(xids, xid);
+            if (positions[index] >= 0) {
+                log.error("Detect xid collision on {} xid:{} - can lead to unprocessed/missing response", dpId, xid);
+                continue;
+            }
+            positions[index] = i;
+        }
+
+        responses = new OFMessage[size];
+        errors = new Exception[size];
+    }
+
+    boolean contains(long xid) {
+        return Arrays.binarySearch(xids, xid) >= 0;
+    }
+
+    /**
+     * Records the response on the message of the batch.
+     */
+    synchronized void handleResponse(OFMessage message) {
+        int position = find(message.getXid());
+        if (position < 0 || future.isDone() || responses[position] != null || errors[position] != null) {
+            return;
+        }
+        if (OFType.ERROR == message.getType()) {
+            errors[position] = new SessionErrorResponseException(dpId, (OFErrorMsg) message);
+        } else {
+            responses[position] = message;
+        }
+    }
+
+    /**
+     * Records the error of the message of the batch.
+     */
+    synchronized void fail(OFMessage message, Exception error) {
+        int position = find(message.getXid());
+        if (position >= 0 && !future.isDone() && errors[position] == null) {
+            errors[position] = error;
+        }
+    }
+
+    /**
+     * Completes the batch. Messages without outcomes are considered as successful, if the error is null, or failed
+     * with the error otherwise.
+     */
+    synchronized void complete(Exception error) {
+        if (future.isDone()) {
+            return;
+        }
+        if (error != null) {
+            for (int i = 0; i < errors.length; i++) {
+                if (responses[i] == null && errors[i] == null) {
+                    errors[i] = error;
+                }
+            }
+        }
+        future.complete(new BatchWriteResult(messages, Arrays.asList(responses), Arrays.asList(errors)));
+    }
+
+    CompletableFuture<BatchWriteResult> getFuture() {
+        return future;
+    }
+
+    List<OFMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Formats the short summary of the batch for logs.
+     */
+    String describe() {
+        Map<OFType, Integer> counts = new EnumMap<>(OFType.class);
+        for (OFMessage message : messages) {
+            counts.merge(message.getType(), 1, Integer::sum);
+        }
+        if (xids.length == 0) {
+            return counts.toString();
+        }
+        return String.format("%s xids:%d..%d", counts, xids[0], xids[xids.length - 1]);
+    }
+
+    private int find(long xid) {
+        int index = Arrays.binarySearch(xids, xid);
+        return index >= 0 ? positions[index] : -1;
+    }
+}
@@ -18,18 +18,24 @@ package org.openkilda.floodlight.statistics;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static java.lang.String.format;
 
+import org.openkilda.floodlight.config.provider.FloodlightModuleConfigurationProvider;
 import org.openkilda.floodlight.converter.OfFlowStatsMapper;
 import org.openkilda.floodlight.converter.OfMeterStatsMapper;
 import org.openkilda.floodlight.converter.OfPortStatsMapper;
 import org.openkilda.floodlight.converter.OfTableStatsMapper;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.floodlight.statistics.StatsDeltaTracker.Update;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.CorrelationContext.CorrelationContextClosable;
 import org.openkilda.floodlight.utils.NewCorrelationContextRequired;
 import org.openkilda.messaging.Destination;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
+import org.openkilda.messaging.info.stats.MeterStatsData;
+import org.openkilda.messaging.info.stats.MeterStatsEntry;
 import org.openkilda.messaging.info.stats.SwitchTableStatsData;
 import org.openkilda.messaging.info.stats.TableStatsEntry;
 import org.openkilda.model.SwitchId;
@@ -37,6 +43,7 @@ import org.openkilda.model.SwitchId;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import net.floodlightcontroller.core.IFloodlightProviderService;
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
@@ -46,11 +53,13 @@ import net.floodlightcontroller.core.module.IFloodlightService;
 import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFMeterStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFPortStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFTableStatsReply;
 import org.projectfloodlight.openflow.protocol.OFTableStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFVersion;
@@ -65,6 +74,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -80,6 +90,11 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
     private String statisticsTopic;
     private String region;
 
+    private StatisticsServiceConfig config;
+    private StatsDeltaTracker<Pair<Integer, Long>, FlowStatsEntry> flowStatsTracker;
+    private StatsDeltaTracker<Long, MeterStatsEntry> meterStatsTracker;
+    private StatsPollScheduler pollScheduler;
+
     @Override
     public Collection<Class<? extends IFloodlightService>> getModuleServices() {
         return Collections.singletonList(IStatisticsService.class);
@@ -104,11 +119,25 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
     public void init(FloodlightModuleContext context) {
         switchService = context.getServiceImpl(IOFSwitchService.class);
         producerService = context.getServiceImpl(IKafkaProducerService.class);
+
+        FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
+        config = provider.getConfiguration(StatisticsServiceConfig.class);
+        flowStatsTracker = new StatsDeltaTracker<>(
+                entry -> Pair.of(entry.getTableId(), entry.getCookie()),
+                (previous, current) -> previous.getPacketCount() != current.getPacketCount()
+                        || previous.getByteCount() != current.getByteCount(),
+                config.getKeyframeInterval());
+        meterStatsTracker = new StatsDeltaTracker<>(
+                MeterStatsEntry::getMeterId, (previous, current) -> !previous.equals(current),
+                config.getKeyframeInterval());
     }
 
     @Override
     public void startUp(FloodlightModuleContext moduleContext) {
-        // no operations required
+        pollScheduler = new StatsPollScheduler(
+                moduleContext.getServiceImpl(IThreadPoolService.class).getScheduledExecutor(),
+                TimeUnit.SECONDS.toMillis(config.getInterval()), config.getPollSlots(),
+                config.getMaxInFlightRequests(), config.getLargeTableThreshold(), config.getMaxIntervalMultiplier());
     }
 
     @Override
@@ -116,33 +145,55 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
         statisticsTopic = context.getServiceImpl(KafkaUtilityService.class).getKafkaChannel().getStatsTopic();
         region = context.getServiceImpl(KafkaUtilityService.class).getKafkaChannel().getRegion();
 
-        switchService.getAllSwitchMap().values().stream()
-                .filter(it -> scope.contains(it.getId()))
-                .forEach(iofSwitch -> {
-                    try {
-                        gatherPortStats(iofSwitch);
-                    } catch (Exception e) {
-                        logger.error(format("Failed to gather stats for ports on switch %s.", iofSwitch.getId()), e);
-                    }
-
-                    try {
-                        gatherFlowStats(iofSwitch);
-                    } catch (Exception e) {
-                        logger.error(format("Failed to gather stats for flows on switch %s.", iofSwitch.getId()), e);
-                    }
-
-                    try {
-                        gatherMeterStats(iofSwitch);
-                    } catch (Exception e) {
-                        logger.error(format("Failed to gather stats for meters on switch %s.", iofSwitch.getId()), e);
-                    }
-
-                    try {
-                        gatherTableStats(iofSwitch);
-                    } catch (Exception e) {
-                        logger.error(format("Failed to gather stats for tables on switch %s.", iofSwitch.getId()), e);
-                    }
-                });
+        if (config.isDeltaEnabled()) {
+            Set<SwitchId> connected = switchService.getAllSwitchMap().keySet().stream()
+                    .map(dpId -> new SwitchId(dpId.getLong()))
+                    .collect(Collectors.toSet());
+            flowStatsTracker.retain(connected);
+            meterStatsTracker.retain(connected);
+        }
+
+        if (config.isStaggeredPollingEnabled()) {
+            logger.info("Stats poll scheduler metrics: {}", pollScheduler.getMetrics());
+            pollScheduler.startRound(System.currentTimeMillis());
+            pollScheduler.retain(switchService.getAllSwitchMap().keySet());
+            scope.forEach(dpId -> pollScheduler.schedule(dpId, () -> {
+                IOFSwitch iofSwitch = switchService.getActiveSwitch(dpId);
+                if (iofSwitch != null) {
+                    gatherStats(iofSwitch);
+                }
+            }));
+        } else {
+            switchService.getAllSwitchMap().values().stream()
+                    .filter(it -> scope.contains(it.getId()))
+                    .forEach(this::gatherStats);
+        }
+    }
+
+    private void gatherStats(IOFSwitch iofSwitch) {
+        try {
+            gatherPortStats(iofSwitch);
+        } catch (Exception e) {
+            logger.error(format("Failed to gather stats for ports on switch %s.", iofSwitch.getId()), e);
+        }
+
+        try {
+            gatherFlowStats(iofSwitch);
+        } catch (Exception e) {
+            logger.error(format("Failed to gather stats for flows on switch %s.", iofSwitch.getId()), e);
+        }
+
+        try {
+            gatherMeterStats(iofSwitch);
+        } catch (Exception e) {
+            logger.error(format("Failed to gather stats for meters on switch %s.", iofSwitch.getId()), e);
+        }
+
+        try {
+            gatherTableStats(iofSwitch);
+        } catch (Exception e) {
+            logger.error(format("Failed to gather stats for tables on switch %s.", iofSwitch.getId()), e);
+        }
     }
 
     @NewCorrelationContextRequired
@@ -157,9 +208,8 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
 
         logger.info("Getting port stats for switch={} OF-xid:{}", iofSwitch.getId(), portStatsRequest.getXid());
 
-        Futures.addCallback(iofSwitch.writeStatsRequest(portStatsRequest), new RequestCallback<>(
-                data -> OfPortStatsMapper.INSTANCE.toPostStatsData(data, switchId), switchId, "port"),
-                directExecutor());
+        writeStatsRequest(iofSwitch, portStatsRequest, new RequestCallback<>(
+                data -> OfPortStatsMapper.INSTANCE.toPostStatsData(data, switchId), switchId, "port"));
     }
 
     @NewCorrelationContextRequired
@@ -176,9 +226,13 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             // skip flow stats for OF 1.5 protocol version
             logger.info("Getting flow stats for switch={} OF-xid:{}", iofSwitch.getId(), flowStatsRequest.getXid());
 
-            Futures.addCallback(iofSwitch.writeStatsRequest(flowStatsRequest), new RequestCallback<>(
-                    data -> OfFlowStatsMapper.INSTANCE.toFlowStatsData(data, switchId), switchId, "flow"),
-                    directExecutor());
+            writeStatsRequest(iofSwitch, flowStatsRequest, new RequestCallback<>(data -> {
+                FlowStatsData stats = OfFlowStatsMapper.INSTANCE.toFlowStatsData(data, switchId);
+                if (stats != null) {
+                    pollScheduler.reportTableSize(iofSwitch.getId(), stats.getStats().size());
+                }
+                return reduceToDelta(stats);
+            }, switchId, "flow"));
         }
     }
 
@@ -210,7 +264,7 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             };
 
             RequestCallback<OFTableStatsReply> callback = new RequestCallback<>(converter, switchId, "table");
-            Futures.addCallback(iofSwitch.writeStatsRequest(flowStatsRequest), callback, directExecutor());
+            writeStatsRequest(iofSwitch, flowStatsRequest, callback);
         }
     }
 
@@ -228,11 +282,58 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
 
             logger.info("Getting meter stats for switch={} OF-xid:{}", iofSwitch.getId(), meterStatsRequest.getXid());
 
-            Futures.addCallback(iofSwitch.writeStatsRequest(meterStatsRequest),
-                    new RequestCallback<>(
-                            data -> OfMeterStatsMapper.INSTANCE.toMeterStatsData(data, switchId), switchId, "meter"),
-                    directExecutor());
+            writeStatsRequest(iofSwitch, meterStatsRequest, new RequestCallback<>(
+                    data -> reduceToDelta(OfMeterStatsMapper.INSTANCE.toMeterStatsData(data, switchId)),
+                    switchId, "meter"));
+        }
+    }
+
+    /**
+     * Writes the stats request into the switch, via the poll scheduler if staggered polling is enabled.
+     */
+    private <T extends OFStatsReply> void writeStatsRequest(IOFSwitch iofSwitch, OFStatsRequest<T> request,
+                                                            RequestCallback<T> callback) {
+        if (config.isStaggeredPollingEnabled()) {
+            pollScheduler.submit(() -> {
+                ListenableFuture<List<T>> future = iofSwitch.writeStatsRequest(request);
+                Futures.addCallback(future, callback, directExecutor());
+                return future;
+            });
+        } else {
+            Futures.addCallback(iofSwitch.writeStatsRequest(request), callback, directExecutor());
+        }
+    }
+
+    /**
+     * Reduces the flow stats to the entries changed since the previous reply, if delta reports are enabled.
+     *
+     * @return the stats to send or null if there's nothing to send.
+     */
+    private FlowStatsData reduceToDelta(FlowStatsData data) {
+        if (data == null || !config.isDeltaEnabled()) {
+            return data;
+        }
+        Update<FlowStatsEntry> update = flowStatsTracker.update(data.getSwitchId(), data.getStats());
+        if (update.isDelta() && update.getEntries().isEmpty()) {
+            return null;
+        }
+        return new FlowStatsData(data.getSwitchId(), update.getEntries(), update.isDelta());
+    }
+
+    /**
+     * Reduces the meter stats to the entries changed since the previous reply, if delta reports are enabled.
+     *
+     * @return the stats to send or null if there's nothing to send.
+     */
+    private MeterStatsData reduceToDelta(MeterStatsData data) {
+        if (data == null || !config.isDeltaEnabled()) {
+            return data;
+        }
+        Update<MeterStatsEntry> update = meterStatsTracker.update(data.getSwitchId(), data.getStats());
+        if (update.isDelta() && update.getEntries().isEmpty()) {
+            return null;
         }
+        return new MeterStatsData(data.getSwitchId(), update.getEntries(), update.isDelta());
     }
 
     private class RequestCallback<T extends OFStatsReply> implements FutureCallback<List<T>> {
@@ -253,7 +354,12 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             // Restore the correlation context used for the request.
             try (CorrelationContextClosable closable = CorrelationContext.create(correlationId)) {
                 logger.info("Receive switch {} stats response(s) from {}", type, switchId);
-                InfoMessage infoMessage = new InfoMessage(transform.apply(data),
+                InfoData payload = transform.apply(data);
+                if (payload == null) {
+                    logger.debug("No changes in switch {} stats of {}", type, switchId);
+                    return;
+                }
+                InfoMessage infoMessage = new InfoMessage(payload,
                         System.currentTimeMillis(), correlationId, Destination.WFM_STATS, region);
                 producerService.sendMessageAndTrackWithZk(statisticsTopic, infoMessage);
             }
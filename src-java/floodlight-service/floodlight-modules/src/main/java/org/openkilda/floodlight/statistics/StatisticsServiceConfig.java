@@ -0,0 +1,79 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Key;
+
+import javax.validation.constraints.Min;
+
+@Configuration
+public interface StatisticsServiceConfig {
+    /**
+     * Report only flow and meter stats entries changed since the previous poll of the switch.
+     */
+    @Key("delta-enabled")
+    @Default("false")
+    boolean isDeltaEnabled();
+
+    /**
+     * The number of polls of a switch between two full (keyframe) stats reports, if delta reports are enabled.
+     */
+    @Key("keyframe-interval")
+    @Default("10")
+    @Min(1)
+    int getKeyframeInterval();
+
+    /**
+     * Spread polls of switches over the poll interval and limit the number of stats requests in flight.
+     */
+    @Key("staggered-polling-enabled")
+    @Default("false")
+    boolean isStaggeredPollingEnabled();
+
+    /**
+     * The interval of stats poll requests, in seconds. Must be the statistics.interval of the stats topology, which
+     * sends the requests.
+     */
+    @Key("interval")
+    @Default("60")
+    @Min(1)
+    int getInterval();
+
+    @Key("poll-slots")
+    @Default("60")
+    @Min(1)
+    int getPollSlots();
+
+    @Key("max-in-flight-requests")
+    @Default("64")
+    @Min(1)
+    int getMaxInFlightRequests();
+
+    /**
+     * The number of flow entries per each the poll interval of a switch is extended by one more interval.
+     */
+    @Key("large-table-threshold")
+    @Default("10000")
+    @Min(1)
+    int getLargeTableThreshold();
+
+    @Key("max-interval-multiplier")
+    @Default("4")
+    @Min(1)
+    int getMaxIntervalMultiplier();
+}
@@ -0,0 +1,105 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import org.openkilda.model.SwitchId;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Keeps the last reported stats entries of each switch and reduces a new stats reply to the entries changed since
+ * the previous one. Every {@code keyframeInterval}-th reply of a switch is reported in full (a keyframe), so the
+ * receiver is able to resync its state and drop entries which don't exist anymore.
+ *
+ * @param <K> the type of the entry key, unique within a switch.
+ * @param <E> the type of stats entries.
+ */
+public class StatsDeltaTracker<K, E> {
+    private final Function<E, K> keyFunction;
+    private final BiPredicate<E, E> changePredicate;
+    private final int keyframeInterval;
+
+    private final Map<SwitchId, SwitchSnapshot<K, E>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the tracker.
+     *
+     * @param keyFunction extracts the key of an entry.
+     * @param changePredicate checks whether the entry has changed, takes the previous and the current entries.
+     * @param keyframeInterval the number of replies between two keyframes, 1 makes all replies keyframes.
+     */
+    public StatsDeltaTracker(Function<E, K> keyFunction, BiPredicate<E, E> changePredicate, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Keyframe interval must be positive, but was %d", keyframeInterval));
+        }
+        this.keyFunction = keyFunction;
+        this.changePredicate = changePredicate;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Remembers the entries as the last state of the switch and gets the entries to be reported.
+     */
+    public Update<E> update(SwitchId switchId, List<E> entries) {
+        SwitchSnapshot<K, E> snapshot = snapshots.computeIfAbsent(switchId, ignore -> new SwitchSnapshot<>());
+        // Replies of the same switch are not expected to overlap, the lock just keeps the snapshot consistent.
+        synchronized (snapshot) {
+            boolean keyframe = snapshot.replyCount++ % keyframeInterval == 0;
+            Map<K, E> current = new HashMap<>(entries.size() * 2);
+            List<E> changed = keyframe ? entries : new ArrayList<>();
+            for (E entry : entries) {
+                K key = keyFunction.apply(entry);
+                current.put(key, entry);
+                if (!keyframe) {
+                    E previous = snapshot.entries.get(key);
+                    if (previous == null || changePredicate.test(previous, entry)) {
+                        changed.add(entry);
+                    }
+                }
+            }
+            snapshot.entries = current;
+            return new Update<>(changed, !keyframe);
+        }
+    }
+
+    /**
+     * Drops snapshots of switches which are not in the provided collection.
+     */
+    public void retain(Collection<SwitchId> switchIds) {
+        snapshots.keySet().retainAll(switchIds);
+    }
+
+    private static class SwitchSnapshot<K, E> {
+        private long replyCount;
+        private Map<K, E> entries = new HashMap<>();
+    }
+
+    @Value
+    public static class Update<E> {
+        List<E> entries;
+        boolean delta;
+    }
+}
@@ -0,0 +1,234 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ListenableFuture;
+import lombok.Value;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Spreads stats polls of switches over the poll interval and limits the number of stats requests in flight.
+ * <p/>
+ * Each switch is mapped into one of {@code slots} time slots of the interval by the hash of its datapath id, so
+ * the switch is polled at the same phase of every interval and polls of different switches don't fire at once.
+ * Polls are requested by the stats topology, so the interval is the configured one, unless the rounds of polls come
+ * more often. Then polls are spread over the time between rounds and the polls of a round never overlap the next one.
+ * Switches with large tables are polled every N-th interval, where N grows with the table size up to
+ * {@code maxIntervalMultiplier}. Stats requests are queued and written to switches while the number of requests
+ * waiting for replies is below {@code maxInFlight}.
+ */
+public class StatsPollScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(StatsPollScheduler.class);
+    private static final HashFunction SLOT_HASH_FUNCTION = Hashing.murmur3_32();
+
+    private final ScheduledExecutorService executor;
+    private final long intervalMillis;
+    private final int slots;
+    private volatile long spreadMillis;
+    private long lastRoundAt = -1;
+    private final int largeTableThreshold;
+    private final int maxIntervalMultiplier;
+
+    private final Semaphore inFlightPermits;
+    private final Queue<PendingRequest> queue = new ConcurrentLinkedQueue<>();
+    private final Map<DatapathId, SwitchPollState> switchStates = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong skippedPollsCount = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param executor the executor to run delayed polls and to write queued requests.
+     * @param intervalMillis the poll interval to spread polls across.
+     * @param slots the number of time slots in the interval.
+     * @param maxInFlight the max number of stats requests waiting for replies.
+     * @param largeTableThreshold the number of flow entries per each the poll interval of a switch is extended.
+     * @param maxIntervalMultiplier the max number of intervals between polls of a switch.
+     */
+    public StatsPollScheduler(ScheduledExecutorService executor, long intervalMillis, int slots, int maxInFlight,
+                              int largeTableThreshold, int maxIntervalMultiplier) {
+        this.executor = executor;
+        this.intervalMillis = intervalMillis;
+        this.spreadMillis = intervalMillis;
+        this.slots = Math.max(1, slots);
+        this.largeTableThreshold = Math.max(1, largeTableThreshold);
+        this.maxIntervalMultiplier = Math.max(1, maxIntervalMultiplier);
+        this.inFlightPermits = new Semaphore(Math.max(1, maxInFlight));
+    }
+
+    /**
+     * Marks the start of the round of polls. The polls of the round are spread over the configured interval or over
+     * the time since the previous round, whichever is shorter.
+     */
+    public synchronized void startRound(long nowMillis) {
+        if (lastRoundAt >= 0 && nowMillis > lastRoundAt) {
+            spreadMillis = Math.min(intervalMillis, nowMillis - lastRoundAt);
+        }
+        lastRoundAt = nowMillis;
+    }
+
+    /**
+     * Schedules the poll of the switch at its time slot of the current interval. The poll is skipped if it isn't
+     * the turn of the switch, according to its table size.
+     */
+    public void schedule(DatapathId dpId, Runnable poll) {
+        executor.schedule(() -> {
+            if (isPollDue(dpId)) {
+                poll.run();
+            } else {
+                skippedPollsCount.incrementAndGet();
+            }
+        }, getPollDelayMillis(dpId), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the delay of the switch poll from the start of the interval.
+     */
+    public long getPollDelayMillis(DatapathId dpId) {
+        int slot = Math.floorMod(SLOT_HASH_FUNCTION.hashLong(dpId.getLong()).asInt(), slots);
+        return slot * spreadMillis / slots;
+    }
+
+    /**
+     * Queues the stats request. The supplier writes the request into the switch and returns the future of replies.
+     */
+    public void submit(Supplier<? extends ListenableFuture<?>> request) {
+        queue.add(new PendingRequest(request, System.nanoTime()));
+        queuedCount.incrementAndGet();
+        drain();
+    }
+
+    /**
+     * Updates the known flow table size of the switch, which defines how often the switch is polled.
+     */
+    public void reportTableSize(DatapathId dpId, int tableSize) {
+        switchStates.computeIfAbsent(dpId, ignore -> new SwitchPollState()).tableSize = tableSize;
+    }
+
+    /**
+     * Forgets the switches which are not in the provided collection.
+     */
+    public void retain(Collection<DatapathId> dpIds) {
+        switchStates.keySet().retainAll(dpIds);
+    }
+
+    /**
+     * Gets the current values of scheduler metrics.
+     */
+    public Metrics getMetrics() {
+        long completed = completedCount.get();
+        return new Metrics(queuedCount.get(), inFlightCount.get(), completed, skippedPollsCount.get(),
+                completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueNanos.get() / completed),
+                completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / completed));
+    }
+
+    private boolean isPollDue(DatapathId dpId) {
+        SwitchPollState state = switchStates.computeIfAbsent(dpId, ignore -> new SwitchPollState());
+        synchronized (state) {
+            int multiplier = (int) Math.min(maxIntervalMultiplier,
+                    Math.max(1, (state.tableSize + largeTableThreshold - 1L) / largeTableThreshold));
+            if (++state.skippedIntervals >= multiplier) {
+                state.skippedIntervals = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private void drain() {
+        while (inFlightPermits.tryAcquire()) {
+            PendingRequest request = queue.poll();
+            if (request == null) {
+                inFlightPermits.release();
+                // A request could be queued after the poll but before the release, so check once more.
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            start(request);
+        }
+    }
+
+    private void start(PendingRequest request) {
+        long startedAt = System.nanoTime();
+        totalQueueNanos.addAndGet(startedAt - request.getQueuedAt());
+
+        ListenableFuture<?> future;
+        try {
+            future = request.getRequest().get();
+        } catch (Exception e) {
+            logger.error("Failed to write stats request", e);
+            inFlightPermits.release();
+            return;
+        }
+
+        inFlightCount.incrementAndGet();
+        future.addListener(() -> {
+            totalLatencyNanos.addAndGet(System.nanoTime() - startedAt);
+            completedCount.incrementAndGet();
+            inFlightCount.decrementAndGet();
+            inFlightPermits.release();
+            // Don't write into switches from the thread which has completed the reply future.
+            executor.execute(this::drain);
+        }, directExecutor());
+    }
+
+    private static class SwitchPollState {
+        private int tableSize;
+        private int skippedIntervals;
+    }
+
+    @Value
+    private static class PendingRequest {
+        Supplier<? extends ListenableFuture<?>> request;
+        long queuedAt;
+    }
+
+    @Value
+    public static class Metrics {
+        int queued;
+        int inFlight;
+        long completed;
+        long skippedPolls;
+        long avgQueueMillis;
+        long avgLatencyMillis;
+    }
+}
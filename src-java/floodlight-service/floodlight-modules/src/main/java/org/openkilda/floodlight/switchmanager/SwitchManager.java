@@ -35,6 +35,7 @@ import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.service.FeatureDetectorService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.floodlight.switchmanager.web.SwitchManagerWebRoutable;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.NewCorrelationContextRequired;
@@ -167,6 +168,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
     private IOFSwitchService ofSwitchService;
     private IKafkaProducerService producerService;
+    private SessionService sessionService;
 
     private SwitchManagerConfig config;
 
@@ -214,6 +216,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
     public void init(FloodlightModuleContext context) throws FloodlightModuleException {
         ofSwitchService = context.getServiceImpl(IOFSwitchService.class);
         producerService = context.getServiceImpl(IKafkaProducerService.class);
+        sessionService = context.getServiceImpl(SessionService.class);
         FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
         config = provider.getConfiguration(SwitchManagerConfig.class);
     }
@@ -683,6 +686,8 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         if (!sw.write(flowMod)) {
             throw new OfInstallException(sw.getId(), flowMod);
         }
+        // Table snapshots taken before this write are outdated.
+        sessionService.recordWrite(sw.getId());
 
         return flowMod.getXid();
     }
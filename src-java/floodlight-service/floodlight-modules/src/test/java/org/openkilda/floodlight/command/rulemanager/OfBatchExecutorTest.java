@@ -18,6 +18,7 @@ package org.openkilda.floodlight.command.rulemanager;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.when;
 
 import org.openkilda.floodlight.api.BatchCommandProcessor;
 import org.openkilda.floodlight.api.response.rulemanager.SpeakerCommandResponse;
+import org.openkilda.floodlight.service.session.BatchWriteResult;
 import org.openkilda.floodlight.service.session.Session;
 import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.messaging.MessageContext;
@@ -49,7 +51,6 @@ import org.projectfloodlight.openflow.types.DatapathId;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -84,7 +85,7 @@ public class OfBatchExecutorTest {
         when(sw.getId()).thenReturn(DatapathId.of(SWITCH_ID.toLong()));
         Session session = mock(Session.class);
         when(sessionService.open(MESSAGE_CONTEXT, sw)).thenReturn(session);
-        when(session.write(any(OFMessage.class))).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(session.write(anyList())).thenAnswer(invocation -> completedWrite(invocation.getArgument(0), null));
         OFFlowStatsReply reply = mock(OFFlowStatsReply.class);
         when(reply.getEntries()).thenReturn(Collections.emptyList());
         SettableFuture<List<OFFlowStatsReply>> future = SettableFuture.create();
@@ -114,9 +115,8 @@ public class OfBatchExecutorTest {
         when(sw.getOFFactory()).thenReturn(new OFFactoryVer13());
         Session session = mock(Session.class);
         when(sessionService.open(MESSAGE_CONTEXT, sw)).thenReturn(session);
-        CompletableFuture<Optional<OFMessage>> completableFuture = new CompletableFuture<>();
-        completableFuture.completeExceptionally(new Exception("test exception"));
-        when(session.write(any(OFMessage.class))).thenReturn(completableFuture);
+        when(session.write(anyList())).thenAnswer(
+                invocation -> completedWrite(invocation.getArgument(0), new Exception("test exception")));
         OFFlowStatsReply reply = mock(OFFlowStatsReply.class);
         SettableFuture<List<OFFlowStatsReply>> future = SettableFuture.create();
         future.set(Collections.singletonList(reply));
@@ -137,4 +137,9 @@ public class OfBatchExecutorTest {
 
         verifyNoMoreInteractions(batchCommandProcessor);
     }
+
+    private static CompletableFuture<BatchWriteResult> completedWrite(List<OFMessage> messages, Exception error) {
+        return CompletableFuture.completedFuture(new BatchWriteResult(messages,
+                Collections.nCopies(messages.size(), null), Collections.nCopies(messages.size(), error)));
+    }
 }
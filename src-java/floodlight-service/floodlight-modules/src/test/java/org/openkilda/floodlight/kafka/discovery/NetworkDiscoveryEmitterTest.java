@@ -28,9 +28,12 @@ import org.openkilda.floodlight.KafkaChannel;
 import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.discovery.DiscoPacketBatchSendingConfirmation;
 import org.openkilda.messaging.info.discovery.DiscoPacketSendingConfirmation;
+import org.openkilda.messaging.model.DiscoPacketRef;
 import org.openkilda.model.SwitchId;
 import org.openkilda.stubs.ManualClock;
 
@@ -45,6 +48,7 @@ import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 public class NetworkDiscoveryEmitterTest extends EasyMockSupport {
     private static final String CONFIRMATION_TOPIC = "kilda.topo.disco";
@@ -173,6 +177,37 @@ public class NetworkDiscoveryEmitterTest extends EasyMockSupport {
         verifyCaptured(confirmationCapture, request);
     }
 
+    @Test
+    public void testBatchRequestConfirmedByOneMessage() {
+        String correlationId = "dummy-correlation-id";
+        DiscoverIslCommandData single = new DiscoverIslCommandData(SWITCH_ALPHA, 1, 1L);
+        DiscoverIslBatchCommandData batch = new DiscoverIslBatchCommandData(SWITCH_ALPHA, Arrays.asList(
+                new DiscoPacketRef(1, 2L), new DiscoPacketRef(2, 3L), new DiscoPacketRef(3, 4L)));
+
+        expectDiscoveryEmmit(single);
+        expectDiscoveryEmmit(new DiscoverIslCommandData(SWITCH_ALPHA, 2, 3L));
+        expectDiscoveryEmmit(new DiscoverIslCommandData(SWITCH_ALPHA, 3, 4L));
+        Capture<InfoMessage> confirmationCapture = setupConfirmationCatcher(single, 2);
+        replayAll();
+
+        NetworkDiscoveryEmitter subject = new NetworkDiscoveryEmitter(clock, moduleContext, flushDelay);
+        subject.handleRequest(single, correlationId);
+        verifyCaptured(confirmationCapture, single);
+        confirmationCapture.reset();
+
+        // port 1 is postponed, ports 2 and 3 are sent immediately
+        subject.handleRequest(batch, correlationId);
+
+        verify(pathVerificationService);
+        Assert.assertTrue(confirmationCapture.hasCaptured());
+        Assert.assertTrue(confirmationCapture.getValue().getData() instanceof DiscoPacketBatchSendingConfirmation);
+        DiscoPacketBatchSendingConfirmation confirmation =
+                (DiscoPacketBatchSendingConfirmation) confirmationCapture.getValue().getData();
+        Assert.assertEquals(SWITCH_ALPHA, confirmation.getSwitchId());
+        Assert.assertEquals(Arrays.asList(new DiscoPacketRef(2, 3L), new DiscoPacketRef(3, 4L)),
+                confirmation.getPackets());
+    }
+
     private DiscoverIslCommandData makeNextRequest(DiscoverIslCommandData current) {
         return new DiscoverIslCommandData(
                 current.getSwitchId(), current.getPortNumber(), current.getPacketId() + 1);
@@ -0,0 +1,141 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.floodlight.service.session.SessionService;
+import org.openkilda.messaging.MessageContext;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.SettableFuture;
+import net.floodlightcontroller.core.IOFSwitch;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
+import org.projectfloodlight.openflow.protocol.ver13.OFFactoryVer13;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.projectfloodlight.openflow.types.U64;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class SwitchTableSnapshotServiceTest {
+    private static final DatapathId DPID = DatapathId.of(1);
+    private static final MessageContext CONTEXT = new MessageContext("correlation-id");
+    private static final int FILTERED_DUMP_LIMIT = 2;
+
+    private final List<SettableFuture<List<OFFlowStatsReply>>> dumps = new ArrayList<>();
+
+    private SessionService sessionService;
+    private IOFSwitch sw;
+    private SwitchTableSnapshotService service;
+
+    @Before
+    public void setup() {
+        sessionService = mock(SessionService.class);
+        when(sessionService.getWriteGeneration(DPID)).thenReturn(1L);
+
+        sw = mock(IOFSwitch.class);
+        when(sw.getId()).thenReturn(DPID);
+        when(sw.getOFFactory()).thenReturn(new OFFactoryVer13());
+        when(sw.writeStatsRequest(any(OFFlowStatsRequest.class))).thenAnswer(invocation -> {
+            SettableFuture<List<OFFlowStatsReply>> future = SettableFuture.create();
+            dumps.add(future);
+            return future;
+        });
+
+        service = new SwitchTableSnapshotService(sessionService, 60_000, FILTERED_DUMP_LIMIT);
+    }
+
+    @Test
+    public void shouldShareDumpInProgress() throws Exception {
+        CompletableFuture<List<OFFlowStatsReply>> first = service.getFlows(CONTEXT, sw);
+        CompletableFuture<List<OFFlowStatsReply>> second = service.getFlows(CONTEXT, sw);
+
+        assertEquals(1, dumps.size());
+        assertFalse(first.isDone());
+
+        List<OFFlowStatsReply> replies = Collections.singletonList(mock(OFFlowStatsReply.class));
+        dumps.get(0).set(replies);
+
+        assertEquals(replies, first.get());
+        assertEquals(replies, second.get());
+    }
+
+    @Test
+    public void shouldReuseCompletedDumpUntilWrite() {
+        service.getFlows(CONTEXT, sw);
+        dumps.get(0).set(Collections.emptyList());
+
+        assertTrue(service.getFlows(CONTEXT, sw).isDone());
+        assertEquals(1, dumps.size());
+
+        when(sessionService.getWriteGeneration(DPID)).thenReturn(2L);
+
+        assertFalse(service.getFlows(CONTEXT, sw).isDone());
+        assertEquals(2, dumps.size());
+    }
+
+    @Test
+    public void shouldRetryFailedDump() {
+        CompletableFuture<List<OFFlowStatsReply>> failed = service.getFlows(CONTEXT, sw);
+        dumps.get(0).setException(new IllegalStateException("dump failed"));
+
+        assertTrue(failed.isCompletedExceptionally());
+        service.getFlows(CONTEXT, sw);
+        assertEquals(2, dumps.size());
+    }
+
+    @Test
+    public void shouldReadFlowsByCookies() throws Exception {
+        CompletableFuture<List<OFFlowStatsReply>> result = service.getFlows(CONTEXT, sw, Lists.newArrayList(1L, 2L));
+
+        ArgumentCaptor<OFFlowStatsRequest> captor = ArgumentCaptor.forClass(OFFlowStatsRequest.class);
+        verify(sw, times(2)).writeStatsRequest(captor.capture());
+        assertEquals(U64.of(1), captor.getAllValues().get(0).getCookie());
+        assertEquals(U64.NO_MASK, captor.getAllValues().get(0).getCookieMask());
+        assertEquals(U64.of(2), captor.getAllValues().get(1).getCookie());
+
+        OFFlowStatsReply first = mock(OFFlowStatsReply.class);
+        OFFlowStatsReply second = mock(OFFlowStatsReply.class);
+        dumps.get(0).set(Collections.singletonList(first));
+        assertFalse(result.isDone());
+        dumps.get(1).set(Collections.singletonList(second));
+
+        assertEquals(Lists.newArrayList(first, second), result.get());
+    }
+
+    @Test
+    public void shouldReadAllFlowsIfTooManyCookies() {
+        service.getFlows(CONTEXT, sw, Lists.newArrayList(1L, 2L, 3L));
+
+        ArgumentCaptor<OFFlowStatsRequest> captor = ArgumentCaptor.forClass(OFFlowStatsRequest.class);
+        verify(sw).writeStatsRequest(captor.capture());
+        assertEquals(U64.ZERO, captor.getValue().getCookieMask());
+    }
+}
@@ -21,11 +21,13 @@ import static org.easymock.EasyMock.expect;
 
 import org.openkilda.floodlight.error.SessionCloseException;
 import org.openkilda.floodlight.error.SessionErrorResponseException;
+import org.openkilda.floodlight.error.SessionRevertException;
 import org.openkilda.floodlight.error.SwitchOperationException;
 import org.openkilda.floodlight.error.SwitchWriteException;
 import org.openkilda.floodlight.service.of.InputService;
 import org.openkilda.messaging.MessageContext;
 
+import com.google.common.collect.ImmutableList;
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
@@ -50,6 +52,7 @@ import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.projectfloodlight.openflow.types.U64;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -118,6 +121,17 @@ public class SessionServiceTest extends EasyMockSupport {
         Assert.assertFalse(response.isPresent());
     }
 
+    @Test
+    public void directWriteChangesWriteGeneration() {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        doneWithSetUp(sw);
+
+        long generation = subject.getWriteGeneration(dpId);
+        subject.recordWrite(dpId);
+        Assert.assertNotEquals(generation, subject.getWriteGeneration(dpId));
+    }
+
     @Test
     public void barrierInTheMiddle() throws Exception {
         IOFSwitch sw = createMock(IOFSwitch.class);
@@ -259,6 +273,61 @@ public class SessionServiceTest extends EasyMockSupport {
         }
     }
 
+    @Test
+    public void batchWrite() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteAlwaysSuccess(sw);
+        expect(sw.write(EasyMock.<Iterable<OFMessage>>anyObject())).andReturn(Collections.emptyList());
+        doneWithSetUp(sw);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        List<OFMessage> batch = ImmutableList.of(
+                makePacketOut(ofFactory, 1), makePacketOut(ofFactory, 2), makePacketOut(ofFactory, 3));
+        CompletableFuture<BatchWriteResult> future;
+        try (Session session = subject.open(context, sw)) {
+            future = session.write(batch);
+        }
+
+        subject.handleResponse(dpId, ofFactory.errorMsgs().buildBadRequestErrorMsg()
+                .setXid(batch.get(1).getXid())
+                .setCode(OFBadRequestCode.BAD_PORT)
+                .build());
+        Assert.assertFalse(future.isDone());
+
+        completeSessions(sw);
+
+        Assert.assertTrue(future.isDone());
+        BatchWriteResult result = future.get();
+        Assert.assertEquals(3, result.size());
+        Assert.assertFalse(result.getError(0).isPresent());
+        Assert.assertFalse(result.getResponse(0).isPresent());
+        Assert.assertTrue(result.getError(1).get() instanceof SessionErrorResponseException);
+        Assert.assertFalse(result.getError(2).isPresent());
+    }
+
+    @Test
+    public void batchWriteError() throws Exception {
+        OFFactory ofFactory = OFFactoryVer13.INSTANCE;
+        List<OFMessage> batch = ImmutableList.of(makePacketOut(ofFactory, 1), makePacketOut(ofFactory, 2));
+
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        expect(sw.write(EasyMock.<Iterable<OFMessage>>anyObject()))
+                .andReturn(Collections.singletonList(batch.get(1)));
+        doneWithSetUp(sw);
+
+        CompletableFuture<BatchWriteResult> future;
+        try (Session session = subject.open(context, sw)) {
+            future = session.write(batch);
+        }
+
+        Assert.assertTrue(future.isDone());
+        BatchWriteResult result = future.get();
+        Assert.assertTrue(result.getError(0).get() instanceof SessionRevertException);
+        Assert.assertTrue(result.getError(1).get() instanceof SwitchWriteException);
+    }
+
     private OFPacketOut makePacketOut(OFFactory ofFactory, int inPort) {
         return ofFactory.buildPacketOut()
                 .setInPort(OFPort.of(inPort))
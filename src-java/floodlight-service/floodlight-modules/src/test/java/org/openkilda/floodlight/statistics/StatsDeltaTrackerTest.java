@@ -0,0 +1,107 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.floodlight.statistics.StatsDeltaTracker.Update;
+import org.openkilda.messaging.info.stats.MeterStatsEntry;
+import org.openkilda.model.SwitchId;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class StatsDeltaTrackerTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2);
+    private static final int KEYFRAME_INTERVAL = 3;
+
+    private StatsDeltaTracker<Long, MeterStatsEntry> tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new StatsDeltaTracker<>(MeterStatsEntry::getMeterId,
+                (previous, current) -> !previous.equals(current), KEYFRAME_INTERVAL);
+    }
+
+    @Test
+    public void shouldReportFirstReplyInFull() {
+        List<MeterStatsEntry> entries = Lists.newArrayList(entry(1, 100), entry(2, 200));
+
+        Update<MeterStatsEntry> update = tracker.update(SWITCH_ID_1, entries);
+
+        assertFalse(update.isDelta());
+        assertEquals(entries, update.getEntries());
+    }
+
+    @Test
+    public void shouldReportOnlyChangedAndNewEntries() {
+        tracker.update(SWITCH_ID_1, Lists.newArrayList(entry(1, 100), entry(2, 200)));
+
+        Update<MeterStatsEntry> update = tracker.update(SWITCH_ID_1,
+                Lists.newArrayList(entry(1, 100), entry(2, 250), entry(3, 300)));
+
+        assertTrue(update.isDelta());
+        assertEquals(Lists.newArrayList(entry(2, 250), entry(3, 300)), update.getEntries());
+    }
+
+    @Test
+    public void shouldReportKeyframePeriodically() {
+        List<MeterStatsEntry> entries = Lists.newArrayList(entry(1, 100), entry(2, 200));
+        tracker.update(SWITCH_ID_1, entries);
+
+        for (int i = 1; i < KEYFRAME_INTERVAL; i++) {
+            Update<MeterStatsEntry> update = tracker.update(SWITCH_ID_1, entries);
+            assertTrue(update.isDelta());
+            assertEquals(Collections.emptyList(), update.getEntries());
+        }
+
+        Update<MeterStatsEntry> keyframe = tracker.update(SWITCH_ID_1, entries);
+        assertFalse(keyframe.isDelta());
+        assertEquals(entries, keyframe.getEntries());
+    }
+
+    @Test
+    public void shouldTrackSwitchesIndependently() {
+        tracker.update(SWITCH_ID_1, Lists.newArrayList(entry(1, 100)));
+
+        Update<MeterStatsEntry> update = tracker.update(SWITCH_ID_2, Lists.newArrayList(entry(1, 100)));
+
+        assertFalse(update.isDelta());
+        assertEquals(1, update.getEntries().size());
+    }
+
+    @Test
+    public void shouldStartOverForgottenSwitch() {
+        tracker.update(SWITCH_ID_1, Lists.newArrayList(entry(1, 100)));
+        tracker.update(SWITCH_ID_2, Lists.newArrayList(entry(1, 100)));
+
+        tracker.retain(Collections.singleton(SWITCH_ID_2));
+
+        assertFalse(tracker.update(SWITCH_ID_1, Lists.newArrayList(entry(1, 100))).isDelta());
+        assertTrue(tracker.update(SWITCH_ID_2, Lists.newArrayList(entry(1, 100))).isDelta());
+    }
+
+    private static MeterStatsEntry entry(long meterId, long byteCount) {
+        return new MeterStatsEntry(meterId, byteCount, byteCount / 10);
+    }
+}
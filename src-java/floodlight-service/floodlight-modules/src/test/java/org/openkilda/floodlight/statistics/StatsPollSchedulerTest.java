@@ -0,0 +1,151 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class StatsPollSchedulerTest {
+    private static final long INTERVAL_MILLIS = 60_000;
+    private static final int SLOTS = 60;
+    private static final int MAX_IN_FLIGHT = 2;
+    private static final int LARGE_TABLE_THRESHOLD = 100;
+    private static final int MAX_INTERVAL_MULTIPLIER = 3;
+
+    private ScheduledExecutorService executor;
+    private StatsPollScheduler scheduler;
+
+    @Before
+    public void setup() {
+        executor = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        scheduler = new StatsPollScheduler(executor, INTERVAL_MILLIS, SLOTS, MAX_IN_FLIGHT,
+                LARGE_TABLE_THRESHOLD, MAX_INTERVAL_MULTIPLIER);
+    }
+
+    @Test
+    public void shouldSpreadPollsOverInterval() {
+        Set<Long> delays = new HashSet<>();
+        for (long i = 1; i <= 100; i++) {
+            DatapathId dpId = DatapathId.of(i);
+            long delay = scheduler.getPollDelayMillis(dpId);
+
+            assertTrue(delay >= 0 && delay < INTERVAL_MILLIS);
+            assertEquals(0, delay % (INTERVAL_MILLIS / SLOTS));
+            assertEquals(delay, scheduler.getPollDelayMillis(dpId));
+            delays.add(delay);
+        }
+        assertTrue(delays.size() > SLOTS / 2);
+    }
+
+    @Test
+    public void shouldSpreadPollsOverTimeBetweenRoundsIfShorterThanInterval() {
+        DatapathId dpId = DatapathId.of(1);
+        long delay = scheduler.getPollDelayMillis(dpId);
+
+        scheduler.startRound(0);
+        scheduler.startRound(INTERVAL_MILLIS / 2);
+        assertEquals(delay / 2, scheduler.getPollDelayMillis(dpId));
+
+        scheduler.startRound(INTERVAL_MILLIS * 3);
+        assertEquals(delay, scheduler.getPollDelayMillis(dpId));
+    }
+
+    @Test
+    public void shouldLimitRequestsInFlight() {
+        List<SettableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduler.submit(() -> {
+                SettableFuture<Object> future = SettableFuture.create();
+                futures.add(future);
+                return future;
+            });
+        }
+
+        assertEquals(MAX_IN_FLIGHT, futures.size());
+        assertEquals(3, scheduler.getMetrics().getQueued());
+        assertEquals(MAX_IN_FLIGHT, scheduler.getMetrics().getInFlight());
+
+        futures.get(0).set(Collections.emptyList());
+
+        assertEquals(3, futures.size());
+        assertEquals(2, scheduler.getMetrics().getQueued());
+        assertEquals(MAX_IN_FLIGHT, scheduler.getMetrics().getInFlight());
+        assertEquals(1, scheduler.getMetrics().getCompleted());
+
+        for (int i = 1; i < 5; i++) {
+            futures.get(i).set(Collections.emptyList());
+        }
+
+        assertEquals(5, futures.size());
+        assertEquals(0, scheduler.getMetrics().getQueued());
+        assertEquals(0, scheduler.getMetrics().getInFlight());
+        assertEquals(5, scheduler.getMetrics().getCompleted());
+    }
+
+    @Test
+    public void shouldPollSwitchesWithLargeTablesLessOften() {
+        DatapathId small = DatapathId.of(1);
+        DatapathId large = DatapathId.of(2);
+        scheduler.reportTableSize(small, LARGE_TABLE_THRESHOLD);
+        scheduler.reportTableSize(large, LARGE_TABLE_THRESHOLD * 10);
+
+        int[] smallPolls = new int[1];
+        int[] largePolls = new int[1];
+        for (int i = 0; i < 6; i++) {
+            runScheduled(small, () -> smallPolls[0]++);
+            runScheduled(large, () -> largePolls[0]++);
+        }
+
+        assertEquals(6, smallPolls[0]);
+        assertEquals(6 / MAX_INTERVAL_MULTIPLIER, largePolls[0]);
+        assertEquals(6 - 6 / MAX_INTERVAL_MULTIPLIER, scheduler.getMetrics().getSkippedPolls());
+    }
+
+    private void runScheduled(DatapathId dpId, Runnable poll) {
+        clearInvocations(executor);
+        scheduler.schedule(dpId, poll);
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(captor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        captor.getValue().run();
+    }
+}
@@ -48,6 +48,7 @@ import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.pathverification.PathVerificationService;
 import org.openkilda.floodlight.pathverification.PathVerificationServiceConfig;
 import org.openkilda.floodlight.service.FeatureDetectorService;
+import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.messaging.command.switches.DeleteRulesCriteria;
 import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.SwitchId;
@@ -111,6 +112,7 @@ public class SwitchManagerTest {
 
         switchDescription = createMock(SwitchDescription.class);
         dpid = DatapathId.of(SWITCH_ID.toLong());
+        expect(iofSwitch.getId()).andStubReturn(dpid);
 
         PathVerificationServiceConfig config = EasyMock.createMock(PathVerificationServiceConfig.class);
         expect(config.getVerificationBcastPacketDst()).andReturn("00:26:E1:FF:FF:FF").anyTimes();
@@ -141,6 +143,7 @@ public class SwitchManagerTest {
         context.addService(IOFSwitchService.class, ofSwitchService);
         context.addService(FeatureDetectorService.class, featureDetectorService);
         context.addService(IPathVerificationService.class, pathVerificationService);
+        context.addService(SessionService.class, new SessionService());
 
         switchManager = new SwitchManager();
         context.addService(ISwitchManager.class, switchManager);
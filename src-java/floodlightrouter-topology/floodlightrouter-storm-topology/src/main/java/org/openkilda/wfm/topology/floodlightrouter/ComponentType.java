@@ -62,6 +62,7 @@ public final class ComponentType {
 
     public static final String KAFKA_GENERIC_OUTPUT = "kafka-generic.output";
     public static final String KAFKA_HS_OUTPUT = "kafka-hs.output";
+    public static final String KAFKA_RAW_OUTPUT = "kafka-raw.output";
 
     public static final String CLOCK = "clock";
 
@@ -19,7 +19,9 @@ import org.openkilda.config.KafkaTopicsConfig;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.error.ConfigurationException;
+import org.openkilda.wfm.kafka.AbstractMessageDeserializer;
 import org.openkilda.wfm.kafka.AbstractMessageSerializer;
+import org.openkilda.wfm.kafka.MessageDeserializer;
 import org.openkilda.wfm.kafka.MessageSerializer;
 import org.openkilda.wfm.share.bolt.MonotonicClock;
 import org.openkilda.wfm.share.zk.ZkStreams;
@@ -36,7 +38,11 @@ import org.openkilda.wfm.topology.floodlightrouter.bolts.SwitchMonitorBolt;
 
 import joptsimple.internal.Strings;
 import lombok.Value;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.storm.generated.StormTopology;
+import org.apache.storm.kafka.spout.KafkaSpoutConfig;
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
 import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
@@ -44,6 +50,7 @@ import org.apache.storm.tuple.Fields;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -155,12 +162,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void networkToSpeaker(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getNetworkControlTopic(), ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT);
+        declareControllerToSpeakerSpout(topology, kafkaTopics.getNetworkControlTopic(),
+                ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT, AbstractMessageDeserializer.class);
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getNetworkControlRegionTopic(),
                 ComponentType.SPEAKER_NETWORK_KAFKA_SPOUT, ComponentType.SPEAKER_NETWORK_REQUEST_BOLT,
-                output.getKafkaHsOutput());
+                output.getKafkaHsOutput(), output);
 
         declareKafkaSpoutForAbstractMessage(topology,
                 makeRegionTopics(kafkaTopics.getNetworkControlResponseRegionTopic()),
@@ -174,7 +181,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerDiscoRegionTopic(), kafkaTopics.getSpeakerDiscoTopic(),
                 ComponentType.SPEAKER_DISCO_KAFKA_SPOUT, ComponentType.SPEAKER_DISCO_REQUEST_BOLT,
-                output.getKafkaGenericOutput());
+                output.getKafkaGenericOutput(), output);
     }
 
     private void speakerToFlowHs(TopologyBuilder topology, TopologyOutput output) {
@@ -187,13 +194,13 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void flowHsToSpeaker(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getSpeakerFlowHsTopic(), ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT);
+        declareControllerToSpeakerSpout(topology, kafkaTopics.getSpeakerFlowHsTopic(),
+                ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT, AbstractMessageDeserializer.class);
 
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerFlowRegionTopic(),
                 ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT, ComponentType.SPEAKER_FLOW_REQUEST_BOLT,
-                output.getKafkaHsOutput());
+                output.getKafkaHsOutput(), output);
     }
 
     private void speakerToPing(TopologyBuilder topology, TopologyOutput output) {
@@ -207,7 +214,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerFlowPingRegionTopic(), kafkaTopics.getSpeakerFlowPingTopic(),
                 ComponentType.SPEAKER_PING_KAFKA_SPOUT, Stream.SPEAKER_PING,
-                output.getKafkaGenericOutput());
+                output.getKafkaGenericOutput(), output);
     }
 
     private void speakerToStats(TopologyBuilder topology, TopologyOutput output) {
@@ -232,12 +239,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void speakerToSwitchManager(TopologyBuilder topology, TopologyOutput output) {
-        declareKafkaSpoutForAbstractMessage(topology,
-                kafkaTopics.getSpeakerSwitchManagerTopic(), ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT);
+        declareControllerToSpeakerSpout(topology, kafkaTopics.getSpeakerSwitchManagerTopic(),
+                ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT, AbstractMessageDeserializer.class);
         declareControllerToSpeakerProxy(
                 topology, kafkaTopics.getSpeakerSwitchManagerRegionTopic(),
                 ComponentType.SPEAKER_SWITCH_MANAGER_KAFKA_SPOUT, ComponentType.SPEAKER_SWITCH_MANAGER_REQUEST_BOLT,
-                output.getKafkaHsOutput());
+                output.getKafkaHsOutput(), output);
 
         declareKafkaSpoutForAbstractMessage(topology,
                 makeRegionTopics(kafkaTopics.getSwitchManagerSpeakerRegionTopic()),
@@ -272,7 +279,8 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
             TopologyBuilder topology, TopologyOutput output) {
         BoltDeclarer kafkaProducer = output.getKafkaGenericOutput();
 
-        declareKafkaSpout(topology, kafkaTopics.getSpeakerTopic(), ComponentType.SPEAKER_KAFKA_SPOUT);
+        declareControllerToSpeakerSpout(topology, kafkaTopics.getSpeakerTopic(),
+                ComponentType.SPEAKER_KAFKA_SPOUT, MessageDeserializer.class);
 
         ControllerToSpeakerProxyBolt proxy = new ControllerToSpeakerSharedProxyBolt(
                 kafkaTopics.getSpeakerRegionTopic(), regions, kafkaTopics,
@@ -282,6 +290,8 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
                 .allGrouping(SwitchMonitorBolt.BOLT_ID, SwitchMonitorBolt.STREAM_REGION_MAPPING_ID)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
 
+        output.getKafkaRawOutput()
+                .shuffleGrouping(ComponentType.SPEAKER_REQUEST_BOLT, ControllerToSpeakerProxyBolt.STREAM_RAW_ID);
         kafkaProducer
                 .shuffleGrouping(ComponentType.SPEAKER_REQUEST_BOLT)
                 .shuffleGrouping(ComponentType.SPEAKER_REQUEST_BOLT, Stream.KILDA_SWITCH_MANAGER)
@@ -335,8 +345,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
                 makeKafkaBolt(AbstractMessageSerializer.class)
                         .withTopicSelector(topicSelector),
                 ComponentType.KAFKA_HS_OUTPUT);
+        BoltDeclarer raw = declareBolt(topology,
+                makeKafkaBolt(ByteArraySerializer.class)
+                        .withTopicSelector(topicSelector),
+                ComponentType.KAFKA_RAW_OUTPUT);
 
-        return new TopologyOutput(generic, hs);
+        return new TopologyOutput(generic, hs, raw);
     }
 
     private void declareSpeakerToControllerProxy(
@@ -361,16 +375,16 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void declareControllerToSpeakerProxy(
             TopologyBuilder topology, String speakerTopicsSeed, String controllerTopic, String spoutId,
-            String proxyBoltId, BoltDeclarer output) {
-        declareKafkaSpout(topology, controllerTopic, spoutId);
+            String proxyBoltId, BoltDeclarer decodedOutput, TopologyOutput output) {
+        declareControllerToSpeakerSpout(topology, controllerTopic, spoutId, MessageDeserializer.class);
 
         declareControllerToSpeakerProxy(
-                topology, speakerTopicsSeed, spoutId, proxyBoltId, output);
+                topology, speakerTopicsSeed, spoutId, proxyBoltId, decodedOutput, output);
     }
 
     private void declareControllerToSpeakerProxy(
             TopologyBuilder topology, String speakerTopicsSeed, String spoutId, String proxyBoltId,
-            BoltDeclarer output) {
+            BoltDeclarer decodedOutput, TopologyOutput output) {
         ControllerToSpeakerProxyBolt proxy = new ControllerToSpeakerProxyBolt(
                 speakerTopicsSeed, regions, Duration.ofSeconds(topologyConfig.getSwitchMappingRemoveDelay()));
         declareBolt(topology, proxy, proxyBoltId)
@@ -378,8 +392,20 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
                 .allGrouping(SwitchMonitorBolt.BOLT_ID, SwitchMonitorBolt.STREAM_REGION_MAPPING_ID)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
 
+        decodedOutput.shuffleGrouping(proxyBoltId);
+        output.getKafkaRawOutput().shuffleGrouping(proxyBoltId, ControllerToSpeakerProxyBolt.STREAM_RAW_ID);
+    }
 
-        output.shuffleGrouping(proxyBoltId);
+    /**
+     * Requests having routing headers are emitted without decoding, all other are decoded by the legacy decoder.
+     */
+    private void declareControllerToSpeakerSpout(
+            TopologyBuilder topology, String topic, String spoutId, Class<? extends Deserializer<?>> legacyDecoder) {
+        KafkaSpoutConfig<String, byte[]> config = makeKafkaSpoutConfig(
+                Collections.singletonList(topic), spoutId, ByteArrayDeserializer.class)
+                .setRecordTranslator(new SpeakerRoutingRecordTranslator(legacyDecoder))
+                .build();
+        declareKafkaSpout(topology, config, spoutId);
     }
 
     private List<String> makeRegionTopics(String topicSeed) {
@@ -399,6 +425,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     private static class TopologyOutput {
         BoltDeclarer kafkaGenericOutput;
         BoltDeclarer kafkaHsOutput;
+        BoltDeclarer kafkaRawOutput;
     }
 
     /**
@@ -0,0 +1,117 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter;
+
+import org.openkilda.bluegreen.kafka.TransportAdapter;
+import org.openkilda.messaging.AbstractMessage;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.kafka.KafkaCodecSupport;
+import org.openkilda.wfm.kafka.SpeakerRoutingHeaders;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawSpeakerRequest;
+import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.storm.kafka.spout.RecordTranslator;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Values;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Produce {@link RawSpeakerRequest} for JSON records having unicast routing headers (see
+ * {@link SpeakerRoutingHeaders}), so they can be routed without decoding. Records of legacy producers (without routing
+ * headers), broadcast/stats requests and records in other formats (see {@link MessageCodec}) are decoded by the legacy
+ * decoder, so they are encoded as JSON on the way to the speaker, which understands JSON only.
+ */
+@Slf4j
+public class SpeakerRoutingRecordTranslator implements RecordTranslator<String, byte[]> {
+    private static final long serialVersionUID = 1L;
+
+    public static final Fields STREAM_FIELDS = new Fields(
+            KafkaRecordTranslator.FIELD_ID_KEY, KafkaRecordTranslator.FIELD_ID_PAYLOAD, AbstractBolt.FIELD_ID_CONTEXT);
+
+    private final Class<? extends Deserializer<?>> legacyDecoderClass;
+
+    private transient Deserializer<?> legacyDecoder;
+
+    public SpeakerRoutingRecordTranslator(Class<? extends Deserializer<?>> legacyDecoderClass) {
+        this.legacyDecoderClass = legacyDecoderClass;
+    }
+
+    @Override
+    public List<Object> apply(ConsumerRecord<String, byte[]> record) {
+        Optional<SpeakerRoutingMetadata> metadata = SpeakerRoutingHeaders.read(record.headers());
+        if (metadata.isPresent() && metadata.get().isUnicast()
+                && KafkaCodecSupport.selectDecoder(record.headers(), record.value()) == MessageCodec.JSON) {
+            RawSpeakerRequest request = new RawSpeakerRequest(metadata.get(), record.value());
+            return new Values(record.key(), request, makeContext(record, metadata.get().getCorrelationId()));
+        }
+        return decodeLegacy(record);
+    }
+
+    @Override
+    public Fields getFieldsFor(String stream) {
+        return STREAM_FIELDS;
+    }
+
+    @Override
+    public List<String> streams() {
+        return DEFAULT_STREAM;
+    }
+
+    private List<Object> decodeLegacy(ConsumerRecord<String, byte[]> record) {
+        Object payload = getLegacyDecoder().deserialize(record.topic(), record.headers(), record.value());
+        if (payload instanceof TransportAdapter && ((TransportAdapter) payload).getErrorReport().isPresent()) {
+            log.error("Failed to deserialize message in kafka-topic \"{}\": {}",
+                    record.topic(), ((TransportAdapter) payload).getErrorReport().get().getError().getMessage());
+            return null;
+        }
+
+        String correlationId = null;
+        if (payload instanceof Message) {
+            correlationId = ((Message) payload).getCorrelationId();
+        } else if (payload instanceof AbstractMessage) {
+            correlationId = ((AbstractMessage) payload).getMessageContext().getCorrelationId();
+        }
+        return new Values(record.key(), payload, makeContext(record, correlationId));
+    }
+
+    private Deserializer<?> getLegacyDecoder() {
+        if (legacyDecoder == null) {
+            try {
+                legacyDecoder = legacyDecoderClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(String.format(
+                        "Unable to create kafka decoder %s", legacyDecoderClass.getName()), e);
+            }
+        }
+        return legacyDecoder;
+    }
+
+    private static CommandContext makeContext(ConsumerRecord<?, ?> record, String correlationId) {
+        if (correlationId == null) {
+            return new CommandContext(record);
+        }
+        return new CommandContext(correlationId, record);
+    }
+}
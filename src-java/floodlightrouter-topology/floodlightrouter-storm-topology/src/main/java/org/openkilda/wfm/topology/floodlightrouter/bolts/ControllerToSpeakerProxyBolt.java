@@ -18,16 +18,19 @@ package org.openkilda.wfm.topology.floodlightrouter.bolts;
 import org.openkilda.bluegreen.LifecycleEvent;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.SerializationUtils;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.stats.StatsRequest;
 import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
 import org.openkilda.wfm.topology.floodlightrouter.RegionAwareKafkaTopicSelector;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawSpeakerRequest;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMapping;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 import org.openkilda.wfm.topology.floodlightrouter.service.ControllerToSpeakerProxyCarrier;
@@ -42,11 +45,14 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
 
 @Slf4j
 public class ControllerToSpeakerProxyBolt extends AbstractBolt implements ControllerToSpeakerProxyCarrier {
+    public static final String STREAM_RAW_ID = "raw";
+
     private final String targetTopic;
 
     protected transient RegionMapping switchMapping;
@@ -78,7 +84,9 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
     @Override
     public void handleInput(Tuple input) throws Exception {
         Object raw = pullControllerPayload(input);
-        if (raw instanceof Message) {
+        if (raw instanceof RawSpeakerRequest) {
+            service.unicastRawRequest((RawSpeakerRequest) raw);
+        } else if (raw instanceof Message) {
             handleControllerRequest((Message) raw);
         } else if (raw instanceof AbstractMessage) {
             handleControllerRequest((AbstractMessage) raw);
@@ -128,6 +136,15 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         getOutput().emit(getCurrentTuple(), makeDefaultTuple(message, pullKafkaKey(), region));
     }
 
+    /**
+     * Forward not decoded request. The payload is emitted into the {@link #STREAM_RAW_ID} stream, it must be
+     * connected with the kafka bolt that does not apply any encoding.
+     */
+    public void sendToSpeaker(RawSpeakerRequest request, String region) {
+        getOutput().emit(
+                STREAM_RAW_ID, getCurrentTuple(), makeDefaultTuple(request.getPayload(), pullKafkaKey(), region));
+    }
+
     @Override
     public void regionNotFoundError(Message message, SwitchId switchId) {
         handleRegionNotFoundError(message, switchId);
@@ -138,6 +155,11 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         handleRegionNotFoundError(message, switchId);
     }
 
+    @Override
+    public void regionNotFoundError(RawSpeakerRequest request, SwitchId switchId) {
+        handleRegionNotFoundError(decodeRawRequest(request), switchId);
+    }
+
     // stream management
 
     @Override
@@ -146,6 +168,7 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
                 FieldNameBasedTupleToKafkaMapper.BOLT_KEY, FieldNameBasedTupleToKafkaMapper.BOLT_MESSAGE,
                 RegionAwareKafkaTopicSelector.FIELD_ID_TOPIC, RegionAwareKafkaTopicSelector.FIELD_ID_REGION);
         outputFieldsDeclarer.declare(fields);
+        outputFieldsDeclarer.declareStream(STREAM_RAW_ID, fields);
         outputFieldsDeclarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
                 ZooKeeperBolt.FIELD_ID_CONTEXT));
     }
@@ -164,6 +187,17 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         log.error("Unable to route request - region that owns switch {} is unknown (message: {})", switchId, payload);
     }
 
+    private Object decodeRawRequest(RawSpeakerRequest request) {
+        Class<?> base = request.getMetadata().getKind() == SpeakerRoutingMetadata.Kind.HS_UNICAST
+                ? AbstractMessage.class : Message.class;
+        try {
+            return SerializationUtils.MAPPER.readValue(request.getPayload(), base);
+        } catch (IOException e) {
+            log.error("Unable to decode raw request {}: {}", request, e.getMessage());
+            return request;
+        }
+    }
+
     private String pullKafkaKey() {
         String result;
         Tuple tuple = getCurrentTuple();
@@ -0,0 +1,41 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.model;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata;
+
+import lombok.ToString;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * Not decoded speaker request, routed by {@link SpeakerRoutingMetadata} taken from kafka record headers. The payload
+ * is always JSON, so it is passed to the speaker as is.
+ */
+@Value
+@ToString(exclude = "payload")
+public class RawSpeakerRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    SpeakerRoutingMetadata metadata;
+    byte[] payload;
+
+    public SwitchId getSwitchId() {
+        return metadata.getSwitchId();
+    }
+}
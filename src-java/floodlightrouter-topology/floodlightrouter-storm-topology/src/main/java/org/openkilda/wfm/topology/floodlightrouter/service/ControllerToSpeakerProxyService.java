@@ -22,6 +22,7 @@ import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.stats.StatsRequest;
 import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawSpeakerRequest;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMapping;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 
@@ -70,6 +71,13 @@ public class ControllerToSpeakerProxyService {
         proxyUnicastRequest(new ProxyHsMessageWrapper(message), switchId);
     }
 
+    /**
+     * Route request, already classified as unicast by the producer, without decoding of its payload.
+     */
+    public void unicastRawRequest(RawSpeakerRequest request) {
+        proxyUnicastRequest(new ProxyRawRequestWrapper(request), request.getSwitchId());
+    }
+
     /**
      * Route request into all known regions.
      */
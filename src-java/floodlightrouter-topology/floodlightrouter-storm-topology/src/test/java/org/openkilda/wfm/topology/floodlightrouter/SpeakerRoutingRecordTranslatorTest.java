@@ -0,0 +1,87 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.kafka.MessageDeserializer;
+import org.openkilda.wfm.kafka.SpeakerRoutingHeaders;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata.Kind;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawSpeakerRequest;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class SpeakerRoutingRecordTranslatorTest {
+    private static final String TOPIC = "kilda.speaker";
+    private static final SwitchId SWITCH_ID = new SwitchId(1);
+    private static final CommandMessage REQUEST = new CommandMessage(
+            new DiscoverIslCommandData(SWITCH_ID, 1, 1L), 0L, "correlation-id");
+
+    private final SpeakerRoutingRecordTranslator translator =
+            new SpeakerRoutingRecordTranslator(MessageDeserializer.class);
+
+    @Test
+    public void shouldPassJsonRecordWithoutDecoding() throws Exception {
+        byte[] payload = MessageCodec.JSON.encode(REQUEST);
+        ConsumerRecord<String, byte[]> record = makeUnicastRecord(payload, MessageCodec.JSON);
+
+        List<Object> tuple = translator.apply(record);
+
+        assertTrue(tuple.get(1) instanceof RawSpeakerRequest);
+        assertArrayEquals(payload, ((RawSpeakerRequest) tuple.get(1)).getPayload());
+    }
+
+    @Test
+    public void shouldPassRecordWithoutContentTypeWithoutDecoding() throws Exception {
+        ConsumerRecord<String, byte[]> record = makeUnicastRecord(MessageCodec.JSON.encode(REQUEST), null);
+
+        assertTrue(translator.apply(record).get(1) instanceof RawSpeakerRequest);
+    }
+
+    @Test
+    public void shouldDecodeSmileRecord() throws Exception {
+        ConsumerRecord<String, byte[]> record = makeUnicastRecord(MessageCodec.SMILE.encode(REQUEST),
+                MessageCodec.SMILE);
+
+        List<Object> tuple = translator.apply(record);
+
+        assertTrue(tuple.get(1) instanceof CommandMessage);
+        CommandMessage request = (CommandMessage) tuple.get(1);
+        assertEquals(REQUEST.getCorrelationId(), request.getCorrelationId());
+        assertEquals(SWITCH_ID, ((DiscoverIslCommandData) request.getData()).getSwitchId());
+    }
+
+    private static ConsumerRecord<String, byte[]> makeUnicastRecord(byte[] payload, MessageCodec codec) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(TOPIC, 0, 0, "key", payload);
+        record.headers().add(SpeakerRoutingHeaders.KIND, Kind.UNICAST.name().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(SpeakerRoutingHeaders.SWITCH_ID, SWITCH_ID.toString().getBytes(StandardCharsets.UTF_8));
+        if (codec != null) {
+            record.headers().add(MessageCodec.CONTENT_TYPE_HEADER,
+                    codec.getContentType().getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
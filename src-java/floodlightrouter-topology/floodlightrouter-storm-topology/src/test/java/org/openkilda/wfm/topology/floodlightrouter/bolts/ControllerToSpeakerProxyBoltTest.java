@@ -15,6 +15,7 @@
 
 package org.openkilda.wfm.topology.floodlightrouter.bolts;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -32,8 +33,10 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.inmemory.InMemoryGraphPersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.kafka.SpeakerRoutingMetadata;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
 import org.openkilda.wfm.topology.floodlightrouter.ComponentType;
+import org.openkilda.wfm.topology.floodlightrouter.model.RawSpeakerRequest;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingSet;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
@@ -56,6 +59,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
@@ -160,6 +164,30 @@ public class ControllerToSpeakerProxyBoltTest {
         verifyNoMoreInteractions(outputCollector);
     }
 
+    @Test
+    public void verifyRawRequestRouting() {
+        injectLifecycleEventUpdate(START_SIGNAL);
+        injectRegionUpdate(new RegionMappingSet(switchAlpha, REGION_TWO, true));
+
+        byte[] payload = "{\"dummy\": \"request\"}".getBytes(StandardCharsets.UTF_8);
+        RawSpeakerRequest request = new RawSpeakerRequest(new SpeakerRoutingMetadata(
+                SpeakerRoutingMetadata.Kind.UNICAST, switchAlpha, "raw-request"), payload);
+        Tuple input = new TupleImpl(
+                generalTopologyContext, new Values(switchAlpha.toString(), request, new CommandContext()),
+                TASK_ID_SPOUT, STREAM_SPOUT_DEFAULT);
+        subject.execute(input);
+        verify(outputCollector).ack(eq(input));
+
+        ArgumentCaptor<Values> outputCaptor = ArgumentCaptor.forClass(Values.class);
+        verify(outputCollector).emit(
+                eq(ControllerToSpeakerProxyBolt.STREAM_RAW_ID), any(Tuple.class), outputCaptor.capture());
+        Values output = outputCaptor.getValue();
+        assertEquals(switchAlpha.toString(), output.get(0));  // key
+        assertArrayEquals(payload, (byte[]) output.get(1)); // value
+        assertEquals(TARGET_TOPIC, output.get(2)); // topic
+        assertEquals(REGION_TWO, output.get(3)); // region
+    }
+
     private void injectLifecycleEventUpdate(Signal signal) {
         LifecycleEvent event = LifecycleEvent.builder()
                 .signal(signal)
@@ -19,7 +19,9 @@ import static java.lang.String.format;
 
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowPath;
+import org.openkilda.model.PathId;
 import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.wfm.share.history.model.FlowDumpData;
 import org.openkilda.wfm.share.history.model.FlowDumpData.DumpType;
@@ -29,6 +31,8 @@ import org.openkilda.wfm.topology.flowhs.fsm.common.FlowProcessingWithHistorySup
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
+
 /**
  * A base for action classes that remove flow paths.
  */
@@ -43,16 +47,25 @@ public abstract class BaseFlowPathRemovalAction<T extends FlowProcessingWithHist
         islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
     }
 
-    protected void updateIslsForFlowPath(FlowPath... paths) {
-        for (FlowPath path : paths) {
-            if (!path.isIgnoreBandwidth()) {
-                path.getSegments().forEach(pathSegment ->
-                        transactionManager.doInTransaction(() ->
-                                islRepository.updateAvailableBandwidth(
-                                        pathSegment.getSrcSwitchId(), pathSegment.getSrcPort(),
-                                        pathSegment.getDestSwitchId(), pathSegment.getDestPort())));
-            }
-        }
+    /**
+     * Removes the flow path and returns its bandwidth to the ISLs within a single transaction. ISL available
+     * bandwidth is adjusted by the delta of each segment, so the release must not be separated from the removal:
+     * otherwise an ISL bandwidth reconciliation in between would count the path twice.
+     *
+     * <p/>The segments are released while the path is still there, as {@link FlowPathRepository#remove(PathId)}
+     * can't be used within an outside transaction.
+     */
+    protected Optional<FlowPath> removeFlowPathAndReleaseBandwidth(PathId pathId) {
+        return transactionManager.doInTransaction(() -> {
+            Optional<FlowPath> foundPath = flowPathRepository.findById(pathId);
+            foundPath.ifPresent(path -> {
+                if (!path.isIgnoreBandwidth()) {
+                    path.getSegments().forEach(islRepository::releaseBandwidth);
+                }
+                flowPathRepository.remove(path);
+            });
+            return foundPath;
+        });
     }
 
     protected void saveRemovalActionWithDumpToHistory(T stateMachine, Flow flow, FlowPath flowPath) {
@@ -379,7 +379,7 @@ public class ResourcesAllocationAction extends
     }
 
     private void updateIslsForFlowPath(PathId pathId) throws ResourceAllocationException {
-        Map<IslEndpoints, Long> updatedIsls = islRepository.updateAvailableBandwidthOnIslsOccupiedByPath(pathId);
+        Map<IslEndpoints, Long> updatedIsls = islRepository.allocateBandwidthOnIslsOccupiedByPath(pathId);
         for (Entry<IslEndpoints, Long> entry : updatedIsls.entrySet()) {
             IslEndpoints isl = entry.getKey();
             if (entry.getValue() < 0) {
@@ -18,13 +18,11 @@ package org.openkilda.wfm.topology.flowhs.fsm.create.actions;
 import static java.lang.String.format;
 
 import org.openkilda.model.Flow;
-import org.openkilda.model.PathSegment;
 import org.openkilda.persistence.PersistenceManager;
-import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.wfm.share.flow.resources.FlowResources;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesManager;
 import org.openkilda.wfm.topology.flowhs.exception.FlowProcessingException;
-import org.openkilda.wfm.topology.flowhs.fsm.common.actions.FlowProcessingWithHistorySupportAction;
+import org.openkilda.wfm.topology.flowhs.fsm.common.actions.BaseFlowPathRemovalAction;
 import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateContext;
 import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateFsm;
 import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateFsm.Event;
@@ -32,22 +30,17 @@ import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateFsm.State;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.stream.Stream;
 
 @Slf4j
 public class ResourcesDeallocationAction extends
-        FlowProcessingWithHistorySupportAction<FlowCreateFsm, State, Event, FlowCreateContext> {
+        BaseFlowPathRemovalAction<FlowCreateFsm, State, Event, FlowCreateContext> {
     private final FlowResourcesManager resourcesManager;
-    private final IslRepository islRepository;
 
     public ResourcesDeallocationAction(FlowResourcesManager resourcesManager, PersistenceManager persistenceManager) {
         super(persistenceManager);
 
         this.resourcesManager = resourcesManager;
-        this.islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
     }
 
     @Override
@@ -66,14 +59,8 @@ public class ResourcesDeallocationAction extends
 
         Collection<FlowResources> flowResources = stateMachine.getFlowResources();
         for (FlowResources resources : flowResources) {
-            List<PathSegment> removedSegments = new ArrayList<>();
-
-            Stream.of(resources.getForward().getPathId(), resources.getReverse().getPathId())
-                    .forEach(pathId ->
-                            flowPathRepository.remove(pathId)
-                                    .ifPresent(path -> removedSegments.addAll(path.getSegments())));
-
-            updateIslsForSegments(removedSegments);
+            removeFlowPathAndReleaseBandwidth(resources.getForward().getPathId());
+            removeFlowPathAndReleaseBandwidth(resources.getReverse().getPathId());
 
             transactionManager.doInTransaction(() ->
                     resourcesManager.deallocatePathResources(resources));
@@ -85,12 +72,4 @@ public class ResourcesDeallocationAction extends
 
         stateMachine.saveActionToHistory("The resources have been deallocated");
     }
-
-    private void updateIslsForSegments(List<PathSegment> pathSegments) {
-        pathSegments.forEach(pathSegment ->
-                transactionManager.doInTransaction(() ->
-                        islRepository.updateAvailableBandwidth(
-                                pathSegment.getSrcSwitchId(), pathSegment.getSrcPort(),
-                                pathSegment.getDestSwitchId(), pathSegment.getDestPort())));
-    }
 }
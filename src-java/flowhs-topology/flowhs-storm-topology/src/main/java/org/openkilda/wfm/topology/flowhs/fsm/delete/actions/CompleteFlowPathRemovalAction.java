@@ -32,7 +32,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -77,10 +76,7 @@ public class CompleteFlowPathRemovalAction extends
         flowPathPairs.add(new FlowPathPair(flow.getProtectedForwardPath(), flow.getProtectedReversePath()));
 
         // Iterate to remove each path in a dedicated transaction.
-        flow.getPathIds().forEach(pathId -> {
-            Optional<FlowPath> deletedPath = flowPathRepository.remove(pathId);
-            deletedPath.ifPresent(this::updateIslsForFlowPath);
-        });
+        flow.getPathIds().forEach(this::removeFlowPathAndReleaseBandwidth);
 
         flowPathPairs.forEach(flowPathPair -> {
             if (flowPathPair.getForward() != null && flowPathPair.getReverse() != null) {
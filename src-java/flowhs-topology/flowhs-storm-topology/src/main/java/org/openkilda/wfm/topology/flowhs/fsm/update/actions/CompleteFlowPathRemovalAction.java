@@ -55,26 +55,23 @@ public class CompleteFlowPathRemovalAction extends
         PathId oldPrimaryReversePathId = stateMachine.getOldPrimaryReversePath();
 
         if (oldPrimaryForwardPathId != null || oldPrimaryReversePathId != null) {
-            FlowPath oldPrimaryForward = flowPathRepository.remove(oldPrimaryForwardPathId).orElse(null);
-            FlowPath oldPrimaryReverse = flowPathRepository.remove(oldPrimaryReversePathId).orElse(null);
+            FlowPath oldPrimaryForward = removeFlowPathAndReleaseBandwidth(oldPrimaryForwardPathId).orElse(null);
+            FlowPath oldPrimaryReverse = removeFlowPathAndReleaseBandwidth(oldPrimaryReversePathId).orElse(null);
 
             FlowPathPair removedPaths = null;
             if (oldPrimaryForward != null) {
                 if (oldPrimaryReverse != null) {
                     log.debug("Removed the flow paths {} / {}", oldPrimaryForward, oldPrimaryReverse);
                     removedPaths = new FlowPathPair(oldPrimaryForward, oldPrimaryReverse);
-                    updateIslsForFlowPath(removedPaths.getForward(), removedPaths.getReverse());
                 } else {
                     log.debug("Removed the flow path {} (no reverse pair)", oldPrimaryForward);
                     // TODO: History dumps require paired paths, fix it to support any (without opposite one).
                     removedPaths = new FlowPathPair(oldPrimaryForward, oldPrimaryForward);
-                    updateIslsForFlowPath(removedPaths.getForward());
                 }
             } else if (oldPrimaryReverse != null) {
                 log.debug("Removed the flow path {} (no forward pair)", oldPrimaryReverse);
                 // TODO: History dumps require paired paths, fix it to support any (without opposite one).
                 removedPaths = new FlowPathPair(oldPrimaryReverse, oldPrimaryReverse);
-                updateIslsForFlowPath(removedPaths.getReverse());
             }
             if (removedPaths != null) {
                 saveRemovalActionWithDumpToHistory(stateMachine, originalFlow, removedPaths);
@@ -87,26 +84,23 @@ public class CompleteFlowPathRemovalAction extends
         PathId oldProtectedReversePathId = stateMachine.getOldProtectedReversePath();
 
         if (oldProtectedForwardPathId != null || oldProtectedReversePathId != null) {
-            FlowPath oldProtectedForward = flowPathRepository.remove(oldProtectedForwardPathId).orElse(null);
-            FlowPath oldProtectedReverse = flowPathRepository.remove(oldProtectedReversePathId).orElse(null);
+            FlowPath oldProtectedForward = removeFlowPathAndReleaseBandwidth(oldProtectedForwardPathId).orElse(null);
+            FlowPath oldProtectedReverse = removeFlowPathAndReleaseBandwidth(oldProtectedReversePathId).orElse(null);
 
             FlowPathPair removedPaths = null;
             if (oldProtectedForward != null) {
                 if (oldProtectedReverse != null) {
                     log.debug("Removed the flow paths {} / {}", oldProtectedForward, oldProtectedReverse);
                     removedPaths = new FlowPathPair(oldProtectedForward, oldProtectedReverse);
-                    updateIslsForFlowPath(removedPaths.getForward(), removedPaths.getReverse());
                 } else {
                     log.debug("Removed the flow path {} (no reverse pair)", oldProtectedForward);
                     // TODO: History dumps require paired paths, fix it to support any (without opposite one).
                     removedPaths = new FlowPathPair(oldProtectedForward, oldProtectedForward);
-                    updateIslsForFlowPath(removedPaths.getForward());
                 }
             } else if (oldProtectedReverse != null) {
                 log.debug("Removed the flow path {} (no forward pair)", oldProtectedReverse);
                 // TODO: History dumps require paired paths, fix it to support any (without opposite one).
                 removedPaths = new FlowPathPair(oldProtectedReverse, oldProtectedReverse);
-                updateIslsForFlowPath(removedPaths.getReverse());
             }
             if (removedPaths != null) {
                 saveRemovalActionWithDumpToHistory(stateMachine, originalFlow, removedPaths);
@@ -117,10 +111,8 @@ public class CompleteFlowPathRemovalAction extends
     private void removeRejectedFlowPaths(Flow flow, FlowUpdateFsm stateMachine) {
         stateMachine.getRejectedPaths().stream()
                 .forEach(pathId ->
-                        flowPathRepository.remove(pathId)
-                                .ifPresent(flowPath -> {
-                                    updateIslsForFlowPath(flowPath);
-                                    saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath);
-                                }));
+                        removeFlowPathAndReleaseBandwidth(pathId)
+                                .ifPresent(flowPath ->
+                                        saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath)));
     }
 }
@@ -67,19 +67,15 @@ public class RevertResourceAllocationAction extends
         Stream.of(stateMachine.getNewPrimaryForwardPath(), stateMachine.getNewPrimaryReversePath(),
                 stateMachine.getNewProtectedForwardPath(), stateMachine.getNewProtectedReversePath())
                 .forEach(pathId ->
-                        flowPathRepository.remove(pathId)
-                                .ifPresent(flowPath -> {
-                                    updateIslsForFlowPath(flowPath);
-                                    saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath);
-                                }));
+                        removeFlowPathAndReleaseBandwidth(pathId)
+                                .ifPresent(flowPath ->
+                                        saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath)));
 
         stateMachine.getRejectedPaths().stream()
                 .forEach(pathId ->
-                        flowPathRepository.remove(pathId)
-                                .ifPresent(flowPath -> {
-                                    updateIslsForFlowPath(flowPath);
-                                    saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath);
-                                }));
+                        removeFlowPathAndReleaseBandwidth(pathId)
+                                .ifPresent(flowPath ->
+                                        saveRemovalActionWithDumpToHistory(stateMachine, flow, flowPath)));
 
         stateMachine.setNewPrimaryResources(null);
         stateMachine.setNewPrimaryForwardPath(null);
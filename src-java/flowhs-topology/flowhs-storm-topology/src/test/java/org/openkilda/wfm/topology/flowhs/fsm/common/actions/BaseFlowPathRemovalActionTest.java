@@ -0,0 +1,126 @@
+/* Copyright 2021 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs.fsm.common.actions;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslStatus;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
+import org.openkilda.persistence.repositories.FlowPathRepository;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.wfm.topology.flowhs.fsm.common.FlowProcessingFsm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class BaseFlowPathRemovalActionTest extends InMemoryGraphBasedTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2);
+    private static final int PORT_1 = 1;
+    private static final int PORT_2 = 2;
+    private static final long MAX_BANDWIDTH = 1000;
+    private static final long PATH_BANDWIDTH = 100;
+    private static final PathId PATH_ID = new PathId("path_1");
+
+    private FlowPathRepository flowPathRepository;
+    private IslRepository islRepository;
+    private TestClass testClass;
+
+    @Before
+    public void setup() {
+        flowPathRepository = persistenceManager.getRepositoryFactory().createFlowPathRepository();
+        islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
+        testClass = new TestClass(persistenceManager);
+
+        Switch srcSwitch = createTestSwitch(SWITCH_ID_1);
+        Switch destSwitch = createTestSwitch(SWITCH_ID_2);
+        islRepository.add(Isl.builder()
+                .srcSwitch(srcSwitch)
+                .srcPort(PORT_1)
+                .destSwitch(destSwitch)
+                .destPort(PORT_2)
+                .status(IslStatus.ACTIVE)
+                .maxBandwidth(MAX_BANDWIDTH)
+                .availableBandwidth(MAX_BANDWIDTH - PATH_BANDWIDTH)
+                .build());
+        flowPathRepository.add(FlowPath.builder()
+                .pathId(PATH_ID)
+                .srcSwitch(srcSwitch)
+                .destSwitch(destSwitch)
+                .bandwidth(PATH_BANDWIDTH)
+                .segments(singletonList(PathSegment.builder()
+                        .pathId(PATH_ID)
+                        .srcSwitch(srcSwitch)
+                        .srcPort(PORT_1)
+                        .destSwitch(destSwitch)
+                        .destPort(PORT_2)
+                        .bandwidth(PATH_BANDWIDTH)
+                        .build()))
+                .build());
+    }
+
+    @Test
+    public void shouldRemoveFlowPathAndReleaseBandwidth() {
+        Optional<FlowPath> removed = testClass.removeFlowPathAndReleaseBandwidth(PATH_ID);
+
+        assertTrue(removed.isPresent());
+        assertEquals(PATH_ID, removed.get().getPathId());
+        assertFalse(flowPathRepository.findById(PATH_ID).isPresent());
+        assertEquals(MAX_BANDWIDTH, getAvailableBandwidth());
+    }
+
+    @Test
+    public void shouldRemoveFlowPathWithinOutsideTransaction() {
+        Optional<FlowPath> removed = transactionManager.doInTransaction(() ->
+                testClass.removeFlowPathAndReleaseBandwidth(PATH_ID));
+
+        assertTrue(removed.isPresent());
+        assertFalse(flowPathRepository.findById(PATH_ID).isPresent());
+        assertEquals(MAX_BANDWIDTH, getAvailableBandwidth());
+    }
+
+    @Test
+    public void shouldSkipMissingFlowPath() {
+        assertFalse(testClass.removeFlowPathAndReleaseBandwidth(new PathId("unknown")).isPresent());
+        assertEquals(MAX_BANDWIDTH - PATH_BANDWIDTH, getAvailableBandwidth());
+    }
+
+    private long getAvailableBandwidth() {
+        return islRepository.findByEndpoints(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2).get().getAvailableBandwidth();
+    }
+
+    private static class TestClass extends BaseFlowPathRemovalAction {
+        TestClass(PersistenceManager persistenceManager) {
+            super(persistenceManager);
+        }
+
+        @Override
+        protected void perform(Object from, Object to, Object event, Object context, FlowProcessingFsm stateMachine) {
+        }
+    }
+}
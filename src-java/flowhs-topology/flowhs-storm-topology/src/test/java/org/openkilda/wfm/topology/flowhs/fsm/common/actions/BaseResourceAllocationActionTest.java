@@ -18,7 +18,6 @@ package org.openkilda.wfm.topology.flowhs.fsm.common.actions;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -60,7 +59,7 @@ public class BaseResourceAllocationActionTest extends InMemoryGraphBasedTest {
         islRepositorySpy = spy(persistenceManager.getRepositoryFactory().createIslRepository());
         when(repositoryFactory.createIslRepository()).thenReturn(islRepositorySpy);
 
-        doReturn(-1L).when(islRepositorySpy).updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+        doReturn(-1L).when(islRepositorySpy).allocateBandwidth(any());
 
         BaseResourceAllocationAction action = mock(BaseResourceAllocationAction.class,
                 Mockito.withSettings()
@@ -83,7 +82,7 @@ public class BaseResourceAllocationActionTest extends InMemoryGraphBasedTest {
         islRepositorySpy = spy(persistenceManager.getRepositoryFactory().createIslRepository());
         when(repositoryFactory.createIslRepository()).thenReturn(islRepositorySpy);
 
-        doReturn(1L).when(islRepositorySpy).updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+        doReturn(1L).when(islRepositorySpy).allocateBandwidth(any());
 
         BaseResourceAllocationAction action = mock(BaseResourceAllocationAction.class,
                 Mockito.withSettings()
@@ -23,7 +23,6 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
@@ -127,14 +126,14 @@ public class FlowRerouteServiceTest extends AbstractFlowTest<FlowSegmentRequest>
 
         IslRepository repository = setupIslRepositorySpy();
         doReturn(-1L)
-                .when(repository).updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+                .when(repository).allocateBandwidth(any());
 
         FlowRerouteRequest request = new FlowRerouteRequest(origin.getFlowId(), false,
                 false, Collections.emptySet(), null, false);
         testExpectedFailure(dummyRequestKey, request, commandContext, origin, FlowStatus.UP, ErrorType.INTERNAL_ERROR);
 
         verify(repository, times(PATH_ALLOCATION_RETRIES_LIMIT + 1))
-                .updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+                .allocateBandwidth(any());
     }
 
     @Test
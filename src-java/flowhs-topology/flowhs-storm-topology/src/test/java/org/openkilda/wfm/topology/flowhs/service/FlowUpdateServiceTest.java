@@ -23,7 +23,6 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -136,7 +135,7 @@ public class FlowUpdateServiceTest extends AbstractFlowTest<FlowSegmentRequest>
 
         IslRepository repository = setupIslRepositorySpy();
         doReturn(-1L)
-                .when(repository).updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+                .when(repository).allocateBandwidth(any());
 
         FlowRequest request = makeRequest()
                 .flowId(origin.getFlowId())
@@ -144,7 +143,7 @@ public class FlowUpdateServiceTest extends AbstractFlowTest<FlowSegmentRequest>
         testExpectedFailure(request, origin, ErrorType.INTERNAL_ERROR);
 
         verify(repository, times(PATH_ALLOCATION_RETRIES_LIMIT + 1))
-                .updateAvailableBandwidth(any(), anyInt(), any(), anyInt());
+                .allocateBandwidth(any());
     }
 
     @Test
@@ -23,7 +23,6 @@ import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.S
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.STATS_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.FLOW_ID_FIELD;
-import static org.openkilda.wfm.topology.flowmonitoring.bolt.IslDataSplitterBolt.ISL_KEY_FIELD;
 
 import org.openkilda.messaging.Message;
 import org.openkilda.persistence.PersistenceManager;
@@ -53,7 +52,6 @@ import java.time.Duration;
 public class FlowMonitoringTopology extends AbstractTopology<FlowMonitoringTopologyConfig> {
 
     private static final Fields FLOW_ID_FIELDS = new Fields(FLOW_ID_FIELD);
-    private static final Fields ISL_KEY_FIELDS = new Fields(ISL_KEY_FIELD);
 
     public FlowMonitoringTopology(LaunchEnvironment env) {
         super(env, "flowmonitoring-topology", FlowMonitoringTopologyConfig.class);
@@ -155,9 +153,10 @@ public class FlowMonitoringTopology extends AbstractTopology<FlowMonitoringTopol
         IslCacheBolt islCacheBolt = new IslCacheBolt(persistenceManager,
                 Duration.ofSeconds(getConfig().getIslRttLatencyExpirationSeconds()), ZooKeeperSpout.SPOUT_ID);
         declareBolt(topologyBuilder, islCacheBolt, ComponentId.ISL_CACHE_BOLT.name())
-                .fieldsGrouping(ComponentId.ISL_SPLITTER_BOLT.name(), ISL_KEY_FIELDS)
-                .fieldsGrouping(ComponentId.ISL_SPLITTER_BOLT.name(), ISL_UPDATE_STREAM_ID.name(), ISL_KEY_FIELDS)
-                .fieldsGrouping(ComponentId.FLOW_CACHE_BOLT.name(), ISL_KEY_FIELDS)
+                // every instance keeps the whole ISL cache to evaluate flow path latency locally
+                .allGrouping(ComponentId.ISL_SPLITTER_BOLT.name())
+                .allGrouping(ComponentId.ISL_SPLITTER_BOLT.name(), ISL_UPDATE_STREAM_ID.name())
+                .fieldsGrouping(ComponentId.FLOW_CACHE_BOLT.name(), FLOW_ID_FIELDS)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
     }
 
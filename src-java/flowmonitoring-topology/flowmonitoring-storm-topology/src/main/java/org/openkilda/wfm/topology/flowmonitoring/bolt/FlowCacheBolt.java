@@ -21,8 +21,6 @@ import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.S
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.STATS_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowSplitterBolt.COMMAND_DATA_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowSplitterBolt.INFO_DATA_FIELD;
-import static org.openkilda.wfm.topology.flowmonitoring.bolt.IslDataSplitterBolt.ISL_KEY_FIELD;
-import static org.openkilda.wfm.topology.flowmonitoring.bolt.IslDataSplitterBolt.getIslKey;
 
 import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.info.Datapoint;
@@ -60,7 +58,7 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
     public static final String FLOW_ID_FIELD = "flow-id";
     public static final String FLOW_DIRECTION_FIELD = "flow-direction";
     public static final String REQUEST_ID_FIELD = "request-id";
-    public static final String LINK_FIELD = "link";
+    public static final String FLOW_PATH_FIELD = "flow-path";
     public static final String LATENCY_FIELD = "latency";
 
     private Duration flowRttStatsExpirationTime;
@@ -106,9 +104,8 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
 
             if (ComponentId.ISL_CACHE_BOLT.name().equals(input.getSourceComponent())) {
                 String requestId = pullValue(input, REQUEST_ID_FIELD, String.class);
-                Link link = pullValue(input, LINK_FIELD, Link.class);
                 Duration latency = pullValue(input, LATENCY_FIELD, Duration.class);
-                calculateFlowLatencyService.handleGetLinkLatencyResponse(requestId, link, latency);
+                calculateFlowLatencyService.handleGetFlowPathLatencyResponse(requestId, latency);
                 return;
             }
 
@@ -123,9 +120,8 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
     }
 
     @Override
-    public void emitGetLinkLatencyRequest(String flowId, String requestId, Link link) {
-        emit(getCurrentTuple(), new Values(requestId, flowId, getIslKey(link.getSrcSwitchId(), link.getSrcPort()),
-                link, getCommandContext()));
+    public void emitGetFlowPathLatencyRequest(String flowId, String requestId, List<Link> flowPath) {
+        emit(getCurrentTuple(), new Values(requestId, flowId, flowPath, getCommandContext()));
     }
 
     @Override
@@ -153,7 +149,7 @@ public class FlowCacheBolt extends AbstractBolt implements FlowCacheBoltCarrier
 
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
-        declarer.declare(new Fields(REQUEST_ID_FIELD, FLOW_ID_FIELD, ISL_KEY_FIELD, LINK_FIELD, FIELD_ID_CONTEXT));
+        declarer.declare(new Fields(REQUEST_ID_FIELD, FLOW_ID_FIELD, FLOW_PATH_FIELD, FIELD_ID_CONTEXT));
         declarer.declareStream(ACTION_STREAM_ID.name(), new Fields(FLOW_ID_FIELD, FLOW_DIRECTION_FIELD,
                 LATENCY_FIELD, FIELD_ID_CONTEXT));
         declarer.declareStream(FLOW_UPDATE_STREAM_ID.name(), new Fields(FLOW_ID_FIELD, COMMAND_DATA_FIELD,
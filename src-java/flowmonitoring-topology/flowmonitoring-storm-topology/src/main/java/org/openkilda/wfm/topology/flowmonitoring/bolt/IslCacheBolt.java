@@ -17,8 +17,8 @@ package org.openkilda.wfm.topology.flowmonitoring.bolt;
 
 import static org.openkilda.wfm.topology.flowmonitoring.FlowMonitoringTopology.Stream.ISL_UPDATE_STREAM_ID;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.FLOW_ID_FIELD;
+import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.FLOW_PATH_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.LATENCY_FIELD;
-import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.LINK_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.FlowCacheBolt.REQUEST_ID_FIELD;
 import static org.openkilda.wfm.topology.flowmonitoring.bolt.IslDataSplitterBolt.INFO_DATA_FIELD;
 
@@ -43,6 +43,7 @@ import org.apache.storm.tuple.Values;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
 
 public class IslCacheBolt extends AbstractBolt {
     private Duration islRttLatencyExpiration;
@@ -86,11 +87,13 @@ public class IslCacheBolt extends AbstractBolt {
         if (ComponentId.FLOW_CACHE_BOLT.name().equals(input.getSourceComponent())) {
             String requestId = pullValue(input, REQUEST_ID_FIELD, String.class);
             String flowId = pullValue(input, FLOW_ID_FIELD, String.class);
-            Link link = pullValue(input, LINK_FIELD, Link.class);
+            @SuppressWarnings("unchecked")
+            List<Link> flowPath = pullValue(input, FLOW_PATH_FIELD, List.class);
 
-            Duration latency = islCacheService.getLatencyForLink(link);
+            // null latency is sent as well, so the pending request is released
+            Duration latency = islCacheService.getLatencyForPath(flowPath);
 
-            emit(input, new Values(requestId, flowId, link, latency, getCommandContext()));
+            emit(input, new Values(requestId, flowId, latency, getCommandContext()));
         } else {
             unhandledInput(input);
         }
@@ -98,7 +101,7 @@ public class IslCacheBolt extends AbstractBolt {
 
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
-        declarer.declare(new Fields(REQUEST_ID_FIELD, FLOW_ID_FIELD, LINK_FIELD, LATENCY_FIELD, FIELD_ID_CONTEXT));
+        declarer.declare(new Fields(REQUEST_ID_FIELD, FLOW_ID_FIELD, LATENCY_FIELD, FIELD_ID_CONTEXT));
         declarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
                 ZooKeeperBolt.FIELD_ID_CONTEXT));
     }
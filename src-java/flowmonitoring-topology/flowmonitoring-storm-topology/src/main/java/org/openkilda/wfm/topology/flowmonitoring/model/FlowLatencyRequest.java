@@ -18,47 +18,12 @@ package org.openkilda.wfm.topology.flowmonitoring.model;
 import org.openkilda.server42.messaging.FlowDirection;
 
 import lombok.Builder;
-import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
+import lombok.Value;
 
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-
-@Slf4j
+@Value
+@Builder
 public class FlowLatencyRequest {
-
-    @Getter
-    private final String requestId;
-    @Getter
-    private final String flowId;
-    @Getter
-    private final FlowDirection direction;
-    private final Map<Link, Duration> responses;
-
-    @Builder
-    public FlowLatencyRequest(String requestId, String flowId, FlowDirection direction, List<Link> flowPath) {
-        this.requestId = requestId;
-        this.flowId = flowId;
-        this.direction = direction;
-        this.responses = new HashMap<>();
-        flowPath.forEach(link -> responses.put(link, null));
-    }
-
-    /**
-     * Handle get link latency response.
-     */
-    public void handleResponse(Link link, Duration latency) {
-        responses.put(link, latency);
-    }
-
-    public boolean isFulfilled() {
-        return responses.values().stream().noneMatch(Objects::isNull);
-    }
-
-    public Duration getResult() {
-        return responses.values().stream().reduce(Duration.ZERO, Duration::plus);
-    }
+    String requestId;
+    String flowId;
+    FlowDirection direction;
 }
@@ -19,6 +19,7 @@ import org.openkilda.server42.messaging.FlowDirection;
 import org.openkilda.wfm.topology.flowmonitoring.model.FlowLatencyRequest;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
 
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -31,6 +32,7 @@ import java.util.UUID;
 public class CalculateFlowLatencyService {
 
     private Map<String, FlowLatencyRequest> requests = new HashMap<>();
+    private Map<FlowDirectionKey, String> requestIdByFlowDirection = new HashMap<>();
 
     private FlowCacheBoltCarrier carrier;
 
@@ -42,46 +44,51 @@ public class CalculateFlowLatencyService {
      * Handle calculate flow latency request.
      */
     public void handleCalculateFlowLatencyRequest(String flowId, FlowDirection direction, List<Link> flowPath) {
-        requests.values().stream()
-                .filter(request -> request.getFlowId().equals(flowId) && request.getDirection() == direction)
-                .findAny()
-                .ifPresent(flowLatencyRequest -> {
-                    FlowLatencyRequest remove = requests.remove(flowLatencyRequest.getRequestId());
-                    log.warn("Removing previous calculate flow latency request for {} {} for requestId {}",
-                            flowId, direction, remove.getRequestId());
-                });
+        FlowDirectionKey key = new FlowDirectionKey(flowId, direction);
+        String previousRequestId = requestIdByFlowDirection.remove(key);
+        if (previousRequestId != null) {
+            requests.remove(previousRequestId);
+            log.warn("Removing previous calculate flow latency request for {} {} for requestId {}",
+                    flowId, direction, previousRequestId);
+        }
 
         String requestId = UUID.randomUUID().toString();
         requests.put(requestId, FlowLatencyRequest.builder()
                 .requestId(requestId)
                 .flowId(flowId)
                 .direction(direction)
-                .flowPath(flowPath)
                 .build());
+        requestIdByFlowDirection.put(key, requestId);
 
-        flowPath.forEach(link -> carrier.emitGetLinkLatencyRequest(flowId, requestId, link));
+        carrier.emitGetFlowPathLatencyRequest(flowId, requestId, flowPath);
     }
 
     /**
-     * Handle get link latency response. Send check flow latency request if ready.
+     * Handle get flow path latency response. Send check flow latency request, unless the latency is unknown.
      */
-    public void handleGetLinkLatencyResponse(String requestId, Link link, Duration latency) {
-        log.debug("Get link latency response for link {} with {} and requestId {}", link, latency, requestId);
-        FlowLatencyRequest flowLatencyRequest = requests.get(requestId);
+    public void handleGetFlowPathLatencyResponse(String requestId, Duration latency) {
+        log.debug("Get flow path latency response with {} and requestId {}", latency, requestId);
+        FlowLatencyRequest flowLatencyRequest = requests.remove(requestId);
         if (flowLatencyRequest == null) {
-            log.warn("Link latency response for unknown request found {}", link);
+            log.warn("Flow path latency response for unknown request found {}", requestId);
             return;
         }
-        flowLatencyRequest.handleResponse(link, latency);
-
-        if (flowLatencyRequest.isFulfilled()) {
-            log.debug("Process calculated latency for requestId {}", requestId);
-            String flowId = flowLatencyRequest.getFlowId();
-            FlowDirection direction = flowLatencyRequest.getDirection();
-            Duration result = flowLatencyRequest.getResult();
-            carrier.emitCheckFlowLatencyRequest(flowId, direction, result);
-            carrier.emitLatencyStats(flowId, direction, result);
-            requests.remove(requestId);
+        String flowId = flowLatencyRequest.getFlowId();
+        FlowDirection direction = flowLatencyRequest.getDirection();
+        requestIdByFlowDirection.remove(new FlowDirectionKey(flowId, direction));
+        if (latency == null) {
+            log.debug("Latency of flow {} {} is unknown for requestId {}", flowId, direction, requestId);
+            return;
         }
+
+        log.debug("Process calculated latency for requestId {}", requestId);
+        carrier.emitCheckFlowLatencyRequest(flowId, direction, latency);
+        carrier.emitLatencyStats(flowId, direction, latency);
+    }
+
+    @Value
+    private static class FlowDirectionKey {
+        String flowId;
+        FlowDirection direction;
     }
 }
@@ -25,7 +25,7 @@ public interface FlowCacheBoltCarrier {
 
     void emitCalculateFlowLatencyRequest(String flowId, FlowDirection direction, List<Link> flowPath);
 
-    void emitGetLinkLatencyRequest(String flowId, String requestId, Link link);
+    void emitGetFlowPathLatencyRequest(String flowId, String requestId, List<Link> flowPath);
 
     void emitCheckFlowLatencyRequest(String flowId, FlowDirection direction, Duration latency);
 
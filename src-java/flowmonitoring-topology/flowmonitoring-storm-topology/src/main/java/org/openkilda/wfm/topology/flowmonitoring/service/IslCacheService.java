@@ -21,6 +21,7 @@ import org.openkilda.messaging.info.event.IslRoundTripLatency;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.flowmonitoring.mapper.LinkMapper;
 import org.openkilda.wfm.topology.flowmonitoring.model.Link;
 import org.openkilda.wfm.topology.flowmonitoring.model.LinkState;
@@ -30,10 +31,12 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 public class IslCacheService {
@@ -41,6 +44,7 @@ public class IslCacheService {
     private Clock clock;
     private Duration islRttLatencyExpiration;
     private Map<Link, LinkState> linkStates;
+    private Map<Endpoint, Set<Link>> linksBySource;
 
     public IslCacheService(PersistenceManager persistenceManager, Clock clock, Duration islRttLatencyExpiration) {
         this.clock = clock;
@@ -51,13 +55,16 @@ public class IslCacheService {
     }
 
     private void initCache(IslRepository islRepository) {
+        linkStates = new HashMap<>();
+        linksBySource = new HashMap<>();
         try {
-            linkStates = islRepository.findAll().stream()
-                    .collect(Collectors.toMap(LinkMapper.INSTANCE::toLink, (link) -> LinkState.builder().build()));
+            islRepository.findAll().forEach(isl -> putLinkState(LinkMapper.INSTANCE.toLink(isl),
+                    LinkState.builder().build()));
             log.info("Isl cache initialized successfully.");
         } catch (Exception e) {
             log.error("Isl cache initialization exception. Empty cache is used.", e);
-            linkStates = new HashMap<>();
+            linkStates.clear();
+            linksBySource.clear();
         }
     }
 
@@ -73,7 +80,7 @@ public class IslCacheService {
                 .build();
         LinkState linkState = linkStates.get(link);
         if (linkState == null) {
-            linkStates.put(link, LinkState.builder()
+            putLinkState(link, LinkState.builder()
                     .oneWayLatency(data.getLatency())
                     .build());
         } else {
@@ -85,26 +92,20 @@ public class IslCacheService {
      * Update RTT latency for ISL.
      */
     public void handleRoundTripLatency(IslRoundTripLatency data) {
-        List<Link> links = linkStates.keySet().stream()
-                .filter(link -> link.srcEquals(data.getSrcSwitchId(), data.getSrcPortNo()))
-                .collect(Collectors.toList());
+        Set<Link> links = linksBySource.getOrDefault(
+                Endpoint.of(data.getSrcSwitchId(), data.getSrcPortNo()), Collections.emptySet());
         Instant instant = clock.instant();
-        links.forEach(link -> {
+        for (Link link : links) {
             LinkState linkState = linkStates.get(link);
-            if (linkState == null) {
-                linkStates.put(link, LinkState.builder()
-                        .rttLatency(data.getLatency())
-                        .rttTimestamp(instant)
-                        .build());
-            } else {
-                linkState.setRttLatency(data.getLatency());
-                linkState.setRttTimestamp(instant);
-            }
-        });
+            linkState.setRttLatency(data.getLatency());
+            linkState.setRttTimestamp(instant);
+        }
     }
 
     /**
      * Get latency for link.
+     *
+     * @return the latency or null if there is no actual latency sample of the link.
      */
     public Duration getLatencyForLink(Link link) {
         log.debug("Request for link latency {}", link);
@@ -118,6 +119,24 @@ public class IslCacheService {
         }
     }
 
+    /**
+     * Get latency for the path as a sum of its link latencies.
+     *
+     * @return the latency or null if latency of any link is unknown.
+     */
+    public Duration getLatencyForPath(List<Link> path) {
+        Duration result = Duration.ZERO;
+        for (Link link : path) {
+            Duration latency = getLatencyForLink(link);
+            if (latency == null) {
+                log.debug("Latency of link {} is unknown", link);
+                return null;
+            }
+            result = result.plus(latency);
+        }
+        return result;
+    }
+
     /**
      * Update ISL cache according to Isl changed info.
      */
@@ -125,7 +144,7 @@ public class IslCacheService {
         cleanUpLinkStatesByEndpoint(data.getSource().getDatapath(), data.getSource().getPortNumber());
         if (!data.isRemoved()) {
             // Handle moved or added ISL
-            linkStates.put(Link.builder()
+            putLinkState(Link.builder()
                             .srcSwitchId(data.getSource().getDatapath())
                             .srcPort(data.getSource().getPortNumber())
                             .destSwitchId(data.getDestination().getDatapath())
@@ -135,10 +154,16 @@ public class IslCacheService {
         }
     }
 
+    private void putLinkState(Link link, LinkState linkState) {
+        linkStates.put(link, linkState);
+        linksBySource.computeIfAbsent(Endpoint.of(link.getSrcSwitchId(), link.getSrcPort()), key -> new HashSet<>())
+                .add(link);
+    }
+
     private void cleanUpLinkStatesByEndpoint(SwitchId switchId, int port) {
-        linkStates.keySet().stream()
-                .filter(link -> link.srcEquals(switchId, port))
-                .collect(Collectors.toList())
-                .forEach(link -> linkStates.remove(link));
+        Set<Link> links = linksBySource.remove(Endpoint.of(switchId, port));
+        if (links != null) {
+            links.forEach(linkStates::remove);
+        }
     }
 }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.flowmonitoring.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -63,11 +64,10 @@ public class CalculateFlowLatencyServiceTest {
     }
 
     @Test
-    public void shouldSendLinkRequests() {
+    public void shouldSendFlowPathRequest() {
         service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH);
 
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), any(String.class), eq(FIRST_LINK));
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), any(String.class), eq(SECOND_LINK));
+        verify(carrier).emitGetFlowPathLatencyRequest(eq(FLOW_ID), any(String.class), eq(FLOW_PATH));
 
         verifyNoMoreInteractions(carrier);
     }
@@ -77,33 +77,51 @@ public class CalculateFlowLatencyServiceTest {
         service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FIRST_LINK));
+        verify(carrier).emitGetFlowPathLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FLOW_PATH));
         String requestId = captor.getValue();
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), eq(requestId), eq(SECOND_LINK));
 
-        Duration latency1 = Duration.ofMillis(10);
-        Duration latency2 = Duration.ofMillis(20);
-        service.handleGetLinkLatencyResponse(requestId, FIRST_LINK, latency1);
-        service.handleGetLinkLatencyResponse(requestId, SECOND_LINK, latency2);
+        Duration latency = Duration.ofMillis(30);
+        service.handleGetFlowPathLatencyResponse(requestId, latency);
 
-        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, latency1.plus(latency2));
-        verify(carrier).emitLatencyStats(FLOW_ID, FlowDirection.FORWARD, latency1.plus(latency2));
+        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, latency);
+        verify(carrier).emitLatencyStats(FLOW_ID, FlowDirection.FORWARD, latency);
         verifyNoMoreInteractions(carrier);
     }
 
     @Test
-    public void shouldNotSendCalculatedResponseForNotFinishedRequests() {
+    public void shouldSkipUnknownLatencyResponse() {
         service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH);
 
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FIRST_LINK));
-        String requestId = captor.getValue();
-        verify(carrier).emitGetLinkLatencyRequest(eq(FLOW_ID), eq(requestId), eq(SECOND_LINK));
+        verify(carrier).emitGetFlowPathLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FLOW_PATH));
+
+        service.handleGetFlowPathLatencyResponse(captor.getValue(), null);
+
+        verifyNoMoreInteractions(carrier);
+    }
+
+    @Test
+    public void shouldReplacePreviousRequestForSameFlowDirection() {
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH);
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.REVERSE, FLOW_PATH);
+        service.handleCalculateFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, FLOW_PATH);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(carrier, times(3)).emitGetFlowPathLatencyRequest(eq(FLOW_ID), captor.capture(), eq(FLOW_PATH));
+        List<String> requestIds = captor.getAllValues();
 
         Duration latency = Duration.ofMillis(10);
-        for (int i = 0; i < 3; i++) {
-            service.handleGetLinkLatencyResponse(requestId, FIRST_LINK, latency);
-        }
+        service.handleGetFlowPathLatencyResponse(requestIds.get(0), latency);
+        verifyNoMoreInteractions(carrier);
+
+        service.handleGetFlowPathLatencyResponse(requestIds.get(1), latency);
+        service.handleGetFlowPathLatencyResponse(requestIds.get(2), latency);
+        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.FORWARD, latency);
+        verify(carrier).emitCheckFlowLatencyRequest(FLOW_ID, FlowDirection.REVERSE, latency);
+
+        // response is handled only once
+        service.handleGetFlowPathLatencyResponse(requestIds.get(2), latency);
+        verify(carrier, times(2)).emitLatencyStats(eq(FLOW_ID), any(FlowDirection.class), eq(latency));
         verifyNoMoreInteractions(carrier);
     }
 }
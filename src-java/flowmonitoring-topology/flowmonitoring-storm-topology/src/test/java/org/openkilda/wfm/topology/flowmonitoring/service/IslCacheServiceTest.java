@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.flowmonitoring.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 import static org.openkilda.model.IslStatus.ACTIVE;
 
@@ -40,6 +41,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 
 @RunWith(MockitoJUnitRunner.class)
 public class IslCacheServiceTest extends InMemoryGraphBasedTest {
@@ -177,6 +179,40 @@ public class IslCacheServiceTest extends InMemoryGraphBasedTest {
         assertEquals(rttLatency, actual);
     }
 
+    @Test
+    public void shouldGetLatencyForPath() {
+        Link secondLink = Link.builder()
+                .srcSwitchId(SECOND_SWITCH)
+                .srcPort(ISL_SRC_PORT_2)
+                .destSwitchId(THIRD_SWITCH)
+                .destPort(ISL_DST_PORT_2)
+                .build();
+        when(clock.instant()).thenReturn(Instant.now());
+
+        service.handleRoundTripLatency(new IslRoundTripLatency(FIRST_SWITCH, ISL_SRC_PORT, 100L, 1L));
+        service.handleOneWayLatency(new IslOneWayLatency(SECOND_SWITCH, ISL_SRC_PORT_2,
+                THIRD_SWITCH, ISL_DST_PORT_2, 20L, 1L));
+
+        Duration actual = service.getLatencyForPath(Arrays.asList(LINK, secondLink));
+
+        assertEquals(Duration.ofNanos(120), actual);
+    }
+
+    @Test
+    public void shouldGetUnknownLatencyForPathWithoutLinkSamples() {
+        Link secondLink = Link.builder()
+                .srcSwitchId(SECOND_SWITCH)
+                .srcPort(ISL_SRC_PORT_2)
+                .destSwitchId(THIRD_SWITCH)
+                .destPort(ISL_DST_PORT_2)
+                .build();
+        when(clock.instant()).thenReturn(Instant.now());
+
+        service.handleRoundTripLatency(new IslRoundTripLatency(FIRST_SWITCH, ISL_SRC_PORT, 100L, 1L));
+
+        assertNull(service.getLatencyForPath(Arrays.asList(LINK, secondLink)));
+    }
+
     private void createIsl(Switch srcSwitch, int srcPort, Switch dstSwitch, int dstPort) {
         Isl isl = Isl.builder()
                 .srcSwitch(srcSwitch)
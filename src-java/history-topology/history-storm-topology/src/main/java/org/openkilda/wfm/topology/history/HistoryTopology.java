@@ -22,15 +22,22 @@ import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 import org.openkilda.wfm.share.zk.ZooKeeperSpout;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.history.bolts.HistoryBolt;
+import org.openkilda.wfm.topology.history.bolts.HistoryBolt.BatchOptions;
+import org.openkilda.wfm.topology.history.bolts.HistoryRetentionBolt;
 import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
 
 import org.apache.storm.generated.StormTopology;
+import org.apache.storm.kafka.bolt.KafkaBolt;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.time.Duration;
+
 public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
     public static final String HISTORY_SPOUT_ID = "history-spout";
     public static final String HISTORY_BOLT_ID = "history-bolt";
+    public static final String METRICS_BOLT_ID = "metrics-bolt";
+    public static final String RETENTION_BOLT_ID = "retention-bolt";
 
     public HistoryTopology(LaunchEnvironment env) {
         super(env, "history-topology", HistoryTopologyConfig.class);
@@ -45,6 +52,8 @@ public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
 
         createSpout(builder);
         createHistoryBolt(builder, persistenceManager);
+        createMetricsBolt(builder);
+        createRetentionBolt(builder, persistenceManager);
 
         createZkBolt(builder);
 
@@ -58,21 +67,46 @@ public class HistoryTopology extends AbstractTopology<HistoryTopologyConfig> {
     }
 
     private void createHistoryBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
-        HistoryBolt historyBolt = new HistoryBolt(persistenceManager, ZooKeeperSpout.SPOUT_ID);
+        BatchOptions batchOptions = null;
+        if (topologyConfig.isHistoryBatchEnabled()) {
+            batchOptions = new BatchOptions(topologyConfig.getHistoryBatchSize(),
+                    Duration.ofSeconds(topologyConfig.getHistoryBatchMaxDelaySeconds()));
+        }
+        HistoryBolt historyBolt = new HistoryBolt(persistenceManager, ZooKeeperSpout.SPOUT_ID, batchOptions);
         declareBolt(builder, historyBolt, HISTORY_BOLT_ID)
                 .fieldsGrouping(HISTORY_SPOUT_ID, new Fields(KafkaRecordTranslator.FIELD_ID_KEY))
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
     }
 
+    private void createMetricsBolt(TopologyBuilder builder) {
+        KafkaBolt kafkaBolt = createKafkaBolt(topologyConfig.getKafkaOtsdbTopic());
+        declareBolt(builder, kafkaBolt, METRICS_BOLT_ID)
+                .shuffleGrouping(HISTORY_BOLT_ID, HistoryBolt.STREAM_METRICS_ID);
+    }
+
+    private void createRetentionBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
+        // the bolt prepares partitions for the upcoming days, so it is needed even if the retention is disabled
+        Duration retention = null;
+        if (topologyConfig.getHistoryRetentionDays() > 0) {
+            retention = Duration.ofDays(topologyConfig.getHistoryRetentionDays());
+        }
+        HistoryRetentionBolt retentionBolt = new HistoryRetentionBolt(persistenceManager, ZooKeeperSpout.SPOUT_ID,
+                retention, Duration.ofSeconds(topologyConfig.getHistoryRetentionCheckIntervalSeconds()));
+        declareBolt(builder, retentionBolt, RETENTION_BOLT_ID)
+                .allGrouping(ZooKeeperSpout.SPOUT_ID);
+    }
+
     private void createSpout(TopologyBuilder builder) {
         declareKafkaSpout(builder, topologyConfig.getKafkaTopoHistoryTopic(), HISTORY_SPOUT_ID);
     }
 
     private void createZkBolt(TopologyBuilder builder) {
+        int expectedBolts = getBoltInstancesCount(HISTORY_BOLT_ID, RETENTION_BOLT_ID);
         ZooKeeperBolt zooKeeperBolt = new ZooKeeperBolt(getConfig().getBlueGreenMode(), getZkTopoName(),
-                getZookeeperConfig(), getBoltInstancesCount(HISTORY_BOLT_ID));
+                getZookeeperConfig(), expectedBolts);
         declareBolt(builder, zooKeeperBolt, ZooKeeperBolt.BOLT_ID)
-                .allGrouping(HISTORY_BOLT_ID, ZkStreams.ZK.toString());
+                .allGrouping(HISTORY_BOLT_ID, ZkStreams.ZK.toString())
+                .allGrouping(RETENTION_BOLT_ID, ZkStreams.ZK.toString());
     }
 
     @Override
@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.history;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Key;
 
 @Configuration
 public interface HistoryTopologyConfig extends AbstractTopologyConfig {
@@ -25,4 +27,36 @@ public interface HistoryTopologyConfig extends AbstractTopologyConfig {
     default String getKafkaTopoHistoryTopic() {
         return getKafkaTopics().getTopoHistoryTopic();
     }
+
+    default String getKafkaOtsdbTopic() {
+        return getKafkaTopics().getOtsdbTopic();
+    }
+
+    @Key("history.batch.enabled")
+    @Default("false")
+    boolean isHistoryBatchEnabled();
+
+    @Key("history.batch.size")
+    @Default("500")
+    int getHistoryBatchSize();
+
+    /**
+     * Max time a record waits in the write-behind buffer. Buffered records are acked only once stored, so the delay
+     * must stay well below the topology message timeout.
+     */
+    @Key("history.batch.max.delay.seconds")
+    @Default("1")
+    int getHistoryBatchMaxDelaySeconds();
+
+    /**
+     * Period of history records retention. Zero disables the cleanup of expired records, partitions for the upcoming
+     * days are prepared anyway.
+     */
+    @Key("history.retention.days")
+    @Default("0")
+    int getHistoryRetentionDays();
+
+    @Key("history.retention.check.interval.seconds")
+    @Default("3600")
+    int getHistoryRetentionCheckIntervalSeconds();
 }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.history.bolts;
 
 import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
 
+import org.openkilda.bluegreen.LifecycleEvent;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
@@ -24,33 +25,73 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
 import org.openkilda.wfm.share.history.service.HistoryService;
+import org.openkilda.wfm.share.history.service.HistoryWriteBehindBuffer;
+import org.openkilda.wfm.share.history.service.HistoryWriteBehindCarrier;
+import org.openkilda.wfm.share.metrics.MeterRegistryHolder;
+import org.openkilda.wfm.share.metrics.PushToStreamMeterRegistry;
 import org.openkilda.wfm.share.zk.ZkStreams;
 import org.openkilda.wfm.share.zk.ZooKeeperBolt;
 
+import lombok.Value;
+import org.apache.storm.Config;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Stores flow history records. In the write-behind mode a record tuple is acked only once the batch containing the
+ * record is committed, and failed if the record can't be stored, so the spout replays the records lost with
+ * the worker or rejected by the storage.
+ */
+public class HistoryBolt extends AbstractBolt implements HistoryWriteBehindCarrier<Tuple> {
+    public static final String STREAM_METRICS_ID = "metrics";
+
+    private final BatchOptions batchOptions;
 
-public class HistoryBolt extends AbstractBolt {
     private transient HistoryService historyService;
+    private transient HistoryWriteBehindBuffer<Tuple> writeBehindBuffer;
+    private transient PushToStreamMeterRegistry meterRegistry;
+    private transient Tuple bufferedTuple;
 
     public HistoryBolt(PersistenceManager persistenceManager, String lifeCycleEventSourceComponent) {
+        this(persistenceManager, lifeCycleEventSourceComponent, null);
+    }
+
+    /**
+     * Constructs the bolt, which stores flow history records in batches if the batch options are provided.
+     */
+    public HistoryBolt(PersistenceManager persistenceManager, String lifeCycleEventSourceComponent,
+                       BatchOptions batchOptions) {
         super(persistenceManager, lifeCycleEventSourceComponent);
+        this.batchOptions = batchOptions;
     }
 
     @Override
     protected void init() {
         historyService = new HistoryService(persistenceManager);
+        if (batchOptions != null) {
+            writeBehindBuffer = new HistoryWriteBehindBuffer<>(
+                    historyService, this, batchOptions.getSize(), batchOptions.getMaxDelay());
+            meterRegistry = new PushToStreamMeterRegistry("kilda.history");
+            meterRegistry.config().commonTags("bolt_id", getComponentId());
+        }
     }
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
-        if (active) {
+        if (TupleUtils.isTick(input)) {
+            handleTick();
+        } else if (active) {
             Message message = pullValue(input, FIELD_ID_PAYLOAD, Message.class);
             if (message instanceof InfoMessage) {
                 InfoData payload = ((InfoMessage) message).getData();
                 if (payload instanceof FlowHistoryHolder) {
-                    historyService.store((FlowHistoryHolder) payload);
+                    store((FlowHistoryHolder) payload, input);
                 } else {
                     unhandledInput(input);
                 }
@@ -60,9 +101,87 @@ public class HistoryBolt extends AbstractBolt {
         }
     }
 
+    private void store(FlowHistoryHolder historyHolder, Tuple input) {
+        if (writeBehindBuffer == null) {
+            historyService.store(historyHolder);
+            return;
+        }
+
+        MeterRegistryHolder.setRegistry(meterRegistry);
+        try {
+            writeBehindBuffer.add(historyHolder, input);
+            bufferedTuple = input;
+        } finally {
+            MeterRegistryHolder.removeRegistry();
+        }
+    }
+
+    @Override
+    public void onRecordStored(Tuple reference) {
+        super.ack(reference);
+    }
+
+    @Override
+    public void onRecordFailed(Tuple reference) {
+        log.trace("Fail tuple id {}", reference.getMessageId());
+        getOutput().fail(reference);
+    }
+
+    @Override
+    protected void ack(Tuple input) {
+        if (input == bufferedTuple) {
+            // acked or failed by the buffer once the record is stored
+            bufferedTuple = null;
+        } else {
+            super.ack(input);
+        }
+    }
+
+    private void handleTick() {
+        if (writeBehindBuffer == null) {
+            return;
+        }
+
+        MeterRegistryHolder.setRegistry(meterRegistry);
+        try {
+            writeBehindBuffer.tick();
+        } finally {
+            MeterRegistryHolder.removeRegistry();
+        }
+        meterRegistry.pushMeters(getOutput(), STREAM_METRICS_ID);
+    }
+
+    @Override
+    protected boolean deactivate(LifecycleEvent event) {
+        if (writeBehindBuffer != null) {
+            writeBehindBuffer.flush();
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        if (batchOptions == null) {
+            return super.getComponentConfiguration();
+        }
+        Config config = new Config();
+        config.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, 1);
+        return config;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
                 ZooKeeperBolt.FIELD_ID_CONTEXT));
+        declarer.declareStream(STREAM_METRICS_ID, METER_STREAM_FIELDS);
+    }
+
+    /**
+     * Options of the write-behind mode.
+     */
+    @Value
+    public static class BatchOptions implements Serializable {
+        int size;
+        Duration maxDelay;
     }
 }
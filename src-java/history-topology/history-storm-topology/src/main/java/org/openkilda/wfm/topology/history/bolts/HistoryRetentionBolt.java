@@ -0,0 +1,106 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.history.bolts;
+
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.share.history.service.HistoryService;
+import org.openkilda.wfm.share.zk.ZkStreams;
+import org.openkilda.wfm.share.zk.ZooKeeperBolt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.Config;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Periodically prepares partitions of history tables for the upcoming days and, if the retention period is set,
+ * removes history records older than it. Partitions must be prepared even without retention, otherwise new records
+ * end up in the catch-all partition. Only the first instance of the bolt does the maintenance, so concurrent changes
+ * of the same partitions are not possible.
+ */
+@Slf4j
+public class HistoryRetentionBolt extends AbstractBolt {
+    private final Duration retention;
+    private final Duration checkInterval;
+
+    private transient HistoryService historyService;
+    private transient Clock clock;
+    private transient boolean purgeOwner;
+
+    /**
+     * Constructs the bolt.
+     *
+     * @param retention the period of history records retention, or null to keep all records.
+     */
+    public HistoryRetentionBolt(PersistenceManager persistenceManager, String lifeCycleEventSourceComponent,
+                                Duration retention, Duration checkInterval) {
+        super(persistenceManager, lifeCycleEventSourceComponent);
+        this.retention = retention;
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        purgeOwner = context.getThisTaskIndex() == 0;
+        super.prepare(stormConf, context, collector);
+    }
+
+    @Override
+    protected void init() {
+        historyService = new HistoryService(persistenceManager);
+        clock = Clock.systemUTC();
+    }
+
+    @Override
+    protected void handleInput(Tuple input) {
+        if (!TupleUtils.isTick(input)) {
+            unhandledInput(input);
+        } else if (active && purgeOwner) {
+            if (retention != null) {
+                historyService.purgeOlderThan(clock.instant().minus(retention));
+            } else {
+                historyService.addUpcomingPartitions();
+            }
+        }
+    }
+
+    @Override
+    protected void handleException(Exception e) {
+        log.error("Failed to maintain history tables", e);
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        Config config = new Config();
+        config.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, (int) checkInterval.getSeconds());
+        return config;
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        declarer.declareStream(ZkStreams.ZK.toString(), new Fields(ZooKeeperBolt.FIELD_ID_STATE,
+                ZooKeeperBolt.FIELD_ID_CONTEXT));
+    }
+}
@@ -123,7 +123,9 @@ public class IslLatencyTopology extends AbstractTopology<IslLatencyTopologyConfi
         IslLatencyBolt islLatencyBolt = new IslLatencyBolt(
                 persistenceManager,
                 topologyConfig.getLatencyUpdateInterval(),
-                topologyConfig.getLatencyUpdateTimeRange());
+                topologyConfig.getLatencyUpdateTimeRange(),
+                topologyConfig.getLatencySamplesLimit(),
+                topologyConfig.getLatencyPersistInterval());
         declareBolt(builder, islLatencyBolt, ISL_LATENCY_BOLT_ID)
                 .fieldsGrouping(ONE_WAY_MANIPULATION_BOLT_ID, StreamType.LATENCY.toString(), ISL_GROUPING_FIELDS)
                 .fieldsGrouping(CACHE_BOLT_ID, StreamType.LATENCY.toString(), ISL_GROUPING_FIELDS);
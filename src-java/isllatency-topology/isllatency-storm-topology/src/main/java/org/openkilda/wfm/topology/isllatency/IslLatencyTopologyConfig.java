@@ -56,6 +56,16 @@ public interface IslLatencyTopologyConfig extends AbstractTopologyConfig {
     @Min(1)
     int getLatencyUpdateTimeRange();
 
+    @Key("latency.samples.limit") // max number of latency samples kept per ISL direction
+    @Default("1024")
+    @Min(1)
+    int getLatencySamplesLimit();
+
+    @Key("latency.persist.interval") // how often collected latency updates are written to the database in seconds
+    @Default("1")
+    @Min(1)
+    int getLatencyPersistInterval();
+
     @Key("latency.discovery.interval.multiplier")
     @Default("3")
     @Min(1)
@@ -25,24 +25,32 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.tx.TransactionManager;
 import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.service.IslLatencyService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.util.Map;
 
 @Slf4j
 public class IslLatencyBolt extends AbstractBolt {
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int latencySamplesLimit; // max number of samples kept per ISL direction
+    private final int latencyPersistInterval; // collected latency updates are written into DB with this interval
     private transient IslLatencyService islLatencyService;
 
     public IslLatencyBolt(PersistenceManager persistenceManager, long latencyUpdateInterval,
-                          long latencyUpdateTimeRange) {
+                          long latencyUpdateTimeRange, int latencySamplesLimit, int latencyPersistInterval) {
         super(persistenceManager);
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.latencySamplesLimit = latencySamplesLimit;
+        this.latencyPersistInterval = latencyPersistInterval;
     }
 
     @Override
@@ -50,11 +58,16 @@ public class IslLatencyBolt extends AbstractBolt {
         TransactionManager transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         islLatencyService = new IslLatencyService(transactionManager, repositoryFactory,
-                latencyUpdateInterval, latencyUpdateTimeRange);
+                latencyUpdateInterval, latencyUpdateTimeRange, latencySamplesLimit);
     }
 
     @Override
     protected void handleInput(Tuple input) throws PipelineException {
+        if (TupleUtils.isTick(input)) {
+            islLatencyService.flushLatencyUpdates();
+            return;
+        }
+
         InfoData data = pullValue(input, LATENCY_DATA_FIELD, InfoData.class);
         long timestamp = getCommandContext().getCreateTime();
 
@@ -67,4 +80,18 @@ public class IslLatencyBolt extends AbstractBolt {
             unhandledInput(input);
         }
     }
+
+    @Override
+    protected CommandContext setupCommandContext() {
+        if (TupleUtils.isTick(getCurrentTuple())) {
+            return new CommandContext();
+        }
+        return super.setupCommandContext();
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        return TupleUtils.putTickFrequencyIntoComponentConfig(super.getComponentConfiguration(),
+                latencyPersistInterval);
+    }
 }
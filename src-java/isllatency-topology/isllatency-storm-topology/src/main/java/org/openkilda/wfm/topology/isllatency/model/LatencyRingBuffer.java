@@ -0,0 +1,114 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+/**
+ * Bounded FIFO of latency samples backed by primitive arrays. Keeps the running sum of stored latencies, so the
+ * average is available in constant time. If the buffer is full, the oldest sample is overwritten.
+ * <p/>
+ * Arrays are grown on demand up to the capacity, so rarely measured ISLs don't reserve the whole capacity.
+ */
+public final class LatencyRingBuffer {
+    private static final int INITIAL_SIZE = 16;
+
+    private final int capacity;
+
+    private long[] latencies;
+    private long[] timestamps;
+    private int head;
+    private int size;
+    private long sum;
+
+    public LatencyRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Invalid capacity %d, must be positive", capacity));
+        }
+        this.capacity = capacity;
+        int initialSize = Math.min(capacity, INITIAL_SIZE);
+        latencies = new long[initialSize];
+        timestamps = new long[initialSize];
+    }
+
+    /**
+     * Adds the sample, overwriting the oldest one if the buffer is full.
+     */
+    public void add(long latency, long timestamp) {
+        if (size == latencies.length) {
+            if (size < capacity) {
+                grow();
+            } else {
+                sum -= latencies[head];
+                head = next(head);
+                size--;
+            }
+        }
+        int tail = (head + size) % latencies.length;
+        latencies[tail] = latency;
+        timestamps[tail] = timestamp;
+        sum += latency;
+        size++;
+    }
+
+    /**
+     * Removes samples taken before the specified time.
+     */
+    public void pollExpired(long oldestTimestamp) {
+        while (size > 0 && timestamps[head] < oldestTimestamp) {
+            sum -= latencies[head];
+            head = next(head);
+            size--;
+        }
+    }
+
+    /**
+     * Calculates the average latency of the stored samples.
+     *
+     * @return the average latency or -1 if there are no samples.
+     */
+    public long getAverage() {
+        if (size == 0) {
+            return -1;
+        }
+        return sum / size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int next(int index) {
+        return index + 1 == latencies.length ? 0 : index + 1;
+    }
+
+    private void grow() {
+        int newSize = (int) Math.min(capacity, latencies.length * 2L);
+        long[] newLatencies = new long[newSize];
+        long[] newTimestamps = new long[newSize];
+        int firstPart = Math.min(size, latencies.length - head);
+        System.arraycopy(latencies, head, newLatencies, 0, firstPart);
+        System.arraycopy(timestamps, head, newTimestamps, 0, firstPart);
+        System.arraycopy(latencies, 0, newLatencies, firstPart, size - firstPart);
+        System.arraycopy(timestamps, 0, newTimestamps, firstPart, size - firstPart);
+        latencies = newLatencies;
+        timestamps = newTimestamps;
+        head = 0;
+    }
+}
@@ -18,27 +18,31 @@ package org.openkilda.wfm.topology.isllatency.service;
 import org.openkilda.messaging.info.event.IslOneWayLatency;
 import org.openkilda.messaging.info.event.IslRoundTripLatency;
 import org.openkilda.model.Isl;
-import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.tx.TransactionManager;
-import org.openkilda.wfm.error.IslNotFoundException;
-import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyRingBuffer;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Aggregates ISL latency samples and persists average latencies.
+ * <p/>
+ * Samples are kept in per ISL direction ring buffers, so the average is available without iterating the samples.
+ * Calculated latencies are not written immediately, they are collected and persisted by
+ * {@link #flushLatencyUpdates()} in a single transaction.
+ */
 @Slf4j
 public class IslLatencyService {
     public static final String ONE_WAY_LATENCY = "one way";
@@ -47,23 +51,27 @@ public class IslLatencyService {
     private IslRepository islRepository;
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int latencySamplesLimit; // max number of samples kept per ISL direction
 
-    private Map<IslKey, Queue<LatencyRecord>> roundTripLatencyStorage;
-    private Map<IslKey, Queue<LatencyRecord>> oneWayLatencyStorage;
+    private Map<IslKey, LatencyRingBuffer> roundTripLatencyStorage;
+    private Map<IslKey, LatencyRingBuffer> oneWayLatencyStorage;
     private Map<IslKey, Instant> nextUpdateTimeMap;
     private Set<IslKey> roundTripLatencyIsSet; // Contains ISLs for which round trip latency were stored in DB
+    private Map<IslKey, PendingLatency> pendingUpdates;
 
     public IslLatencyService(TransactionManager transactionManager,
                              RepositoryFactory repositoryFactory, long latencyUpdateInterval,
-                             long latencyUpdateTimeRange) {
+                             long latencyUpdateTimeRange, int latencySamplesLimit) {
         this.transactionManager = transactionManager;
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.latencySamplesLimit = latencySamplesLimit;
         islRepository = repositoryFactory.createIslRepository();
         oneWayLatencyStorage = new HashMap<>();
         roundTripLatencyStorage = new HashMap<>();
         roundTripLatencyIsSet = new HashSet<>();
         nextUpdateTimeMap = new HashMap<>();
+        pendingUpdates = new HashMap<>();
     }
 
     /**
@@ -87,8 +95,8 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data, destination);
 
-        roundTripLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        roundTripLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        roundTripLatencyStorage.computeIfAbsent(islKey, key -> new LatencyRingBuffer(latencySamplesLimit))
+                .add(data.getLatency(), timestamp);
 
         if (isUpdateRequired(islKey) || !roundTripLatencyIsSet.contains(islKey)) {
             updateRoundTripLatency(data, destination, islKey);
@@ -108,16 +116,67 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data);
 
-        oneWayLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        oneWayLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        oneWayLatencyStorage.computeIfAbsent(islKey, key -> new LatencyRingBuffer(latencySamplesLimit))
+                .add(data.getLatency(), timestamp);
 
         if (isUpdateRequired(islKey)) {
             updateOneWayLatencyIfNeeded(data, islKey);
         }
     }
 
+    /**
+     * Persist all collected latency updates in a single transaction.
+     *
+     * @return the number of updated ISLs.
+     */
+    public int flushLatencyUpdates() {
+        if (pendingUpdates.isEmpty()) {
+            return 0;
+        }
+        Map<IslKey, PendingLatency> updates = pendingUpdates;
+        pendingUpdates = new HashMap<>();
+
+        Set<IslKey> missing = new HashSet<>();
+        try {
+            transactionManager.doInTransaction(() -> {
+                missing.clear();
+                for (Map.Entry<IslKey, PendingLatency> entry : updates.entrySet()) {
+                    IslKey islKey = entry.getKey();
+                    Optional<Isl> isl = islRepository.findByEndpoints(islKey.getSrcSwitchId(), islKey.getSrcPort(),
+                            islKey.getDstSwitchId(), islKey.getDstPort());
+                    if (isl.isPresent()) {
+                        isl.get().setLatency(entry.getValue().getLatency());
+                    } else {
+                        missing.add(islKey);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // let the next sample of these ISLs schedule the update again
+            updates.forEach(this::discardUpdate);
+            throw e;
+        }
+
+        for (Map.Entry<IslKey, PendingLatency> entry : updates.entrySet()) {
+            IslKey islKey = entry.getKey();
+            PendingLatency update = entry.getValue();
+            if (missing.contains(islKey)) {
+                log.warn("Couldn't update {} latency for ISL {}_{} ===> {}_{}. Packet id:{}. Origin: {}. "
+                                + "ISL not found", update.getLatencyType(), islKey.getSrcSwitchId(),
+                        islKey.getSrcPort(), islKey.getDstSwitchId(), islKey.getDstPort(), update.getPacketId(),
+                        update.getOrigin());
+                discardUpdate(islKey, update);
+            } else {
+                log.debug("Updated {} latency for ISL {}_{} ===( {} ns )===> {}_{}. Packet id:{}. Origin: {}",
+                        update.getLatencyType(), islKey.getSrcSwitchId(), islKey.getSrcPort(), update.getLatency(),
+                        islKey.getDstSwitchId(), islKey.getDstPort(), update.getPacketId(), update.getOrigin());
+            }
+        }
+        return updates.size() - missing.size();
+    }
+
     private void updateRoundTripLatency(IslRoundTripLatency data, Endpoint destination, IslKey islKey) {
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyRingBuffer roundTripRecords = roundTripLatencyStorage.get(islKey);
 
         pollExpiredRecords(roundTripRecords);
         pollExpiredRecords(oneWayLatencyStorage.get(islKey));
@@ -129,21 +188,22 @@ public class IslLatencyService {
                     destination.getDatapath(), destination.getPortNumber(), data.getPacketId(), data.getOrigin());
         }
 
-        long averageLatency = calculateAverageLatency(roundTripRecords);
+        long averageLatency = roundTripRecords.getAverage();
 
-        boolean updated = updateLatencyInDataBase(data, destination, averageLatency);
+        boolean scheduled = scheduleLatencyUpdate(islKey, averageLatency, data.getPacketId(),
+                ROUND_TRIP_LATENCY, data.getOrigin(), true);
 
-        if (updated) {
+        if (scheduled) {
             nextUpdateTimeMap.put(islKey, getNextUpdateTime());
             roundTripLatencyIsSet.add(islKey);
         }
     }
 
     private void updateOneWayLatencyIfNeeded(IslOneWayLatency data, IslKey islKey) {
-        Queue<LatencyRecord> oneWayRecords = oneWayLatencyStorage.get(islKey);
+        LatencyRingBuffer oneWayRecords = oneWayLatencyStorage.get(islKey);
         pollExpiredRecords(oneWayRecords);
 
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyRingBuffer roundTripRecords = roundTripLatencyStorage.get(islKey);
         pollExpiredRecords(roundTripRecords);
         if (roundTripRecords != null && !roundTripRecords.isEmpty()) {
             // next round trip latency packet will update ISL latency
@@ -151,14 +211,13 @@ public class IslLatencyService {
         }
 
         IslKey reverseIslKey = islKey.getReverse();
-        Queue<LatencyRecord> reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
+        LatencyRingBuffer reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
         pollExpiredRecords(reverseRoundTripRecords);
 
-        boolean updated;
+        long latency;
         if (reverseRoundTripRecords != null && !reverseRoundTripRecords.isEmpty()) {
             // reverse ISL has round trip latency records. We can use them for forward ISL
-            long averageReverseLatency = calculateAverageLatency(reverseRoundTripRecords);
-            updated = updateLatencyInDataBase(data, averageReverseLatency);
+            latency = reverseRoundTripRecords.getAverage();
         } else {
             // There are no round trip latency records for both ISL direction. We have to use one way latency records
             if (oneWayRecords.isEmpty()) {
@@ -168,73 +227,43 @@ public class IslLatencyService {
                         data.getDstSwitchId(), data.getDstPortNo(), data.getPacketId());
                 return;
             }
-
-            long averageOneWayLatency = calculateAverageLatency(oneWayRecords);
-            updated = updateLatencyInDataBase(data, averageOneWayLatency);
+            latency = oneWayRecords.getAverage();
         }
 
-        if (updated) {
+        boolean scheduled = scheduleLatencyUpdate(islKey, latency, data.getPacketId(),
+                ONE_WAY_LATENCY, ONE_WAY_LATENCY, false);
+
+        if (scheduled) {
             nextUpdateTimeMap.put(islKey, getNextUpdateTime());
             roundTripLatencyIsSet.remove(islKey);
         }
     }
 
-    private boolean updateLatencyInDataBase(IslOneWayLatency data, long latency) {
-        return updateLatencyInDataBase(data.getSrcSwitchId(), data.getSrcPortNo(),
-                data.getDstSwitchId(), data.getDstPortNo(), latency, data.getPacketId(), ONE_WAY_LATENCY,
-                ONE_WAY_LATENCY);
-    }
-
-    private boolean updateLatencyInDataBase(IslRoundTripLatency data, Endpoint destination, long latency) {
-        return updateLatencyInDataBase(data.getSrcSwitchId(), data.getSrcPortNo(),
-                destination.getDatapath(), destination.getPortNumber(), latency, data.getPacketId(),
-                ROUND_TRIP_LATENCY, data.getOrigin());
-    }
-
-    private boolean updateLatencyInDataBase(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort,
-                                         long latency, Long packetId, String latencyType, String origin) {
+    private boolean scheduleLatencyUpdate(IslKey islKey, long latency, Long packetId, String latencyType,
+                                          String origin, boolean roundTrip) {
         if (latency < 0) {
             log.warn("Couldn't update {} latency for ISL {}_{} ===> {}_{}. Packet id:{}. Latency must be positive. "
-                    + "Origin: {}", latencyType, srcSwitch, srcPort, dstSwitch, dstPort, packetId, origin);
-            return false;
-        }
-
-        try {
-            updateIslLatency(srcSwitch, srcPort, dstSwitch, dstPort, latency);
-            log.debug("Updated {} latency for ISL {}_{} ===( {} ns )===> {}_{}. Packet id:{}. Origin: {}",
-                    latencyType, srcSwitch, srcPort, latency, dstSwitch, dstPort, packetId, origin);
-        } catch (SwitchNotFoundException | IslNotFoundException e) {
-            log.warn("Couldn't update {} latency for ISL {}_{} ===> {}_{}. Packet id:{}. Origin: {}. {}",
-                    latencyType, srcSwitch, srcPort, dstSwitch, dstPort, packetId, origin, e.getMessage());
+                    + "Origin: {}", latencyType, islKey.getSrcSwitchId(), islKey.getSrcPort(),
+                    islKey.getDstSwitchId(), islKey.getDstPort(), packetId, origin);
             return false;
         }
+        pendingUpdates.put(islKey, new PendingLatency(latency, packetId, latencyType, origin, roundTrip));
         return true;
     }
 
-    @VisibleForTesting
-    void pollExpiredRecords(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue == null) {
-            return;
-        }
-        Instant oldestTimeInRange = Instant.now().minusSeconds(latencyUpdateTimeRange);
-        while (!recordsQueue.isEmpty()
-                && Instant.ofEpochMilli(recordsQueue.peek().getTimestamp()).isBefore(oldestTimeInRange)) {
-            recordsQueue.poll();
+    private void discardUpdate(IslKey islKey, PendingLatency update) {
+        nextUpdateTimeMap.remove(islKey);
+        if (update.isRoundTrip()) {
+            roundTripLatencyIsSet.remove(islKey);
         }
     }
 
     @VisibleForTesting
-    long calculateAverageLatency(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue.isEmpty()) {
-            log.error("Couldn't calculate average latency. Records queue is empty");
-            return -1;
-        }
-
-        long sum = 0;
-        for (LatencyRecord record : recordsQueue) {
-            sum += record.getLatency();
+    void pollExpiredRecords(LatencyRingBuffer records) {
+        if (records == null) {
+            return;
         }
-        return sum / recordsQueue.size();
+        records.pollExpired(Instant.now().minusSeconds(latencyUpdateTimeRange).toEpochMilli());
     }
 
     @VisibleForTesting
@@ -247,26 +276,12 @@ public class IslLatencyService {
         return Instant.now().plusSeconds(latencyUpdateInterval);
     }
 
-    /**
-     * Update latency of isl by source and destination endpoint.
-     *
-     * @param srcSwitchId ID of source switch.
-     * @param srcPort source port.
-     * @param dstSwitchId ID of destination switch.
-     * @param dstPort destination port.
-     * @param latency latency to update
-     *
-     * @throws SwitchNotFoundException if src or dst switch is not found
-     * @throws IslNotFoundException if isl is not found
-     */
-    @VisibleForTesting
-    void updateIslLatency(
-            SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort, long latency)
-            throws SwitchNotFoundException, IslNotFoundException {
-        transactionManager.doInTransaction(() -> {
-            Isl isl = islRepository.findByEndpoints(srcSwitchId, srcPort, dstSwitchId, dstPort)
-                    .orElseThrow(() -> new IslNotFoundException(srcSwitchId, srcPort, dstSwitchId, dstPort));
-            isl.setLatency(latency);
-        });
+    @Value
+    private static class PendingLatency {
+        long latency;
+        Long packetId;
+        String latencyType;
+        String origin;
+        boolean roundTrip;
     }
 }
@@ -0,0 +1,78 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyRingBufferTest {
+    @Test
+    public void calculateAverageLatencyTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(10);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, 1);
+        }
+        assertEquals(5, buffer.size());
+        assertEquals(3, buffer.getAverage());
+    }
+
+    @Test
+    public void calculateAverageLatencyEmptyTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(10);
+        assertTrue(buffer.isEmpty());
+        assertEquals(-1, buffer.getAverage());
+    }
+
+    @Test
+    public void overwriteOldestSampleWhenFullTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i * 10, i);
+        }
+        assertEquals(3, buffer.size());
+        assertEquals(40, buffer.getAverage());
+
+        buffer.pollExpired(5);
+        assertEquals(1, buffer.size());
+        assertEquals(50, buffer.getAverage());
+    }
+
+    @Test
+    public void keepOrderOnGrowTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(100);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(1000, i);
+        }
+        // move the head, so the stored samples wrap around the end of the initial array on grow
+        buffer.pollExpired(8);
+        for (int i = 10; i < 40; i++) {
+            buffer.add(i, i);
+        }
+        assertEquals(32, buffer.size());
+
+        buffer.pollExpired(10);
+        assertEquals(30, buffer.size());
+        assertEquals(24, buffer.getAverage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidCapacityTest() {
+        new LatencyRingBuffer(0);
+    }
+}
@@ -28,18 +28,14 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
-import org.openkilda.wfm.error.IslNotFoundException;
-import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyRingBuffer;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import java.time.Instant;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
@@ -54,6 +50,7 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     private static final IslKey FORWARD_ISL_KEY = new IslKey(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2);
     public static final int LATENCY_UPDATE_INTERVAL = 100;
     public static final int LATENCY_UPDATE_TIME_RANGE = 10;
+    public static final int LATENCY_SAMPLES_LIMIT = 100;
 
 
     private SwitchRepository switchRepository;
@@ -64,7 +61,7 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     public void setup() {
         islLatencyService = new IslLatencyService(
                 persistenceManager.getTransactionManager(), persistenceManager.getRepositoryFactory(),
-                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE);
+                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE, LATENCY_SAMPLES_LIMIT);
         switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
         islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
 
@@ -74,24 +71,28 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
         createIsl(firstSwitch, PORT_1, secondSwitch, PORT_2, INITIAL_LATENCY);
     }
 
-    @Test(expected = IslNotFoundException.class)
-    public void updateIslLatencyNonExistentSrcEndpointTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(NON_EXISTENT_SWITCH_ID, PORT_1, SWITCH_ID_2, PORT_2, 0);
+    @Test
+    public void flushLatencyUpdatesNonExistentSrcEndpointTest() {
+        assertLatencyUpdateSkipped(new IslOneWayLatency(
+                NON_EXISTENT_SWITCH_ID, PORT_1, SWITCH_ID_2, PORT_2, 1000, PACKET_ID));
     }
 
-    @Test(expected = IslNotFoundException.class)
-    public void updateIslLatencyNonExistentDstEndpointTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, PORT_1, NON_EXISTENT_SWITCH_ID, PORT_2, 0);
+    @Test
+    public void flushLatencyUpdatesNonExistentDstEndpointTest() {
+        assertLatencyUpdateSkipped(new IslOneWayLatency(
+                SWITCH_ID_1, PORT_1, NON_EXISTENT_SWITCH_ID, PORT_2, 1000, PACKET_ID));
     }
 
-    @Test(expected = IslNotFoundException.class)
-    public void updateIslLatencyNonExistentIslTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, NON_EXISTENT_PORT, SWITCH_ID_2, NON_EXISTENT_PORT, 0);
+    @Test
+    public void flushLatencyUpdatesNonExistentIslTest() {
+        assertLatencyUpdateSkipped(new IslOneWayLatency(
+                SWITCH_ID_1, NON_EXISTENT_PORT, SWITCH_ID_2, NON_EXISTENT_PORT, 1000, PACKET_ID));
     }
 
     @Test
-    public void updateIslLatencyTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2, 1000);
+    public void flushLatencyUpdatesSingleIslTest() {
+        islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(1000), System.currentTimeMillis());
+        assertEquals(1, islLatencyService.flushLatencyUpdates());
         assertForwardLatency(1000);
     }
 
@@ -99,11 +100,13 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     public void handleOneWayIslLatencyTest() {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(1), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(1);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(10000), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(1);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -113,12 +116,14 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(5), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(5);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(50000), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(5);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -127,23 +132,27 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     public void handleRoundTripIslLatencyAfterOneWayIslLatencyTest() {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(7), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(7);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(70000), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(7);
 
         // round trip latency will rewrite one way latency
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(8), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(8);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(80000), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(8);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -168,6 +177,7 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
 
         IslOneWayLatency nonExistent = new IslOneWayLatency(SWITCH_ID_1, fakePort, SWITCH_ID_2, fakePort, 3, PACKET_ID);
         islLatencyService.handleOneWayIslLatency(nonExistent, System.currentTimeMillis());
+        assertEquals(0, islLatencyService.flushLatencyUpdates());
 
         assertTrue(islLatencyService.isUpdateRequired(islKey));
     }
@@ -182,6 +192,7 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
         IslRoundTripLatency nonExistent = new IslRoundTripLatency(SWITCH_ID_1, fakePort, 4, PACKET_ID);
         islLatencyService.handleRoundTripIslLatency(
                 nonExistent, Endpoint.of(SWITCH_ID_2, fakePort), System.currentTimeMillis());
+        assertEquals(0, islLatencyService.flushLatencyUpdates());
 
         assertTrue(islLatencyService.isUpdateRequired(islKey));
     }
@@ -194,43 +205,42 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
     }
 
     @Test
-    public void calculateAverageLatencyTest() {
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
+    public void flushLatencyUpdatesTest() {
+        createIsl(switchRepository.findById(SWITCH_ID_2).get(), PORT_2,
+                switchRepository.findById(SWITCH_ID_1).get(), PORT_1, INITIAL_LATENCY);
 
-        for (int i = 1; i <= 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, 1));
-        }
-        assertEquals(3, islLatencyService.calculateAverageLatency(latencyRecords));
-    }
+        islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(3), System.currentTimeMillis());
+        islLatencyService.handleOneWayIslLatency(new IslOneWayLatency(
+                SWITCH_ID_2, PORT_2, SWITCH_ID_1, PORT_1, 4, PACKET_ID), System.currentTimeMillis());
+        assertForwardLatency(INITIAL_LATENCY);
 
-    @Test
-    public void calculateAverageLatencyEmptyTest() {
-        assertEquals(-1, islLatencyService.calculateAverageLatency(new LinkedList<>()));
+        assertEquals(2, islLatencyService.flushLatencyUpdates());
+        assertForwardLatency(3);
+        assertEquals(4, islRepository.findByEndpoints(SWITCH_ID_2, PORT_2, SWITCH_ID_1, PORT_1).get().getLatency());
+
+        assertEquals(0, islLatencyService.flushLatencyUpdates());
     }
 
     @Test
     public void pollExpiredRecordsTest() {
         Instant time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE * 2);
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
+        LatencyRingBuffer latencyRecords = new LatencyRingBuffer(LATENCY_SAMPLES_LIMIT);
 
         for (int i = 0; i < 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
         time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE - 7);
         for (int i = 5; i < 10; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
         assertEquals(10, latencyRecords.size());
         islLatencyService.pollExpiredRecords(latencyRecords);
         assertEquals(5, latencyRecords.size());
-
-        for (int i = 5; i < 10; i++) {
-            assertEquals(i, latencyRecords.poll().getLatency());
-        }
+        assertEquals(7, latencyRecords.getAverage());
     }
 
     private Switch createSwitch(SwitchId switchId) {
@@ -258,6 +268,12 @@ public class IslLatencyServiceTest extends InMemoryGraphBasedTest {
         return new IslRoundTripLatency(SWITCH_ID_1, PORT_1, latency, PACKET_ID);
     }
 
+    private void assertLatencyUpdateSkipped(IslOneWayLatency nonExistent) {
+        islLatencyService.handleOneWayIslLatency(nonExistent, System.currentTimeMillis());
+        assertEquals(0, islLatencyService.flushLatencyUpdates());
+        assertForwardLatency(INITIAL_LATENCY);
+    }
+
     private void assertForwardLatency(long expectedLatency) {
         long actualLatency = islRepository.findByEndpoints(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2).get().getLatency();
         assertEquals(expectedLatency, actualLatency);
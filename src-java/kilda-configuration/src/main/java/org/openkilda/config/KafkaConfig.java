@@ -16,6 +16,7 @@
 package org.openkilda.config;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.Key;
 
 import javax.validation.constraints.NotBlank;
@@ -27,4 +28,14 @@ public interface KafkaConfig {
     @Key("hosts")
     @NotBlank
     String getHosts();
+
+    /**
+     * Comma separated list of topics encoded by the binary (SMILE) codec. Only topics produced and consumed by storm
+     * topologies can be listed here, floodlight and northbound understand JSON only. Speaker requests are transcoded
+     * into JSON by the floodlight router. Topologies refuse to start if the list contains a topic consumed outside
+     * of storm.
+     */
+    @Key("binary-topics")
+    @Default("")
+    String getBinaryTopics();
 }
@@ -0,0 +1,287 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.FlowPathDirection;
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslStatus;
+import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.SwitchProperties;
+import org.openkilda.model.SwitchStatus;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.GetPathsResult;
+import org.openkilda.pce.Path;
+import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.PathComputerConfig;
+import org.openkilda.pce.PathComputerFactory;
+import org.openkilda.pce.PathComputerFactory.PathFinderType;
+import org.openkilda.pce.benchmark.TopologyBuilder.Link;
+import org.openkilda.pce.exception.RecoverableException;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.persistence.inmemory.InMemoryGraphPersistenceManager;
+import org.openkilda.persistence.repositories.FlowRepository;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.persistence.repositories.SwitchPropertiesRepository;
+import org.openkilda.persistence.repositories.SwitchRepository;
+
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Generated network persisted into the in-memory graph, along with flows which form diversity and affinity groups.
+ * <p/>
+ * Every benchmark request goes between one of {@link #ENDPOINT_PAIRS} random pairs of edge switches. Each pair
+ * already has a flow routed over it, the flow is the member of the pair's diversity group and the main flow of the
+ * pair's affinity group. Latency limits of the requests are derived from the latency of that flow.
+ */
+@State(Scope.Benchmark)
+public class NetworkState {
+    public static final int ENDPOINT_PAIRS = 16;
+
+    private static final long SEED = 42;
+    private static final long LINK_BANDWIDTH = 10_000_000;
+    private static final long FLOW_BANDWIDTH = 1_000;
+    private static final String GROUP_FLOW_PREFIX = "group-flow-";
+    private static final String DIVERSE_GROUP_PREFIX = "diverse-group-";
+
+    @Param({"MESH", "FAT_TREE", "RING_OF_PODS"})
+    public TopologyType topology;
+
+    @Param({"100", "1000", "5000"})
+    public int switches;
+
+    @Param({"NONE", "DIVERSITY", "AFFINITY"})
+    public GroupType group;
+
+    @Param({"BEST_WEIGHT_AND_SHORTEST"})
+    public PathFinderType pathFinder;
+
+    private InMemoryGraphPersistenceManager persistenceManager;
+
+    @Getter
+    private PathComputerConfig config;
+    @Getter
+    private AvailableNetworkFactory availableNetworkFactory;
+    @Getter
+    private PathComputer pathComputer;
+
+    private final Map<SwitchId, Switch> switchById = new HashMap<>();
+    private final List<Flow> groupFlows = new ArrayList<>();
+    private final List<Long> groupFlowLatencies = new ArrayList<>();
+
+    /**
+     * Generates and persists the network, then routes the group flows over it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws RecoverableException, UnroutableFlowException {
+        persistenceManager = InMemoryGraphPersistenceManager.newInstance();
+        persistenceManager.install();
+        persistenceManager.getInMemoryImplementation().purgeData();
+        RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
+
+        Properties properties = new Properties();
+        properties.setProperty("pce.path.finder.type", pathFinder.name());
+        config = new PropertiesBasedConfigurationProvider(properties).getConfiguration(PathComputerConfig.class);
+        availableNetworkFactory = new AvailableNetworkFactory(config, repositoryFactory);
+        pathComputer = new PathComputerFactory(config, availableNetworkFactory).getPathComputer();
+
+        TopologyBuilder builder = new TopologyBuilder(SEED);
+        topology.generate(builder, switches);
+        persistTopology(builder, repositoryFactory);
+
+        FlowRepository flowRepository = repositoryFactory.createFlowRepository();
+        for (int i = 0; i < ENDPOINT_PAIRS; i++) {
+            int src = builder.randomEdgeSwitch();
+            int dst = builder.randomEdgeSwitch();
+            while (dst == src) {
+                dst = builder.randomEdgeSwitch();
+            }
+            Flow flow = routeGroupFlow(i, builder.getSwitches().get(src), builder.getSwitches().get(dst));
+            flowRepository.add(flow);
+            groupFlows.add(flow);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        persistenceManager.getInMemoryImplementation().purgeData();
+    }
+
+    /**
+     * Builds a flow request between the endpoints of the pair, according to the group parameter.
+     *
+     * @param pair the index of the endpoint pair.
+     * @param strategy the path computation strategy of the flow.
+     */
+    public Flow buildFlow(int pair, PathComputationStrategy strategy) {
+        Flow groupFlow = groupFlows.get(pair);
+        Flow.FlowBuilder flow = Flow.builder()
+                .flowId("benchmark-flow-" + pair)
+                .srcSwitch(groupFlow.getSrcSwitch())
+                .destSwitch(groupFlow.getDestSwitch())
+                .bandwidth(FLOW_BANDWIDTH)
+                .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                .pathComputationStrategy(strategy)
+                .maxLatency(getMaxLatency(pair))
+                .maxLatencyTier2(getMaxLatencyTier2(pair));
+        if (group == GroupType.DIVERSITY) {
+            flow.diverseGroupId(groupFlow.getDiverseGroupId());
+        } else if (group == GroupType.AFFINITY) {
+            flow.affinityGroupId(groupFlow.getFlowId());
+        }
+        return flow.build();
+    }
+
+    public SwitchId getSrcSwitchId(int pair) {
+        return groupFlows.get(pair).getSrcSwitchId();
+    }
+
+    public SwitchId getDestSwitchId(int pair) {
+        return groupFlows.get(pair).getDestSwitchId();
+    }
+
+    /**
+     * Gets the latency limit of requests between the endpoints of the pair, which is the latency of the group flow.
+     */
+    public long getMaxLatency(int pair) {
+        return groupFlowLatencies.get(pair);
+    }
+
+    public long getMaxLatencyTier2(int pair) {
+        return groupFlowLatencies.get(pair) * 2;
+    }
+
+    private void persistTopology(TopologyBuilder builder, RepositoryFactory repositoryFactory) {
+        SwitchRepository switchRepository = repositoryFactory.createSwitchRepository();
+        SwitchPropertiesRepository switchPropertiesRepository = repositoryFactory.createSwitchPropertiesRepository();
+        IslRepository islRepository = repositoryFactory.createIslRepository();
+
+        for (SwitchId switchId : builder.getSwitches()) {
+            Switch sw = Switch.builder().switchId(switchId).status(SwitchStatus.ACTIVE).build();
+            switchRepository.add(sw);
+            switchPropertiesRepository.add(SwitchProperties.builder().switchObj(sw)
+                    .supportedTransitEncapsulation(SwitchProperties.DEFAULT_FLOW_ENCAPSULATION_TYPES).build());
+            switchById.put(switchId, sw);
+        }
+
+        for (Link link : builder.getLinks()) {
+            Switch first = switchById.get(builder.getSwitches().get(link.getFirst()));
+            Switch second = switchById.get(builder.getSwitches().get(link.getSecond()));
+            islRepository.add(buildIsl(first, link.getFirstPort(), second, link.getSecondPort(), link));
+            islRepository.add(buildIsl(second, link.getSecondPort(), first, link.getFirstPort(), link));
+        }
+    }
+
+    private Isl buildIsl(Switch srcSwitch, int srcPort, Switch dstSwitch, int dstPort, Link link) {
+        return Isl.builder()
+                .srcSwitch(srcSwitch)
+                .srcPort(srcPort)
+                .destSwitch(dstSwitch)
+                .destPort(dstPort)
+                .status(IslStatus.ACTIVE)
+                .actualStatus(IslStatus.ACTIVE)
+                .cost(link.getCost())
+                .latency(link.getLatency())
+                .maxBandwidth(LINK_BANDWIDTH)
+                .availableBandwidth(LINK_BANDWIDTH)
+                .build();
+    }
+
+    private Flow routeGroupFlow(int pair, SwitchId srcSwitchId, SwitchId dstSwitchId)
+            throws RecoverableException, UnroutableFlowException {
+        String flowId = GROUP_FLOW_PREFIX + pair;
+        Flow flow = Flow.builder()
+                .flowId(flowId)
+                .srcSwitch(switchById.get(srcSwitchId))
+                .destSwitch(switchById.get(dstSwitchId))
+                .bandwidth(FLOW_BANDWIDTH)
+                .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                .pathComputationStrategy(PathComputationStrategy.COST)
+                .diverseGroupId(DIVERSE_GROUP_PREFIX + pair)
+                .affinityGroupId(flowId)
+                .build();
+
+        GetPathsResult paths = pathComputer.getPath(flow);
+        flow.setForwardPath(buildFlowPath(flowId, paths.getForward(), FlowPathDirection.FORWARD, pair + 1));
+        flow.setReversePath(buildFlowPath(flowId, paths.getReverse(), FlowPathDirection.REVERSE, pair + 1));
+        groupFlowLatencies.add(paths.getForward().getLatency());
+        return flow;
+    }
+
+    private FlowPath buildFlowPath(String flowId, Path path, FlowPathDirection direction, long cookie) {
+        PathId pathId = new PathId(flowId + "_" + direction.name().toLowerCase());
+        FlowPath flowPath = FlowPath.builder()
+                .pathId(pathId)
+                .srcSwitch(switchById.get(path.getSrcSwitchId()))
+                .destSwitch(switchById.get(path.getDestSwitchId()))
+                .bandwidth(FLOW_BANDWIDTH)
+                .cookie(new FlowSegmentCookie(cookie).toBuilder().direction(direction).build())
+                .build();
+
+        List<PathSegment> segments = new ArrayList<>();
+        for (Path.Segment segment : path.getSegments()) {
+            segments.add(PathSegment.builder()
+                    .pathId(pathId)
+                    .srcSwitch(switchById.get(segment.getSrcSwitchId()))
+                    .srcPort(segment.getSrcPort())
+                    .destSwitch(switchById.get(segment.getDestSwitchId()))
+                    .destPort(segment.getDestPort())
+                    .latency(segment.getLatency())
+                    .bandwidth(FLOW_BANDWIDTH)
+                    .build());
+        }
+        flowPath.setSegments(segments);
+        return flowPath;
+    }
+
+    public enum GroupType {
+        /**
+         * Requests are not members of any group.
+         */
+        NONE,
+
+        /**
+         * Requests share the diversity group with the flow routed between the same endpoints.
+         */
+        DIVERSITY,
+
+        /**
+         * Requests follow the flow routed between the same endpoints as the main flow of the affinity group.
+         */
+        AFFINITY
+    }
+}
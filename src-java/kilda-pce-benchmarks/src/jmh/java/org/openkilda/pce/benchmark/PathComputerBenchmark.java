@@ -0,0 +1,123 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.GetPathsResult;
+import org.openkilda.pce.Path;
+import org.openkilda.pce.exception.RecoverableException;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.InMemoryPathComputer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks of {@link InMemoryPathComputer}: every operation builds the available network for the request
+ * and runs the path finder over it. Requests go round-robin over the endpoint pairs of the {@link NetworkState}.
+ * <p/>
+ * Throughput mode shows the overall rate, sample time mode reports latency percentiles and the gc profiler configured
+ * in the build reports the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PathComputerBenchmark {
+    private static final int PATH_COUNT = 10;
+
+    private final Flow[] costFlows = new Flow[NetworkState.ENDPOINT_PAIRS];
+    private final Flow[] latencyFlows = new Flow[NetworkState.ENDPOINT_PAIRS];
+    private final Flow[] maxLatencyFlows = new Flow[NetworkState.ENDPOINT_PAIRS];
+    private final SwitchId[] srcSwitchIds = new SwitchId[NetworkState.ENDPOINT_PAIRS];
+    private final SwitchId[] dstSwitchIds = new SwitchId[NetworkState.ENDPOINT_PAIRS];
+    private final long[] maxLatencies = new long[NetworkState.ENDPOINT_PAIRS];
+    private final long[] maxLatenciesTier2 = new long[NetworkState.ENDPOINT_PAIRS];
+    private int pair;
+
+    /**
+     * Prepares flow requests, so the benchmarks don't measure building of them.
+     */
+    @Setup(Level.Trial)
+    public void setUp(NetworkState network) {
+        for (int i = 0; i < NetworkState.ENDPOINT_PAIRS; i++) {
+            costFlows[i] = network.buildFlow(i, PathComputationStrategy.COST);
+            latencyFlows[i] = network.buildFlow(i, PathComputationStrategy.LATENCY);
+            maxLatencyFlows[i] = network.buildFlow(i, PathComputationStrategy.MAX_LATENCY);
+            srcSwitchIds[i] = network.getSrcSwitchId(i);
+            dstSwitchIds[i] = network.getDestSwitchId(i);
+            maxLatencies[i] = network.getMaxLatency(i);
+            maxLatenciesTier2[i] = network.getMaxLatencyTier2(i);
+        }
+    }
+
+    @Benchmark
+    public GetPathsResult getPath(NetworkState network) throws RecoverableException, UnroutableFlowException {
+        return network.getPathComputer().getPath(costFlows[nextPair()]);
+    }
+
+    /**
+     * Goes through {@code findPathWithMinWeightAndLatencyLimits} of the path finder.
+     */
+    @Benchmark
+    public GetPathsResult getPathWithLatencyLimits(NetworkState network)
+            throws RecoverableException, UnroutableFlowException {
+        return network.getPathComputer().getPath(latencyFlows[nextPair()]);
+    }
+
+    /**
+     * Goes through {@code findPathWithWeightCloseToMaxWeight} of the path finder.
+     */
+    @Benchmark
+    public GetPathsResult getPathWithWeightCloseToMaxLatency(NetworkState network)
+            throws RecoverableException, UnroutableFlowException {
+        return network.getPathComputer().getPath(maxLatencyFlows[nextPair()]);
+    }
+
+    /**
+     * Finds the best paths between the endpoints, as it's done for the northbound path requests.
+     */
+    @Benchmark
+    public List<Path> getNPaths(NetworkState network) throws RecoverableException, UnroutableFlowException {
+        int current = nextPair();
+        return network.getPathComputer().getNPaths(srcSwitchIds[current], dstSwitchIds[current], PATH_COUNT,
+                FlowEncapsulationType.TRANSIT_VLAN, PathComputationStrategy.COST,
+                Duration.ofNanos(maxLatencies[current]), Duration.ofNanos(maxLatenciesTier2[current]));
+    }
+
+    private int nextPair() {
+        pair = (pair + 1) % NetworkState.ENDPOINT_PAIRS;
+        return pair;
+    }
+}
@@ -0,0 +1,157 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathComputerConfig;
+import org.openkilda.pce.exception.RecoverableException;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+import org.openkilda.pce.finder.CompactDijkstraPathFinder;
+import org.openkilda.pce.finder.PathFinder;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.FindPathResult;
+import org.openkilda.pce.model.PathWeight;
+import org.openkilda.pce.model.WeightFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link PathFinder} alone, over available networks built in advance for every endpoint pair of
+ * the {@link NetworkState}. Comparing them with {@link PathComputerBenchmark} shows the share of the network build.
+ * <p/>
+ * Weight functions follow the ones of the path computer for the COST and LATENCY strategies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PathFinderBenchmark {
+    private static final int PATH_COUNT = 10;
+
+    private final AvailableNetwork[] networks = new AvailableNetwork[NetworkState.ENDPOINT_PAIRS];
+    private final SwitchId[] srcSwitchIds = new SwitchId[NetworkState.ENDPOINT_PAIRS];
+    private final SwitchId[] dstSwitchIds = new SwitchId[NetworkState.ENDPOINT_PAIRS];
+    private final long[] maxLatencies = new long[NetworkState.ENDPOINT_PAIRS];
+    private final long[] maxLatenciesTier2 = new long[NetworkState.ENDPOINT_PAIRS];
+
+    private PathComputerConfig config;
+    private PathFinder pathFinder;
+    private WeightFunction costWeightFunction;
+    private WeightFunction latencyWeightFunction;
+    private int pair;
+
+    /**
+     * Builds available networks for all endpoint pairs, taking the group parameter into account.
+     */
+    @Setup(Level.Trial)
+    public void setUp(NetworkState network) throws RecoverableException {
+        config = network.getConfig();
+        switch (network.pathFinder) {
+            case BEST_WEIGHT_AND_SHORTEST:
+                pathFinder = new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth());
+                break;
+            case COMPACT_DIJKSTRA:
+                pathFinder = new CompactDijkstraPathFinder(config.getMaxAllowedDepth());
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                        String.format("Unsupported path finder type %s", network.pathFinder));
+        }
+        costWeightFunction = this::weightByCost;
+        latencyWeightFunction = this::weightByLatency;
+
+        for (int i = 0; i < NetworkState.ENDPOINT_PAIRS; i++) {
+            Flow flow = network.buildFlow(i, PathComputationStrategy.COST);
+            networks[i] = network.getAvailableNetworkFactory().getAvailableNetwork(flow, Collections.emptyList());
+            srcSwitchIds[i] = network.getSrcSwitchId(i);
+            dstSwitchIds[i] = network.getDestSwitchId(i);
+            maxLatencies[i] = network.getMaxLatency(i);
+            maxLatenciesTier2[i] = network.getMaxLatencyTier2(i);
+        }
+    }
+
+    @Benchmark
+    public FindPathResult findPathWithMinWeight() throws UnroutableFlowException {
+        int current = nextPair();
+        return pathFinder.findPathWithMinWeight(networks[current], srcSwitchIds[current], dstSwitchIds[current],
+                costWeightFunction);
+    }
+
+    @Benchmark
+    public FindPathResult findPathWithMinWeightAndLatencyLimits() throws UnroutableFlowException {
+        int current = nextPair();
+        return pathFinder.findPathWithMinWeightAndLatencyLimits(networks[current], srcSwitchIds[current],
+                dstSwitchIds[current], latencyWeightFunction, maxLatencies[current], maxLatenciesTier2[current]);
+    }
+
+    @Benchmark
+    public FindPathResult findPathWithWeightCloseToMaxWeight() throws UnroutableFlowException {
+        int current = nextPair();
+        return pathFinder.findPathWithWeightCloseToMaxWeight(networks[current], srcSwitchIds[current],
+                dstSwitchIds[current], latencyWeightFunction, maxLatencies[current], maxLatenciesTier2[current]);
+    }
+
+    @Benchmark
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches() throws UnroutableFlowException {
+        int current = nextPair();
+        return pathFinder.findNPathsBetweenSwitches(networks[current], srcSwitchIds[current], dstSwitchIds[current],
+                PATH_COUNT, costWeightFunction);
+    }
+
+    private int nextPair() {
+        pair = (pair + 1) % NetworkState.ENDPOINT_PAIRS;
+        return pair;
+    }
+
+    private PathWeight weightByCost(Edge edge) {
+        long total = edge.getCost() == 0 ? config.getDefaultIslCost() : edge.getCost();
+        total += edge.getDiversityGroupUseCounter() * config.getDiversityIslCost()
+                + edge.getDiversityGroupPerPopUseCounter() * config.getDiversityPopIslCost()
+                + edge.getDestSwitch().getDiversityGroupUseCounter() * config.getDiversitySwitchCost()
+                + edge.getAffinityGroupUseCounter() * config.getAffinityIslCost();
+        return new PathWeight(total);
+    }
+
+    private PathWeight weightByLatency(Edge edge) {
+        long total = edge.getLatency() <= 0 ? config.getDefaultIslLatency() : edge.getLatency();
+        total += edge.getDiversityGroupUseCounter() * config.getDiversityIslLatency()
+                + edge.getDiversityGroupPerPopUseCounter() * config.getDiversityPopIslCost()
+                + edge.getDestSwitch().getDiversityGroupUseCounter() * config.getDiversitySwitchLatency()
+                + edge.getAffinityGroupUseCounter() * config.getAffinityIslLatency();
+        return new PathWeight(total);
+    }
+}
@@ -0,0 +1,109 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.model.SwitchId;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates switches and bidirectional links of a generated topology. Link costs and latencies are random, but
+ * reproducible for the same seed.
+ */
+public class TopologyBuilder {
+    private static final int MAX_COST = 100;
+    private static final long MIN_LATENCY = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Random random;
+    private final List<SwitchId> switches = new ArrayList<>();
+    private final List<Integer> usedPorts = new ArrayList<>();
+    private final List<Integer> edgeSwitches = new ArrayList<>();
+    private final List<Link> links = new ArrayList<>();
+
+    public TopologyBuilder(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Adds a switch.
+     *
+     * @param edge whether flow endpoints can be placed on the switch.
+     * @return the index of the switch.
+     */
+    public int addSwitch(boolean edge) {
+        int index = switches.size();
+        switches.add(new SwitchId(index + 1));
+        usedPorts.add(0);
+        if (edge) {
+            edgeSwitches.add(index);
+        }
+        return index;
+    }
+
+    /**
+     * Connects two switches with a bidirectional link. Self loops are ignored.
+     */
+    public void connect(int first, int second) {
+        if (first == second) {
+            return;
+        }
+        int cost = 1 + random.nextInt(MAX_COST);
+        long latency = MIN_LATENCY + (long) (random.nextDouble() * (MAX_LATENCY - MIN_LATENCY));
+        links.add(new Link(first, allocatePort(first), second, allocatePort(second), cost, latency));
+    }
+
+    public int randomSwitch() {
+        return random.nextInt(switches.size());
+    }
+
+    public int randomEdgeSwitch() {
+        return edgeSwitches.get(random.nextInt(edgeSwitches.size()));
+    }
+
+    public List<SwitchId> getSwitches() {
+        return Collections.unmodifiableList(switches);
+    }
+
+    public List<Link> getLinks() {
+        return Collections.unmodifiableList(links);
+    }
+
+    private int allocatePort(int switchIndex) {
+        int port = usedPorts.get(switchIndex) + 1;
+        usedPorts.set(switchIndex, port);
+        return port;
+    }
+
+    /**
+     * A bidirectional link between two switches, addressed by their indexes.
+     */
+    @Value
+    public static class Link {
+        int first;
+        int firstPort;
+        int second;
+        int secondPort;
+        int cost;
+        long latency;
+    }
+}
@@ -0,0 +1,104 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+/**
+ * Shapes of generated topologies. The number of generated switches is close to the requested one, but can differ a bit
+ * to keep the shape regular.
+ */
+public enum TopologyType {
+    /**
+     * A ring of switches with a random chord per switch, so every switch has 4 links on average.
+     */
+    MESH {
+        @Override
+        void generate(TopologyBuilder builder, int switchCount) {
+            for (int i = 0; i < switchCount; i++) {
+                builder.addSwitch(true);
+            }
+            for (int i = 0; i < switchCount; i++) {
+                builder.connect(i, (i + 1) % switchCount);
+                builder.connect(i, builder.randomSwitch());
+            }
+        }
+    },
+
+    /**
+     * Three tier Clos fabric: pods of leaves connected to every spine of the pod, and planes of super spines
+     * connected to the spine with the same index in every pod. Flow endpoints are placed on leaves only.
+     */
+    FAT_TREE {
+        @Override
+        void generate(TopologyBuilder builder, int switchCount) {
+            int[][] planes = new int[SPINES_PER_POD][SUPER_SPINES_PER_PLANE];
+            for (int[] plane : planes) {
+                for (int i = 0; i < plane.length; i++) {
+                    plane[i] = builder.addSwitch(false);
+                }
+            }
+
+            int podSize = SPINES_PER_POD + LEAVES_PER_POD;
+            int podCount = Math.max(1, (switchCount - SPINES_PER_POD * SUPER_SPINES_PER_PLANE) / podSize);
+            for (int pod = 0; pod < podCount; pod++) {
+                int[] spines = new int[SPINES_PER_POD];
+                for (int i = 0; i < spines.length; i++) {
+                    spines[i] = builder.addSwitch(false);
+                    for (int superSpine : planes[i]) {
+                        builder.connect(spines[i], superSpine);
+                    }
+                }
+                for (int i = 0; i < LEAVES_PER_POD; i++) {
+                    int leaf = builder.addSwitch(true);
+                    for (int spine : spines) {
+                        builder.connect(leaf, spine);
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Fully meshed pods connected into a ring by two border links between neighbour pods.
+     */
+    RING_OF_PODS {
+        @Override
+        void generate(TopologyBuilder builder, int switchCount) {
+            int podCount = Math.max(2, switchCount / RING_POD_SIZE);
+            for (int pod = 0; pod < podCount; pod++) {
+                int first = builder.addSwitch(true);
+                for (int i = 1; i < RING_POD_SIZE; i++) {
+                    int current = builder.addSwitch(true);
+                    for (int other = first; other < current; other++) {
+                        builder.connect(other, current);
+                    }
+                }
+            }
+            for (int pod = 0; pod < podCount; pod++) {
+                int podStart = pod * RING_POD_SIZE;
+                int nextPodStart = ((pod + 1) % podCount) * RING_POD_SIZE;
+                builder.connect(podStart + RING_POD_SIZE - 1, nextPodStart);
+                builder.connect(podStart + RING_POD_SIZE - 2, nextPodStart + 1);
+            }
+        }
+    };
+
+    private static final int SPINES_PER_POD = 4;
+    private static final int LEAVES_PER_POD = 16;
+    private static final int SUPER_SPINES_PER_PLANE = 4;
+    private static final int RING_POD_SIZE = 10;
+
+    abstract void generate(TopologyBuilder builder, int switchCount);
+}
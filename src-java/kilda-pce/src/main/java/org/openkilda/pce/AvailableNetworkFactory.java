@@ -16,23 +16,31 @@
 package org.openkilda.pce;
 
 import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.PathId;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.impl.BandwidthAllocations;
+import org.openkilda.pce.impl.NetworkSnapshot;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
 import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -82,6 +90,96 @@ public class AvailableNetworkFactory {
             throw new RecoverableException("An error from the database", e);
         }
 
+        fillGroupWeights(flow, reusePathsResources, network);
+        return network;
+    }
+
+    /**
+     * Gets the batch-local snapshot of active ISLs which support any of the encapsulation types. The state is read
+     * from the database with a single query per encapsulation type on each call, nothing is cached between batches.
+     *
+     * @param encapsulationTypes the encapsulation types to get ISLs for.
+     * @return {@link NetworkSnapshot} instance.
+     */
+    public NetworkSnapshot getNetworkSnapshot(Collection<FlowEncapsulationType> encapsulationTypes)
+            throws RecoverableException {
+        try {
+            Map<FlowEncapsulationType, Collection<IslImmutableView>> isls = new EnumMap<>(FlowEncapsulationType.class);
+            for (FlowEncapsulationType encapsulationType : encapsulationTypes) {
+                isls.put(encapsulationType, islRepository.findActiveByEncapsulationType(encapsulationType));
+            }
+            return NetworkSnapshot.load(isls, Instant.now());
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from the database", e);
+        }
+    }
+
+    /**
+     * Gets a {@link AvailableNetwork} built over the provided network snapshot, instead of reading ISLs from
+     * the database. Bandwidth allocated by the previous computations of the same batch is taken into account.
+     *
+     * @param flow                      the flow, for which {@link AvailableNetwork} is constructing.
+     * @param reusePathsResources       reuse resources already allocated by {@param reusePathsResources} paths.
+     * @param snapshot                  the state of ISLs.
+     * @param allocations               the bandwidth allocated in-memory, on top of the snapshot state.
+     * @return {@link AvailableNetwork} instance.
+     */
+    public AvailableNetwork getAvailableNetwork(Flow flow, Collection<PathId> reusePathsResources,
+                                                NetworkSnapshot snapshot, BandwidthAllocations allocations)
+            throws RecoverableException {
+        BuildStrategy buildStrategy = BuildStrategy.from(config.getNetworkStrategy());
+        AvailableNetwork network = new AvailableNetwork();
+        try {
+            Map<IslEndpoints, Long> reusedBandwidth = new HashMap<>();
+            if (!flow.isIgnoreBandwidth()) {
+                reusePathsResources.forEach(pathId -> flowPathRepository.findById(pathId)
+                        .filter(path -> !path.isIgnoreBandwidth())
+                        .ifPresent(path -> path.getSegments().forEach(segment -> reusedBandwidth.merge(
+                                new IslEndpoints(segment.getSrcSwitchId().toString(), segment.getSrcPort(),
+                                        segment.getDestSwitchId().toString(), segment.getDestPort()),
+                                path.getBandwidth(), Long::sum))));
+            }
+
+            Collection<IslImmutableView> isls = snapshot.findActiveByEncapsulationType(flow.getEncapsulationType());
+            Map<IslEndpoints, Long> availableBandwidth = new HashMap<>();
+            for (IslImmutableView isl : isls) {
+                IslEndpoints endpoints = new IslEndpoints(isl.getSrcSwitchId().toString(), isl.getSrcPort(),
+                        isl.getDestSwitchId().toString(), isl.getDestPort());
+                availableBandwidth.put(endpoints, isl.getAvailableBandwidth() - allocations.getAllocated(endpoints)
+                        + reusedBandwidth.getOrDefault(endpoints, 0L));
+            }
+
+            validateIslsCost(isls);
+            for (IslImmutableView isl : isls) {
+                IslEndpoints endpoints = new IslEndpoints(isl.getSrcSwitchId().toString(), isl.getSrcPort(),
+                        isl.getDestSwitchId().toString(), isl.getDestPort());
+                long available = availableBandwidth.get(endpoints);
+                if (flow.isIgnoreBandwidth() || isEnoughBandwidth(buildStrategy, flow, endpoints, availableBandwidth)) {
+                    addIslAsEdge(isl, available, network);
+                }
+            }
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from the database", e);
+        }
+
+        fillGroupWeights(flow, reusePathsResources, network);
+        return network;
+    }
+
+    private boolean isEnoughBandwidth(BuildStrategy buildStrategy, Flow flow, IslEndpoints endpoints,
+                                      Map<IslEndpoints, Long> availableBandwidth) {
+        if (availableBandwidth.get(endpoints) < flow.getBandwidth()) {
+            return false;
+        }
+        if (buildStrategy == BuildStrategy.SYMMETRIC_COST) {
+            IslEndpoints reverse = new IslEndpoints(endpoints.getDestSwitch(), endpoints.getDestPort(),
+                    endpoints.getSrcSwitch(), endpoints.getSrcPort());
+            return availableBandwidth.getOrDefault(reverse, Long.MIN_VALUE) >= flow.getBandwidth();
+        }
+        return true;
+    }
+
+    private void fillGroupWeights(Flow flow, Collection<PathId> reusePathsResources, AvailableNetwork network) {
         if (flow.getDiverseGroupId() != null) {
             log.info("Filling AvailableNetwork diverse weights for group with id {}", flow.getDiverseGroupId());
 
@@ -117,8 +215,6 @@ public class AvailableNetworkFactory {
                     .map(FlowPath::getSegments)
                     .forEach(network::processAffinitySegments);
         }
-
-        return network;
     }
 
     private Collection<IslImmutableView> getAvailableIsls(BuildStrategy buildStrategy, Flow flow) {
@@ -163,6 +259,10 @@ public class AvailableNetworkFactory {
     }
 
     private void addIslAsEdge(IslImmutableView isl, AvailableNetwork network) {
+        addIslAsEdge(isl, isl.getAvailableBandwidth(), network);
+    }
+
+    private void addIslAsEdge(IslImmutableView isl, long availableBandwidth, AvailableNetwork network) {
         Node srcSwitch = network.getOrAddNode(isl.getSrcSwitchId(), isl.getSrcPop());
         Node dstSwitch = network.getOrAddNode(isl.getDestSwitchId(), isl.getDestPop());
 
@@ -175,7 +275,7 @@ public class AvailableNetworkFactory {
                 .latency(isl.getLatency())
                 .underMaintenance(isl.isUnderMaintenance())
                 .unstable(isl.isUnstable())
-                .availableBandwidth(isl.getAvailableBandwidth())
+                .availableBandwidth(availableBandwidth)
                 .build();
         network.addEdge(edge);
     }
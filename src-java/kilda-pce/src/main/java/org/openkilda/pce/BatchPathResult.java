@@ -0,0 +1,36 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce;
+
+import org.openkilda.pce.exception.UnroutableFlowException;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The result of path computation for a single flow of a batch. Holds either the found paths or the error.
+ */
+@Value
+@Builder
+public class BatchPathResult {
+    String flowId;
+    GetPathsResult paths;
+    UnroutableFlowException error;
+
+    public boolean isSuccessful() {
+        return paths != null;
+    }
+}
@@ -56,6 +56,17 @@ public interface PathComputer {
     GetPathsResult getPath(Flow flow, Collection<PathId> reusePathsResources)
             throws UnroutableFlowException, RecoverableException;
 
+    /**
+     * Gets paths for a batch of flows over a single state of the network, loaded at the start of the batch and not
+     * shared with other batches. Flows are processed in order of priority (lower value first) and then by bandwidth
+     * (higher first). The bandwidth taken by a found path is not available for the following flows of the batch.
+     * Each flow is allowed to reuse the resources of its own current paths.
+     *
+     * @param flows the flows to compute paths for.
+     * @return the list of {@link BatchPathResult} in the order of provided flows.
+     */
+    List<BatchPathResult> getPaths(Collection<Flow> flows) throws RecoverableException;
+
     /**
      * Gets N best paths.
      *
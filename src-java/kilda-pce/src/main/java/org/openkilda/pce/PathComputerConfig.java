@@ -48,6 +48,10 @@ public interface PathComputerConfig extends Serializable {
     @Default("100")
     int getDiversitySwitchCost();
 
+    @Key("path.finder.type")
+    @Default("BEST_WEIGHT_AND_SHORTEST")
+    String getPathFinderType();
+
     @Key("network.strategy")
     @Default("COST")
     String getNetworkStrategy();
@@ -87,4 +91,12 @@ public interface PathComputerConfig extends Serializable {
     @Key("affinity.isl.latency")
     @Default("1000000000")
     long getAffinityIslLatency();
+
+    /**
+     * The number of threads to search paths of a batch with. 1 means the batch is processed sequentially. The threads
+     * are shared by all path computers of the process.
+     */
+    @Key("batch.parallelism")
+    @Default("1")
+    int getBatchParallelism();
 }
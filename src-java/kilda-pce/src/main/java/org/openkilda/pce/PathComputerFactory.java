@@ -16,13 +16,19 @@
 package org.openkilda.pce;
 
 import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+import org.openkilda.pce.finder.CompactDijkstraPathFinder;
+import org.openkilda.pce.finder.PathFinder;
+import org.openkilda.pce.finder.YenKShortestPathsFinder;
 import org.openkilda.pce.impl.InMemoryPathComputer;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * A factory for {@link PathComputer} instances. It provides a specific {@link PathComputer} depending on configuration
  * ({@link PathComputerConfig}).
  */
 public class PathComputerFactory {
+    private static ForkJoinPool sharedForkJoinPool;
 
     private PathComputerConfig config;
     private AvailableNetworkFactory availableNetworkFactory;
@@ -38,8 +44,70 @@ public class PathComputerFactory {
      * @return {@link PathComputer} instance
      */
     public PathComputer getPathComputer() {
-        return new InMemoryPathComputer(availableNetworkFactory,
-                new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth()),
-                config);
+        return new InMemoryPathComputer(availableNetworkFactory, getPathFinder(), config, getForkJoinPool());
+    }
+
+    /**
+     * Gets the pool for batch path computation. One pool is shared by all factories of the process, so the number of
+     * threads doesn't grow with the number of bolts which compute paths. The pool is never shut down: its threads
+     * are daemons and terminate when they are idle.
+     *
+     * @return the pool or null if batches must be processed sequentially.
+     */
+    private ForkJoinPool getForkJoinPool() {
+        if (config.getBatchParallelism() <= 1) {
+            return null;
+        }
+        return getSharedForkJoinPool(config.getBatchParallelism());
+    }
+
+    private static synchronized ForkJoinPool getSharedForkJoinPool(int parallelism) {
+        if (sharedForkJoinPool == null) {
+            sharedForkJoinPool = new ForkJoinPool(parallelism);
+        }
+        return sharedForkJoinPool;
+    }
+
+    private PathFinder getPathFinder() {
+        PathFinderType pathFinderType = PathFinderType.from(config.getPathFinderType());
+        switch (pathFinderType) {
+            case BEST_WEIGHT_AND_SHORTEST:
+                return new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth());
+            case COMPACT_DIJKSTRA:
+                return new CompactDijkstraPathFinder(config.getMaxAllowedDepth());
+            case YEN_K_SHORTEST_PATHS:
+                return new YenKShortestPathsFinder(config.getMaxAllowedDepth());
+            default:
+                throw new UnsupportedOperationException(
+                        String.format("Unsupported path finder type %s", pathFinderType));
+        }
+    }
+
+    public enum PathFinderType {
+        /**
+         * {@link BestWeightAndShortestPathFinder} over the object graph of the network.
+         */
+        BEST_WEIGHT_AND_SHORTEST,
+
+        /**
+         * {@link CompactDijkstraPathFinder} over the compact array based graph of the network.
+         */
+        COMPACT_DIJKSTRA,
+
+        /**
+         * {@link YenKShortestPathsFinder} for N best paths, {@link CompactDijkstraPathFinder} for a single path.
+         */
+        YEN_K_SHORTEST_PATHS;
+
+        private static PathFinderType from(String type) {
+            if (type == null) {
+                return BEST_WEIGHT_AND_SHORTEST;
+            }
+            try {
+                return valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("PathFinderType %s is not supported", type));
+            }
+        }
     }
 }
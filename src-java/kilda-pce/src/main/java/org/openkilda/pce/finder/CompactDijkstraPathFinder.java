@@ -0,0 +1,208 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static java.lang.String.format;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.FindPathResult;
+import org.openkilda.pce.model.WeightFunction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of {@link PathFinder} which runs over the {@link CompactGraph} representation of the network.
+ * <p/>
+ * Min weight paths are found by Dijkstra's algorithm on a primitive binary heap. If the best path is deeper than
+ * the allowed depth, a hop-bounded search (Bellman-Ford limited by the allowed depth) is used instead. The search
+ * state is provided by the {@link CompactGraphSearch} kept per thread.
+ * <p/>
+ * Searches for a path close to max weight and for N best paths are delegated to the provided finder.
+ */
+@Slf4j
+public class CompactDijkstraPathFinder implements PathFinder {
+    private final int allowedDepth;
+    private final PathFinder delegate;
+    private final ThreadLocal<CompactGraphSearch> searches = ThreadLocal.withInitial(CompactGraphSearch::new);
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     */
+    public CompactDijkstraPathFinder(int allowedDepth) {
+        this(allowedDepth, new BestWeightAndShortestPathFinder(allowedDepth));
+    }
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     * @param delegate the finder to handle searches which aren't based on min weight.
+     */
+    public CompactDijkstraPathFinder(int allowedDepth, PathFinder delegate) {
+        this.allowedDepth = allowedDepth;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public FindPathResult findPathWithMinWeight(AvailableNetwork network,
+                                                SwitchId startSwitchId, SwitchId endSwitchId,
+                                                WeightFunction weightFunction)
+            throws UnroutableFlowException {
+        validateEndpoints(network, startSwitchId, endSwitchId);
+
+        CompactGraph graph = network.getCompactGraph(weightFunction);
+        List<Edge> forwardPath = findOneDirectionPath(graph, startSwitchId, endSwitchId);
+        return buildResult(network, graph, startSwitchId, endSwitchId, forwardPath, false);
+    }
+
+    @Override
+    public FindPathResult findPathWithMinWeightAndLatencyLimits(AvailableNetwork network,
+                                                                SwitchId startSwitchId, SwitchId endSwitchId,
+                                                                WeightFunction weightFunction,
+                                                                long maxLatency, long latencyLimit)
+            throws UnroutableFlowException {
+        validateEndpoints(network, startSwitchId, endSwitchId);
+
+        CompactGraph graph = network.getCompactGraph(weightFunction);
+        List<Edge> forwardPath = findOneDirectionPath(graph, startSwitchId, endSwitchId);
+        long pathLatency = 0;
+        for (Edge edge : forwardPath) {
+            pathLatency += edge.getLatency();
+        }
+        boolean backUpPathComputationWayUsed = pathLatency > maxLatency;
+        if (pathLatency > latencyLimit) {
+            forwardPath = Collections.emptyList();
+        }
+        return buildResult(network, graph, startSwitchId, endSwitchId, forwardPath, backUpPathComputationWayUsed);
+    }
+
+    @Override
+    public FindPathResult findPathWithWeightCloseToMaxWeight(AvailableNetwork network,
+                                                             SwitchId startSwitchId, SwitchId endSwitchId,
+                                                             WeightFunction weightFunction,
+                                                             long maxWeight, long backUpMaxWeight)
+            throws UnroutableFlowException {
+        return delegate.findPathWithWeightCloseToMaxWeight(network, startSwitchId, endSwitchId, weightFunction,
+                maxWeight, backUpMaxWeight);
+    }
+
+    @Override
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
+            WeightFunction weightFunction) throws UnroutableFlowException {
+        return delegate.findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction);
+    }
+
+    @Override
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
+            WeightFunction weightFunction, long maxWeight, long backUpMaxWeight) throws UnroutableFlowException {
+        return delegate.findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction,
+                maxWeight, backUpMaxWeight);
+    }
+
+    private void validateEndpoints(AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId)
+            throws UnroutableFlowException {
+        if (network.getSwitch(startSwitchId) == null || network.getSwitch(endSwitchId) == null) {
+            throw new UnroutableFlowException(format("Switch %s doesn't have links with enough bandwidth",
+                    network.getSwitch(startSwitchId) == null ? startSwitchId : endSwitchId));
+        }
+    }
+
+    private FindPathResult buildResult(AvailableNetwork network, CompactGraph graph,
+                                       SwitchId startSwitchId, SwitchId endSwitchId,
+                                       List<Edge> forwardPath, boolean backUpPathComputationWayUsed)
+            throws UnroutableFlowException {
+        if (forwardPath.isEmpty()) {
+            throw new UnroutableFlowException(format("Can't find a path from %s to %s",
+                    network.getSwitch(startSwitchId), network.getSwitch(endSwitchId)));
+        }
+
+        List<Edge> reversePath = findReversePath(graph, forwardPath);
+        if (reversePath.isEmpty()) {
+            throw new UnroutableFlowException(format("Can't find a reverse path from %s to %s. Forward path : %s",
+                    network.getSwitch(endSwitchId), network.getSwitch(startSwitchId),
+                    StringUtils.join(forwardPath, ", ")));
+        }
+
+        return FindPathResult.builder()
+                .foundPath(Pair.of(forwardPath, reversePath))
+                .backUpPathComputationWayUsed(backUpPathComputationWayUsed)
+                .build();
+    }
+
+    /**
+     * Finds the ISLs of the forward path in the opposite direction. Each of them must be in the graph, i.e. pass
+     * the same filters as the forward ones.
+     *
+     * @return the ordered list of edges, or an empty list if any of the reverse ISLs is missing.
+     */
+    private List<Edge> findReversePath(CompactGraph graph, List<Edge> forwardPath) {
+        List<Edge> reversePath = new ArrayList<>(forwardPath.size());
+        for (int i = forwardPath.size() - 1; i >= 0; i--) {
+            Edge forward = forwardPath.get(i);
+            int edgeId = graph.findEdge(graph.getNodeId(forward.getDestSwitch().getSwitchId()),
+                    graph.getNodeId(forward.getSrcSwitch().getSwitchId()), forward.getDestPort(), forward.getSrcPort());
+            if (edgeId < 0) {
+                log.debug("No ISL {}_{} ===> {}_{} for the reverse path", forward.getDestSwitch().getSwitchId(),
+                        forward.getDestPort(), forward.getSrcSwitch().getSwitchId(), forward.getSrcPort());
+                return Collections.emptyList();
+            }
+            reversePath.add(graph.getEdge(edgeId));
+        }
+        return reversePath;
+    }
+
+    /**
+     * Finds the min weight path from the start to the end switch.
+     *
+     * @return the ordered list of edges, or an empty list if no path found.
+     */
+    private List<Edge> findOneDirectionPath(CompactGraph graph, SwitchId startSwitchId, SwitchId endSwitchId) {
+        int source = graph.getNodeId(startSwitchId);
+        int target = graph.getNodeId(endSwitchId);
+        if (source < 0 || target < 0 || source == target) {
+            return Collections.emptyList();
+        }
+
+        CompactGraphSearch search = searches.get();
+        search.runDijkstra(graph, source, target);
+        if (!search.isReached(target)) {
+            return Collections.emptyList();
+        }
+        if (search.getHops(target) <= allowedDepth) {
+            return search.buildPath(graph, target);
+        }
+
+        log.debug("The best path from {} to {} has {} hops, which exceeds the allowed depth {}. "
+                + "Fall back to the depth bounded search", startSwitchId, endSwitchId,
+                search.getHops(target), allowedDepth);
+        return search.runDepthBoundedSearch(graph, source, target, allowedDepth);
+    }
+}
@@ -0,0 +1,318 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable state of searches over the {@link CompactGraph}. All search state is kept in primitive arrays, which are
+ * reused by subsequent searches, so a search doesn't produce garbage except the resulting path.
+ * <p/>
+ * The instance is not thread safe, it's expected to be kept per thread.
+ */
+final class CompactGraphSearch {
+    private static final long INFINITE = Long.MAX_VALUE;
+
+    private static final int SETTLED = -2;
+    private static final int NOT_QUEUED = -1;
+
+    private long[] distance = new long[0];
+    private long[] secondaryDistance = new long[0];
+    private int[] hops = new int[0];
+    private int[] parentEdge = new int[0];
+    private int[] heap = new int[0];
+    private int[] heapPosition = new int[0];
+    private int heapSize;
+
+    private long[] layerDistance = new long[0];
+    private long[] layerSecondaryDistance = new long[0];
+    private int[] layerParentEdge = new int[0];
+
+    private void reset(int nodeCount) {
+        if (distance.length < nodeCount) {
+            distance = new long[nodeCount];
+            secondaryDistance = new long[nodeCount];
+            hops = new int[nodeCount];
+            parentEdge = new int[nodeCount];
+            heap = new int[nodeCount];
+            heapPosition = new int[nodeCount];
+        }
+        Arrays.fill(distance, 0, nodeCount, INFINITE);
+        Arrays.fill(secondaryDistance, 0, nodeCount, INFINITE);
+        Arrays.fill(hops, 0, nodeCount, Integer.MAX_VALUE);
+        Arrays.fill(parentEdge, 0, nodeCount, -1);
+        Arrays.fill(heapPosition, 0, nodeCount, NOT_QUEUED);
+        heapSize = 0;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the source until the target is settled.
+     */
+    void runDijkstra(CompactGraph graph, int source, int target) {
+        runDijkstra(graph, source, target, null, null);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the source until the target is settled, skipping banned nodes and edges.
+     *
+     * @param bannedNodes the nodes to avoid, indexed by node id, or null if there are no such nodes.
+     * @param bannedEdges the edges to avoid, indexed by edge id, or null if there are no such edges.
+     */
+    void runDijkstra(CompactGraph graph, int source, int target, boolean[] bannedNodes, boolean[] bannedEdges) {
+        reset(graph.getNodeCount());
+        distance[source] = 0;
+        secondaryDistance[source] = 0;
+        hops[source] = 0;
+        push(source);
+
+        while (heapSize > 0) {
+            int node = pop();
+            if (node == target) {
+                break;
+            }
+            for (int edge = graph.getEdgesStart(node); edge < graph.getEdgesEnd(node); edge++) {
+                int next = graph.getTarget(edge);
+                if (heapPosition[next] == SETTLED || (bannedNodes != null && bannedNodes[next])
+                        || (bannedEdges != null && bannedEdges[edge])) {
+                    continue;
+                }
+                long nextDistance = LongMath.saturatedAdd(distance[node], graph.getWeight(edge));
+                long nextSecondaryDistance = LongMath.saturatedAdd(secondaryDistance[node],
+                        graph.getSecondaryWeight(edge));
+                int nextHops = hops[node] + 1;
+                if (isLess(nextDistance, nextSecondaryDistance, nextHops,
+                        distance[next], secondaryDistance[next], hops[next])) {
+                    distance[next] = nextDistance;
+                    secondaryDistance[next] = nextSecondaryDistance;
+                    hops[next] = nextHops;
+                    parentEdge[next] = edge;
+                    if (heapPosition[next] == NOT_QUEUED) {
+                        push(next);
+                    } else {
+                        siftUp(heapPosition[next]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the last search has reached the node.
+     */
+    boolean isReached(int node) {
+        return parentEdge[node] >= 0;
+    }
+
+    int getHops(int node) {
+        return hops[node];
+    }
+
+    /**
+     * Collects ids of the edges leading to the node found by the last Dijkstra's search.
+     */
+    int[] buildEdgeIds(CompactGraph graph, int target) {
+        int[] path = new int[hops[target]];
+        int node = target;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = parentEdge[node];
+            node = graph.getSource(path[i]);
+        }
+        return path;
+    }
+
+    /**
+     * Collects the edges leading to the node found by the last Dijkstra's search.
+     */
+    List<Edge> buildPath(CompactGraph graph, int target) {
+        Edge[] path = new Edge[hops[target]];
+        int node = target;
+        for (int i = path.length - 1; i >= 0; i--) {
+            int edge = parentEdge[node];
+            path[i] = graph.getEdge(edge);
+            node = graph.getSource(edge);
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Layered relaxation limited by the max depth. Layer {@code k} holds the best weights of walks with exactly
+     * {@code k} edges, so the best path within the depth is the best one over all layers. Fewer hops win on equal
+     * weights.
+     */
+    List<Edge> runDepthBoundedSearch(CompactGraph graph, int source, int target, int maxDepth) {
+        int[] edgeIds = runDepthBoundedSearch(graph, source, target, maxDepth, null, null);
+        List<Edge> path = new ArrayList<>(edgeIds.length);
+        for (int edge : edgeIds) {
+            path.add(graph.getEdge(edge));
+        }
+        return path;
+    }
+
+    /**
+     * Runs the depth bounded search, skipping banned nodes and edges.
+     *
+     * @param bannedNodes the nodes to avoid, indexed by node id, or null if there are no such nodes.
+     * @param bannedEdges the edges to avoid, indexed by edge id, or null if there are no such edges.
+     * @return ids of the path edges, or an empty array if there's no path within the depth.
+     */
+    int[] runDepthBoundedSearch(CompactGraph graph, int source, int target, int maxDepth,
+                                boolean[] bannedNodes, boolean[] bannedEdges) {
+        int nodeCount = graph.getNodeCount();
+        int layerSize = nodeCount * (maxDepth + 1);
+        if (layerDistance.length < layerSize) {
+            layerDistance = new long[layerSize];
+            layerSecondaryDistance = new long[layerSize];
+            layerParentEdge = new int[layerSize];
+        }
+        Arrays.fill(layerDistance, 0, layerSize, INFINITE);
+        Arrays.fill(layerSecondaryDistance, 0, layerSize, INFINITE);
+        Arrays.fill(layerParentEdge, 0, layerSize, -1);
+        layerDistance[source] = 0;
+        layerSecondaryDistance[source] = 0;
+
+        int bestLayer = -1;
+        for (int layer = 1; layer <= maxDepth; layer++) {
+            int previousOffset = (layer - 1) * nodeCount;
+            int currentOffset = layer * nodeCount;
+            boolean relaxed = false;
+            for (int node = 0; node < nodeCount; node++) {
+                if (node == target || layerDistance[previousOffset + node] == INFINITE) {
+                    continue;
+                }
+                for (int edge = graph.getEdgesStart(node); edge < graph.getEdgesEnd(node); edge++) {
+                    if ((bannedNodes != null && bannedNodes[graph.getTarget(edge)])
+                            || (bannedEdges != null && bannedEdges[edge])) {
+                        continue;
+                    }
+                    int next = currentOffset + graph.getTarget(edge);
+                    long nextDistance = LongMath.saturatedAdd(layerDistance[previousOffset + node],
+                            graph.getWeight(edge));
+                    long nextSecondaryDistance = LongMath.saturatedAdd(
+                            layerSecondaryDistance[previousOffset + node], graph.getSecondaryWeight(edge));
+                    if (isLess(nextDistance, nextSecondaryDistance, 0,
+                            layerDistance[next], layerSecondaryDistance[next], 0)) {
+                        layerDistance[next] = nextDistance;
+                        layerSecondaryDistance[next] = nextSecondaryDistance;
+                        layerParentEdge[next] = edge;
+                        relaxed = true;
+                    }
+                }
+            }
+
+            int targetIndex = currentOffset + target;
+            if (layerParentEdge[targetIndex] >= 0) {
+                int bestIndex = bestLayer * nodeCount + target;
+                if (bestLayer < 0 || isLess(layerDistance[targetIndex], layerSecondaryDistance[targetIndex], 0,
+                        layerDistance[bestIndex], layerSecondaryDistance[bestIndex], 0)) {
+                    bestLayer = layer;
+                }
+            }
+            if (!relaxed) {
+                break;
+            }
+        }
+
+        if (bestLayer < 0) {
+            return new int[0];
+        }
+        int[] path = new int[bestLayer];
+        int node = target;
+        for (int layer = bestLayer; layer > 0; layer--) {
+            int edge = layerParentEdge[layer * nodeCount + node];
+            path[layer - 1] = edge;
+            node = graph.getSource(edge);
+        }
+        return path;
+    }
+
+    static boolean isLess(long distance, long secondaryDistance, int hops,
+                           long otherDistance, long otherSecondaryDistance, int otherHops) {
+        if (distance != otherDistance) {
+            return distance < otherDistance;
+        }
+        if (secondaryDistance != otherSecondaryDistance) {
+            return secondaryDistance < otherSecondaryDistance;
+        }
+        return hops < otherHops;
+    }
+
+    private boolean isLess(int node, int otherNode) {
+        return isLess(distance[node], secondaryDistance[node], hops[node],
+                distance[otherNode], secondaryDistance[otherNode], hops[otherNode]);
+    }
+
+    private void push(int node) {
+        heap[heapSize] = node;
+        heapPosition[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+        heapPosition[top] = SETTLED;
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isLess(node, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            heapPosition[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = node;
+        heapPosition[node] = position;
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && isLess(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isLess(heap[child], node)) {
+                break;
+            }
+            heap[position] = heap[child];
+            heapPosition[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = node;
+        heapPosition[node] = position;
+    }
+}
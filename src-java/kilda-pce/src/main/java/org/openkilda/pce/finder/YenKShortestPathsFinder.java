@@ -0,0 +1,379 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static java.lang.String.format;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.FindPathResult;
+import org.openkilda.pce.model.WeightFunction;
+
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of {@link PathFinder} which finds N best paths by Yen's loopless K shortest paths algorithm over
+ * the {@link CompactGraph} representation of the network.
+ * <p/>
+ * Deviation candidates are generated lazily (Lawler's modification): when a path is taken, spur searches run only from
+ * its deviation node onwards, as spurs before that node were explored for the parent path already. Spur searches don't
+ * modify the network, removed nodes and edges are masked instead. Paths are produced in the order of their weight, so
+ * the search stops as soon as enough paths are taken, see {@link #streamPathsBetweenSwitches}. Paths deeper than
+ * the allowed depth are skipped.
+ * <p/>
+ * Searches for a single path are delegated to the provided finder.
+ */
+public class YenKShortestPathsFinder implements PathFinder {
+    private final int allowedDepth;
+    private final PathFinder delegate;
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     */
+    public YenKShortestPathsFinder(int allowedDepth) {
+        this(allowedDepth, new CompactDijkstraPathFinder(allowedDepth));
+    }
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     * @param delegate the finder to handle searches for a single path.
+     */
+    public YenKShortestPathsFinder(int allowedDepth, PathFinder delegate) {
+        this.allowedDepth = allowedDepth;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public FindPathResult findPathWithMinWeight(AvailableNetwork network,
+                                                SwitchId startSwitchId, SwitchId endSwitchId,
+                                                WeightFunction weightFunction)
+            throws UnroutableFlowException {
+        return delegate.findPathWithMinWeight(network, startSwitchId, endSwitchId, weightFunction);
+    }
+
+    @Override
+    public FindPathResult findPathWithMinWeightAndLatencyLimits(AvailableNetwork network,
+                                                                SwitchId startSwitchId, SwitchId endSwitchId,
+                                                                WeightFunction weightFunction,
+                                                                long maxLatency, long latencyLimit)
+            throws UnroutableFlowException {
+        return delegate.findPathWithMinWeightAndLatencyLimits(network, startSwitchId, endSwitchId, weightFunction,
+                maxLatency, latencyLimit);
+    }
+
+    @Override
+    public FindPathResult findPathWithWeightCloseToMaxWeight(AvailableNetwork network,
+                                                             SwitchId startSwitchId, SwitchId endSwitchId,
+                                                             WeightFunction weightFunction,
+                                                             long maxWeight, long backUpMaxWeight)
+            throws UnroutableFlowException {
+        return delegate.findPathWithWeightCloseToMaxWeight(network, startSwitchId, endSwitchId, weightFunction,
+                maxWeight, backUpMaxWeight);
+    }
+
+    @Override
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
+            WeightFunction weightFunction) throws UnroutableFlowException {
+        return findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction,
+                Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Find N (or less) best paths wih max weight restrictions. Unlike {@link BestWeightAndShortestPathFinder}, the
+     * paths are the N lightest ones within the restrictions, rather than the ones closest to the max weight.
+     *
+     * @return an list of N (or less) best paths.
+     */
+    @Override
+    public List<FindOneDirectionPathResult> findNPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
+            WeightFunction weightFunction, long maxWeight, long backUpMaxWeight) throws UnroutableFlowException {
+        return streamPathsBetweenSwitches(network, startSwitchId, endSwitchId, weightFunction,
+                maxWeight, backUpMaxWeight)
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily finds loopless paths from the start to the end switch in the order of their weight. Each next path
+     * costs at most one spur search per its hop.
+     * <p/>
+     * Paths with weight not less than maxWeight are marked as backup ones, the stream ends before the first path with
+     * weight not less than backUpMaxWeight.
+     *
+     * @return the ordered stream of paths, which is bound to the current state of the network.
+     */
+    public Stream<FindOneDirectionPathResult> streamPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId,
+            WeightFunction weightFunction, long maxWeight, long backUpMaxWeight) throws UnroutableFlowException {
+        if (network.getSwitch(startSwitchId) == null || network.getSwitch(endSwitchId) == null) {
+            throw new UnroutableFlowException(format("Switch %s doesn't have links with enough bandwidth",
+                    network.getSwitch(startSwitchId) == null ? startSwitchId : endSwitchId));
+        }
+
+        CompactGraph graph = network.getCompactGraph(weightFunction);
+        int source = graph.getNodeId(startSwitchId);
+        int target = graph.getNodeId(endSwitchId);
+        if (source < 0 || target < 0 || source == target) {
+            return Stream.empty();
+        }
+
+        PathIterator iterator = new PathIterator(graph, source, target, maxWeight, backUpMaxWeight);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Yen's algorithm, which produces the next path on demand.
+     */
+    private final class PathIterator implements Iterator<FindOneDirectionPathResult> {
+        private final CompactGraph graph;
+        private final int source;
+        private final int target;
+        private final long maxWeight;
+        private final long backUpMaxWeight;
+
+        private final CompactGraphSearch search = new CompactGraphSearch();
+        private final boolean[] bannedNodes;
+        private final boolean[] bannedEdges;
+
+        private final PriorityQueue<PathCandidate> candidates = new PriorityQueue<>();
+        private final Set<EdgeSequence> knownPaths = new HashSet<>();
+        // Next edges of the taken paths by their common root paths.
+        private final Map<EdgeSequence, Set<Integer>> takenNextEdges = new HashMap<>();
+
+        private PathCandidate lastTaken;
+        private PathCandidate next;
+        private boolean started;
+        private boolean exhausted;
+
+        private PathIterator(CompactGraph graph, int source, int target, long maxWeight, long backUpMaxWeight) {
+            this.graph = graph;
+            this.source = source;
+            this.target = target;
+            this.maxWeight = maxWeight;
+            this.backUpMaxWeight = backUpMaxWeight;
+            this.bannedNodes = new boolean[graph.getNodeCount()];
+            this.bannedEdges = new boolean[graph.getEdgeCount()];
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = advance();
+                exhausted = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public FindOneDirectionPathResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            PathCandidate result = next;
+            next = null;
+
+            List<Edge> foundPath = new ArrayList<>(result.edges.length);
+            for (int edge : result.edges) {
+                foundPath.add(graph.getEdge(edge));
+            }
+            return new FindOneDirectionPathResult(foundPath, result.weight >= maxWeight);
+        }
+
+        private PathCandidate advance() {
+            if (!started) {
+                started = true;
+                addSpurCandidate(new int[0], source);
+            } else {
+                addDeviations(lastTaken);
+            }
+
+            PathCandidate best = candidates.poll();
+            if (best == null || best.weight >= backUpMaxWeight) {
+                candidates.clear();
+                return null;
+            }
+            for (int i = 0; i < best.edges.length; i++) {
+                takenNextEdges.computeIfAbsent(new EdgeSequence(best.edges, i), ignore -> new HashSet<>())
+                        .add(best.edges[i]);
+            }
+            lastTaken = best;
+            return best;
+        }
+
+        private void addDeviations(PathCandidate path) {
+            int[] edges = path.edges;
+            for (int i = path.deviation; i < edges.length; i++) {
+                Set<Integer> usedNextEdges = takenNextEdges.getOrDefault(new EdgeSequence(edges, i),
+                        Collections.emptySet());
+                usedNextEdges.forEach(edge -> bannedEdges[edge] = true);
+                for (int j = 0; j < i; j++) {
+                    bannedNodes[graph.getSource(edges[j])] = true;
+                }
+
+                int[] rootPath = new int[i];
+                System.arraycopy(edges, 0, rootPath, 0, i);
+                addSpurCandidate(rootPath, graph.getSource(edges[i]));
+
+                usedNextEdges.forEach(edge -> bannedEdges[edge] = false);
+                for (int j = 0; j < i; j++) {
+                    bannedNodes[graph.getSource(edges[j])] = false;
+                }
+            }
+        }
+
+        private void addSpurCandidate(int[] rootPath, int spurNode) {
+            int remainingDepth = allowedDepth - rootPath.length;
+            if (remainingDepth <= 0) {
+                return;
+            }
+            search.runDijkstra(graph, spurNode, target, bannedNodes, bannedEdges);
+            if (!search.isReached(target)) {
+                return;
+            }
+
+            int[] spurPath;
+            if (search.getHops(target) <= remainingDepth) {
+                spurPath = search.buildEdgeIds(graph, target);
+            } else {
+                // The best spur path is too deep, look for the best one within the remaining depth.
+                spurPath = search.runDepthBoundedSearch(graph, spurNode, target, remainingDepth,
+                        bannedNodes, bannedEdges);
+                if (spurPath.length == 0) {
+                    return;
+                }
+            }
+            int[] edges = new int[rootPath.length + spurPath.length];
+            System.arraycopy(rootPath, 0, edges, 0, rootPath.length);
+            System.arraycopy(spurPath, 0, edges, rootPath.length, spurPath.length);
+            if (knownPaths.add(new EdgeSequence(edges, edges.length))) {
+                candidates.add(new PathCandidate(graph, edges, rootPath.length));
+            }
+        }
+    }
+
+    /**
+     * A found path along with the index of the edge where it deviates from its parent path.
+     */
+    private static final class PathCandidate implements Comparable<PathCandidate> {
+        private final int[] edges;
+        private final int deviation;
+        private final long weight;
+        private final long secondaryWeight;
+
+        private PathCandidate(CompactGraph graph, int[] edges, int deviation) {
+            this.edges = edges;
+            this.deviation = deviation;
+            long totalWeight = 0;
+            long totalSecondaryWeight = 0;
+            for (int edge : edges) {
+                totalWeight = LongMath.saturatedAdd(totalWeight, graph.getWeight(edge));
+                totalSecondaryWeight = LongMath.saturatedAdd(totalSecondaryWeight, graph.getSecondaryWeight(edge));
+            }
+            this.weight = totalWeight;
+            this.secondaryWeight = totalSecondaryWeight;
+        }
+
+        @Override
+        public int compareTo(PathCandidate other) {
+            if (CompactGraphSearch.isLess(weight, secondaryWeight, edges.length,
+                    other.weight, other.secondaryWeight, other.edges.length)) {
+                return -1;
+            }
+            if (CompactGraphSearch.isLess(other.weight, other.secondaryWeight, other.edges.length,
+                    weight, secondaryWeight, edges.length)) {
+                return 1;
+            }
+            // Equal weights and lengths, compare edge ids to keep the order deterministic.
+            for (int i = 0; i < edges.length; i++) {
+                if (edges[i] != other.edges[i]) {
+                    return Integer.compare(edges[i], other.edges[i]);
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * A prefix of an edge id array, usable as a hash key.
+     */
+    private static final class EdgeSequence {
+        private final int[] edges;
+        private final int length;
+        private final int hash;
+
+        private EdgeSequence(int[] edges, int length) {
+            this.edges = edges;
+            this.length = length;
+            int result = 1;
+            for (int i = 0; i < length; i++) {
+                result = 31 * result + edges[i];
+            }
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EdgeSequence)) {
+                return false;
+            }
+            EdgeSequence other = (EdgeSequence) o;
+            if (length != other.length || hash != other.hash) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (edges[i] != other.edges[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
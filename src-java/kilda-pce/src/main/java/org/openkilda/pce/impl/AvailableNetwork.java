@@ -20,15 +20,20 @@ import static com.google.common.collect.Sets.newHashSet;
 import org.openkilda.model.Flow;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.model.CompactGraph;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.WeightFunction;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,7 +44,7 @@ import java.util.Set;
  * allocation.
  */
 @Slf4j
-@ToString
+@ToString(exclude = "compactGraphs")
 public class AvailableNetwork {
     @VisibleForTesting
     final Map<SwitchId, Node> switches = new HashMap<>();
@@ -47,10 +52,19 @@ public class AvailableNetwork {
     @VisibleForTesting
     final Set<Edge> edges = new HashSet<>();
 
+    /**
+     * Compact graphs built from the current state of the network, by weight function. Dropped on any modification.
+     */
+    private final Map<WeightFunction, CompactGraph> compactGraphs = new IdentityHashMap<>();
+
     public Node getSwitch(SwitchId dpid) {
         return switches.get(dpid);
     }
 
+    public Collection<Node> getNodes() {
+        return Collections.unmodifiableCollection(switches.values());
+    }
+
     /**
      * Get a node by switch id or add it if doesn't exist.
      *
@@ -58,7 +72,19 @@ public class AvailableNetwork {
      * @param pop the switch pop to be used for a new node.
      */
     public Node getOrAddNode(SwitchId switchId, String pop) {
-        return switches.computeIfAbsent(switchId, sw -> new Node(sw, pop));
+        return switches.computeIfAbsent(switchId, sw -> {
+            compactGraphs.clear();
+            return new Node(sw, pop);
+        });
+    }
+
+    /**
+     * Gets the {@link CompactGraph} of the current state of the network. The graph is built once per weight function
+     * and reused by further searches, until the network is modified. So the weight function must be the same instance
+     * for the graph to be reused.
+     */
+    public CompactGraph getCompactGraph(WeightFunction weightFunction) {
+        return compactGraphs.computeIfAbsent(weightFunction, function -> CompactGraph.build(this, function));
     }
 
     /**
@@ -85,6 +111,7 @@ public class AvailableNetwork {
                 || dstSwitch == null || dstSwitch != edge.getDestSwitch()) {
             throw new IllegalArgumentException("The edge must reference nodes already added to the network.");
         }
+        compactGraphs.clear();
         edges.add(edge);
         boolean srcAdded = srcSwitch.getOutgoingLinks().add(edge);
         boolean dstAdded = dstSwitch.getIncomingLinks().add(edge);
@@ -97,6 +124,7 @@ public class AvailableNetwork {
      * Adds diversity weights into {@link AvailableNetwork} based on passed path segments and configuration.
      */
     public void processDiversitySegments(List<PathSegment> segments, Flow flow) {
+        compactGraphs.clear();
         Set<SwitchId> terminatingSwitches = newHashSet(flow.getSrcSwitchId(), flow.getDestSwitchId());
         for (PathSegment segment : segments) {
             Node srcNode = getSwitch(segment.getSrcSwitchId());
@@ -135,6 +163,7 @@ public class AvailableNetwork {
      * Adds diversity weights into {@link AvailableNetwork} based on passed path segments and configuration.
      */
     public void processDiversitySegmentsWithPop(List<PathSegment> segments) {
+        compactGraphs.clear();
         if (segments.size() <= 1) {
             return;
         }
@@ -171,6 +200,7 @@ public class AvailableNetwork {
      * Adds affinity weights into {@link AvailableNetwork} based on passed path segments and configuration.
      */
     public void processAffinitySegments(List<PathSegment> segments) {
+        compactGraphs.clear();
         Set<Edge> pathEdges = new HashSet<>();
         for (PathSegment segment : segments) {
             Node srcNode = getSwitch(segment.getSrcSwitchId());
@@ -0,0 +1,63 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import org.openkilda.pce.Path;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks bandwidth taken by paths computed in-memory, which is not yet reflected in the network state.
+ */
+public class BandwidthAllocations {
+    private final Map<IslEndpoints, Long> allocated = new HashMap<>();
+
+    public long getAllocated(IslEndpoints endpoints) {
+        return allocated.getOrDefault(endpoints, 0L);
+    }
+
+    /**
+     * Takes the bandwidth on each segment of the path.
+     */
+    public void allocate(Path path, long bandwidth) {
+        for (Path.Segment segment : path.getSegments()) {
+            allocated.merge(toEndpoints(segment), bandwidth, Long::sum);
+        }
+    }
+
+    /**
+     * Checks whether each segment of the path still has the required bandwidth, once the bandwidth allocated here is
+     * taken from the provided available bandwidth.
+     *
+     * @param availableBandwidth the bandwidth available on the segments before any allocation.
+     */
+    public boolean isEnoughBandwidth(Path path, Map<IslEndpoints, Long> availableBandwidth, long bandwidth) {
+        for (Path.Segment segment : path.getSegments()) {
+            IslEndpoints endpoints = toEndpoints(segment);
+            if (availableBandwidth.getOrDefault(endpoints, 0L) - getAllocated(endpoints) < bandwidth) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static IslEndpoints toEndpoints(Path.Segment segment) {
+        return new IslEndpoints(segment.getSrcSwitchId().toString(), segment.getSrcPort(),
+                segment.getDestSwitchId().toString(), segment.getDestPort());
+    }
+}
@@ -29,6 +29,7 @@ import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.BatchPathResult;
 import org.openkilda.pce.GetPathsResult;
 import org.openkilda.pce.Path;
 import org.openkilda.pce.PathComputer;
@@ -41,8 +42,10 @@ import org.openkilda.pce.model.FindOneDirectionPathResult;
 import org.openkilda.pce.model.FindPathResult;
 import org.openkilda.pce.model.PathWeight;
 import org.openkilda.pce.model.WeightFunction;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -50,12 +53,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -65,15 +74,36 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 public class InMemoryPathComputer implements PathComputer {
+    private static final Comparator<Flow> BATCH_ORDER = Comparator
+            .comparing(Flow::getPriority, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Flow::getBandwidth, Comparator.reverseOrder());
+
     private final AvailableNetworkFactory availableNetworkFactory;
     private final PathFinder pathFinder;
     private final PathComputerConfig config;
+    private final ForkJoinPool forkJoinPool;
+
+    // The same instances for all searches, so compact graphs of a network are reused by them.
+    private final WeightFunction costWeightFunction = this::weightByCost;
+    private final WeightFunction latencyWeightFunction = this::weightByLatency;
+    private final WeightFunction costAndAvailableBandwidthWeightFunction = this::weightByCostAndAvailableBandwidth;
 
     public InMemoryPathComputer(AvailableNetworkFactory availableNetworkFactory, PathFinder pathFinder,
                                 PathComputerConfig config) {
+        this(availableNetworkFactory, pathFinder, config, null);
+    }
+
+    /**
+     * Constructs the computer which searches paths of a batch over the provided pool.
+     *
+     * @param forkJoinPool the pool for batch path computation, or null to process batches sequentially.
+     */
+    public InMemoryPathComputer(AvailableNetworkFactory availableNetworkFactory, PathFinder pathFinder,
+                                PathComputerConfig config, ForkJoinPool forkJoinPool) {
         this.availableNetworkFactory = availableNetworkFactory;
         this.pathFinder = pathFinder;
         this.config = config;
+        this.forkJoinPool = forkJoinPool;
     }
 
     @Override
@@ -81,14 +111,147 @@ public class InMemoryPathComputer implements PathComputer {
             throws UnroutableFlowException, RecoverableException {
         AvailableNetwork network = availableNetworkFactory.getAvailableNetwork(flow, reusePathsResources);
 
-        return getPath(network, flow, flow.getPathComputationStrategy());
+        return getPath(network, PathRequest.of(flow), flow.getPathComputationStrategy());
+    }
+
+    @Override
+    public List<BatchPathResult> getPaths(Collection<Flow> flows) throws RecoverableException {
+        Set<FlowEncapsulationType> encapsulationTypes = flows.stream()
+                .map(Flow::getEncapsulationType)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(FlowEncapsulationType.class)));
+        NetworkSnapshot snapshot = availableNetworkFactory.getNetworkSnapshot(encapsulationTypes);
+        BandwidthAllocations allocations = new BandwidthAllocations();
+
+        List<Flow> prioritized = new ArrayList<>(flows);
+        prioritized.sort(BATCH_ORDER);
+        List<PathRequest> requests = prioritized.stream()
+                .map(PathRequest::of)
+                .collect(Collectors.toList());
+        List<BatchPathResult> prioritizedResults = forkJoinPool != null && prioritized.size() > 1
+                ? getPathsInParallel(prioritized, requests, snapshot, allocations)
+                : getPathsSequentially(prioritized, requests, snapshot, allocations);
+        log.debug("Computed paths for a batch of {} flows over the network snapshot {}", flows.size(), snapshot);
+
+        Map<Flow, BatchPathResult> results = new IdentityHashMap<>();
+        for (int i = 0; i < prioritized.size(); i++) {
+            results.put(prioritized.get(i), prioritizedResults.get(i));
+        }
+        return flows.stream()
+                .map(results::get)
+                .collect(Collectors.toList());
+    }
+
+    private List<BatchPathResult> getPathsSequentially(List<Flow> flows, List<PathRequest> requests,
+                                                       NetworkSnapshot snapshot, BandwidthAllocations allocations)
+            throws RecoverableException {
+        List<BatchPathResult> results = new ArrayList<>(flows.size());
+        for (int i = 0; i < flows.size(); i++) {
+            PathRequest request = requests.get(i);
+            BatchPathResult result = findPath(request, availableNetworkFactory.getAvailableNetwork(
+                    flows.get(i), request.getReusePathIds(), snapshot, allocations));
+            allocate(request, result, allocations);
+            results.add(result);
+        }
+        return results;
     }
 
-    private GetPathsResult getPath(AvailableNetwork network, Flow flow, PathComputationStrategy strategy)
+    /**
+     * Searches paths for all flows of the batch concurrently against the same state of the network, then accepts
+     * the found paths in the batch order. A path which doesn't have the bandwidth of the flow anymore, after the paths
+     * accepted before it, is recomputed against the updated state. So the outcome doesn't depend on thread scheduling.
+     * <p/>
+     * A kept path is the one the sequential computation would find, unless the weight depends on the available
+     * bandwidth. With {@link PathComputationStrategy#COST_AND_AVAILABLE_BANDWIDTH} the sequential computation could
+     * prefer another path, as the bandwidth taken by the previous flows of the batch changes the weights.
+     */
+    private List<BatchPathResult> getPathsInParallel(List<Flow> flows, List<PathRequest> requests,
+                                                     NetworkSnapshot snapshot, BandwidthAllocations allocations)
+            throws RecoverableException {
+        // Networks are built in the caller thread, as it's the only part which accesses the persistence layer. The
+        // searches get only the networks and the path requests copied from the flows, never the flows themselves.
+        // Each network is built right before its search is submitted and released when the search is done, so
+        // the number of networks in memory is limited by the number of searches in progress.
+        int maxSearchesInProgress = forkJoinPool.getParallelism() * 2;
+        List<CompletableFuture<SpeculativePath>> searches = new ArrayList<>(flows.size());
+        for (int i = 0; i < flows.size(); i++) {
+            if (i >= maxSearchesInProgress) {
+                searches.get(i - maxSearchesInProgress).join();
+            }
+            PathRequest request = requests.get(i);
+            AvailableNetwork network = availableNetworkFactory.getAvailableNetwork(
+                    flows.get(i), request.getReusePathIds(), snapshot, allocations);
+            searches.add(CompletableFuture.supplyAsync(() -> findSpeculativePath(request, network), forkJoinPool));
+        }
+
+        List<BatchPathResult> results = new ArrayList<>(flows.size());
+        int recomputed = 0;
+        for (int i = 0; i < flows.size(); i++) {
+            PathRequest request = requests.get(i);
+            SpeculativePath speculativePath = searches.get(i).join();
+            BatchPathResult result = speculativePath.getResult();
+            // A flow which is unroutable over the initial state stays unroutable after further allocations.
+            if (result.isSuccessful() && !request.isIgnoreBandwidth()
+                    && !(allocations.isEnoughBandwidth(result.getPaths().getForward(),
+                    speculativePath.getAvailableBandwidth(), request.getBandwidth())
+                    && allocations.isEnoughBandwidth(result.getPaths().getReverse(),
+                    speculativePath.getAvailableBandwidth(), request.getBandwidth()))) {
+                result = findPath(request, availableNetworkFactory.getAvailableNetwork(
+                        flows.get(i), request.getReusePathIds(), snapshot, allocations));
+                recomputed++;
+            }
+            allocate(request, result, allocations);
+            results.add(result);
+        }
+        log.debug("Recomputed {} of {} paths found in parallel due to bandwidth conflicts", recomputed, flows.size());
+        return results;
+    }
+
+    private SpeculativePath findSpeculativePath(PathRequest request, AvailableNetwork network) {
+        BatchPathResult result = findPath(request, network);
+        Map<IslEndpoints, Long> availableBandwidth = new HashMap<>();
+        if (result.isSuccessful()) {
+            putAvailableBandwidth(network, result.getPaths().getForward(), availableBandwidth);
+            putAvailableBandwidth(network, result.getPaths().getReverse(), availableBandwidth);
+        }
+        return new SpeculativePath(result, availableBandwidth);
+    }
+
+    private void putAvailableBandwidth(AvailableNetwork network, Path path, Map<IslEndpoints, Long> target) {
+        for (Path.Segment segment : path.getSegments()) {
+            network.getSwitch(segment.getSrcSwitchId()).getOutgoingLinks().stream()
+                    .filter(edge -> edge.getSrcPort() == segment.getSrcPort()
+                            && edge.getDestPort() == segment.getDestPort()
+                            && edge.getDestSwitch().getSwitchId().equals(segment.getDestSwitchId()))
+                    .findAny()
+                    .ifPresent(edge -> target.put(BandwidthAllocations.toEndpoints(segment),
+                            edge.getAvailableBandwidth()));
+        }
+    }
+
+    private BatchPathResult findPath(PathRequest request, AvailableNetwork network) {
+        BatchPathResult.BatchPathResultBuilder result = BatchPathResult.builder().flowId(request.getFlowId());
+        try {
+            result.paths(getPath(network, request, request.getPathComputationStrategy()));
+        } catch (UnroutableFlowException e) {
+            log.info("Unable to find a path for the flow {} of the batch: {}", request.getFlowId(), e.getMessage());
+            result.error(e);
+        }
+        return result.build();
+    }
+
+    private void allocate(PathRequest request, BatchPathResult result, BandwidthAllocations allocations) {
+        if (result.isSuccessful() && !request.isIgnoreBandwidth()) {
+            allocations.allocate(result.getPaths().getForward(), request.getBandwidth());
+            allocations.allocate(result.getPaths().getReverse(), request.getBandwidth());
+        }
+    }
+
+    private GetPathsResult getPath(AvailableNetwork network, PathRequest request, PathComputationStrategy strategy)
             throws UnroutableFlowException {
-        if (flow.isOneSwitchFlow()) {
+        if (request.isOneSwitchFlow()) {
             log.info("No path computation for one-switch flow");
-            SwitchId singleSwitchId = flow.getSrcSwitchId();
+            SwitchId singleSwitchId = request.getSrcSwitchId();
             FindOneDirectionPathResult pathResult = FindOneDirectionPathResult.builder()
                     .foundPath(emptyList()).backUpPathComputationWayUsed(false).build();
             return GetPathsResult.builder()
@@ -101,49 +264,49 @@ public class InMemoryPathComputer implements PathComputer {
         WeightFunction weightFunction = getWeightFunctionByStrategy(strategy);
         FindPathResult findPathResult;
         try {
-            findPathResult = findPathInNetwork(flow, network, weightFunction, strategy);
+            findPathResult = findPathInNetwork(request, network, weightFunction, strategy);
         } catch (UnroutableFlowException e) {
             String message = format("Failed to find path with requested bandwidth=%s: %s",
-                    flow.isIgnoreBandwidth() ? " ignored" : flow.getBandwidth(), e.getMessage());
-            throw new UnroutableFlowException(message, e, flow.getFlowId(), flow.isIgnoreBandwidth());
+                    request.isIgnoreBandwidth() ? " ignored" : request.getBandwidth(), e.getMessage());
+            throw new UnroutableFlowException(message, e, request.getFlowId(), request.isIgnoreBandwidth());
         }
 
-        return convertToGetPathsResult(flow.getSrcSwitchId(), flow.getDestSwitchId(), findPathResult,
-                strategy, flow.getPathComputationStrategy());
+        return convertToGetPathsResult(request.getSrcSwitchId(), request.getDestSwitchId(), findPathResult,
+                strategy, request.getPathComputationStrategy());
     }
 
-    private FindPathResult findPathInNetwork(Flow flow, AvailableNetwork network,
+    private FindPathResult findPathInNetwork(PathRequest request, AvailableNetwork network,
                                              WeightFunction weightFunction,
                                              PathComputationStrategy strategy)
             throws UnroutableFlowException {
 
         if (MAX_LATENCY.equals(strategy)
-                && (flow.getMaxLatency() == null || flow.getMaxLatency() == 0)) {
+                && (request.getMaxLatency() == null || request.getMaxLatency() == 0)) {
             strategy = LATENCY;
         }
 
         switch (strategy) {
             case COST:
             case COST_AND_AVAILABLE_BANDWIDTH:
-                return pathFinder.findPathWithMinWeight(network, flow.getSrcSwitchId(),
-                        flow.getDestSwitchId(), weightFunction);
+                return pathFinder.findPathWithMinWeight(network, request.getSrcSwitchId(),
+                        request.getDestSwitchId(), weightFunction);
             case LATENCY:
-                long maxLatency = flow.getMaxLatency() == null || flow.getMaxLatency() == 0
-                        ? Long.MAX_VALUE : flow.getMaxLatency();
-                long maxLatencyTier2 = flow.getMaxLatencyTier2() == null || flow.getMaxLatencyTier2() == 0
-                        ? Long.MAX_VALUE : flow.getMaxLatencyTier2();
+                long maxLatency = request.getMaxLatency() == null || request.getMaxLatency() == 0
+                        ? Long.MAX_VALUE : request.getMaxLatency();
+                long maxLatencyTier2 = request.getMaxLatencyTier2() == null || request.getMaxLatencyTier2() == 0
+                        ? Long.MAX_VALUE : request.getMaxLatencyTier2();
                 if (maxLatencyTier2 < maxLatency) {
                     log.warn("Bad flow params found: maxLatencyTier2 ({}) should be greater than maxLatency ({}). "
                                     + "Put maxLatencyTier2 = maxLatency during path calculation.",
-                            flow.getMaxLatencyTier2(), flow.getMaxLatency());
+                            request.getMaxLatencyTier2(), request.getMaxLatency());
                     maxLatencyTier2 = maxLatency;
                 }
-                return pathFinder.findPathWithMinWeightAndLatencyLimits(network, flow.getSrcSwitchId(),
-                        flow.getDestSwitchId(), weightFunction, maxLatency, maxLatencyTier2);
+                return pathFinder.findPathWithMinWeightAndLatencyLimits(network, request.getSrcSwitchId(),
+                        request.getDestSwitchId(), weightFunction, maxLatency, maxLatencyTier2);
             case MAX_LATENCY:
-                return pathFinder.findPathWithWeightCloseToMaxWeight(network, flow.getSrcSwitchId(),
-                        flow.getDestSwitchId(), weightFunction, flow.getMaxLatency(),
-                        Optional.ofNullable(flow.getMaxLatencyTier2()).orElse(0L));
+                return pathFinder.findPathWithWeightCloseToMaxWeight(network, request.getSrcSwitchId(),
+                        request.getDestSwitchId(), weightFunction, request.getMaxLatency(),
+                        Optional.ofNullable(request.getMaxLatencyTier2()).orElse(0L));
             default:
                 throw new UnsupportedOperationException(String.format("Unsupported strategy type %s", strategy));
         }
@@ -211,12 +374,12 @@ public class InMemoryPathComputer implements PathComputer {
     private WeightFunction getWeightFunctionByStrategy(PathComputationStrategy strategy) {
         switch (strategy) {
             case COST:
-                return this::weightByCost;
+                return costWeightFunction;
             case LATENCY:
             case MAX_LATENCY:
-                return this::weightByLatency;
+                return latencyWeightFunction;
             case COST_AND_AVAILABLE_BANDWIDTH:
-                return this::weightByCostAndAvailableBandwidth;
+                return costAndAvailableBandwidthWeightFunction;
             default:
                 throw new UnsupportedOperationException(String.format("Unsupported strategy type %s", strategy));
         }
@@ -377,4 +540,40 @@ public class InMemoryPathComputer implements PathComputer {
 
         return paths;
     }
+
+    /**
+     * The flow properties used by a path search. They are copied from the persistence-backed flow in the caller
+     * thread, so the searches running in the pool never access the persistence layer.
+     */
+    @Value
+    private static class PathRequest {
+        String flowId;
+        SwitchId srcSwitchId;
+        SwitchId destSwitchId;
+        long bandwidth;
+        boolean ignoreBandwidth;
+        PathComputationStrategy pathComputationStrategy;
+        Long maxLatency;
+        Long maxLatencyTier2;
+        Set<PathId> reusePathIds;
+
+        static PathRequest of(Flow flow) {
+            return new PathRequest(flow.getFlowId(), flow.getSrcSwitchId(), flow.getDestSwitchId(),
+                    flow.getBandwidth(), flow.isIgnoreBandwidth(), flow.getPathComputationStrategy(),
+                    flow.getMaxLatency(), flow.getMaxLatencyTier2(), new HashSet<>(flow.getPathIds()));
+        }
+
+        boolean isOneSwitchFlow() {
+            return srcSwitchId.equals(destSwitchId);
+        }
+    }
+
+    /**
+     * The result of a search over the initial state of the network, with the available bandwidth of the found ISLs.
+     */
+    @Value
+    private static class SpeculativePath {
+        BatchPathResult result;
+        Map<IslEndpoints, Long> availableBandwidth;
+    }
 }
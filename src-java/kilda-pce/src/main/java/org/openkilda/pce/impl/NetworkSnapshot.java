@@ -0,0 +1,136 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import static java.util.Collections.unmodifiableMap;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.model.SnapshotIsl;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
+import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch-local immutable view of active ISLs and switches. It's loaded once per batch path computation and shared only
+ * between the computations of the same batch, so it can be safely used by concurrent searches.
+ * <p/>
+ * The snapshot isn't cached and doesn't follow ISL or switch state changes, it's as fresh as the start of the batch.
+ */
+@ToString(of = {"loadedAt"})
+public final class NetworkSnapshot {
+    @Getter
+    private final Instant loadedAt;
+
+    private final Map<IslEndpoints, SnapshotIsl> isls;
+    private final Map<SwitchId, Set<FlowEncapsulationType>> switchEncapsulations;
+
+    private NetworkSnapshot(Instant loadedAt, Map<IslEndpoints, SnapshotIsl> isls,
+                            Map<SwitchId, Set<FlowEncapsulationType>> switchEncapsulations) {
+        this.loadedAt = loadedAt;
+        this.isls = unmodifiableMap(isls);
+        this.switchEncapsulations = unmodifiableMap(switchEncapsulations);
+    }
+
+    /**
+     * Creates the snapshot from active ISLs grouped by supported transit encapsulation type.
+     *
+     * @param islsByEncapsulation active ISLs with both endpoints supporting the encapsulation type.
+     * @param loadedAt time of the load.
+     */
+    public static NetworkSnapshot load(Map<FlowEncapsulationType, Collection<IslImmutableView>> islsByEncapsulation,
+                                       Instant loadedAt) {
+        Map<IslEndpoints, SnapshotIsl> isls = new LinkedHashMap<>();
+        Map<SwitchId, Set<FlowEncapsulationType>> switchEncapsulations = new HashMap<>();
+        islsByEncapsulation.forEach((encapsulationType, links) -> {
+            for (IslImmutableView link : links) {
+                SnapshotIsl isl = SnapshotIsl.from(link);
+                isls.put(isl.getEndpoints(), isl);
+                switchEncapsulations.computeIfAbsent(isl.getSrcSwitchId(),
+                        ignore -> EnumSet.noneOf(FlowEncapsulationType.class)).add(encapsulationType);
+                switchEncapsulations.computeIfAbsent(isl.getDestSwitchId(),
+                        ignore -> EnumSet.noneOf(FlowEncapsulationType.class)).add(encapsulationType);
+            }
+        });
+        return new NetworkSnapshot(loadedAt, isls, switchEncapsulations);
+    }
+
+    public int getIslCount() {
+        return isls.size();
+    }
+
+    /**
+     * Finds active ISLs which support the encapsulation type on both ends.
+     */
+    public List<IslImmutableView> findActiveByEncapsulationType(FlowEncapsulationType encapsulationType) {
+        return findActiveByBandwidthAndEncapsulationType(Long.MIN_VALUE, encapsulationType);
+    }
+
+    /**
+     * Finds active ISLs which support the encapsulation type on both ends and have enough available bandwidth.
+     */
+    public List<IslImmutableView> findActiveByBandwidthAndEncapsulationType(
+            long requiredBandwidth, FlowEncapsulationType encapsulationType) {
+        List<IslImmutableView> result = new ArrayList<>();
+        for (SnapshotIsl isl : isls.values()) {
+            if (isSuitable(isl, requiredBandwidth, encapsulationType)) {
+                result.add(isl);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds active ISLs which support the encapsulation type on both ends and have enough available bandwidth
+     * in both directions.
+     */
+    public List<IslImmutableView> findSymmetricActiveByBandwidthAndEncapsulationType(
+            long requiredBandwidth, FlowEncapsulationType encapsulationType) {
+        List<IslImmutableView> result = new ArrayList<>();
+        for (SnapshotIsl isl : isls.values()) {
+            if (isSuitable(isl, requiredBandwidth, encapsulationType)) {
+                SnapshotIsl reverse = isls.get(isl.getReverseEndpoints());
+                if (reverse != null && reverse.getAvailableBandwidth() >= requiredBandwidth) {
+                    result.add(isl);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isSuitable(SnapshotIsl isl, long requiredBandwidth, FlowEncapsulationType encapsulationType) {
+        return isl.getAvailableBandwidth() >= requiredBandwidth
+                && supportsEncapsulation(isl.getSrcSwitchId(), encapsulationType)
+                && supportsEncapsulation(isl.getDestSwitchId(), encapsulationType);
+    }
+
+    private boolean supportsEncapsulation(SwitchId switchId, FlowEncapsulationType encapsulationType) {
+        Set<FlowEncapsulationType> supported = switchEncapsulations.get(switchId);
+        return supported != null && supported.contains(encapsulationType);
+    }
+}
@@ -0,0 +1,203 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.impl.AvailableNetwork;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compressed sparse row (CSR) representation of the {@link AvailableNetwork}. Nodes are addressed by int ids and
+ * outgoing edges of node {@code n} occupy the index range {@code [offsets[n], offsets[n + 1])} of the parallel edge
+ * arrays. Edge weights are evaluated by the {@link WeightFunction} once, while the graph is built.
+ * <p/>
+ * The graph is immutable, so it can be shared between searches over the same network state.
+ */
+public final class CompactGraph {
+    private static final Comparator<Edge> EDGE_ORDER = Comparator
+            .comparing((Edge edge) -> edge.getDestSwitch().getSwitchId())
+            .thenComparingInt(Edge::getSrcPort)
+            .thenComparingInt(Edge::getDestPort);
+
+    private final Node[] nodes;
+    private final Map<SwitchId, Integer> nodeIds;
+
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final Edge[] edges;
+
+    private final long[] weights;
+    private final long[] secondaryWeights;
+    private final int[] costs;
+    private final long[] latencies;
+    private final long[] availableBandwidths;
+    private final int[] diversityGroupUseCounters;
+
+    private CompactGraph(Node[] nodes, Map<SwitchId, Integer> nodeIds, int edgeCount) {
+        this.nodes = nodes;
+        this.nodeIds = nodeIds;
+        this.offsets = new int[nodes.length + 1];
+        this.sources = new int[edgeCount];
+        this.targets = new int[edgeCount];
+        this.edges = new Edge[edgeCount];
+        this.weights = new long[edgeCount];
+        this.secondaryWeights = new long[edgeCount];
+        this.costs = new int[edgeCount];
+        this.latencies = new long[edgeCount];
+        this.availableBandwidths = new long[edgeCount];
+        this.diversityGroupUseCounters = new int[edgeCount];
+    }
+
+    /**
+     * Builds the compact graph from the current state of the network.
+     *
+     * @param network the network to convert.
+     * @param weightFunction the function to evaluate edge weights. Only the first two params of the produced
+     *                       {@link PathWeight} are taken into account.
+     */
+    public static CompactGraph build(AvailableNetwork network, WeightFunction weightFunction) {
+        List<Node> sortedNodes = new ArrayList<>(network.getNodes());
+        sortedNodes.sort(Comparator.comparing(Node::getSwitchId));
+
+        Node[] nodes = sortedNodes.toArray(new Node[0]);
+        Map<SwitchId, Integer> nodeIds = new HashMap<>(nodes.length * 2);
+        int edgeCount = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            nodeIds.put(nodes[i].getSwitchId(), i);
+            edgeCount += nodes[i].getOutgoingLinks().size();
+        }
+
+        CompactGraph graph = new CompactGraph(nodes, nodeIds, edgeCount);
+        List<Edge> outgoing = new ArrayList<>();
+        int position = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            graph.offsets[i] = position;
+
+            outgoing.clear();
+            outgoing.addAll(nodes[i].getOutgoingLinks());
+            outgoing.sort(EDGE_ORDER);
+            for (Edge edge : outgoing) {
+                Integer target = nodeIds.get(edge.getDestSwitch().getSwitchId());
+                if (target == null) {
+                    continue;
+                }
+                PathWeight weight = weightFunction.apply(edge);
+                graph.sources[position] = i;
+                graph.targets[position] = target;
+                graph.edges[position] = edge;
+                graph.weights[position] = weight.getParam(0);
+                graph.secondaryWeights[position] = weight.getParam(1);
+                graph.costs[position] = edge.getCost();
+                graph.latencies[position] = edge.getLatency();
+                graph.availableBandwidths[position] = edge.getAvailableBandwidth();
+                graph.diversityGroupUseCounters[position] = edge.getDiversityGroupUseCounter();
+                position++;
+            }
+        }
+        graph.offsets[nodes.length] = position;
+        return graph;
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getEdgeCount() {
+        return offsets[nodes.length];
+    }
+
+    /**
+     * Gets the node id by switch id.
+     *
+     * @return the node id or -1 if there's no such switch in the graph.
+     */
+    public int getNodeId(SwitchId switchId) {
+        Integer id = nodeIds.get(switchId);
+        return id != null ? id : -1;
+    }
+
+    public Node getNode(int nodeId) {
+        return nodes[nodeId];
+    }
+
+    public int getEdgesStart(int nodeId) {
+        return offsets[nodeId];
+    }
+
+    /**
+     * Gets the exclusive upper bound of the outgoing edge ids of the node.
+     */
+    public int getEdgesEnd(int nodeId) {
+        return offsets[nodeId + 1];
+    }
+
+    /**
+     * Finds the edge between the nodes over the specified ports.
+     *
+     * @return the edge id or -1 if there's no such edge in the graph.
+     */
+    public int findEdge(int source, int target, int srcPort, int destPort) {
+        for (int edgeId = offsets[source]; edgeId < offsets[source + 1]; edgeId++) {
+            if (targets[edgeId] == target && edges[edgeId].getSrcPort() == srcPort
+                    && edges[edgeId].getDestPort() == destPort) {
+                return edgeId;
+            }
+        }
+        return -1;
+    }
+
+    public int getSource(int edgeId) {
+        return sources[edgeId];
+    }
+
+    public int getTarget(int edgeId) {
+        return targets[edgeId];
+    }
+
+    public Edge getEdge(int edgeId) {
+        return edges[edgeId];
+    }
+
+    public long getWeight(int edgeId) {
+        return weights[edgeId];
+    }
+
+    public long getSecondaryWeight(int edgeId) {
+        return secondaryWeights[edgeId];
+    }
+
+    public int getCost(int edgeId) {
+        return costs[edgeId];
+    }
+
+    public long getLatency(int edgeId) {
+        return latencies[edgeId];
+    }
+
+    public long getAvailableBandwidth(int edgeId) {
+        return availableBandwidths[edgeId];
+    }
+
+    public int getDiversityGroupUseCounter(int edgeId) {
+        return diversityGroupUseCounters[edgeId];
+    }
+}
@@ -62,6 +62,23 @@ public class PathWeight implements Comparable<PathWeight> {
         return params.size() > 0 ? params.get(0) : 0;
     }
 
+    /**
+     * Gets the weight param by its index in the vector.
+     * @param index the index of the param.
+     * @return the param value or 0 if the vector has no such param.
+     */
+    public long getParam(int index) {
+        return index < params.size() ? params.get(index) : 0;
+    }
+
+    /**
+     * Gets the number of params in the vector.
+     * @return the size of the vector.
+     */
+    public int getParamCount() {
+        return params.size();
+    }
+
     @Override
     public int compareTo(PathWeight o) {
         int firstSize = params.size();
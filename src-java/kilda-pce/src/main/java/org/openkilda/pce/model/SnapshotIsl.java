@@ -0,0 +1,75 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.repositories.IslRepository.IslEndpoints;
+import org.openkilda.persistence.repositories.IslRepository.IslImmutableView;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Detached copy of an ISL state, which is safe to share between the computations over a network snapshot.
+ */
+@Value
+@Builder
+public class SnapshotIsl implements IslImmutableView {
+    @NonNull
+    SwitchId srcSwitchId;
+    int srcPort;
+    String srcPop;
+    @NonNull
+    SwitchId destSwitchId;
+    int destPort;
+    String destPop;
+    long latency;
+    int cost;
+    long availableBandwidth;
+    boolean underMaintenance;
+    boolean unstable;
+
+    /**
+     * Makes a detached copy of the provided ISL view.
+     */
+    public static SnapshotIsl from(IslImmutableView isl) {
+        if (isl instanceof SnapshotIsl) {
+            return (SnapshotIsl) isl;
+        }
+        return SnapshotIsl.builder()
+                .srcSwitchId(isl.getSrcSwitchId())
+                .srcPort(isl.getSrcPort())
+                .srcPop(isl.getSrcPop())
+                .destSwitchId(isl.getDestSwitchId())
+                .destPort(isl.getDestPort())
+                .destPop(isl.getDestPop())
+                .latency(isl.getLatency())
+                .cost(isl.getCost())
+                .availableBandwidth(isl.getAvailableBandwidth())
+                .underMaintenance(isl.isUnderMaintenance())
+                .unstable(isl.isUnstable())
+                .build();
+    }
+
+    public IslEndpoints getEndpoints() {
+        return new IslEndpoints(srcSwitchId.toString(), srcPort, destSwitchId.toString(), destPort);
+    }
+
+    public IslEndpoints getReverseEndpoints() {
+        return new IslEndpoints(destSwitchId.toString(), destPort, srcSwitchId.toString(), srcPort);
+    }
+}
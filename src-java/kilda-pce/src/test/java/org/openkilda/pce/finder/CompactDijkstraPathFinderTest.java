@@ -0,0 +1,297 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.CompactGraph;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindPathResult;
+import org.openkilda.pce.model.PathWeight;
+import org.openkilda.pce.model.WeightFunction;
+
+import com.google.common.collect.Lists;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CompactDijkstraPathFinderTest {
+    private static final int ALLOWED_DEPTH = 35;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> {
+        long total = edge.getCost();
+        if (edge.isUnderMaintenance()) {
+            total += 10_000;
+        }
+        if (edge.isUnstable()) {
+            total += 10_000;
+        }
+        total += edge.getDiversityGroupUseCounter() * 1000 + edge.getDestSwitch().getDiversityGroupUseCounter() * 100;
+        return new PathWeight(total);
+    };
+
+    private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
+    private static final SwitchId SWITCH_ID_3 = new SwitchId("00:00:00:00:00:00:00:03");
+    private static final SwitchId SWITCH_ID_4 = new SwitchId("00:00:00:00:00:00:00:04");
+    private static final SwitchId SWITCH_ID_5 = new SwitchId("00:00:00:00:00:00:00:05");
+    private static final SwitchId SWITCH_ID_6 = new SwitchId("00:00:00:00:00:00:00:06");
+
+    @Test
+    public void shouldBuildCompactGraph() {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        CompactGraph graph = CompactGraph.build(network, WEIGHT_FUNCTION);
+
+        assertEquals(5, graph.getNodeCount());
+        assertEquals(10, graph.getEdgeCount());
+        int node = graph.getNodeId(SWITCH_ID_2);
+        assertEquals(3, graph.getEdgesEnd(node) - graph.getEdgesStart(node));
+        for (int edge = graph.getEdgesStart(node); edge < graph.getEdgesEnd(node); edge++) {
+            assertEquals(node, graph.getSource(edge));
+            assertEquals(graph.getEdge(edge).getCost(), graph.getWeight(edge));
+            assertEquals(graph.getEdge(edge).getDestSwitch(), graph.getNode(graph.getTarget(edge)));
+        }
+        assertEquals(-1, graph.getNodeId(SWITCH_ID_6));
+    }
+
+    @Test
+    public void shouldReuseCompactGraphUntilNetworkIsModified() {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        CompactGraph graph = network.getCompactGraph(WEIGHT_FUNCTION);
+        assertSame(graph, network.getCompactGraph(WEIGHT_FUNCTION));
+
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_6, 11, 11, 1, 1);
+        CompactGraph updated = network.getCompactGraph(WEIGHT_FUNCTION);
+        assertNotSame(graph, updated);
+        assertEquals(6, updated.getNodeCount());
+    }
+
+    @Test
+    public void shouldChooseExpensiveOverTooDeep() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        CompactDijkstraPathFinder pathFinder = new CompactDijkstraPathFinder(2);
+        FindPathResult result = pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION);
+
+        List<Edge> forward = result.getFoundPath().getLeft();
+        assertThat(forward, Matchers.hasSize(2));
+        assertEquals(SWITCH_ID_2, forward.get(1).getSrcSwitch().getSwitchId());
+        List<Edge> reverse = result.getFoundPath().getRight();
+        assertThat(reverse, Matchers.hasSize(2));
+        assertEquals(SWITCH_ID_2, reverse.get(0).getDestSwitch().getSwitchId());
+    }
+
+    @Test
+    public void shouldChooseDeeperOverExpensive() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        CompactDijkstraPathFinder pathFinder = new CompactDijkstraPathFinder(4);
+        FindPathResult result = pathFinder.findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION);
+
+        List<Edge> forward = result.getFoundPath().getLeft();
+        assertThat(forward, Matchers.hasSize(4));
+        assertEquals(SWITCH_ID_5, forward.get(3).getSrcSwitch().getSwitchId());
+        assertEquals(Lists.newArrayList(SWITCH_ID_4, SWITCH_ID_5, SWITCH_ID_3, SWITCH_ID_2, SWITCH_ID_1),
+                getInvolvedSwitches(result.getFoundPath().getRight()));
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void shouldFailWhenPathIsLongerThenAllowedDepth() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        new CompactDijkstraPathFinder(1).findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION);
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void failToFindASwitch() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        new CompactDijkstraPathFinder(ALLOWED_DEPTH)
+                .findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_6, WEIGHT_FUNCTION);
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void shouldFailWhenReverseLinkIsMissing() throws UnroutableFlowException {
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100, 1);
+        // the reverse link is saturated, so it's excluded from the network
+        addLink(network, SWITCH_ID_2, SWITCH_ID_3, 3, 4, 100, 1);
+
+        new CompactDijkstraPathFinder(ALLOWED_DEPTH)
+                .findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION);
+    }
+
+    @Test
+    public void shouldUseReverseLinksOfNetwork() throws UnroutableFlowException {
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100, 1);
+        addLink(network, SWITCH_ID_2, SWITCH_ID_1, 2, 1, 100, 7);
+
+        FindPathResult result = new CompactDijkstraPathFinder(ALLOWED_DEPTH)
+                .findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_2, WEIGHT_FUNCTION);
+
+        List<Edge> reverse = result.getFoundPath().getRight();
+        assertEquals(1, reverse.size());
+        assertEquals(SWITCH_ID_2, reverse.get(0).getSrcSwitch().getSwitchId());
+        assertEquals(7, reverse.get(0).getLatency());
+    }
+
+    @Test
+    public void shouldHandleVeryExpensiveLinks() throws UnroutableFlowException {
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 2000000000, 1);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 3, 4, 2000000000, 1);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 5, 6, 1, 1);
+
+        FindPathResult result = new CompactDijkstraPathFinder(ALLOWED_DEPTH)
+                .findPathWithMinWeight(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION);
+
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_3),
+                getInvolvedSwitches(result.getFoundPath().getLeft()));
+    }
+
+    @Test
+    public void shouldMarkBackUpWayWhenLatencyExceedsMaxLatency() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+        WeightFunction latencyWeight = edge -> new PathWeight(edge.getLatency());
+
+        CompactDijkstraPathFinder pathFinder = new CompactDijkstraPathFinder(ALLOWED_DEPTH);
+        FindPathResult result = pathFinder.findPathWithMinWeightAndLatencyLimits(network, SWITCH_ID_1, SWITCH_ID_4,
+                latencyWeight, 10, 1000);
+        assertTrue(result.isBackUpPathComputationWayUsed());
+
+        result = pathFinder.findPathWithMinWeightAndLatencyLimits(network, SWITCH_ID_1, SWITCH_ID_4,
+                latencyWeight, 1000, 1000);
+        assertFalse(result.isBackUpPathComputationWayUsed());
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void shouldFailWhenLatencyExceedsLatencyLimit() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        new CompactDijkstraPathFinder(ALLOWED_DEPTH).findPathWithMinWeightAndLatencyLimits(network,
+                SWITCH_ID_1, SWITCH_ID_4, edge -> new PathWeight(edge.getLatency()), 10, 15);
+    }
+
+    @Test
+    public void shouldFindPathsWithTheSameWeightAsBestWeightAndShortestPathFinder() throws UnroutableFlowException {
+        AvailableNetwork network = buildRandomMeshNetwork(30, 4, 42);
+        BestWeightAndShortestPathFinder expectedFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        CompactDijkstraPathFinder pathFinder = new CompactDijkstraPathFinder(ALLOWED_DEPTH);
+
+        for (int src = 1; src <= 30; src += 3) {
+            for (int dst = 2; dst <= 30; dst += 5) {
+                if (src == dst) {
+                    continue;
+                }
+                SwitchId srcSwitch = new SwitchId(src);
+                SwitchId dstSwitch = new SwitchId(dst);
+                List<Edge> expected = expectedFinder.findPathWithMinWeight(network, srcSwitch, dstSwitch,
+                        WEIGHT_FUNCTION).getFoundPath().getLeft();
+                List<Edge> actual = pathFinder.findPathWithMinWeight(network, srcSwitch, dstSwitch,
+                        WEIGHT_FUNCTION).getFoundPath().getLeft();
+
+                assertEquals(getTotalWeight(expected), getTotalWeight(actual));
+                assertEquals(srcSwitch, actual.get(0).getSrcSwitch().getSwitchId());
+                assertEquals(dstSwitch, actual.get(actual.size() - 1).getDestSwitch().getSwitchId());
+            }
+        }
+    }
+
+    private AvailableNetwork buildLongAndExpensivePathsNetwork() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2~~~SW4
+         *          |     |
+         *         SW3---SW5
+         *
+         *   SW2 - SW4 is expensive by cost.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100, 10);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 10000, 10);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 6, 100, 10);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 100, 10);
+        addBidirectionalLink(network, SWITCH_ID_4, SWITCH_ID_5, 9, 10, 100, 10);
+        return network;
+    }
+
+    private AvailableNetwork buildRandomMeshNetwork(int switchCount, int linksPerSwitch, long seed) {
+        Random random = new Random(seed);
+        AvailableNetwork network = new AvailableNetwork();
+        int port = 1;
+        for (int i = 1; i <= switchCount; i++) {
+            // a ring guarantees connectivity
+            int next = i % switchCount + 1;
+            addBidirectionalLink(network, new SwitchId(i), new SwitchId(next), port++, port++,
+                    1 + random.nextInt(1000), 1);
+            for (int j = 1; j < linksPerSwitch; j++) {
+                int other = 1 + random.nextInt(switchCount);
+                if (other != i) {
+                    addBidirectionalLink(network, new SwitchId(i), new SwitchId(other), port++, port++,
+                            1 + random.nextInt(1000), 1);
+                }
+            }
+        }
+        return network;
+    }
+
+    private long getTotalWeight(List<Edge> path) {
+        return path.stream().map(WEIGHT_FUNCTION).mapToLong(PathWeight::toLong).sum();
+    }
+
+    private void addBidirectionalLink(AvailableNetwork network, SwitchId firstSwitch, SwitchId secondSwitch,
+                                      int srcPort, int dstPort, int cost, int latency) {
+        addLink(network, firstSwitch, secondSwitch, srcPort, dstPort, cost, latency);
+        addLink(network, secondSwitch, firstSwitch, dstPort, srcPort, cost, latency);
+    }
+
+    private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
+                         int cost, int latency) {
+        Edge edge = Edge.builder()
+                .srcSwitch(network.getOrAddNode(srcDpid, null))
+                .srcPort(srcPort)
+                .destSwitch(network.getOrAddNode(dstDpid, null))
+                .destPort(dstPort)
+                .latency(latency)
+                .cost(cost)
+                .availableBandwidth(500000)
+                .build();
+        network.addEdge(edge);
+    }
+
+    private List<SwitchId> getInvolvedSwitches(List<Edge> path) {
+        List<SwitchId> switches = new ArrayList<>();
+        for (Edge edge : path) {
+            switches.add(edge.getSrcSwitch().getSwitchId());
+        }
+        switches.add(path.get(path.size() - 1).getDestSwitch().getSwitchId());
+        return switches;
+    }
+}
@@ -0,0 +1,261 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.FindOneDirectionPathResult;
+import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.PathWeight;
+import org.openkilda.pce.model.WeightFunction;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class YenKShortestPathsFinderTest {
+    private static final int ALLOWED_DEPTH = 35;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> new PathWeight(edge.getCost());
+
+    private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
+    private static final SwitchId SWITCH_ID_3 = new SwitchId("00:00:00:00:00:00:00:03");
+    private static final SwitchId SWITCH_ID_4 = new SwitchId("00:00:00:00:00:00:00:04");
+    private static final SwitchId SWITCH_ID_5 = new SwitchId("00:00:00:00:00:00:00:05");
+
+    @Test
+    public void shouldFindAllLooplessPathsInWeightOrder() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiamondNetwork();
+
+        List<FindOneDirectionPathResult> paths = new YenKShortestPathsFinder(ALLOWED_DEPTH)
+                .findNPathsBetweenSwitches(network, SWITCH_ID_1, SWITCH_ID_4, 10, WEIGHT_FUNCTION);
+
+        assertEquals(4, paths.size());
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4),
+                getInvolvedSwitches(paths.get(0).getFoundPath()));
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_3, SWITCH_ID_4),
+                getInvolvedSwitches(paths.get(1).getFoundPath()));
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_3, SWITCH_ID_4),
+                getInvolvedSwitches(paths.get(2).getFoundPath()));
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_3, SWITCH_ID_2, SWITCH_ID_4),
+                getInvolvedSwitches(paths.get(3).getFoundPath()));
+        paths.forEach(path -> assertFalse(path.isBackUpPathComputationWayUsed()));
+    }
+
+    @Test
+    public void shouldFindTheSameWeightsAsExhaustiveSearch() throws UnroutableFlowException {
+        AvailableNetwork network = buildRandomMeshNetwork(8, 3, 42);
+        YenKShortestPathsFinder pathFinder = new YenKShortestPathsFinder(ALLOWED_DEPTH);
+
+        for (int dst = 2; dst <= 8; dst++) {
+            SwitchId srcSwitch = new SwitchId(1);
+            SwitchId dstSwitch = new SwitchId(dst);
+            List<Long> expected = findAllPathWeights(network, srcSwitch, dstSwitch);
+
+            List<FindOneDirectionPathResult> paths = pathFinder.findNPathsBetweenSwitches(network,
+                    srcSwitch, dstSwitch, 50, WEIGHT_FUNCTION);
+
+            assertEquals(expected.subList(0, Math.min(50, expected.size())), paths.stream()
+                    .map(path -> getTotalWeight(path.getFoundPath()))
+                    .collect(Collectors.toList()));
+            Set<List<Edge>> uniquePaths = paths.stream()
+                    .map(FindOneDirectionPathResult::getFoundPath)
+                    .collect(Collectors.toSet());
+            assertEquals(paths.size(), uniquePaths.size());
+            for (FindOneDirectionPathResult path : paths) {
+                List<SwitchId> switches = getInvolvedSwitches(path.getFoundPath());
+                assertEquals(switches.size(), new HashSet<>(switches).size());
+                assertEquals(srcSwitch, switches.get(0));
+                assertEquals(dstSwitch, switches.get(switches.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    public void shouldMarkBackUpPathsAndStopOnBackUpMaxWeight() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiamondNetwork();
+
+        List<FindOneDirectionPathResult> paths = new YenKShortestPathsFinder(ALLOWED_DEPTH)
+                .findNPathsBetweenSwitches(network, SWITCH_ID_1, SWITCH_ID_4, 10, WEIGHT_FUNCTION, 220, 260);
+
+        assertEquals(2, paths.size());
+        assertFalse(paths.get(0).isBackUpPathComputationWayUsed());
+        assertTrue(paths.get(1).isBackUpPathComputationWayUsed());
+    }
+
+    @Test
+    public void shouldSkipPathsDeeperThanAllowedDepth() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiamondNetwork();
+
+        List<FindOneDirectionPathResult> paths = new YenKShortestPathsFinder(2)
+                .findNPathsBetweenSwitches(network, SWITCH_ID_1, SWITCH_ID_4, 10, WEIGHT_FUNCTION);
+
+        assertEquals(2, paths.size());
+    }
+
+    @Test
+    public void shouldFindPathsWithinAllowedDepthIfBestPathIsDeeper() throws UnroutableFlowException {
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 500);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 500);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 5, 6, 10);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 10);
+        addBidirectionalLink(network, SWITCH_ID_5, SWITCH_ID_4, 9, 10, 10);
+
+        List<FindOneDirectionPathResult> paths = new YenKShortestPathsFinder(2)
+                .findNPathsBetweenSwitches(network, SWITCH_ID_1, SWITCH_ID_4, 10, WEIGHT_FUNCTION);
+
+        assertEquals(1, paths.size());
+        assertEquals(Lists.newArrayList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4),
+                getInvolvedSwitches(paths.get(0).getFoundPath()));
+    }
+
+    @Test
+    public void shouldStreamPathsLazily() throws UnroutableFlowException {
+        AvailableNetwork network = buildRandomMeshNetwork(30, 4, 7);
+
+        Optional<FindOneDirectionPathResult> first = new YenKShortestPathsFinder(ALLOWED_DEPTH)
+                .streamPathsBetweenSwitches(network, new SwitchId(1), new SwitchId(15), WEIGHT_FUNCTION,
+                        Long.MAX_VALUE, Long.MAX_VALUE)
+                .findFirst();
+
+        List<Edge> expected = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH).findPathWithMinWeight(network,
+                new SwitchId(1), new SwitchId(15), WEIGHT_FUNCTION).getFoundPath().getLeft();
+        assertTrue(first.isPresent());
+        assertEquals(getTotalWeight(expected), getTotalWeight(first.get().getFoundPath()));
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void failToFindASwitch() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiamondNetwork();
+
+        new YenKShortestPathsFinder(ALLOWED_DEPTH).findNPathsBetweenSwitches(network, SWITCH_ID_1, SWITCH_ID_5, 10,
+                WEIGHT_FUNCTION);
+    }
+
+    private AvailableNetwork buildDiamondNetwork() {
+        /*
+         *   Topology:
+         *
+         *      SW2
+         *     / | \
+         *   SW1 |  SW4
+         *     \ | /
+         *      SW3
+         *
+         *   SW1-SW2-SW4 costs 200, SW1-SW3-SW4 costs 240, SW2-SW3 costs 50.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 100);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 5, 6, 120);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_4, 7, 8, 120);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 9, 10, 50);
+        return network;
+    }
+
+    private AvailableNetwork buildRandomMeshNetwork(int switchCount, int linksPerSwitch, long seed) {
+        Random random = new Random(seed);
+        AvailableNetwork network = new AvailableNetwork();
+        int port = 1;
+        for (int i = 1; i <= switchCount; i++) {
+            // a ring guarantees connectivity
+            int next = i % switchCount + 1;
+            addBidirectionalLink(network, new SwitchId(i), new SwitchId(next), port++, port++,
+                    1 + random.nextInt(1000));
+            for (int j = 1; j < linksPerSwitch; j++) {
+                int other = 1 + random.nextInt(switchCount);
+                if (other != i) {
+                    addBidirectionalLink(network, new SwitchId(i), new SwitchId(other), port++, port++,
+                            1 + random.nextInt(1000));
+                }
+            }
+        }
+        return network;
+    }
+
+    private List<Long> findAllPathWeights(AvailableNetwork network, SwitchId srcSwitch, SwitchId dstSwitch) {
+        List<Long> weights = new ArrayList<>();
+        collectPathWeights(network.getSwitch(srcSwitch), dstSwitch, new HashSet<>(), new LinkedList<>(), weights);
+        Collections.sort(weights);
+        return weights;
+    }
+
+    private void collectPathWeights(Node current, SwitchId dstSwitch, Set<SwitchId> visited, LinkedList<Edge> path,
+                                    List<Long> weights) {
+        if (current.getSwitchId().equals(dstSwitch)) {
+            weights.add(getTotalWeight(path));
+            return;
+        }
+        visited.add(current.getSwitchId());
+        for (Edge edge : current.getOutgoingLinks()) {
+            if (!visited.contains(edge.getDestSwitch().getSwitchId())) {
+                path.addLast(edge);
+                collectPathWeights(edge.getDestSwitch(), dstSwitch, visited, path, weights);
+                path.removeLast();
+            }
+        }
+        visited.remove(current.getSwitchId());
+    }
+
+    private long getTotalWeight(List<Edge> path) {
+        return path.stream().map(WEIGHT_FUNCTION).mapToLong(PathWeight::toLong).sum();
+    }
+
+    private void addBidirectionalLink(AvailableNetwork network, SwitchId firstSwitch, SwitchId secondSwitch,
+                                      int srcPort, int dstPort, int cost) {
+        addLink(network, firstSwitch, secondSwitch, srcPort, dstPort, cost);
+        addLink(network, secondSwitch, firstSwitch, dstPort, srcPort, cost);
+    }
+
+    private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
+                         int cost) {
+        Edge edge = Edge.builder()
+                .srcSwitch(network.getOrAddNode(srcDpid, null))
+                .srcPort(srcPort)
+                .destSwitch(network.getOrAddNode(dstDpid, null))
+                .destPort(dstPort)
+                .latency(1)
+                .cost(cost)
+                .availableBandwidth(500000)
+                .build();
+        network.addEdge(edge);
+    }
+
+    private List<SwitchId> getInvolvedSwitches(List<Edge> path) {
+        List<SwitchId> switches = new ArrayList<>();
+        for (Edge edge : path) {
+            switches.add(edge.getSrcSwitch().getSwitchId());
+        }
+        switches.add(path.get(path.size() - 1).getDestSwitch().getSwitchId());
+        return switches;
+    }
+}
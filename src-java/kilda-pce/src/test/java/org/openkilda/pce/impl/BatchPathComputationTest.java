@@ -0,0 +1,139 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.IslStatus;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.BatchPathResult;
+import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.exception.RecoverableException;
+import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class BatchPathComputationTest extends InMemoryPathComputerBaseTest {
+
+    @Test
+    public void shouldTakeBandwidthOfPreviousFlowsOfBatch() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "00:", 1);
+
+        Flow first = buildFlow("first", "00:01", "00:04", 600, 1);
+        Flow second = buildFlow("second", "00:01", "00:04", 600, 2);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<BatchPathResult> results = pathComputer.getPaths(Lists.newArrayList(first, second));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(new SwitchId("00:02"),
+                results.get(0).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        assertEquals(new SwitchId("00:03"),
+                results.get(1).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+    }
+
+    @Test
+    public void shouldProcessFlowsByPriorityAndReturnResultsInRequestOrder() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "01:", 1);
+
+        Flow lowPriority = buildFlow("low-priority", "01:01", "01:04", 600, 10);
+        Flow highPriority = buildFlow("high-priority", "01:01", "01:04", 600, 1);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<BatchPathResult> results = pathComputer.getPaths(Lists.newArrayList(lowPriority, highPriority));
+
+        assertEquals("low-priority", results.get(0).getFlowId());
+        assertEquals(new SwitchId("01:03"),
+                results.get(0).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+        assertEquals("high-priority", results.get(1).getFlowId());
+        assertEquals(new SwitchId("01:02"),
+                results.get(1).getPaths().getForward().getSegments().get(0).getDestSwitchId());
+    }
+
+    @Test
+    public void shouldReportUnroutableFlowsOfBatch() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "02:", 1);
+
+        Flow first = buildFlow("first", "02:01", "02:04", 600, 1);
+        Flow second = buildFlow("second", "02:01", "02:04", 600, 1);
+        Flow third = buildFlow("third", "02:01", "02:04", 600, 1);
+        Flow ignoreBandwidth = new TestFlowBuilder("ignore-bandwidth")
+                .srcSwitch(getSwitchById("02:01"))
+                .destSwitch(getSwitchById("02:04"))
+                .bandwidth(600)
+                .ignoreBandwidth(true)
+                .build();
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<BatchPathResult> results = pathComputer.getPaths(
+                Lists.newArrayList(first, second, third, ignoreBandwidth));
+
+        assertTrue(results.get(0).isSuccessful());
+        assertTrue(results.get(1).isSuccessful());
+        assertFalse(results.get(2).isSuccessful());
+        assertNotNull(results.get(2).getError());
+        assertTrue(results.get(3).isSuccessful());
+    }
+
+    @Test
+    public void shouldFindSamePathsInParallelAsSequentially() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "03:", 1);
+
+        List<Flow> flows = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            flows.add(buildFlow("flow-" + i, "03:01", "03:04", 300, i % 3));
+        }
+
+        List<BatchPathResult> expected = pathComputerFactory.getPathComputer().getPaths(flows);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            PathComputer pathComputer = new InMemoryPathComputer(availableNetworkFactory,
+                    new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth()), config, forkJoinPool);
+            List<BatchPathResult> actual = pathComputer.getPaths(flows);
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getFlowId(), actual.get(i).getFlowId());
+                assertEquals(expected.get(i).isSuccessful(), actual.get(i).isSuccessful());
+                assertEquals(expected.get(i).getPaths(), actual.get(i).getPaths());
+            }
+            assertEquals(6, actual.stream().filter(BatchPathResult::isSuccessful).count());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private Flow buildFlow(String flowId, String srcSwitchId, String dstSwitchId, long bandwidth, int priority) {
+        Flow flow = new TestFlowBuilder(flowId)
+                .srcSwitch(getSwitchById(srcSwitchId))
+                .destSwitch(getSwitchById(dstSwitchId))
+                .bandwidth(bandwidth)
+                .build();
+        flow.setPriority(priority);
+        return flow;
+    }
+}
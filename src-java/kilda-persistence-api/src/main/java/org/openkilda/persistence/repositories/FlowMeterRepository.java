@@ -34,6 +34,11 @@ public interface FlowMeterRepository extends Repository<FlowMeter> {
      */
     Optional<FlowMeter> findByPathId(PathId pathId);
 
+    /**
+     * Find meters allocated on the switch.
+     */
+    Collection<FlowMeter> findBySwitchId(SwitchId switchId);
+
     /**
      * Find a meter by unique ID.
      */
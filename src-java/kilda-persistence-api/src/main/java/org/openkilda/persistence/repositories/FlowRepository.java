@@ -18,6 +18,7 @@ package org.openkilda.persistence.repositories;
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowFilter;
 import org.openkilda.model.FlowStatus;
+import org.openkilda.model.PathId;
 import org.openkilda.model.SwitchId;
 
 import java.util.Collection;
@@ -32,6 +33,14 @@ public interface FlowRepository extends Repository<Flow> {
      */
     Collection<Flow> findAll();
 
+    /**
+     * Fetches all flows along with their paths, path segments and switches.
+     * <p/>
+     * The related entities are loaded by a few set-based queries instead of per-entity traversals. The result is
+     * detached from the persistence layer and intended for read-only access.
+     */
+    Collection<Flow> findAllWithPaths();
+
     boolean exists(String flowId);
 
     Optional<Flow> findById(String flowId);
@@ -66,6 +75,18 @@ public interface FlowRepository extends Repository<Flow> {
 
     Collection<Flow> findByEndpointSwitch(SwitchId switchId);
 
+    /**
+     * Finds flows which terminate on the switch, along with their paths, path segments and switches.
+     * See {@link #findAllWithPaths()} for the details.
+     */
+    Collection<Flow> findByEndpointSwitchWithPaths(SwitchId switchId);
+
+    /**
+     * Finds flows which own any of the paths, along with all their paths, path segments and switches.
+     * See {@link #findAllWithPaths()} for the details.
+     */
+    Collection<Flow> findByPathIdsWithPaths(Set<PathId> pathIds);
+
     Collection<Flow> findByEndpointSwitchAndOuterVlan(SwitchId switchId, int vlan);
 
     Collection<Flow> findByEndpointSwitchWithMultiTableSupport(SwitchId switchId);
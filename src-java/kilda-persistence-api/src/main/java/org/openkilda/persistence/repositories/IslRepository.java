@@ -18,6 +18,7 @@ package org.openkilda.persistence.repositories;
 import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.Isl;
 import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
 import org.openkilda.model.SwitchId;
 
 import lombok.Value;
@@ -116,6 +117,31 @@ public interface IslRepository extends Repository<Isl> {
      */
     Map<IslEndpoints, Long> updateAvailableBandwidthOnIslsOccupiedByPath(PathId pathId);
 
+    /**
+     * Subtract the bandwidth of the added path segment from ISL available bandwidth. Unlike
+     * {@link #updateAvailableBandwidth}, other segments over the ISL are not aggregated, so it must be called once
+     * per added segment and preferably within the same transaction.
+     *
+     * @return the result available bandwidth of the updated ISL.
+     */
+    long allocateBandwidth(PathSegment segment);
+
+    /**
+     * Return the bandwidth of the removed path segment back to ISL available bandwidth. Unlike
+     * {@link #updateAvailableBandwidth}, other segments over the ISL are not aggregated, so it must be called once
+     * per removed segment.
+     *
+     * @return the result available bandwidth of the updated ISL.
+     */
+    long releaseBandwidth(PathSegment segment);
+
+    /**
+     * Subtract the bandwidth of the path segments from available bandwidth of ISLs occupied by the path.
+     *
+     * @return the endpoints of updated ISLs with the result available bandwidth.
+     * @see #allocateBandwidth(PathSegment)
+     */
+    Map<IslEndpoints, Long> allocateBandwidthOnIslsOccupiedByPath(PathId pathId);
 
     /**
      * Returns ISL ports of switches, grouped by SwitchIds.
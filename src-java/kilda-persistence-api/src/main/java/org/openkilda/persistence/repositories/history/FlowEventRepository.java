@@ -16,10 +16,13 @@
 package org.openkilda.persistence.repositories.history;
 
 import org.openkilda.model.history.FlowEvent;
+import org.openkilda.model.history.FlowEventAction;
+import org.openkilda.model.history.FlowEventDump;
 import org.openkilda.model.history.FlowStatusView;
 import org.openkilda.persistence.repositories.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +35,31 @@ public interface FlowEventRepository extends Repository<FlowEvent> {
 
     List<FlowStatusView> findFlowStatusesByFlowIdAndTimeFrame(String flowId, Instant timeFrom,
                                                               Instant timeTo, int maxCount);
+
+    /**
+     * Fetches a page of flow events within the time frame ordered by timestamp and task id. The page starts right
+     * after the cursor or from the beginning of the time frame if the cursor is null.
+     *
+     * @param timeFrom inclusive lower bound of the time frame, may be null.
+     * @param timeTo exclusive upper bound of the time frame, may be null.
+     */
+    List<FlowEvent> findPageByFlowIdAndTimeFrame(String flowId, Instant timeFrom, Instant timeTo,
+                                                 HistoryPageCursor after, int pageSize);
+
+    /**
+     * Removes events along with their actions and dumps stored before the specified time.
+     */
+    void purgeOlderThan(Instant time);
+
+    /**
+     * Prepares the storage of events, actions and dumps for the upcoming days. Nothing is removed.
+     */
+    void addUpcomingPartitions();
+
+    /**
+     * Stores events, actions and dumps within a single transaction. Actions and dumps are bound to events by task id,
+     * the event can be either a part of the same batch or stored earlier. Records of the same kind are written in the
+     * order they are provided.
+     */
+    void addBatch(Collection<FlowEvent> events, Collection<FlowEventAction> actions, Collection<FlowEventDump> dumps);
 }
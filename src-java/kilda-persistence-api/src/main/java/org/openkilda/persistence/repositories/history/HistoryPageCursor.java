@@ -0,0 +1,49 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.repositories.history;
+
+import org.openkilda.model.history.FlowEvent;
+import org.openkilda.model.history.PortEvent;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Position of a history record in the keyset pagination. Records are ordered by time, and records with the same time
+ * are ordered by the key: task id for flow events and record id for port events. Flow events are stored once per
+ * task id, so the key is unique. Duplicates of a task stored before the deduplication are ordered by the storage id,
+ * and the ones after a page boundary are skipped.
+ */
+@Value
+public class HistoryPageCursor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    Instant time;
+    @NonNull
+    String key;
+
+    public static HistoryPageCursor of(FlowEvent event) {
+        return new HistoryPageCursor(event.getTimestamp(), event.getTaskId());
+    }
+
+    public static HistoryPageCursor of(PortEvent event) {
+        return new HistoryPageCursor(event.getTime(), event.getRecordId().toString());
+    }
+}
@@ -24,4 +24,24 @@ import java.util.List;
 
 public interface PortEventRepository extends Repository<PortEvent> {
     List<PortEvent> findBySwitchIdAndPortNumber(SwitchId switchId, int portNumber, Instant start, Instant end);
+
+    /**
+     * Fetches a page of port events within the time frame ordered by time and record id. The page starts right
+     * after the cursor or from the beginning of the time frame if the cursor is null.
+     *
+     * @param timeFrom inclusive lower bound of the time frame, may be null.
+     * @param timeTo exclusive upper bound of the time frame, may be null.
+     */
+    List<PortEvent> findPageBySwitchIdAndPortNumber(SwitchId switchId, int portNumber, Instant timeFrom,
+                                                    Instant timeTo, HistoryPageCursor after, int pageSize);
+
+    /**
+     * Removes port events stored before the specified time.
+     */
+    void purgeOlderThan(Instant time);
+
+    /**
+     * Prepares the storage of port events for the upcoming days. Nothing is removed.
+     */
+    void addUpcomingPartitions();
 }
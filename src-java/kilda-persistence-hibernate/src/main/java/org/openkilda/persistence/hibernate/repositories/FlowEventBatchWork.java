@@ -0,0 +1,218 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.hibernate.repositories;
+
+import org.openkilda.persistence.exceptions.PersistenceException;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEvent;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventAction;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventDump;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jdbc.Work;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes flow history records using JDBC batch inserts. History entities use identity generated keys, so hibernate
+ * is not able to batch their inserts by itself.
+ * <p/>
+ * Events are inserted first, then the ids of all events referenced by the actions and dumps are resolved by one
+ * query per chunk of task ids, and finally actions and dumps are inserted. Actions and dumps without a stored event
+ * are skipped.
+ * <p/>
+ * The task id index of the partitioned flow_event table is not unique, so events whose task id is already stored
+ * (e.g. redelivered ones) are skipped here instead of being rejected by the database. The deduplication is best
+ * effort: a unique key of a partitioned table must include time_create, which differs for a redelivered event, so
+ * concurrent writers of the same task can still store it twice. Readers take the earliest stored event of a task.
+ */
+@Slf4j
+class FlowEventBatchWork implements Work {
+    static final int MAX_QUERY_PARAMETERS = 500;
+
+    private static final String INSERT_EVENT = "INSERT INTO flow_event "
+            + "(flow_id, task_id, task_id_unique_key, action, unstructured, event_time, time_create, time_modify) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACTION = "INSERT INTO flow_event_action "
+            + "(flow_event_id, action, details, event_time, time_create, time_modify) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DUMP = "INSERT INTO flow_event_dump "
+            + "(flow_event_id, kind, unstructured, time_create, time_modify) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_EVENT_IDS = "SELECT id, task_id_unique_key FROM flow_event "
+            + "WHERE task_id_unique_key IN (%s)";
+
+    private final ObjectMapper mapper;
+    private final List<HibernateFlowEvent> events;
+    private final List<HibernateFlowEventAction> actions;
+    private final List<HibernateFlowEventDump> dumps;
+    private final Timestamp now;
+
+    FlowEventBatchWork(ObjectMapper mapper, List<HibernateFlowEvent> events, List<HibernateFlowEventAction> actions,
+                       List<HibernateFlowEventDump> dumps, Instant now) {
+        this.mapper = mapper;
+        this.events = events;
+        this.actions = actions;
+        this.dumps = dumps;
+        this.now = Timestamp.from(now);
+    }
+
+    @Override
+    public void execute(Connection connection) throws SQLException {
+        insertEvents(connection);
+        if (actions.isEmpty() && dumps.isEmpty()) {
+            return;
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        actions.forEach(entry -> keys.add(HibernateFlowEvent.makeTaskIdUniqueKey(entry.getTaskId())));
+        dumps.forEach(entry -> keys.add(HibernateFlowEvent.makeTaskIdUniqueKey(entry.getTaskId())));
+        Map<String, Long> eventIds = findEventIds(connection, keys);
+        insertActions(connection, eventIds);
+        insertDumps(connection, eventIds);
+    }
+
+    private void insertEvents(Connection connection) throws SQLException {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        events.forEach(entry -> keys.add(entry.getTaskIdUniqueKey()));
+        Set<String> storedKeys = new HashSet<>(findEventIds(connection, keys).keySet());
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT)) {
+            for (HibernateFlowEvent event : events) {
+                if (!storedKeys.add(event.getTaskIdUniqueKey())) {
+                    log.warn("Skip flow event \"{}\", there is a flow event with the same task id {}",
+                            event.getAction(), event.getTaskId());
+                    continue;
+                }
+                statement.setString(1, event.getFlowId());
+                statement.setString(2, event.getTaskId());
+                statement.setString(3, event.getTaskIdUniqueKey());
+                statement.setString(4, event.getAction());
+                statement.setString(5, toJson(event.getUnstructured()));
+                setTimestamp(statement, 6, event.getTimestamp());
+                statement.setTimestamp(7, now);
+                statement.setTimestamp(8, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertActions(Connection connection, Map<String, Long> eventIds) throws SQLException {
+        if (actions.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ACTION)) {
+            for (HibernateFlowEventAction action : actions) {
+                Long eventId = eventIds.get(HibernateFlowEvent.makeTaskIdUniqueKey(action.getTaskId()));
+                if (eventId == null) {
+                    log.warn("Skip history action \"{}\", there is no flow event for task id {}",
+                            action.getAction(), action.getTaskId());
+                    continue;
+                }
+                statement.setLong(1, eventId);
+                statement.setString(2, action.getAction());
+                statement.setString(3, action.getDetails());
+                setTimestamp(statement, 4, action.getTimestamp());
+                statement.setTimestamp(5, now);
+                statement.setTimestamp(6, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertDumps(Connection connection, Map<String, Long> eventIds) throws SQLException {
+        if (dumps.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_DUMP)) {
+            for (HibernateFlowEventDump dump : dumps) {
+                Long eventId = eventIds.get(HibernateFlowEvent.makeTaskIdUniqueKey(dump.getTaskId()));
+                if (eventId == null) {
+                    log.warn("Skip history dump \"{}\", there is no flow event for task id {}",
+                            dump.getType(), dump.getTaskId());
+                    continue;
+                }
+                statement.setLong(1, eventId);
+                statement.setString(2, dump.getType());
+                statement.setString(3, toJson(dump.getUnstructured()));
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Finds ids of stored events by task id keys. If several events share a task id, the earliest one is taken.
+     */
+    private static Map<String, Long> findEventIds(Connection connection, Set<String> keys) throws SQLException {
+        Map<String, Long> result = new HashMap<>();
+        for (List<String> chunk : Lists.partition(new ArrayList<>(keys), MAX_QUERY_PARAMETERS)) {
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            try (PreparedStatement statement = connection.prepareStatement(
+                    String.format(SELECT_EVENT_IDS, placeholders))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.merge(resultSet.getString(2), resultSet.getLong(1), Math::min);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new PersistenceException(String.format(
+                    "Unable to serialize history payload %s", value.getClass().getName()), e);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, Instant value) throws SQLException {
+        if (value != null) {
+            statement.setTimestamp(index, Timestamp.from(value));
+        } else {
+            statement.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
@@ -23,16 +23,20 @@ import org.openkilda.model.history.FlowEventAction.FlowEventActionCloner;
 import org.openkilda.model.history.FlowEventDump;
 import org.openkilda.model.history.FlowEventDump.FlowEventDumpCloner;
 import org.openkilda.model.history.FlowStatusView;
-import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.hibernate.HibernatePersistenceImplementation;
+import org.openkilda.persistence.hibernate.KildaObjectMapperSupplier;
 import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEvent;
 import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventAction;
 import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventDump;
 import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEvent_;
 import org.openkilda.persistence.repositories.history.FlowEventRepository;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +49,21 @@ import javax.persistence.criteria.Root;
 public class HibernateHistoryFlowEventRepository
         extends HibernateGenericRepository<FlowEvent, FlowEventData, HibernateFlowEvent>
         implements FlowEventRepository {
+    private static final TimePartitionedTable PARTITIONED_TABLE = new TimePartitionedTable(
+            "flow_event", "DELETE FROM flow_event WHERE time_create < ?",
+            new TimePartitionedTable("flow_event_action",
+                    "DELETE a FROM flow_event_action a JOIN flow_event e ON e.id = a.flow_event_id "
+                            + "WHERE e.time_create < ?",
+                    "DELETE a FROM flow_event_action a LEFT JOIN flow_event e ON e.id = a.flow_event_id "
+                            + "WHERE e.id IS NULL AND a.time_create < ?"),
+            new TimePartitionedTable("flow_event_dump",
+                    "DELETE d FROM flow_event_dump d JOIN flow_event e ON e.id = d.flow_event_id "
+                            + "WHERE e.time_create < ?",
+                    "DELETE d FROM flow_event_dump d LEFT JOIN flow_event e ON e.id = d.flow_event_id "
+                            + "WHERE e.id IS NULL AND d.time_create < ?"));
+
+    private final ObjectMapper objectMapper = new KildaObjectMapperSupplier().get();
+
     public HibernateHistoryFlowEventRepository(HibernatePersistenceImplementation implementation) {
         super(implementation);
     }
@@ -84,9 +103,71 @@ public class HibernateHistoryFlowEventRepository
         return results;
     }
 
+    @Override
+    public List<FlowEvent> findPageByFlowIdAndTimeFrame(String flowId, Instant timeFrom, Instant timeTo,
+                                                        HistoryPageCursor after, int pageSize) {
+        return getTransactionManager().doInTransaction(() -> {
+            CriteriaBuilder builder = getSession().getCriteriaBuilder();
+            CriteriaQuery<HibernateFlowEvent> query = builder.createQuery(HibernateFlowEvent.class);
+            Root<HibernateFlowEvent> root = query.from(HibernateFlowEvent.class);
+            List<Predicate> filters = makeQueryFilter(root, flowId, timeFrom, timeTo);
+            if (after != null) {
+                filters.add(builder.or(
+                        builder.greaterThan(root.get(HibernateFlowEvent_.eventTime), after.getTime()),
+                        builder.and(
+                                builder.equal(root.get(HibernateFlowEvent_.eventTime), after.getTime()),
+                                builder.greaterThan(root.get(HibernateFlowEvent_.taskId), after.getKey()))));
+            }
+            query.select(root);
+            query.where(filters.toArray(new Predicate[0]));
+            query.orderBy(
+                    builder.asc(root.get(HibernateFlowEvent_.eventTime)),
+                    builder.asc(root.get(HibernateFlowEvent_.taskId)),
+                    builder.asc(root.get(HibernateFlowEvent_.id)));
+            return getSession().createQuery(query).setMaxResults(pageSize).getResultList().stream()
+                    .map(FlowEvent::new)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public void purgeOlderThan(Instant time) {
+        PARTITIONED_TABLE.purge(implementation.getSessionFactorySupplier().get(), time);
+    }
+
+    @Override
+    public void addUpcomingPartitions() {
+        PARTITIONED_TABLE.addUpcomingPartitions(implementation.getSessionFactorySupplier().get());
+    }
+
+    @Override
+    public void addBatch(Collection<FlowEvent> events, Collection<FlowEventAction> actions,
+                         Collection<FlowEventDump> dumps) {
+        List<HibernateFlowEvent> eventEntities = new ArrayList<>(events.size());
+        List<HibernateFlowEventAction> actionEntities = new ArrayList<>(actions.size());
+        List<HibernateFlowEventDump> dumpEntities = new ArrayList<>(dumps.size());
+        for (FlowEvent entry : events) {
+            FlowEventData view = entry.getData();
+            HibernateFlowEvent entity = new HibernateFlowEvent();
+            FlowEventCloner.INSTANCE.copyWithoutRecordsAndDumps(view, entity);
+            eventEntities.add(entity);
+
+            view.getEventActions().forEach(action -> actionEntities.add(makeActionEntity(action, view.getTaskId())));
+            view.getEventDumps().forEach(dump -> dumpEntities.add(makeDumpEntity(dump, view.getTaskId())));
+        }
+        actions.forEach(entry -> actionEntities.add(makeActionEntity(entry, entry.getTaskId())));
+        dumps.forEach(entry -> dumpEntities.add(makeDumpEntity(entry, entry.getTaskId())));
+
+        FlowEventBatchWork work = new FlowEventBatchWork(
+                objectMapper, eventEntities, actionEntities, dumpEntities, Instant.now());
+        getTransactionManager().doInTransaction(() -> getSession().doWork(work));
+    }
+
     /**
      * Fetch and return hibernate {@link HibernateFlowEvent} entity, dedicated to use by others hibernate repositories.
-     * NOTE: taskId field has no index, but taskIdUniqueKey has, so to find FlowEvent by taskId we will use unique key
+     * NOTE: taskId field has no index, but taskIdUniqueKey has, so to find FlowEvent by taskId we will use this key.
+     * The key index is not unique since the table is partitioned, so if there are several events of the task, the
+     * earliest stored one is returned.
      */
     public Optional<HibernateFlowEvent> findEntityByTaskId(String taskId) {
         String taskIdKey = HibernateFlowEvent.makeTaskIdUniqueKey(taskId);
@@ -95,18 +176,8 @@ public class HibernateHistoryFlowEventRepository
         Root<HibernateFlowEvent> root = query.from(HibernateFlowEvent.class);
         query.select(root);
         query.where(builder.equal(root.get(HibernateFlowEvent_.taskIdUniqueKey), taskIdKey));
-        List<HibernateFlowEvent> results = getSession().createQuery(query).getResultList();
-
-        if (1 < results.size()) {
-            throw new PersistenceException(String.format(
-                    "Unique constraint violation on field %s of %s. %s is %s",
-                    HibernateFlowEvent_.taskId, HibernateFlowEvent.class.getName(),
-                    HibernateFlowEvent_.taskIdUniqueKey, taskIdKey));
-        }
-        if (!results.isEmpty()) {
-            return Optional.of(results.get(0));
-        }
-        return Optional.empty();
+        query.orderBy(builder.asc(root.get(HibernateFlowEvent_.id)));
+        return getSession().createQuery(query).setMaxResults(1).getResultList().stream().findFirst();
     }
 
     @Override
@@ -129,6 +200,20 @@ public class HibernateHistoryFlowEventRepository
         return entity;
     }
 
+    private HibernateFlowEventAction makeActionEntity(FlowEventAction source, String taskId) {
+        HibernateFlowEventAction entity = new HibernateFlowEventAction();
+        FlowEventActionCloner.INSTANCE.copy(source.getData(), entity);
+        entity.setTaskId(taskId);
+        return entity;
+    }
+
+    private HibernateFlowEventDump makeDumpEntity(FlowEventDump source, String taskId) {
+        HibernateFlowEventDump entity = new HibernateFlowEventDump();
+        FlowEventDumpCloner.INSTANCE.copy(source.getData(), entity);
+        entity.setTaskId(taskId);
+        return entity;
+    }
+
     @Override
     protected FlowEventData doDetach(FlowEvent model, HibernateFlowEvent entity) {
         return FlowEventCloner.INSTANCE.deepCopy(entity);
@@ -21,11 +21,13 @@ import org.openkilda.model.history.PortEvent.PortEventData;
 import org.openkilda.persistence.hibernate.HibernatePersistenceImplementation;
 import org.openkilda.persistence.hibernate.entities.history.HibernatePortEvent;
 import org.openkilda.persistence.hibernate.entities.history.HibernatePortEvent_;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 import org.openkilda.persistence.repositories.history.PortEventRepository;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -35,6 +37,9 @@ import javax.persistence.criteria.Root;
 public class HibernateHistoryPortEventRepository
         extends HibernateGenericRepository<PortEvent, PortEventData, HibernatePortEvent>
         implements PortEventRepository {
+    private static final TimePartitionedTable PARTITIONED_TABLE = new TimePartitionedTable(
+            "port_event", "DELETE FROM port_event WHERE time_create < ?");
+
     public HibernateHistoryPortEventRepository(HibernatePersistenceImplementation implementation) {
         super(implementation);
     }
@@ -48,13 +53,61 @@ public class HibernateHistoryPortEventRepository
                         .collect(Collectors.toList()));
     }
 
+    @Override
+    public List<PortEvent> findPageBySwitchIdAndPortNumber(SwitchId switchId, int portNumber, Instant timeFrom,
+                                                           Instant timeTo, HistoryPageCursor after, int pageSize) {
+        return getTransactionManager().doInTransaction(() -> {
+            CriteriaBuilder builder = getSession().getCriteriaBuilder();
+            CriteriaQuery<HibernatePortEvent> query = builder.createQuery(HibernatePortEvent.class);
+            Root<HibernatePortEvent> root = query.from(HibernatePortEvent.class);
+            List<Predicate> filters = makeQueryFilter(root, switchId, portNumber, timeFrom, timeTo);
+            if (after != null) {
+                UUID afterRecordId = UUID.fromString(after.getKey());
+                filters.add(builder.or(
+                        builder.greaterThan(root.get(HibernatePortEvent_.eventTime), after.getTime()),
+                        builder.and(
+                                builder.equal(root.get(HibernatePortEvent_.eventTime), after.getTime()),
+                                builder.greaterThan(root.get(HibernatePortEvent_.recordId), afterRecordId))));
+            }
+            query.select(root);
+            query.where(filters.toArray(new Predicate[0]));
+            query.orderBy(
+                    builder.asc(root.get(HibernatePortEvent_.eventTime)),
+                    builder.asc(root.get(HibernatePortEvent_.recordId)));
+            return getSession().createQuery(query).setMaxResults(pageSize).getResultList().stream()
+                    .map(PortEvent::new)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public void purgeOlderThan(Instant time) {
+        PARTITIONED_TABLE.purge(implementation.getSessionFactorySupplier().get(), time);
+    }
+
+    @Override
+    public void addUpcomingPartitions() {
+        PARTITIONED_TABLE.addUpcomingPartitions(implementation.getSessionFactorySupplier().get());
+    }
+
     private List<HibernatePortEvent> findEntityBySwitchIdAndPortNumber(
             SwitchId switchId, int portNumber, Instant timeFrom, Instant timeTo) {
         CriteriaBuilder builder = getSession().getCriteriaBuilder();
         CriteriaQuery<HibernatePortEvent> query = builder.createQuery(HibernatePortEvent.class);
         Root<HibernatePortEvent> root = query.from(HibernatePortEvent.class);
         query.select(root);
+        query.where(makeQueryFilter(root, switchId, portNumber, timeFrom, timeTo).toArray(new Predicate[0]));
+
+        query.orderBy(
+                builder.asc(root.get(HibernatePortEvent_.eventTime)),
+                builder.asc(root.get(HibernatePortEvent_.recordId)));
+
+        return getSession().createQuery(query).getResultList();
+    }
 
+    private List<Predicate> makeQueryFilter(Root<HibernatePortEvent> root, SwitchId switchId, int portNumber,
+                                            Instant timeFrom, Instant timeTo) {
+        CriteriaBuilder builder = getSession().getCriteriaBuilder();
         List<Predicate> filters = new ArrayList<>(3);
         filters.add(builder.equal(root.get(HibernatePortEvent_.switchId), switchId));
         filters.add(builder.equal(root.get(HibernatePortEvent_.portNumber), portNumber));
@@ -64,13 +117,7 @@ public class HibernateHistoryPortEventRepository
         if (timeTo != null) {
             filters.add(builder.lessThan(root.get(HibernatePortEvent_.eventTime), timeTo));
         }
-        query.where(filters.toArray(new Predicate[0]));
-
-        query.orderBy(
-                builder.asc(root.get(HibernatePortEvent_.eventTime)),
-                builder.asc(root.get(HibernatePortEvent_.recordId)));
-
-        return getSession().createQuery(query).getResultList();
+        return filters;
     }
 
     @Override
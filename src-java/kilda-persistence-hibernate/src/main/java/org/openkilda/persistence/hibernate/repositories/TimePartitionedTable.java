@@ -0,0 +1,278 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.hibernate.repositories;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jdbc.Work;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * History table partitioned by day of the record creation time ({@code time_create} column, UTC). Each partition
+ * {@code p_yyyyMMdd} holds records of one day, and the {@code p_max} partition catches everything after the latest
+ * day partition.
+ * <p/>
+ * Partitions for the upcoming days are prepared ahead of time by splitting {@code p_max}, regardless of whether the
+ * retention is enabled. Retention drops whole partitions, which is much cheaper than deleting rows. If the table is
+ * not partitioned, expired records are deleted by the fallback statement.
+ * <p/>
+ * Partitioned tables can't have foreign keys, so the tables which refer to this one are passed as dependents. They
+ * are purged in the same maintenance step, before this table, and their records left without the referred one (i.e.
+ * records of the expired day written after its end) are deleted by the orphans statement.
+ */
+@Slf4j
+class TimePartitionedTable {
+    static final String MAX_PARTITION = "p_max";
+    static final int PARTITIONS_AHEAD_DAYS = 7;
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p_'yyyyMMdd");
+    private static final String SELECT_PARTITIONS = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL";
+
+    private final String table;
+    private final String fallbackDelete;
+    private final String orphansDelete;
+    private final List<TimePartitionedTable> dependents;
+
+    /**
+     * Constructs the table handler.
+     *
+     * @param table the name of the table.
+     * @param fallbackDelete the statement to delete records created before the time passed as the only parameter.
+     * @param dependents the tables which refer to this one.
+     */
+    TimePartitionedTable(String table, String fallbackDelete, TimePartitionedTable... dependents) {
+        this(table, fallbackDelete, null, dependents);
+    }
+
+    /**
+     * Constructs the handler of a dependent table.
+     *
+     * @param table the name of the table.
+     * @param fallbackDelete the statement to delete records created before the time passed as the only parameter.
+     * @param orphansDelete the statement to delete records created before the time passed as the only parameter,
+     *                      which refer to missing records.
+     */
+    TimePartitionedTable(String table, String fallbackDelete, String orphansDelete) {
+        this(table, fallbackDelete, orphansDelete, new TimePartitionedTable[0]);
+    }
+
+    private TimePartitionedTable(String table, String fallbackDelete, String orphansDelete,
+                                 TimePartitionedTable[] dependents) {
+        this.table = table;
+        this.fallbackDelete = fallbackDelete;
+        this.orphansDelete = orphansDelete;
+        this.dependents = Arrays.asList(dependents);
+    }
+
+    /**
+     * Removes records created before the specified time from the table and its dependents. The maintenance runs in
+     * a separate session out of any transaction, because MySQL commits partitioning statements implicitly.
+     */
+    void purge(SessionFactory sessionFactory, Instant purgeBefore) {
+        runMaintenance(sessionFactory, connection -> purge(connection, purgeBefore));
+    }
+
+    /**
+     * Adds partitions for the upcoming days into the table and its dependents, without removing any records.
+     */
+    void addUpcomingPartitions(SessionFactory sessionFactory) {
+        runMaintenance(sessionFactory, this::addUpcomingPartitions);
+    }
+
+    void addUpcomingPartitions(Connection connection) throws SQLException {
+        LocalDate until = toDate(Instant.now()).plusDays(PARTITIONS_AHEAD_DAYS);
+        for (TimePartitionedTable dependent : dependents) {
+            dependent.addMissing(connection, dependent.findPartitions(connection), until);
+        }
+        addMissing(connection, findPartitions(connection), until);
+    }
+
+    private void runMaintenance(SessionFactory sessionFactory, Work work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.doWork(connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(true);
+                try {
+                    work.execute(connection);
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes records created before the specified time. Partitions are dropped only if all their records are
+     * expired, so records of the last partially expired day stay until the next run. Dependent tables are purged
+     * first, so a failure can't leave their records without the referred ones.
+     */
+    void purge(Connection connection, Instant purgeBefore) throws SQLException {
+        List<List<String>> dependentsPartitions = new ArrayList<>(dependents.size());
+        for (TimePartitionedTable dependent : dependents) {
+            dependentsPartitions.add(dependent.dropExpired(connection, purgeBefore));
+        }
+        List<String> partitions = dropExpired(connection, purgeBefore);
+
+        LocalDate until = toDate(Instant.now()).plusDays(PARTITIONS_AHEAD_DAYS);
+        for (int i = 0; i < dependents.size(); i++) {
+            TimePartitionedTable dependent = dependents.get(i);
+            if (!dependentsPartitions.get(i).isEmpty()) {
+                dependent.deleteOrphans(connection, toDate(purgeBefore).plusDays(1));
+                dependent.addMissing(connection, dependentsPartitions.get(i), until);
+            }
+        }
+        addMissing(connection, partitions, until);
+    }
+
+    /**
+     * Drops expired partitions or deletes expired records of not partitioned table.
+     *
+     * @return partitions of the table as they were before the drop, or an empty list if the table is not
+     *         partitioned.
+     */
+    private List<String> dropExpired(Connection connection, Instant purgeBefore) throws SQLException {
+        List<String> partitions = findPartitions(connection);
+        if (partitions.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(fallbackDelete)) {
+                statement.setTimestamp(1, Timestamp.from(purgeBefore));
+                int count = statement.executeUpdate();
+                log.info("Removed {} expired records from not partitioned table {}", count, table);
+            }
+            return partitions;
+        }
+
+        List<String> expired = findExpiredPartitions(partitions, toDate(purgeBefore));
+        if (!expired.isEmpty()) {
+            log.info("Drop expired partitions {} of table {}", expired, table);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(String.format("ALTER TABLE %s DROP PARTITION %s", table, String.join(", ", expired)));
+            }
+        }
+        return partitions;
+    }
+
+    private void deleteOrphans(Connection connection, LocalDate createdBefore) throws SQLException {
+        if (orphansDelete == null) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(orphansDelete)) {
+            statement.setTimestamp(1, Timestamp.from(createdBefore.atStartOfDay(ZoneOffset.UTC).toInstant()));
+            int count = statement.executeUpdate();
+            if (count > 0) {
+                log.info("Removed {} orphaned records from table {}", count, table);
+            }
+        }
+    }
+
+    private void addMissing(Connection connection, List<String> partitions, LocalDate until) throws SQLException {
+        if (partitions.isEmpty()) {
+            // not partitioned
+            return;
+        }
+        List<LocalDate> missing = findMissingPartitions(partitions, until);
+        if (!missing.isEmpty()) {
+            log.info("Add partitions from {} to {} into table {}", missing.get(0), until, table);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(makeAddPartitionsStatement(table, missing));
+            }
+        }
+    }
+
+    private List<String> findPartitions(Connection connection) throws SQLException {
+        List<String> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_PARTITIONS)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString(1));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds day partitions which hold only records created before the specified day.
+     */
+    static List<String> findExpiredPartitions(Collection<String> partitions, LocalDate purgeBefore) {
+        return partitions.stream()
+                .filter(name -> parseDay(name).map(day -> day.isBefore(purgeBefore)).orElse(false))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds days up to the specified one (inclusive) which have no partition yet. New partitions can be added only
+     * after the latest existing one.
+     */
+    static List<LocalDate> findMissingPartitions(Collection<String> partitions, LocalDate until) {
+        LocalDate latest = partitions.stream()
+                .map(TimePartitionedTable::parseDay)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        LocalDate day = latest != null ? latest.plusDays(1) : until.minusDays(PARTITIONS_AHEAD_DAYS);
+
+        List<LocalDate> result = new ArrayList<>();
+        for (; !day.isAfter(until); day = day.plusDays(1)) {
+            result.add(day);
+        }
+        return result;
+    }
+
+    static String makeAddPartitionsStatement(String table, List<LocalDate> days) {
+        StringBuilder statement = new StringBuilder(String.format(
+                "ALTER TABLE %s REORGANIZE PARTITION %s INTO (", table, MAX_PARTITION));
+        for (LocalDate day : days) {
+            statement.append(String.format("PARTITION %s VALUES LESS THAN ('%s 00:00:00'), ",
+                    PARTITION_NAME_FORMAT.format(day), day.plusDays(1)));
+        }
+        statement.append(String.format("PARTITION %s VALUES LESS THAN (MAXVALUE))", MAX_PARTITION));
+        return statement.toString();
+    }
+
+    private static Optional<LocalDate> parseDay(String partition) {
+        try {
+            return Optional.of(LocalDate.parse(partition, PARTITION_NAME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static LocalDate toDate(Instant time) {
+        return time.atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+}
@@ -0,0 +1,202 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.hibernate.repositories;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.persistence.hibernate.KildaObjectMapperSupplier;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEvent;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventAction;
+import org.openkilda.persistence.hibernate.entities.history.HibernateFlowEventDump;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class FlowEventBatchWorkTest {
+    private static final String FLOW_1 = "FLOW_1";
+    private static final String FLOW_2 = "FLOW_2";
+    private static final String TASK_1 = "TASK_1";
+    private static final String TASK_2 = "TASK_2";
+    private static final Instant TIME = Instant.parse("2022-05-01T10:00:00Z");
+
+    private final ObjectMapper mapper = new KildaObjectMapperSupplier().get();
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:history;MODE=MySQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE flow_event (id INT AUTO_INCREMENT PRIMARY KEY, flow_id TEXT NOT NULL, "
+                    + "task_id TEXT NOT NULL, task_id_unique_key VARCHAR(100) NOT NULL, action TEXT NOT NULL, "
+                    + "unstructured TEXT NOT NULL, time_create DATETIME(3) NOT NULL, time_modify DATETIME(3), "
+                    + "event_time DATETIME(3))");
+            statement.execute("CREATE TABLE flow_event_action (id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "flow_event_id INT NOT NULL REFERENCES flow_event(id), action TEXT NOT NULL, details TEXT, "
+                    + "time_create DATETIME(3) NOT NULL, time_modify DATETIME(3), event_time DATETIME(3))");
+            statement.execute("CREATE TABLE flow_event_dump (id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "flow_event_id INT NOT NULL REFERENCES flow_event(id), kind TEXT NOT NULL, "
+                    + "unstructured TEXT NOT NULL, time_create DATETIME(3) NOT NULL, time_modify DATETIME(3))");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void shouldInsertEventsWithActionsAndDumps() throws SQLException {
+        List<HibernateFlowEventAction> actions = new ArrayList<>();
+        actions.add(buildAction(TASK_1, "first"));
+        actions.add(buildAction(TASK_2, "second"));
+        actions.add(buildAction(TASK_1, "third"));
+
+        new FlowEventBatchWork(mapper, buildEvents(buildEvent(FLOW_1, TASK_1), buildEvent(FLOW_2, TASK_2)),
+                actions, Collections.singletonList(buildDump(TASK_2, "stateBefore")), TIME).execute(connection);
+
+        assertEquals(2, count("flow_event"));
+        assertEquals(3, count("flow_event_action"));
+        assertEquals(1, count("flow_event_dump"));
+
+        List<String> flowActions = findActions(FLOW_1);
+        assertEquals(2, flowActions.size());
+        assertEquals("first", flowActions.get(0));
+        assertEquals("third", flowActions.get(1));
+        assertEquals(Collections.singletonList("second"), findActions(FLOW_2));
+    }
+
+    @Test
+    public void shouldBindActionsToPreviouslyStoredEvent() throws SQLException {
+        new FlowEventBatchWork(mapper, buildEvents(buildEvent(FLOW_1, TASK_1)),
+                Collections.emptyList(), Collections.emptyList(), TIME).execute(connection);
+        new FlowEventBatchWork(mapper, Collections.emptyList(),
+                Collections.singletonList(buildAction(TASK_1, "late")),
+                Collections.singletonList(buildDump(TASK_1, "stateAfter")), TIME).execute(connection);
+
+        assertEquals(Collections.singletonList("late"), findActions(FLOW_1));
+        assertEquals(1, count("flow_event_dump"));
+    }
+
+    @Test
+    public void shouldSkipAlreadyStoredEvents() throws SQLException {
+        new FlowEventBatchWork(mapper, buildEvents(buildEvent(FLOW_1, TASK_1)),
+                Collections.emptyList(), Collections.emptyList(), TIME).execute(connection);
+        new FlowEventBatchWork(mapper, buildEvents(buildEvent(FLOW_1, TASK_1), buildEvent(FLOW_2, TASK_2),
+                buildEvent(FLOW_2, TASK_2)), Collections.singletonList(buildAction(TASK_1, "redelivered")),
+                Collections.emptyList(), TIME).execute(connection);
+
+        assertEquals(2, count("flow_event"));
+        assertEquals(Collections.singletonList("redelivered"), findActions(FLOW_1));
+    }
+
+    @Test
+    public void shouldSkipActionsWithoutEvent() throws SQLException {
+        List<HibernateFlowEventAction> actions = new ArrayList<>();
+        actions.add(buildAction(TASK_1, "bound"));
+        actions.add(buildAction(TASK_2, "orphan"));
+
+        new FlowEventBatchWork(mapper, buildEvents(buildEvent(FLOW_1, TASK_1)),
+                actions, Collections.singletonList(buildDump(TASK_2, "orphan")), TIME).execute(connection);
+
+        assertEquals(Collections.singletonList("bound"), findActions(FLOW_1));
+        assertEquals(1, count("flow_event_action"));
+        assertEquals(0, count("flow_event_dump"));
+    }
+
+    @Test
+    public void shouldResolveEventsBeyondQueryParametersLimit() throws SQLException {
+        int size = FlowEventBatchWork.MAX_QUERY_PARAMETERS + 10;
+        List<HibernateFlowEvent> events = new ArrayList<>();
+        List<HibernateFlowEventAction> actions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            events.add(buildEvent(FLOW_1, TASK_1 + i));
+            actions.add(buildAction(TASK_1 + i, "action" + i));
+        }
+
+        new FlowEventBatchWork(mapper, events, actions, Collections.emptyList(), TIME).execute(connection);
+
+        assertEquals(size, count("flow_event"));
+        assertEquals(size, count("flow_event_action"));
+    }
+
+    private int count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private List<String> findActions(String flowId) throws SQLException {
+        List<String> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT a.action FROM flow_event_action a "
+                + "JOIN flow_event e ON a.flow_event_id = e.id WHERE e.flow_id = ? ORDER BY a.id")) {
+            statement.setString(1, flowId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString(1));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<HibernateFlowEvent> buildEvents(HibernateFlowEvent... events) {
+        List<HibernateFlowEvent> result = new ArrayList<>();
+        Collections.addAll(result, events);
+        return result;
+    }
+
+    private static HibernateFlowEvent buildEvent(String flowId, String taskId) {
+        HibernateFlowEvent event = new HibernateFlowEvent();
+        event.setFlowId(flowId);
+        event.setTaskId(taskId);
+        event.setAction("Flow creating");
+        event.setActor("test");
+        event.setTimestamp(TIME);
+        return event;
+    }
+
+    private static HibernateFlowEventAction buildAction(String taskId, String action) {
+        HibernateFlowEventAction entity = new HibernateFlowEventAction();
+        entity.setTaskId(taskId);
+        entity.setAction(action);
+        entity.setDetails(action + " details");
+        entity.setTimestamp(TIME);
+        return entity;
+    }
+
+    private static HibernateFlowEventDump buildDump(String taskId, String type) {
+        HibernateFlowEventDump entity = new HibernateFlowEventDump();
+        entity.setTaskId(taskId);
+        entity.setType(type);
+        entity.setFlowId(FLOW_1);
+        return entity;
+    }
+}
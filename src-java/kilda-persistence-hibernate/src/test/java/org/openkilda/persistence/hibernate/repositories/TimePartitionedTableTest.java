@@ -0,0 +1,68 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.hibernate.repositories;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TimePartitionedTableTest {
+    private static final LocalDate DAY = LocalDate.parse("2022-05-01");
+
+    @Test
+    public void shouldFindExpiredPartitions() {
+        List<String> partitions = Arrays.asList("p_20220502", "p_20220430", "p_20220501", "p_20220429", "p_max");
+
+        assertEquals(Arrays.asList("p_20220429", "p_20220430"),
+                TimePartitionedTable.findExpiredPartitions(partitions, DAY));
+        assertEquals(Collections.emptyList(),
+                TimePartitionedTable.findExpiredPartitions(partitions, DAY.minusDays(10)));
+    }
+
+    @Test
+    public void shouldFindMissingPartitionsAfterLatestOne() {
+        List<String> partitions = Arrays.asList("p_20220430", "p_20220501", "p_max");
+
+        assertEquals(Arrays.asList(DAY.plusDays(1), DAY.plusDays(2)),
+                TimePartitionedTable.findMissingPartitions(partitions, DAY.plusDays(2)));
+        assertEquals(Collections.emptyList(),
+                TimePartitionedTable.findMissingPartitions(partitions, DAY));
+    }
+
+    @Test
+    public void shouldFindMissingPartitionsOfNotSplitTable() {
+        List<LocalDate> missing = TimePartitionedTable.findMissingPartitions(
+                Collections.singletonList(TimePartitionedTable.MAX_PARTITION), DAY);
+
+        assertEquals(TimePartitionedTable.PARTITIONS_AHEAD_DAYS + 1, missing.size());
+        assertEquals(DAY.minusDays(TimePartitionedTable.PARTITIONS_AHEAD_DAYS), missing.get(0));
+        assertEquals(DAY, missing.get(missing.size() - 1));
+    }
+
+    @Test
+    public void shouldMakeAddPartitionsStatement() {
+        assertEquals("ALTER TABLE port_event REORGANIZE PARTITION p_max INTO ("
+                        + "PARTITION p_20220501 VALUES LESS THAN ('2022-05-02 00:00:00'), "
+                        + "PARTITION p_20220502 VALUES LESS THAN ('2022-05-03 00:00:00'), "
+                        + "PARTITION p_max VALUES LESS THAN (MAXVALUE))",
+                TimePartitionedTable.makeAddPartitionsStatement("port_event", Arrays.asList(DAY, DAY.plusDays(1))));
+    }
+}
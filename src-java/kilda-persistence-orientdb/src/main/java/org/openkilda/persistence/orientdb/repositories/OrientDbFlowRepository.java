@@ -17,20 +17,45 @@ package org.openkilda.persistence.orientdb.repositories;
 
 import static java.lang.String.format;
 
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.ferma.frames.FlowFrame;
+import org.openkilda.persistence.ferma.frames.PathSegmentFrame;
+import org.openkilda.persistence.ferma.frames.converters.PathIdConverter;
+import org.openkilda.persistence.ferma.frames.converters.SwitchIdConverter;
 import org.openkilda.persistence.ferma.repositories.FermaFlowRepository;
 import org.openkilda.persistence.orientdb.OrientDbPersistenceImplementation;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.FlowRepository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.tinkerpop.gremlin.orientdb.executor.OGremlinResult;
 import org.apache.tinkerpop.gremlin.orientdb.executor.OGremlinResultSet;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * OrientDB implementation of {@link FlowRepository}.
  */
 @Slf4j
 public class OrientDbFlowRepository extends FermaFlowRepository {
+    private static final String QUERY_FETCH_SEGMENTS_BY_PATHS =
+            format("SELECT %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s FROM %s WHERE %s IN ?",
+                    PathSegmentFrame.PATH_ID_PROPERTY,
+                    PathSegmentFrame.SRC_SWITCH_ID_PROPERTY, PathSegmentFrame.SRC_PORT_PROPERTY,
+                    PathSegmentFrame.DST_SWITCH_ID_PROPERTY, PathSegmentFrame.DST_PORT_PROPERTY,
+                    PathSegmentFrame.SRC_W_MULTI_TABLE_PROPERTY, PathSegmentFrame.DST_W_MULTI_TABLE_PROPERTY,
+                    PathSegmentFrame.SEQ_ID_PROPERTY, PathSegmentFrame.LATENCY_PROPERTY,
+                    PathSegmentFrame.BANDWIDTH_PROPERTY, PathSegmentFrame.IGNORE_BANDWIDTH_PROPERTY,
+                    PathSegmentFrame.FAILED_PROPERTY, PathSegmentFrame.SHARED_BANDWIDTH_GROUP_ID_PROPERTY,
+                    PathSegmentFrame.FRAME_LABEL, PathSegmentFrame.PATH_ID_PROPERTY);
+
     private final GraphSupplier graphSupplier;
 
     OrientDbFlowRepository(
@@ -48,4 +73,41 @@ public class OrientDbFlowRepository extends FermaFlowRepository {
             return results.iterator().hasNext();
         }
     }
+
+    @Override
+    protected Map<PathId, List<PathSegment>> findSegmentsByPathIds(Set<String> graphPathIds) {
+        Map<PathId, List<PathSegment>> result = new HashMap<>();
+        try (OGremlinResultSet results = graphSupplier.get().querySql(
+                QUERY_FETCH_SEGMENTS_BY_PATHS, new ArrayList<>(graphPathIds))) {
+            results.forEach(gs -> {
+                PathSegment segment = mapToPathSegment(gs);
+                result.computeIfAbsent(segment.getPathId(), ignore -> new ArrayList<>()).add(segment);
+            });
+        }
+        return result;
+    }
+
+    private PathSegment mapToPathSegment(OGremlinResult gs) {
+        SwitchId srcSwitchId = SwitchIdConverter.INSTANCE.toEntityAttribute(
+                gs.getProperty(PathSegmentFrame.SRC_SWITCH_ID_PROPERTY));
+        SwitchId dstSwitchId = SwitchIdConverter.INSTANCE.toEntityAttribute(
+                gs.getProperty(PathSegmentFrame.DST_SWITCH_ID_PROPERTY));
+        Number latency = gs.getProperty(PathSegmentFrame.LATENCY_PROPERTY);
+        Number bandwidth = gs.getProperty(PathSegmentFrame.BANDWIDTH_PROPERTY);
+        return PathSegment.builder()
+                .pathId(PathIdConverter.INSTANCE.toEntityAttribute(gs.getProperty(PathSegmentFrame.PATH_ID_PROPERTY)))
+                .srcSwitch(Switch.builder().switchId(srcSwitchId).build())
+                .srcPort(gs.getProperty(PathSegmentFrame.SRC_PORT_PROPERTY))
+                .destSwitch(Switch.builder().switchId(dstSwitchId).build())
+                .destPort(gs.getProperty(PathSegmentFrame.DST_PORT_PROPERTY))
+                .srcWithMultiTable(Boolean.TRUE.equals(gs.getProperty(PathSegmentFrame.SRC_W_MULTI_TABLE_PROPERTY)))
+                .destWithMultiTable(Boolean.TRUE.equals(gs.getProperty(PathSegmentFrame.DST_W_MULTI_TABLE_PROPERTY)))
+                .seqId(gs.getProperty(PathSegmentFrame.SEQ_ID_PROPERTY))
+                .latency(latency != null ? latency.longValue() : null)
+                .bandwidth(bandwidth != null ? bandwidth.longValue() : 0)
+                .ignoreBandwidth(Boolean.TRUE.equals(gs.getProperty(PathSegmentFrame.IGNORE_BANDWIDTH_PROPERTY)))
+                .failed(Boolean.TRUE.equals(gs.getProperty(PathSegmentFrame.FAILED_PROPERTY)))
+                .sharedBandwidthGroupId(gs.getProperty(PathSegmentFrame.SHARED_BANDWIDTH_GROUP_ID_PROPERTY))
+                .build();
+    }
 }
@@ -31,16 +31,17 @@ public abstract class PortEventFrame extends KildaBaseVertexFrame implements Por
     public static final String SWITCH_ID_PROPERTY = "switch_id";
     public static final String PORT_NUMBER_PROPERTY = "port_number";
     public static final String TIME_PROPERTY = "time";
+    public static final String RECORD_ID_PROPERTY = "id";
 
     @Override
     public UUID getRecordId() {
-        String id = getProperty("id");
+        String id = getProperty(RECORD_ID_PROPERTY);
         return id != null ? UUID.fromString(id) : null;
     }
 
     @Override
     public void setRecordId(UUID id) {
-        setProperty("id", id != null ? id.toString() : null);
+        setProperty(RECORD_ID_PROPERTY, id != null ? id.toString() : null);
     }
 
     @Override
@@ -18,21 +18,27 @@ package org.openkilda.persistence.ferma.repositories;
 import org.openkilda.model.history.FlowEvent;
 import org.openkilda.model.history.FlowEvent.FlowEventData;
 import org.openkilda.model.history.FlowEventAction;
+import org.openkilda.model.history.FlowEventDump;
 import org.openkilda.model.history.FlowStatusView;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.ferma.FermaPersistentImplementation;
+import org.openkilda.persistence.ferma.frames.FlowEventActionFrame;
+import org.openkilda.persistence.ferma.frames.FlowEventDumpFrame;
 import org.openkilda.persistence.ferma.frames.FlowEventFrame;
 import org.openkilda.persistence.ferma.frames.KildaBaseVertexFrame;
 import org.openkilda.persistence.ferma.frames.converters.InstantLongConverter;
 import org.openkilda.persistence.repositories.history.FlowEventRepository;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -43,8 +49,13 @@ import java.util.stream.Collectors;
  */
 public class FermaFlowEventRepository extends FermaGenericRepository<FlowEvent, FlowEventData, FlowEventFrame>
         implements FlowEventRepository {
+    private final FermaFlowEventActionRepository flowEventActionRepository;
+    private final FermaFlowEventDumpRepository flowEventDumpRepository;
+
     public FermaFlowEventRepository(FermaPersistentImplementation implementation) {
         super(implementation);
+        flowEventActionRepository = new FermaFlowEventActionRepository(implementation);
+        flowEventDumpRepository = new FermaFlowEventDumpRepository(implementation);
     }
 
     @Override
@@ -115,6 +126,62 @@ public class FermaFlowEventRepository extends FermaGenericRepository<FlowEvent,
         return statuses;
     }
 
+    @Override
+    public List<FlowEvent> findPageByFlowIdAndTimeFrame(String flowId, Instant timeFrom, Instant timeTo,
+                                                        HistoryPageCursor after, int pageSize) {
+        return framedGraph().traverse(g -> {
+            GraphTraversal<Vertex, Vertex> traversal = g.V()
+                    .hasLabel(FlowEventFrame.FRAME_LABEL)
+                    .has(FlowEventFrame.FLOW_ID_PROPERTY, flowId);
+            if (timeFrom != null) {
+                traversal = traversal.has(FlowEventFrame.TIMESTAMP_PROPERTY,
+                        P.gte(InstantLongConverter.INSTANCE.toGraphProperty(timeFrom)));
+            }
+            if (timeTo != null) {
+                traversal = traversal.has(FlowEventFrame.TIMESTAMP_PROPERTY,
+                        P.lt(InstantLongConverter.INSTANCE.toGraphProperty(timeTo)));
+            }
+            if (after != null) {
+                Long afterTime = InstantLongConverter.INSTANCE.toGraphProperty(after.getTime());
+                traversal = traversal.or(
+                        __.has(FlowEventFrame.TIMESTAMP_PROPERTY, P.gt(afterTime)),
+                        __.has(FlowEventFrame.TIMESTAMP_PROPERTY, afterTime)
+                                .has(FlowEventFrame.TASK_ID_PROPERTY, P.gt(after.getKey())));
+            }
+            return traversal
+                    .order()
+                    .by(FlowEventFrame.TIMESTAMP_PROPERTY, Order.incr)
+                    .by(FlowEventFrame.TASK_ID_PROPERTY, Order.incr)
+                    .limit(pageSize);
+        }).toListExplicit(FlowEventFrame.class).stream()
+                .map(FlowEvent::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void purgeOlderThan(Instant time) {
+        getTransactionManager().doInTransaction(() -> framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowEventFrame.FRAME_LABEL)
+                .has(FlowEventFrame.TIMESTAMP_PROPERTY, P.lt(InstantLongConverter.INSTANCE.toGraphProperty(time))))
+                .toListExplicit(FlowEventFrame.class)
+                .forEach(this::removeWithActionsAndDumps));
+    }
+
+    @Override
+    public void addUpcomingPartitions() {
+        // The graph storage isn't partitioned.
+    }
+
+    @Override
+    public void addBatch(Collection<FlowEvent> events, Collection<FlowEventAction> actions,
+                         Collection<FlowEventDump> dumps) {
+        getTransactionManager().doInTransaction(() -> {
+            events.forEach(this::add);
+            actions.forEach(flowEventActionRepository::add);
+            dumps.forEach(flowEventDumpRepository::add);
+        });
+    }
+
     @Override
     protected FlowEventFrame doAdd(FlowEventData data) {
         FlowEventFrame frame = KildaBaseVertexFrame.addNewFramedVertex(framedGraph(), FlowEventFrame.FRAME_LABEL,
@@ -123,6 +190,20 @@ public class FermaFlowEventRepository extends FermaGenericRepository<FlowEvent,
         return frame;
     }
 
+    private void removeWithActionsAndDumps(FlowEventFrame frame) {
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowEventActionFrame.FRAME_LABEL)
+                .has(FlowEventActionFrame.TASK_ID_PROPERTY, frame.getTaskId()))
+                .toListExplicit(FlowEventActionFrame.class)
+                .forEach(FlowEventActionFrame::remove);
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowEventDumpFrame.FRAME_LABEL)
+                .has(FlowEventDumpFrame.TASK_ID_PROPERTY, frame.getTaskId()))
+                .toListExplicit(FlowEventDumpFrame.class)
+                .forEach(FlowEventDumpFrame::remove);
+        frame.remove();
+    }
+
     @Override
     protected void doRemove(FlowEventFrame frame) {
         frame.remove();
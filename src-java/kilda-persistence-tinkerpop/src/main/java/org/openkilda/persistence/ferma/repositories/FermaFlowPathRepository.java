@@ -400,6 +400,32 @@ public class FermaFlowPathRepository extends FermaGenericRepository<FlowPath, Fl
         }
     }
 
+    /**
+     * Gets the bandwidth taken over the ISL by the shared bandwidth group, without segments of the excluded path.
+     */
+    protected long getSharedBandwidthGroupUsageBetweenEndpoints(FramedGraph framedGraph, String srcSwitchId,
+                                                                int srcPort, String dstSwitchId, int dstPort,
+                                                                String sharedBandwidthGroupId, String excludedPathId) {
+        try (GraphTraversal<?, ?> traversal = framedGraph.traverse(g -> g.V()
+                .hasLabel(PathSegmentFrame.FRAME_LABEL)
+                .has(PathSegmentFrame.SRC_SWITCH_ID_PROPERTY, srcSwitchId)
+                .has(PathSegmentFrame.DST_SWITCH_ID_PROPERTY, dstSwitchId)
+                .has(PathSegmentFrame.SRC_PORT_PROPERTY, srcPort)
+                .has(PathSegmentFrame.DST_PORT_PROPERTY, dstPort)
+                .has(PathSegmentFrame.IGNORE_BANDWIDTH_PROPERTY, false)
+                .has(PathSegmentFrame.SHARED_BANDWIDTH_GROUP_ID_PROPERTY, sharedBandwidthGroupId)
+                .has(PathSegmentFrame.PATH_ID_PROPERTY, P.neq(excludedPathId))
+                .values(PathSegmentFrame.BANDWIDTH_PROPERTY)
+                .max())
+                .getRawTraversal()) {
+            // max() of no values may produce a non positive placeholder, depending on the graph implementation.
+            return traversal.tryNext()
+                    .map(l -> Math.max(0L, ((Number) l).longValue())).orElse(0L);
+        } catch (Exception e) {
+            throw new PersistenceException("Failed to traverse", e);
+        }
+    }
+
     @Override
     public Optional<FlowPath> remove(PathId pathId) {
         TransactionManager transactionManager = getTransactionManager();
@@ -15,18 +15,29 @@
 
 package org.openkilda.persistence.ferma.repositories;
 
+import static java.lang.String.format;
+
 import org.openkilda.model.Flow;
 import org.openkilda.model.Flow.FlowData;
 import org.openkilda.model.FlowFilter;
+import org.openkilda.model.FlowMirrorPoints;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.FlowStatus;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.ferma.FermaPersistentImplementation;
 import org.openkilda.persistence.ferma.frames.FlowFrame;
+import org.openkilda.persistence.ferma.frames.FlowMirrorPointsFrame;
 import org.openkilda.persistence.ferma.frames.FlowPathFrame;
 import org.openkilda.persistence.ferma.frames.KildaBaseVertexFrame;
+import org.openkilda.persistence.ferma.frames.PathSegmentFrame;
+import org.openkilda.persistence.ferma.frames.SwitchFrame;
+import org.openkilda.persistence.ferma.frames.YSubFlowFrame;
 import org.openkilda.persistence.ferma.frames.converters.FlowStatusConverter;
+import org.openkilda.persistence.ferma.frames.converters.PathIdConverter;
 import org.openkilda.persistence.ferma.frames.converters.SwitchIdConverter;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.FlowRepository;
@@ -39,7 +50,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -82,6 +96,13 @@ public class FermaFlowRepository extends FermaGenericRepository<Flow, FlowData,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<Flow> findAllWithPaths() {
+        return fetchWithPaths(framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowFrame.FRAME_LABEL))
+                .toListExplicit(FlowFrame.class));
+    }
+
     @Override
     public boolean exists(String flowId) {
         try (GraphTraversal<?, ?> traversal = framedGraph().traverse(g -> g.V()
@@ -294,6 +315,44 @@ public class FermaFlowRepository extends FermaGenericRepository<Flow, FlowData,
         return result.values();
     }
 
+    @Override
+    public Collection<Flow> findByEndpointSwitchWithPaths(SwitchId switchId) {
+        String switchIdAsStr = SwitchIdConverter.INSTANCE.toGraphProperty(switchId);
+        Map<String, FlowFrame> flowFrames = new HashMap<>();
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowFrame.FRAME_LABEL)
+                .has(FlowFrame.SRC_SWITCH_ID_PROPERTY, switchIdAsStr))
+                .frameExplicit(FlowFrame.class)
+                .forEachRemaining(frame -> flowFrames.put(frame.getFlowId(), frame));
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowFrame.FRAME_LABEL)
+                .has(FlowFrame.DST_SWITCH_ID_PROPERTY, switchIdAsStr))
+                .frameExplicit(FlowFrame.class)
+                .forEachRemaining(frame -> flowFrames.put(frame.getFlowId(), frame));
+        return fetchWithPaths(flowFrames.values());
+    }
+
+    @Override
+    public Collection<Flow> findByPathIdsWithPaths(Set<PathId> pathIds) {
+        Set<String> graphPathIds = pathIds.stream()
+                .map(PathIdConverter.INSTANCE::toGraphProperty)
+                .collect(Collectors.toSet());
+        Set<String> flowIds = new HashSet<>();
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowPathFrame.FRAME_LABEL)
+                .has(FlowPathFrame.PATH_ID_PROPERTY, P.within(graphPathIds))
+                .values(FlowPathFrame.FLOW_ID_PROPERTY))
+                .getRawTraversal().toStream()
+                .forEach(i -> flowIds.add((String) i));
+        if (flowIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return fetchWithPaths(framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowFrame.FRAME_LABEL)
+                .has(FlowFrame.FLOW_ID_PROPERTY, P.within(flowIds)))
+                .toListExplicit(FlowFrame.class));
+    }
+
     @Override
     public Collection<Flow> findByEndpointSwitchAndOuterVlan(SwitchId switchId, int vlan) {
         Map<String, Flow> result = new HashMap<>();
@@ -593,6 +652,152 @@ public class FermaFlowRepository extends FermaGenericRepository<Flow, FlowData,
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Builds detached flows along with their paths, path segments and switches. Each kind of the related entities
+     * is fetched by a single set-based query, so the number of round trips doesn't depend on the number of flows.
+     * <p/>
+     * Flow mirror points are attached to the detached paths as is, i.e. they remain bound to the persistence layer.
+     */
+    protected Collection<Flow> fetchWithPaths(Collection<? extends FlowFrame> flowFrames) {
+        if (flowFrames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> flowIds = flowFrames.stream()
+                .map(FlowFrame::getFlowId)
+                .collect(Collectors.toSet());
+        List<? extends FlowPathFrame> pathFrames = framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowPathFrame.FRAME_LABEL)
+                .has(FlowPathFrame.FLOW_ID_PROPERTY, P.within(flowIds)))
+                .toListExplicit(FlowPathFrame.class);
+        Set<String> graphPathIds = pathFrames.stream()
+                .map(frame -> PathIdConverter.INSTANCE.toGraphProperty(frame.getPathId()))
+                .collect(Collectors.toSet());
+        Map<PathId, List<PathSegment>> segments = graphPathIds.isEmpty()
+                ? Collections.emptyMap() : findSegmentsByPathIds(graphPathIds);
+
+        Set<SwitchId> switchIds = new HashSet<>();
+        flowFrames.forEach(frame -> {
+            switchIds.add(frame.getSrcSwitchId());
+            switchIds.add(frame.getDestSwitchId());
+        });
+        pathFrames.forEach(frame -> {
+            switchIds.add(frame.getSrcSwitchId());
+            switchIds.add(frame.getDestSwitchId());
+        });
+        segments.values().forEach(pathSegments -> pathSegments.forEach(segment -> {
+            switchIds.add(segment.getSrcSwitchId());
+            switchIds.add(segment.getDestSwitchId());
+        }));
+        Map<SwitchId, Switch> switches = findDetachedSwitches(switchIds);
+        Map<PathId, List<FlowMirrorPoints>> mirrorPoints = graphPathIds.isEmpty()
+                ? Collections.emptyMap() : findMirrorPointsByPathIds(graphPathIds);
+        Map<String, String> yFlowIds = findYFlowIdsBySubFlowIds(flowIds);
+
+        Map<String, List<FlowPath>> paths = new HashMap<>();
+        for (FlowPathFrame pathFrame : pathFrames) {
+            FlowPath path = FlowPath.builder()
+                    .pathId(pathFrame.getPathId())
+                    .srcSwitch(getSwitch(switches, pathFrame.getSrcSwitchId()))
+                    .destSwitch(getSwitch(switches, pathFrame.getDestSwitchId()))
+                    .build();
+            FlowPath.FlowPathCloner.INSTANCE.copyWithoutSwitchesAndSegments(pathFrame, path.getData());
+
+            List<PathSegment> pathSegments = new ArrayList<>(
+                    segments.getOrDefault(path.getPathId(), Collections.emptyList()));
+            pathSegments.sort(Comparator.comparingInt(PathSegment::getSeqId));
+            pathSegments.forEach(segment -> {
+                segment.setSrcSwitch(getSwitch(switches, segment.getSrcSwitchId()));
+                segment.setDestSwitch(getSwitch(switches, segment.getDestSwitchId()));
+            });
+            path.setSegments(pathSegments);
+
+            mirrorPoints.getOrDefault(path.getPathId(), Collections.emptyList())
+                    .forEach(path::addFlowMirrorPoints);
+            paths.computeIfAbsent(pathFrame.getFlowId(), ignore -> new ArrayList<>()).add(path);
+        }
+
+        List<Flow> result = new ArrayList<>(flowFrames.size());
+        for (FlowFrame flowFrame : flowFrames) {
+            Flow flow = Flow.builder()
+                    .flowId(flowFrame.getFlowId())
+                    .srcSwitch(getSwitch(switches, flowFrame.getSrcSwitchId()))
+                    .destSwitch(getSwitch(switches, flowFrame.getDestSwitchId()))
+                    .yFlowId(yFlowIds.get(flowFrame.getFlowId()))
+                    .build();
+            Flow.FlowCloner.INSTANCE.copyWithoutSwitchesAndPaths(flowFrame, flow.getData());
+            flow.addPaths(paths.getOrDefault(flow.getFlowId(), Collections.emptyList()).toArray(new FlowPath[0]));
+            result.add(flow);
+        }
+        return result;
+    }
+
+    /**
+     * Fetches path segments of the paths. The segments are detached and refer to stub switch objects
+     * which are replaced by {@link #fetchWithPaths(Collection)}.
+     *
+     * @param graphPathIds path ids in the graph property representation.
+     */
+    protected Map<PathId, List<PathSegment>> findSegmentsByPathIds(Set<String> graphPathIds) {
+        Map<PathId, List<PathSegment>> result = new HashMap<>();
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(PathSegmentFrame.FRAME_LABEL)
+                .has(PathSegmentFrame.PATH_ID_PROPERTY, P.within(graphPathIds)))
+                .frameExplicit(PathSegmentFrame.class)
+                .forEachRemaining(frame -> {
+                    PathSegment segment = PathSegment.builder()
+                            .pathId(frame.getPathId())
+                            .srcSwitch(Switch.builder().switchId(frame.getSrcSwitchId()).build())
+                            .destSwitch(Switch.builder().switchId(frame.getDestSwitchId()).build())
+                            .build();
+                    PathSegment.PathSegmentCloner.INSTANCE.copyWithoutSwitches(frame, segment.getData());
+                    result.computeIfAbsent(segment.getPathId(), ignore -> new ArrayList<>()).add(segment);
+                });
+        return result;
+    }
+
+    private Map<SwitchId, Switch> findDetachedSwitches(Set<SwitchId> switchIds) {
+        Set<String> graphSwitchIds = switchIds.stream()
+                .map(SwitchIdConverter.INSTANCE::toGraphProperty)
+                .collect(Collectors.toSet());
+        Map<SwitchId, Switch> result = new HashMap<>();
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(SwitchFrame.FRAME_LABEL)
+                .has(SwitchFrame.SWITCH_ID_PROPERTY, P.within(graphSwitchIds)))
+                .frameExplicit(SwitchFrame.class)
+                .forEachRemaining(frame -> result.put(frame.getSwitchId(),
+                        new Switch(Switch.SwitchCloner.INSTANCE.deepCopy(frame))));
+        return result;
+    }
+
+    private Map<PathId, List<FlowMirrorPoints>> findMirrorPointsByPathIds(Set<String> graphPathIds) {
+        Map<PathId, List<FlowMirrorPoints>> result = new HashMap<>();
+        framedGraph().traverse(g -> g.V()
+                .hasLabel(FlowMirrorPointsFrame.FRAME_LABEL)
+                .has(FlowMirrorPointsFrame.FLOW_PATH_ID_PROPERTY, P.within(graphPathIds)))
+                .frameExplicit(FlowMirrorPointsFrame.class)
+                .forEachRemaining(frame -> result.computeIfAbsent(frame.getFlowPathId(), ignore -> new ArrayList<>())
+                        .add(new FlowMirrorPoints(frame)));
+        return result;
+    }
+
+    private Map<String, String> findYFlowIdsBySubFlowIds(Set<String> flowIds) {
+        Map<String, String> result = new HashMap<>();
+        framedGraph().traverse(g -> g.E()
+                .hasLabel(YSubFlowFrame.FRAME_LABEL)
+                .has(YSubFlowFrame.SUBFLOW_ID_PROPERTY, P.within(flowIds)))
+                .frameExplicit(YSubFlowFrame.class)
+                .forEachRemaining(frame -> result.put(frame.getSubFlowId(), frame.getYFlowId()));
+        return result;
+    }
+
+    private static Switch getSwitch(Map<SwitchId, Switch> switches, SwitchId switchId) {
+        Switch result = switches.get(switchId);
+        if (result == null) {
+            throw new PersistenceException(format("Unable to locate the switch %s", switchId));
+        }
+        return result;
+    }
+
     @Override
     protected FlowFrame doAdd(FlowData data) {
         FlowFrame frame = KildaBaseVertexFrame.addNewFramedVertex(framedGraph(), FlowFrame.FRAME_LABEL,
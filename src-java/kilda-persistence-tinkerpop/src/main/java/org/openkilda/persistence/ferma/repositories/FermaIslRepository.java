@@ -28,6 +28,8 @@ import org.openkilda.model.Isl.IslData;
 import org.openkilda.model.IslConfig;
 import org.openkilda.model.IslStatus;
 import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.PathSegment.PathSegmentData;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.SwitchStatus;
@@ -452,6 +454,72 @@ public class FermaIslRepository extends FermaGenericRepository<Isl, IslData, Isl
         return updatedEndpoints;
     }
 
+    @Override
+    public long allocateBandwidth(PathSegment segment) {
+        return applySegmentBandwidth(framedGraph(), segment.getData(), true);
+    }
+
+    @Override
+    public long releaseBandwidth(PathSegment segment) {
+        return applySegmentBandwidth(framedGraph(), segment.getData(), false);
+    }
+
+    @Override
+    public Map<IslEndpoints, Long> allocateBandwidthOnIslsOccupiedByPath(PathId pathId) {
+        FramedGraph framedGraph = framedGraph();
+
+        Map<IslEndpoints, Long> updatedEndpoints = new HashMap<>();
+        framedGraph.traverse(g -> g.V()
+                .hasLabel(PathSegmentFrame.FRAME_LABEL)
+                .has(PathSegmentFrame.PATH_ID_PROPERTY, PathIdConverter.INSTANCE.toGraphProperty(pathId)))
+                .toListExplicit(PathSegmentFrame.class)
+                .forEach(frame -> {
+                    long updatedAvailableBandwidth = applySegmentBandwidth(framedGraph, frame, true);
+                    String srcSwitch = frame.getProperty(PathSegmentFrame.SRC_SWITCH_ID_PROPERTY);
+                    String dstSwitch = frame.getProperty(PathSegmentFrame.DST_SWITCH_ID_PROPERTY);
+                    updatedEndpoints.put(new IslEndpoints(srcSwitch, frame.getSrcPort(),
+                            dstSwitch, frame.getDestPort()), updatedAvailableBandwidth);
+                });
+        return updatedEndpoints;
+    }
+
+    /**
+     * Applies the bandwidth of the segment to the ISL available bandwidth as a signed delta, so the cost doesn't
+     * depend on the number of segments over the ISL. A segment of a shared bandwidth group takes only the part
+     * of its bandwidth which exceeds the bandwidth taken by other paths of the group.
+     */
+    private long applySegmentBandwidth(FramedGraph framedGraph, PathSegmentData segment, boolean allocate) {
+        String srcSwitchId = SwitchIdConverter.INSTANCE.toGraphProperty(segment.getSrcSwitchId());
+        String dstSwitchId = SwitchIdConverter.INSTANCE.toGraphProperty(segment.getDestSwitchId());
+        int srcPort = segment.getSrcPort();
+        int dstPort = segment.getDestPort();
+
+        IslFrame isl = findIsl(framedGraph, srcSwitchId, srcPort, dstSwitchId, dstPort)
+                .orElseThrow(() -> new PersistenceException(format("ISL %s_%d - %s_%d not found to be updated",
+                        srcSwitchId, srcPort, dstSwitchId, dstPort)));
+        if (segment.isIgnoreBandwidth()) {
+            return isl.getAvailableBandwidth();
+        }
+
+        long delta = segment.getBandwidth();
+        String sharedBandwidthGroupId = segment.getSharedBandwidthGroupId();
+        if (sharedBandwidthGroupId != null) {
+            long groupUsage = flowPathRepository.getSharedBandwidthGroupUsageBetweenEndpoints(framedGraph,
+                    srcSwitchId, srcPort, dstSwitchId, dstPort, sharedBandwidthGroupId,
+                    PathIdConverter.INSTANCE.toGraphProperty(segment.getPathId()));
+            delta = Math.max(0L, delta - groupUsage);
+        }
+        if (!allocate) {
+            delta = -delta;
+        }
+
+        log.debug("Updating ISL {}_{} - {}_{} with used bandwidth delta {}", srcSwitchId, srcPort, dstSwitchId,
+                dstPort, delta);
+        long updatedAvailableBandwidth = isl.getAvailableBandwidth() - delta;
+        isl.setAvailableBandwidth(updatedAvailableBandwidth);
+        return updatedAvailableBandwidth;
+    }
+
     @Override
     public Map<SwitchId, Set<Integer>> findIslPortsBySwitchIds(Set<SwitchId> switchIds) {
         Set<String> graphSwitchIds = switchIds.stream()
@@ -86,8 +86,7 @@ public class FermaPathSegmentRepository extends FermaGenericRepository<PathSegme
     @Override
     public Optional<Long> addSegmentAndUpdateIslAvailableBandwidth(PathSegment segment) {
         PathSegmentFrame.create(framedGraph(), segment.getData());
-        return Optional.of(islRepository.updateAvailableBandwidth(segment.getSrcSwitchId(), segment.getSrcPort(),
-                segment.getDestSwitchId(), segment.getDestPort()));
+        return Optional.of(islRepository.allocateBandwidth(segment));
     }
 
     @Override
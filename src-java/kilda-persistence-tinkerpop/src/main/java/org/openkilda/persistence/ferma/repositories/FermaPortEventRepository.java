@@ -24,11 +24,13 @@ import org.openkilda.persistence.ferma.frames.KildaBaseVertexFrame;
 import org.openkilda.persistence.ferma.frames.PortEventFrame;
 import org.openkilda.persistence.ferma.frames.converters.InstantLongConverter;
 import org.openkilda.persistence.ferma.frames.converters.SwitchIdConverter;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 import org.openkilda.persistence.repositories.history.PortEventRepository;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.time.Instant;
@@ -68,6 +70,53 @@ public class FermaPortEventRepository extends FermaGenericRepository<PortEvent,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<PortEvent> findPageBySwitchIdAndPortNumber(SwitchId switchId, int portNumber, Instant timeFrom,
+                                                           Instant timeTo, HistoryPageCursor after, int pageSize) {
+        return framedGraph().traverse(g -> {
+            GraphTraversal<Vertex, Vertex> traversal = g.V()
+                    .hasLabel(PortEventFrame.FRAME_LABEL)
+                    .has(PortEventFrame.SWITCH_ID_PROPERTY, SwitchIdConverter.INSTANCE.toGraphProperty(switchId))
+                    .has(PortEventFrame.PORT_NUMBER_PROPERTY, portNumber);
+            if (timeFrom != null) {
+                traversal = traversal.has(PortEventFrame.TIME_PROPERTY,
+                        P.gte(InstantLongConverter.INSTANCE.toGraphProperty(timeFrom)));
+            }
+            if (timeTo != null) {
+                traversal = traversal.has(PortEventFrame.TIME_PROPERTY,
+                        P.lt(InstantLongConverter.INSTANCE.toGraphProperty(timeTo)));
+            }
+            if (after != null) {
+                Long afterTime = InstantLongConverter.INSTANCE.toGraphProperty(after.getTime());
+                traversal = traversal.or(
+                        __.has(PortEventFrame.TIME_PROPERTY, P.gt(afterTime)),
+                        __.has(PortEventFrame.TIME_PROPERTY, afterTime)
+                                .has(PortEventFrame.RECORD_ID_PROPERTY, P.gt(after.getKey())));
+            }
+            return traversal
+                    .order()
+                    .by(PortEventFrame.TIME_PROPERTY, Order.incr)
+                    .by(PortEventFrame.RECORD_ID_PROPERTY, Order.incr)
+                    .limit(pageSize);
+        }).toListExplicit(PortEventFrame.class).stream()
+                .map(PortEvent::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void purgeOlderThan(Instant time) {
+        getTransactionManager().doInTransaction(() -> framedGraph().traverse(g -> g.V()
+                .hasLabel(PortEventFrame.FRAME_LABEL)
+                .has(PortEventFrame.TIME_PROPERTY, P.lt(InstantLongConverter.INSTANCE.toGraphProperty(time))))
+                .toListExplicit(PortEventFrame.class)
+                .forEach(PortEventFrame::remove));
+    }
+
+    @Override
+    public void addUpcomingPartitions() {
+        // The graph storage isn't partitioned.
+    }
+
     @Override
     protected PortEventFrame doAdd(PortEventData data) {
         PortEventFrame frame = KildaBaseVertexFrame.addNewFramedVertex(framedGraph(),
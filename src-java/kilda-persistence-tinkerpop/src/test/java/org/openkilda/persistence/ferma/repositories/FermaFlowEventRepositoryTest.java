@@ -16,6 +16,7 @@
 package org.openkilda.persistence.ferma.repositories;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.openkilda.model.history.FlowEvent;
@@ -24,6 +25,7 @@ import org.openkilda.model.history.FlowStatusView;
 import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
 import org.openkilda.persistence.repositories.history.FlowEventActionRepository;
 import org.openkilda.persistence.repositories.history.FlowEventRepository;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -192,6 +194,47 @@ public class FermaFlowEventRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals("DELETED", actual.get(1).getStatusBecome());
     }
 
+    @Test
+    public void findPageByFlowIdAndTimeFrameTest() {
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_1, ACTION_1, TIME_1));
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_3, ACTION_3, TIME_2));
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_2, ACTION_2, TIME_2));
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_4, ACTION_4, TIME_4));
+        flowEventRepository.add(buildFlowEvent(FLOW_2, TASK_5, ACTION_5, TIME_3));
+
+        List<FlowEvent> firstPage = flowEventRepository.findPageByFlowIdAndTimeFrame(
+                FLOW_1, TIME_1, TIME_4.plusSeconds(1), null, 2);
+        assertEquals(2, firstPage.size());
+        assertEquals(TASK_1, firstPage.get(0).getTaskId());
+        assertEquals(TASK_2, firstPage.get(1).getTaskId());
+
+        List<FlowEvent> secondPage = flowEventRepository.findPageByFlowIdAndTimeFrame(
+                FLOW_1, TIME_1, TIME_4.plusSeconds(1), HistoryPageCursor.of(firstPage.get(1)), 2);
+        assertEquals(2, secondPage.size());
+        assertEquals(TASK_3, secondPage.get(0).getTaskId());
+        assertEquals(TASK_4, secondPage.get(1).getTaskId());
+
+        assertTrue(flowEventRepository.findPageByFlowIdAndTimeFrame(
+                FLOW_1, TIME_1, TIME_4.plusSeconds(1), HistoryPageCursor.of(secondPage.get(1)), 2).isEmpty());
+    }
+
+    @Test
+    public void purgeOlderThanTest() {
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_1, ACTION_1, TIME_1));
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_2, ACTION_2, TIME_2));
+        flowEventRepository.add(buildFlowEvent(FLOW_1, TASK_3, ACTION_3, TIME_3));
+        flowEventActionRepository.add(buildFlowHistory(TASK_1, ACTION_1, TIME_1));
+        flowEventActionRepository.add(buildFlowHistory(TASK_3, ACTION_3, TIME_3));
+
+        flowEventRepository.purgeOlderThan(TIME_3);
+
+        List<FlowEvent> events = flowEventRepository.findByFlowIdAndTimeFrame(FLOW_1, null, null, 100);
+        assertEquals(1, events.size());
+        assertEquals(TASK_3, events.get(0).getTaskId());
+        assertEquals(1, events.get(0).getEventActions().size());
+        assertFalse(flowEventRepository.existsByTaskId(TASK_1));
+    }
+
     private FlowEvent buildFlowEvent(String flowId, String taskId, String action, Instant timestamp) {
         return FlowEvent.builder()
                 .flowId(flowId)
@@ -61,6 +61,23 @@ public class FermaFlowMeterRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals(TEST_FLOW_ID, foundMeter.getFlowId());
     }
 
+    @Test
+    public void shouldFindFlowMetersBySwitchId() {
+        createFlowMeter(1, new PathId(TEST_PATH_ID));
+        createFlowMeter(2, new PathId(TEST_PATH_ID + "_2"));
+        flowMeterRepository.add(FlowMeter.builder()
+                .switchId(createTestSwitch(2).getSwitchId())
+                .meterId(new MeterId(3))
+                .pathId(new PathId(TEST_PATH_ID + "_3"))
+                .flowId(TEST_FLOW_ID)
+                .build());
+
+        Collection<FlowMeter> meters = flowMeterRepository.findBySwitchId(theSwitch.getSwitchId());
+
+        assertEquals(2, meters.size());
+        meters.forEach(meter -> assertEquals(theSwitch.getSwitchId(), meter.getSwitchId()));
+    }
+
     @Ignore("InMemoryGraph doesn't enforce constraint")
     @Test(expected = PersistenceException.class)
     public void shouldNotGetMoreThanOneMetersForPath() {
@@ -406,6 +406,68 @@ public class FermaFlowRepositoryTest extends InMemoryGraphBasedTest {
         assertThat(foundFlowIds, Matchers.hasSize(1));
     }
 
+    @Test
+    public void shouldFindAllWithPaths() {
+        Switch switchC = createTestSwitch(TEST_SWITCH_C_ID.getId());
+        createTestFlow(TEST_FLOW_ID, switchA, switchB);
+        createTestFlowWithIntermediate(TEST_FLOW_ID_2, switchA, switchC, PORT_3, switchB);
+
+        Collection<Flow> foundFlows = flowRepository.findAllWithPaths();
+        assertEquals(2, foundFlows.size());
+
+        Flow foundFlow = foundFlows.stream()
+                .filter(flow -> TEST_FLOW_ID_2.equals(flow.getFlowId()))
+                .findAny().get();
+        assertEquals(TEST_SWITCH_A_ID, foundFlow.getSrcSwitchId());
+        assertEquals(TEST_SWITCH_B_ID, foundFlow.getDestSwitch().getSwitchId());
+        assertEquals(FlowStatus.UP, foundFlow.getStatus());
+        assertEquals(2, foundFlow.getPaths().size());
+
+        FlowPath forwardPath = foundFlow.getForwardPath();
+        assertNotNull(forwardPath);
+        assertEquals(foundFlow, forwardPath.getFlow());
+        assertEquals(new MeterId(1), forwardPath.getMeterId());
+        assertEquals(1, forwardPath.getSegments().size());
+
+        PathSegment segment = forwardPath.getSegments().get(0);
+        assertEquals(switchC.getSwitchId(), segment.getDestSwitch().getSwitchId());
+        assertEquals(PORT_3, segment.getDestPort());
+        assertNotNull(foundFlow.getReversePath());
+    }
+
+    @Test
+    public void shouldFindByEndpointSwitchWithPaths() {
+        Switch switchC = createTestSwitch(TEST_SWITCH_C_ID.getId());
+        createTestFlow(TEST_FLOW_ID, switchA, switchB);
+        createTestFlow(TEST_FLOW_ID_2, switchC, switchA);
+        createTestFlow(TEST_FLOW_ID_3, switchB, switchC);
+
+        Collection<Flow> foundFlows = flowRepository.findByEndpointSwitchWithPaths(TEST_SWITCH_A_ID);
+        Set<String> foundFlowIds = foundFlows.stream().map(Flow::getFlowId).collect(Collectors.toSet());
+        assertEquals(newHashSet(TEST_FLOW_ID, TEST_FLOW_ID_2), foundFlowIds);
+        foundFlows.forEach(flow -> {
+            assertNotNull(flow.getForwardPath());
+            assertNotNull(flow.getReversePath());
+            assertEquals(1, flow.getForwardPath().getSegments().size());
+        });
+    }
+
+    @Test
+    public void shouldFindByPathIdsWithPaths() {
+        Flow flow = createTestFlow(TEST_FLOW_ID, switchA, switchB);
+        createTestFlow(TEST_FLOW_ID_2, switchA, switchB);
+
+        Collection<Flow> foundFlows = flowRepository.findByPathIdsWithPaths(
+                newHashSet(flow.getForwardPathId(), new PathId("non_existent")));
+        assertEquals(1, foundFlows.size());
+
+        Flow foundFlow = foundFlows.iterator().next();
+        assertEquals(TEST_FLOW_ID, foundFlow.getFlowId());
+        assertEquals(flow.getReversePathId(), foundFlow.getReversePath().getPathId());
+
+        assertTrue(flowRepository.findByPathIdsWithPaths(newHashSet(new PathId("non_existent"))).isEmpty());
+    }
+
     @Test
     public void shouldFindFlowBySwitchEndpointAndOuterVlan() {
         createTestFlow(TEST_FLOW_ID, switchA, PORT_1, VLAN_1, switchB, PORT_1, VLAN_2);
@@ -596,6 +596,51 @@ public class FermaIslRepositoryTest extends InMemoryGraphBasedTest {
         assertEquals(100, islAfter.getAvailableBandwidth());
     }
 
+    @Test
+    public void shouldAllocateAndReleaseBandwidthByPath() {
+        Isl isl = createIsl(switchA, 1, switchB, 2, IslStatus.ACTIVE, 100L);
+        isl.setMaxBandwidth(100L);
+
+        createPathWithSegment("path1", switchA, 1, switchB, 2, 33L);
+        FlowPath path2 = createPathWithSegment("path2", switchA, 1, switchB, 2, 20L);
+
+        islRepository.allocateBandwidthOnIslsOccupiedByPath(new PathId("path1"));
+        Map<IslEndpoints, Long> updatedIsls = islRepository.allocateBandwidthOnIslsOccupiedByPath(
+                new PathId("path2"));
+        assertEquals(Long.valueOf(47), updatedIsls.get(new IslEndpoints(
+                TEST_SWITCH_A_ID.toString(), 1, TEST_SWITCH_B_ID.toString(), 2)));
+
+        assertEquals(67, islRepository.releaseBandwidth(path2.getSegments().get(0)));
+        Isl islAfter = islRepository.findByEndpoints(TEST_SWITCH_A_ID, 1, TEST_SWITCH_B_ID, 2).get();
+        assertEquals(67, islAfter.getAvailableBandwidth());
+    }
+
+    @Test
+    public void shouldAllocateAndReleaseBandwidthForSameSharedBandwidthGroup() {
+        Isl isl = createIsl(switchA, 1, switchB, 2, IslStatus.ACTIVE, 100L);
+        isl.setMaxBandwidth(100L);
+
+        FlowPath path1 = createPathWithSegment("path1", switchA, 1, switchB, 2, 60L, TEST_FLOW_ID);
+        FlowPath path2 = createPathWithSegment("path2", switchA, 1, switchB, 2, 70L, TEST_FLOW_ID);
+
+        assertEquals(40, islRepository.allocateBandwidth(path1.getSegments().get(0)));
+        // only the excess over the bandwidth of the group is taken
+        assertEquals(30, islRepository.allocateBandwidth(path2.getSegments().get(0)));
+
+        assertEquals(40, islRepository.releaseBandwidth(path2.getSegments().get(0)));
+    }
+
+    @Test
+    public void shouldNotAllocateBandwidthForIgnoredBandwidth() {
+        Isl isl = createIsl(switchA, 1, switchB, 2, IslStatus.ACTIVE, 100L);
+        isl.setMaxBandwidth(100L);
+
+        FlowPath path = createPathWithSegment(TEST_FLOW_ID, switchA, 1, switchB, 2, 33L);
+        path.setIgnoreBandwidth(true);
+
+        assertEquals(100, islRepository.allocateBandwidth(path.getSegments().get(0)));
+    }
+
     @Test
     public void shouldFindIslsBySwitch() {
         createIsl(switchA, 1, switchB, 2, IslStatus.ACTIVE);
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.history.PortEvent;
 import org.openkilda.persistence.inmemory.InMemoryGraphBasedTest;
+import org.openkilda.persistence.repositories.history.HistoryPageCursor;
 import org.openkilda.persistence.repositories.history.PortEventRepository;
 
 import org.junit.Before;
@@ -30,6 +31,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 public class FermaPortEventRepositoryTest extends InMemoryGraphBasedTest {
     static final SwitchId SWITCH_ID = new SwitchId(1L);
@@ -60,6 +62,40 @@ public class FermaPortEventRepositoryTest extends InMemoryGraphBasedTest {
         assertTrue(portEvent.contains(portDown));
     }
 
+    @Test
+    public void shouldFindHistoryRecordsPageBySwitchByIdAndPortNumber() {
+        Instant start = Instant.parse("2022-05-01T10:00:00Z");
+        PortEvent first = createPortHistory(SWITCH_ID, PORT_NUMBER, "PORT_UP", start);
+        PortEvent second = createPortHistory(SWITCH_ID, PORT_NUMBER, "PORT_DOWN", start.plusSeconds(1));
+        PortEvent third = createPortHistory(SWITCH_ID, PORT_NUMBER, "PORT_UP", start.plusSeconds(2));
+        createPortHistory(SWITCH_ID, 3, "PORT_UP", start.plusSeconds(1));
+
+        List<PortEvent> firstPage = repository.findPageBySwitchIdAndPortNumber(
+                SWITCH_ID, PORT_NUMBER, start, start.plusSeconds(10), null, 2);
+        assertEquals(2, firstPage.size());
+        assertEquals(first, firstPage.get(0));
+        assertEquals(second, firstPage.get(1));
+
+        List<PortEvent> secondPage = repository.findPageBySwitchIdAndPortNumber(
+                SWITCH_ID, PORT_NUMBER, start, start.plusSeconds(10), HistoryPageCursor.of(firstPage.get(1)), 2);
+        assertEquals(1, secondPage.size());
+        assertEquals(third, secondPage.get(0));
+    }
+
+    @Test
+    public void shouldPurgeHistoryRecordsOlderThanTime() {
+        Instant start = Instant.parse("2022-05-01T10:00:00Z");
+        createPortHistory(SWITCH_ID, PORT_NUMBER, "PORT_UP", start);
+        PortEvent actual = createPortHistory(SWITCH_ID, PORT_NUMBER, "PORT_DOWN", start.plusSeconds(1));
+
+        repository.purgeOlderThan(start.plusSeconds(1));
+
+        Collection<PortEvent> portEvents = repository.findBySwitchIdAndPortNumber(
+                SWITCH_ID, PORT_NUMBER, start.minusSeconds(10), start.plusSeconds(10));
+        assertEquals(1, portEvents.size());
+        assertTrue(portEvents.contains(actual));
+    }
+
     private PortEvent createPortHistory(SwitchId switchId, int portNumber, String event, Instant time) {
         PortEvent portEvent = new PortEvent();
         portEvent.setSwitchId(switchId);
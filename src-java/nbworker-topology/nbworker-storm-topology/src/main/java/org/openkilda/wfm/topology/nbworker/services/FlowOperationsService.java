@@ -36,7 +36,6 @@ import org.openkilda.messaging.nbtopology.response.FlowMirrorPointsDumpResponse.
 import org.openkilda.messaging.payload.flow.PathNodePayload;
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowEndpoint;
-import org.openkilda.model.FlowFilter;
 import org.openkilda.model.FlowMirrorPath;
 import org.openkilda.model.FlowMirrorPoints;
 import org.openkilda.model.FlowPath;
@@ -166,10 +165,14 @@ public class FlowOperationsService {
      * Get flows.
      */
     public Collection<Flow> getAllFlows(FlowsDumpRequest request) {
-        return transactionManager.doInTransaction(getReadOperationRetryPolicy(),
-                () -> flowRepository.findByFlowFilter(FlowFilter.builder()
-                        .flowStatus(request.getStatus())
-                        .build()));
+        Collection<Flow> flows = transactionManager.doInTransaction(getReadOperationRetryPolicy(),
+                () -> flowRepository.findAllWithPaths());
+        if (request.getStatus() == null) {
+            return flows;
+        }
+        return flows.stream()
+                .filter(flow -> flow.getStatus() == request.getStatus())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -219,7 +222,7 @@ public class FlowOperationsService {
                     flowRepository.findByEndpoint(switchId, port));
         } else {
             return getFlowsForEndpoint(flowPathRepository.findBySegmentSwitch(switchId),
-                    flowRepository.findByEndpointSwitch(switchId));
+                    flowRepository.findByEndpointSwitchWithPaths(switchId));
         }
     }
 
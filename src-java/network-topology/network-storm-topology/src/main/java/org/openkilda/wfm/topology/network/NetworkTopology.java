@@ -44,6 +44,7 @@ import org.openkilda.wfm.topology.network.storm.bolt.bfd.hub.BfdHub;
 import org.openkilda.wfm.topology.network.storm.bolt.bfd.worker.BfdWorker;
 import org.openkilda.wfm.topology.network.storm.bolt.decisionmaker.DecisionMakerHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.history.HistoryHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.IslBandwidthReconcileHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.isl.IslHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.port.PortHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.speaker.SpeakerRouter;
@@ -111,6 +112,7 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
         bfdWorker(topology);
         uniIslHandler(topology);
         islHandler(topology);
+        islBandwidthReconcile(topology);
 
         outputSpeaker(topology);
         outputSwitchManager(topology);
@@ -235,9 +237,10 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
 
     private void watchList(TopologyBuilder topology) {
         WatchListHandler bolt = new WatchListHandler(options, ZooKeeperSpout.SPOUT_ID);
-        Fields portGrouping = new Fields(PortHandler.FIELD_ID_DATAPATH, PortHandler.FIELD_ID_PORT_NUMBER);
-        Fields uniIslGrouping = new Fields(UniIslHandler.FIELD_ID_DATAPATH, UniIslHandler.FIELD_ID_PORT_NUMBER);
-        Fields islGrouping = new Fields(IslHandler.FIELD_ID_DATAPATH, IslHandler.FIELD_ID_PORT_NUMBER);
+        // all endpoints of a switch are handled by one task, so their discovery requests can be batched
+        Fields portGrouping = new Fields(PortHandler.FIELD_ID_DATAPATH);
+        Fields uniIslGrouping = new Fields(UniIslHandler.FIELD_ID_DATAPATH);
+        Fields islGrouping = new Fields(IslHandler.FIELD_ID_DATAPATH);
         declareBolt(topology, bolt, WatchListHandler.BOLT_ID)
                 .allGrouping(CoordinatorSpout.ID)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID)
@@ -248,9 +251,9 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
 
     private void watcher(TopologyBuilder topology) {
         WatcherHandler bolt = new WatcherHandler(options);
-        Fields watchListGrouping = new Fields(WatchListHandler.FIELD_ID_DATAPATH,
-                WatchListHandler.FIELD_ID_PORT_NUMBER);
-        Fields speakerGrouping = new Fields(SpeakerRouter.FIELD_ID_DATAPATH, SpeakerRouter.FIELD_ID_PORT_NUMBER);
+        // batched commands address several endpoints of one switch, so the switch is the grouping key
+        Fields watchListGrouping = new Fields(WatchListHandler.FIELD_ID_DATAPATH);
+        Fields speakerGrouping = new Fields(SpeakerRouter.FIELD_ID_DATAPATH);
         declareBolt(topology, bolt, WatcherHandler.BOLT_ID)
                 .allGrouping(CoordinatorSpout.ID)
                 .fieldsGrouping(WatchListHandler.BOLT_ID, watchListGrouping)
@@ -417,6 +420,13 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
                 .shuffleGrouping(FlowMonitoringEncoder.BOLT_ID);
     }
 
+    private void islBandwidthReconcile(TopologyBuilder topology) {
+        IslBandwidthReconcileHandler bolt = new IslBandwidthReconcileHandler(persistenceManager,
+                ZooKeeperSpout.SPOUT_ID, topologyConfig.getIslBandwidthReconcileIntervalSeconds());
+        declareBolt(topology, bolt, IslBandwidthReconcileHandler.BOLT_ID)
+                .allGrouping(ZooKeeperSpout.SPOUT_ID);
+    }
+
     private void historyBolt(TopologyBuilder topology) {
         HistoryHandler bolt = new HistoryHandler(persistenceManager);
         declareBolt(topology, bolt, ComponentId.HISTORY_HANDLER.toString())
@@ -425,7 +435,8 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
 
     private void zookeeperBolt(TopologyBuilder topology) {
         int expectedBoltsCount = getBoltInstancesCount(
-                SpeakerRouter.BOLT_ID, WatchListHandler.BOLT_ID, NetworkPersistedStateImportHandler.BOLT_ID);
+                SpeakerRouter.BOLT_ID, WatchListHandler.BOLT_ID, NetworkPersistedStateImportHandler.BOLT_ID,
+                IslBandwidthReconcileHandler.BOLT_ID);
         ZooKeeperBolt zooKeeperBolt = new ZooKeeperBolt(topologyConfig.getBlueGreenMode(), getZkTopoName(),
                 getZookeeperConfig(), expectedBoltsCount);
         declareBolt(topology, zooKeeperBolt, ZooKeeperBolt.BOLT_ID)
@@ -433,7 +444,8 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
                 .allGrouping(WatchListHandler.BOLT_ID, WatchListHandler.STREAM_ZOOKEEPER_ID)
                 .allGrouping(
                         NetworkPersistedStateImportHandler.BOLT_ID,
-                        NetworkPersistedStateImportHandler.STREAM_ZOOKEEPER_ID);
+                        NetworkPersistedStateImportHandler.STREAM_ZOOKEEPER_ID)
+                .allGrouping(IslBandwidthReconcileHandler.BOLT_ID, IslBandwidthReconcileHandler.STREAM_ZOOKEEPER_ID);
     }
 
     @Override
@@ -104,6 +104,10 @@ public interface NetworkTopologyConfig extends AbstractTopologyConfig {
     @Default("3")
     long getSwitchOfflineGenerationLag();
 
+    @Key("isl.bandwidth.reconcile.interval.seconds")
+    @Default("300")
+    int getIslBandwidthReconcileIntervalSeconds();
+
     @Configuration
     @Key("discovery")
     interface DiscoveryConfig {
@@ -125,6 +129,10 @@ public interface NetworkTopologyConfig extends AbstractTopologyConfig {
         @Key("use-bfd")
         boolean isBfdEnabled();
 
+        @Key("align-by-switch")
+        @Default("true")
+        boolean isAlignBySwitch();
+
         @Key("db.write.repeats.time.frame")
         @Default("30")
         long getDbRepeatsTimeFrameSeconds();
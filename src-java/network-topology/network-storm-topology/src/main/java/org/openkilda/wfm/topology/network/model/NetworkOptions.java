@@ -39,6 +39,8 @@ public class NetworkOptions implements Serializable {
 
     private Duration discoveryTimeout;
 
+    private boolean discoveryAlignBySwitch;
+
     private Integer bfdLogicalPortOffset;
 
     private Integer bfdLogicalPortMaxNumber;
@@ -83,6 +85,7 @@ public class NetworkOptions implements Serializable {
 
         NetworkTopologyConfig.DiscoveryConfig discoveryConfig = topologyConfig.getDiscoveryConfig();
         dbRepeatMaxDurationSeconds = discoveryConfig.getDbRepeatsTimeFrameSeconds();
+        discoveryAlignBySwitch = discoveryConfig.isAlignBySwitch();
 
         isRemoveExcessWhenSwitchSync = topologyConfig.isRemoveExcessWhenSwitchSync();
 
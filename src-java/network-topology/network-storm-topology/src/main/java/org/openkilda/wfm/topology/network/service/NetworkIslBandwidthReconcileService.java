@@ -0,0 +1,85 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.network.service;
+
+import org.openkilda.model.Isl;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.FlowPathRepository;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.persistence.tx.TransactionManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+
+/**
+ * Verifies the ISL available bandwidth, which is maintained by per-segment deltas, against the bandwidth actually
+ * used by the flow paths, and fixes the drift if any.
+ */
+@Slf4j
+public class NetworkIslBandwidthReconcileService {
+    private final TransactionManager transactionManager;
+    private final IslRepository islRepository;
+    private final FlowPathRepository flowPathRepository;
+
+    public NetworkIslBandwidthReconcileService(PersistenceManager persistenceManager) {
+        transactionManager = persistenceManager.getTransactionManager();
+        RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
+        islRepository = repositoryFactory.createIslRepository();
+        flowPathRepository = repositoryFactory.createFlowPathRepository();
+    }
+
+    /**
+     * Reconciles the available bandwidth of ISLs which belong to the partition.
+     *
+     * @param partition the index of the partition to process.
+     * @param partitionsCount the total number of partitions.
+     * @return the number of ISLs with fixed available bandwidth.
+     */
+    public int reconcile(int partition, int partitionsCount) {
+        int fixed = 0;
+        for (Isl isl : islRepository.findAll()) {
+            if (Math.floorMod(Objects.hash(isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(),
+                    isl.getDestPort()), partitionsCount) != partition) {
+                continue;
+            }
+            if (transactionManager.doInTransaction(() -> reconcileIsl(isl))) {
+                fixed++;
+            }
+        }
+        if (fixed > 0) {
+            log.info("Fixed available bandwidth of {} ISL(s)", fixed);
+        }
+        return fixed;
+    }
+
+    private boolean reconcileIsl(Isl isl) {
+        long usedBandwidth = flowPathRepository.getUsedBandwidthBetweenEndpoints(
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort());
+        long expected = isl.getMaxBandwidth() - usedBandwidth;
+        if (expected == isl.getAvailableBandwidth()) {
+            return false;
+        }
+        log.warn("Available bandwidth of ISL {}_{} - {}_{} drifted: {}, expected {}",
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort(),
+                isl.getAvailableBandwidth(), expected);
+        islRepository.updateAvailableBandwidth(
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort());
+        return true;
+    }
+}
@@ -38,16 +38,30 @@ public class NetworkWatchListService {
     private final long genericTickPeriod;
     private final long exhaustedTickPeriod;
     private final long auxiliaryTickPeriod;
+    private final boolean alignBySwitch;
 
     private final Map<Endpoint, WatchListEntry> endpoints = new HashMap<>();
     private final SortedMap<Long, Set<Endpoint>> timeouts = new TreeMap<>();
 
     public NetworkWatchListService(IWatchListCarrier carrier, long genericTickPeriod,
                                    long exhaustedTickPeriod, long auxiliaryTickPeriod) {
+        this(carrier, genericTickPeriod, exhaustedTickPeriod, auxiliaryTickPeriod, false);
+    }
+
+    /**
+     * Create the service.
+     *
+     * <p>With {@code alignBySwitch} the poll timeouts of all endpoints of one switch are aligned to a per-switch
+     * phase inside the generic poll interval. So all due endpoints of the switch are polled on the same tick and
+     * their discovery requests can be batched, while the load of different switches is still spread over time.
+     */
+    public NetworkWatchListService(IWatchListCarrier carrier, long genericTickPeriod,
+                                   long exhaustedTickPeriod, long auxiliaryTickPeriod, boolean alignBySwitch) {
         this.carrier = carrier;
         this.genericTickPeriod = genericTickPeriod;
         this.exhaustedTickPeriod = exhaustedTickPeriod;
         this.auxiliaryTickPeriod = auxiliaryTickPeriod;
+        this.alignBySwitch = alignBySwitch;
     }
 
     @VisibleForTesting
@@ -149,10 +163,23 @@ public class NetworkWatchListService {
     }
 
     private void addTimeout(Endpoint endpoint, long timeoutAt) {
-        timeouts.computeIfAbsent(timeoutAt, mappingFunction -> new HashSet<>())
+        timeouts.computeIfAbsent(alignTimeout(endpoint, timeoutAt), mappingFunction -> new HashSet<>())
                 .add(endpoint);
     }
 
+    /**
+     * Move the timeout back to the closest point of the switch phase grid. All timeouts are at least one generic
+     * period away from the current time, so the aligned timeout is always in the future.
+     */
+    @VisibleForTesting
+    long alignTimeout(Endpoint endpoint, long timeoutAt) {
+        if (!alignBySwitch || genericTickPeriod <= 0) {
+            return timeoutAt;
+        }
+        long phase = Math.floorMod((long) endpoint.getDatapath().hashCode(), genericTickPeriod);
+        return timeoutAt - Math.floorMod(timeoutAt - phase, genericTickPeriod);
+    }
+
     @VisibleForTesting
     long calculateTimeout(Endpoint endpoint) {
         return Optional.ofNullable(endpoints.get(endpoint)).map(watchListEntry -> {
@@ -37,6 +37,7 @@ public enum ComponentId {
     BFD_PORT_HANDLER("bfd-port-handler"),
     UNI_ISL_HANDLER("uni-isl-handler"),
     ISL_HANDLER("isl-handler"),
+    ISL_BANDWIDTH_RECONCILE("isl-bandwidth-reconcile"),
 
     HISTORY_HANDLER("history-handler"),
 
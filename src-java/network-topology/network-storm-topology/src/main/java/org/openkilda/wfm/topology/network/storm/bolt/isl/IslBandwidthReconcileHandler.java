@@ -0,0 +1,99 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.network.storm.bolt.isl;
+
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.share.zk.ZkStreams;
+import org.openkilda.wfm.share.zk.ZooKeeperBolt;
+import org.openkilda.wfm.topology.network.service.NetworkIslBandwidthReconcileService;
+import org.openkilda.wfm.topology.network.storm.ComponentId;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.Config;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.util.Map;
+
+/**
+ * Periodically verifies the ISL available bandwidth against the bandwidth used by flow paths. ISLs are partitioned
+ * between the bolt instances, so each ISL is checked by a single instance.
+ */
+@Slf4j
+public class IslBandwidthReconcileHandler extends AbstractBolt {
+    public static final String BOLT_ID = ComponentId.ISL_BANDWIDTH_RECONCILE.toString();
+
+    public static final String STREAM_ZOOKEEPER_ID = ZkStreams.ZK.toString();
+    public static final Fields STREAM_ZOOKEEPER_FIELDS = new Fields(ZooKeeperBolt.FIELD_ID_STATE,
+            ZooKeeperBolt.FIELD_ID_CONTEXT);
+
+    private final int intervalSeconds;
+
+    private transient NetworkIslBandwidthReconcileService service;
+    private transient int partition;
+    private transient int partitionsCount;
+
+    public IslBandwidthReconcileHandler(PersistenceManager persistenceManager, String lifeCycleEventSourceComponent,
+                                        int intervalSeconds) {
+        super(persistenceManager, lifeCycleEventSourceComponent);
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        partition = context.getThisTaskIndex();
+        partitionsCount = context.getComponentTasks(context.getThisComponentId()).size();
+        super.prepare(stormConf, context, collector);
+    }
+
+    @Override
+    protected void init() {
+        super.init();
+        service = new NetworkIslBandwidthReconcileService(persistenceManager);
+    }
+
+    @Override
+    protected void handleInput(Tuple input) {
+        if (!TupleUtils.isTick(input)) {
+            unhandledInput(input);
+        } else if (active) {
+            service.reconcile(partition, partitionsCount);
+        }
+    }
+
+    @Override
+    protected void handleException(Exception e) {
+        log.error("Failed to reconcile ISL available bandwidth", e);
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        Config config = new Config();
+        config.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, intervalSeconds);
+        return config;
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer streamManager) {
+        streamManager.declareStream(STREAM_ZOOKEEPER_ID, STREAM_ZOOKEEPER_FIELDS);
+    }
+}
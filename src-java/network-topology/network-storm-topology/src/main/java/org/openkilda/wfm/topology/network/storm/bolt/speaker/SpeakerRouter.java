@@ -20,6 +20,7 @@ import org.openkilda.messaging.Message;
 import org.openkilda.messaging.floodlight.response.BfdSessionResponse;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.discovery.DiscoPacketBatchSendingConfirmation;
 import org.openkilda.messaging.info.discovery.DiscoPacketSendingConfirmation;
 import org.openkilda.messaging.info.discovery.NetworkDumpSwitchData;
 import org.openkilda.messaging.info.event.DeactivateIslInfoData;
@@ -35,6 +36,7 @@ import org.openkilda.messaging.info.switches.SwitchConnectNotification;
 import org.openkilda.messaging.info.switches.SwitchDisconnectNotification;
 import org.openkilda.messaging.model.system.FeatureTogglesDto;
 import org.openkilda.messaging.nbtopology.request.UpdatePortPropertiesRequest;
+import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.mappers.FeatureTogglesMapper;
@@ -62,6 +64,7 @@ import org.openkilda.wfm.topology.network.storm.bolt.sw.command.SwitchManagedEve
 import org.openkilda.wfm.topology.network.storm.bolt.sw.command.SwitchPortEventCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.sw.command.SwitchRemoveEventCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerBatchSendConfirmationCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerDiscoveryCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerRoundTripDiscovery;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerSendConfirmationCommand;
@@ -183,6 +186,10 @@ public class SpeakerRouter extends AbstractBolt {
         } else if (payload instanceof DiscoPacketSendingConfirmation) {
             emit(STREAM_WATCHER_ID, input, makeWatcherTuple(
                     input, new WatcherSpeakerSendConfirmationCommand((DiscoPacketSendingConfirmation) payload)));
+        } else if (payload instanceof DiscoPacketBatchSendingConfirmation) {
+            DiscoPacketBatchSendingConfirmation confirmation = (DiscoPacketBatchSendingConfirmation) payload;
+            emit(STREAM_WATCHER_ID, input, makeWatcherBatchTuple(
+                    input, confirmation.getSwitchId(), new WatcherSpeakerBatchSendConfirmationCommand(confirmation)));
         } else if (payload instanceof IslRoundTripLatency) {
             emit(STREAM_WATCHER_ID, input, makeWatcherTuple(
                     input, new WatcherSpeakerRoundTripDiscovery((IslRoundTripLatency) payload)));
@@ -250,6 +257,11 @@ public class SpeakerRouter extends AbstractBolt {
         return new Values(endpoint.getDatapath(), endpoint.getPortNumber(), command, pullContext(input));
     }
 
+    private Values makeWatcherBatchTuple(Tuple input, SwitchId switchId, WatcherCommand command)
+            throws PipelineException {
+        return new Values(switchId, null, command, pullContext(input));
+    }
+
     private Values makeIslTuple(Tuple input, IslCommand command) throws PipelineException {
         IslReference reference = command.getReference();
         return new Values(reference.getSource(), reference.getDest(), command, pullContext(input));
@@ -16,8 +16,10 @@
 package org.openkilda.wfm.topology.network.storm.bolt.watcher;
 
 import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.model.DiscoPacketRef;
 import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.CommandContext;
@@ -43,6 +45,11 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
     public static final String BOLT_ID = ComponentId.WATCHER.toString();
 
@@ -62,6 +69,8 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
 
     private transient NetworkWatcherService service;
 
+    private transient Map<SwitchId, List<DiscoPacketRef>> pendingDiscoveries;
+
     public WatcherHandler(NetworkOptions options) {
         super();
         this.options = options;
@@ -69,6 +78,14 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
+        try {
+            dispatch(input);
+        } finally {
+            flushDiscoveries();
+        }
+    }
+
+    private void dispatch(Tuple input) throws Exception {
         String source = input.getSourceComponent();
         if (CoordinatorSpout.ID.equals(source)) {
             handleTimerTick();
@@ -101,6 +118,7 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
     @Override
     protected void init() {
         service = new NetworkWatcherService(this, options.getDiscoveryPacketTtl(), getTaskId());
+        pendingDiscoveries = new LinkedHashMap<>();
     }
 
     @Override
@@ -130,8 +148,8 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
 
     @Override
     public void sendDiscovery(DiscoverIslCommandData discoveryRequest) {
-        SwitchId switchId = discoveryRequest.getSwitchId();
-        emit(STREAM_SPEAKER_ID, getCurrentTuple(), makeSpeakerTuple(switchId.toString(), discoveryRequest));
+        pendingDiscoveries.computeIfAbsent(discoveryRequest.getSwitchId(), key -> new ArrayList<>())
+                .add(new DiscoPacketRef(discoveryRequest.getPortNumber(), discoveryRequest.getPacketId()));
     }
 
     @Override
@@ -139,6 +157,26 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
         emit(getCurrentTuple(), makeDefaultTuple(new DecisionMakerClearCommand(endpoint)));
     }
 
+    /**
+     * Send collected discovery requests to the speaker, requests for several ports of one switch are sent as one
+     * batched request.
+     */
+    private void flushDiscoveries() {
+        for (Map.Entry<SwitchId, List<DiscoPacketRef>> entry : pendingDiscoveries.entrySet()) {
+            SwitchId switchId = entry.getKey();
+            List<DiscoPacketRef> packets = entry.getValue();
+            CommandData request;
+            if (packets.size() == 1) {
+                DiscoPacketRef packet = packets.get(0);
+                request = new DiscoverIslCommandData(switchId, packet.getPortNumber(), packet.getPacketId());
+            } else {
+                request = new DiscoverIslBatchCommandData(switchId, packets);
+            }
+            emit(STREAM_SPEAKER_ID, getCurrentTuple(), makeSpeakerTuple(switchId.toString(), request));
+        }
+        pendingDiscoveries.clear();
+    }
+
     private Values makeDefaultTuple(DecisionMakerCommand command) {
         Endpoint endpoint = command.getEndpoint();
         return new Values(endpoint.getDatapath(), endpoint.getPortNumber(), command, forkContextByEndpoint(endpoint));
@@ -158,6 +196,15 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
         service.addWatch(endpoint);
     }
 
+    /**
+     * Start discovery of several endpoints of one switch.
+     */
+    public void processAddWatch(List<Endpoint> endpoints) {
+        for (Endpoint endpoint : endpoints) {
+            service.addWatch(endpoint);
+        }
+    }
+
     public void processRemoveWatch(Endpoint endpoint) {
         service.removeWatch(endpoint);
     }
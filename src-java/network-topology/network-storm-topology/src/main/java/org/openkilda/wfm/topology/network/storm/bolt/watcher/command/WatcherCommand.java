@@ -28,4 +28,11 @@ public abstract class WatcherCommand implements ICommand<WatcherHandler> {
     public WatcherCommand(Endpoint endpoint) {
         this.endpoint = endpoint;
     }
+
+    /**
+     * Create command addressed to several endpoints of one switch, such command has no own endpoint.
+     */
+    protected WatcherCommand() {
+        this(null);
+    }
 }
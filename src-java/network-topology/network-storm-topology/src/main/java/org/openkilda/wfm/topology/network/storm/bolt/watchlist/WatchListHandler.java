@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.network.storm.bolt.watchlist;
 
 import org.openkilda.bluegreen.LifecycleEvent;
+import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
@@ -30,6 +31,7 @@ import org.openkilda.wfm.topology.network.storm.ComponentId;
 import org.openkilda.wfm.topology.network.storm.bolt.isl.IslHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.port.PortHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.uniisl.UniIslHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherAddBatchCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherAddCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherRemoveCommand;
@@ -40,6 +42,11 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class WatchListHandler extends AbstractBolt implements IWatchListCarrier {
     public static final String BOLT_ID = ComponentId.WATCH_LIST.toString();
 
@@ -58,6 +65,8 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
 
     private transient NetworkWatchListService service;
 
+    private transient Map<SwitchId, List<Endpoint>> pendingDiscoveryRequests;
+
     public WatchListHandler(NetworkOptions options, String lifeCycleEventSourceComponent) {
         super(lifeCycleEventSourceComponent);
         this.options = options;
@@ -65,6 +74,14 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
+        try {
+            dispatch(input);
+        } finally {
+            flushDiscoveryRequests();
+        }
+    }
+
+    private void dispatch(Tuple input) throws Exception {
         String source = input.getSourceComponent();
         if (CoordinatorSpout.ID.equals(source)) {
             handleTimer();
@@ -103,12 +120,15 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
     @Override
     protected void init() {
         service = new NetworkWatchListService(this, options.getDiscoveryGenericInterval(),
-                options.getDiscoveryExhaustedInterval(), options.getDiscoveryAuxiliaryInterval());
+                options.getDiscoveryExhaustedInterval(), options.getDiscoveryAuxiliaryInterval(),
+                options.isDiscoveryAlignBySwitch());
+        pendingDiscoveryRequests = new LinkedHashMap<>();
     }
 
     @Override
     protected void activate() {
         service.activate();
+        flushDiscoveryRequests();
     }
 
     @Override
@@ -130,7 +150,28 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
 
     @Override
     public void discoveryRequest(Endpoint endpoint, long currentTime) {
-        emit(getCurrentTuple(), makeDefaultTuple(new WatcherAddCommand(endpoint)));
+        pendingDiscoveryRequests.computeIfAbsent(endpoint.getDatapath(), key -> new ArrayList<>())
+                .add(endpoint);
+    }
+
+    /**
+     * Emit collected discovery requests, requests for several endpoints of one switch are sent as one batch.
+     */
+    private void flushDiscoveryRequests() {
+        for (Map.Entry<SwitchId, List<Endpoint>> entry : pendingDiscoveryRequests.entrySet()) {
+            List<Endpoint> endpoints = entry.getValue();
+            if (endpoints.size() == 1) {
+                emit(getCurrentTuple(), makeDefaultTuple(new WatcherAddCommand(endpoints.get(0))));
+            } else {
+                emit(getCurrentTuple(), makeBatchTuple(entry.getKey(), new WatcherAddBatchCommand(endpoints)));
+            }
+        }
+        pendingDiscoveryRequests.clear();
+    }
+
+    private Values makeBatchTuple(SwitchId switchId, WatcherCommand command) {
+        CommandContext forkedContext = getCommandContext().fork(switchId.toString());
+        return new Values(switchId, null, command, forkedContext);
     }
 
     private Values makeDefaultTuple(WatcherCommand command) {
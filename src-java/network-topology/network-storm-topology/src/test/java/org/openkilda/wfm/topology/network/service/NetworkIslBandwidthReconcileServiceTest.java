@@ -0,0 +1,116 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.network.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.FlowPathRepository;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.persistence.tx.TransactionCallback;
+import org.openkilda.persistence.tx.TransactionManager;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NetworkIslBandwidthReconcileServiceTest {
+    private static final SwitchId SWITCH_ID_A = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_B = new SwitchId(2);
+
+    @Mock
+    private PersistenceManager persistenceManager;
+    @Mock
+    private TransactionManager transactionManager;
+    @Mock
+    private RepositoryFactory repositoryFactory;
+    @Mock
+    private IslRepository islRepository;
+    @Mock
+    private FlowPathRepository flowPathRepository;
+
+    private final Switch switchA = Switch.builder().switchId(SWITCH_ID_A).build();
+    private final Switch switchB = Switch.builder().switchId(SWITCH_ID_B).build();
+
+    @Before
+    public void setup() {
+        when(persistenceManager.getRepositoryFactory()).thenReturn(repositoryFactory);
+        when(persistenceManager.getTransactionManager()).thenReturn(transactionManager);
+        when(repositoryFactory.createIslRepository()).thenReturn(islRepository);
+        when(repositoryFactory.createFlowPathRepository()).thenReturn(flowPathRepository);
+        doAnswer(invocation -> {
+            TransactionCallback<?, ?> tr = invocation.getArgument(0);
+            return tr.doInTransaction();
+        }).when(transactionManager).doInTransaction(any(TransactionCallback.class));
+    }
+
+    @Test
+    public void shouldFixDriftedAvailableBandwidth() {
+        Isl consistent = makeIsl(1, 2, 1000, 700);
+        Isl drifted = makeIsl(2, 1, 1000, 500);
+        when(islRepository.findAll()).thenReturn(Lists.newArrayList(consistent, drifted));
+        when(flowPathRepository.getUsedBandwidthBetweenEndpoints(SWITCH_ID_A, 1, SWITCH_ID_B, 2)).thenReturn(300L);
+        when(flowPathRepository.getUsedBandwidthBetweenEndpoints(SWITCH_ID_B, 2, SWITCH_ID_A, 1)).thenReturn(300L);
+
+        NetworkIslBandwidthReconcileService service = new NetworkIslBandwidthReconcileService(persistenceManager);
+        assertEquals(1, service.reconcile(0, 1));
+
+        verify(islRepository).updateAvailableBandwidth(SWITCH_ID_B, 2, SWITCH_ID_A, 1);
+        verify(islRepository, never()).updateAvailableBandwidth(SWITCH_ID_A, 1, SWITCH_ID_B, 2);
+    }
+
+    @Test
+    public void shouldProcessEachIslInSinglePartition() {
+        Isl first = makeIsl(1, 2, 1000, 0);
+        Isl second = makeIsl(2, 1, 1000, 0);
+        when(islRepository.findAll()).thenReturn(Lists.newArrayList(first, second));
+
+        NetworkIslBandwidthReconcileService service = new NetworkIslBandwidthReconcileService(persistenceManager);
+        int partitionsCount = 3;
+        int fixed = 0;
+        for (int partition = 0; partition < partitionsCount; partition++) {
+            fixed += service.reconcile(partition, partitionsCount);
+        }
+
+        assertEquals(2, fixed);
+    }
+
+    private Isl makeIsl(int srcPort, int dstPort, long maxBandwidth, long availableBandwidth) {
+        boolean forward = srcPort == 1;
+        return Isl.builder()
+                .srcSwitch(forward ? switchA : switchB)
+                .srcPort(srcPort)
+                .destSwitch(forward ? switchB : switchA)
+                .destPort(dstPort)
+                .maxBandwidth(maxBandwidth)
+                .availableBandwidth(availableBandwidth)
+                .build();
+    }
+}
@@ -161,6 +161,33 @@ public class NetworkWatchListServiceTest {
                 longThat(time -> Arrays.asList(1L, 11L, 41L, 66L, 81L, 96L).contains(time)));
     }
 
+    @org.junit.Test
+    public void alignBySwitch() {
+        NetworkWatchListService s = new NetworkWatchListService(carrier, 10, 20, 30, true);
+
+        Endpoint first = Endpoint.of(new SwitchId(1), 1);
+        Endpoint second = Endpoint.of(new SwitchId(1), 2);
+        long phase = s.alignTimeout(first, 1000);
+        assertEquals(phase, s.alignTimeout(second, phase + 9));
+
+        s.addWatch(first, phase - 9);
+        s.addWatch(second, phase - 1);
+
+        // both endpoints of the switch share one timeout
+        assertThat(s.getTimeouts().size(), is(1));
+        assertThat(s.getTimeouts().firstKey(), is(phase));
+
+        for (long i = phase - 9; i <= phase + 50; i++) {
+            s.tick(i);
+        }
+
+        assertThat(s.getTimeouts().size(), is(1));
+        for (Endpoint endpoint : Arrays.asList(first, second)) {
+            verify(carrier, times(6)).discoveryRequest(eq(endpoint),
+                    longThat(time -> time >= phase && (time - phase) % 10 == 0));
+        }
+    }
+
     @org.junit.Test
     public void calculateTimeout() {
         long genericTimeout = 10L;
@@ -36,6 +36,8 @@ import org.openkilda.northbound.dto.v1.flows.PingInput;
 import org.openkilda.northbound.dto.v1.flows.PingOutput;
 import org.openkilda.northbound.service.FlowService;
 import org.openkilda.northbound.utils.ExtraAuthRequired;
+import org.openkilda.northbound.utils.stream.NdjsonResponseStream;
+import org.openkilda.northbound.utils.stream.NdjsonStreamFactory;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -86,6 +88,9 @@ public class FlowController extends BaseController {
     @Autowired
     private FlowService flowService;
 
+    @Autowired
+    private NdjsonStreamFactory streamFactory;
+
     /**
      * Creates new flow.
      *
@@ -167,6 +172,26 @@ public class FlowController extends BaseController {
         return flowService.getAllFlows();
     }
 
+    /**
+     * Dumps all flows as newline delimited JSON. Flows are written as soon as they are received, unless the page
+     * limit is specified.
+     *
+     * @param cursor flow id of the last flow of the previous page.
+     * @param limit max number of flows in the page.
+     * @return stream of flows
+     */
+    @ApiOperation(value = "Dumps all flows as a stream of newline delimited JSON", response = FlowResponsePayload.class,
+            responseContainer = "List")
+    @GetMapping(produces = NdjsonResponseStream.MEDIA_TYPE_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public NdjsonResponseStream<FlowResponsePayload> streamFlows(
+            @ApiParam(value = "Flow id of the last flow of the previous page. Flows are ordered by flow id.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiParam(value = "Max number of flows in the page. All flows are streamed if not specified.")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return streamFactory.streamPage(flowService::streamAllFlows, FlowResponsePayload::getId, cursor, limit);
+    }
+
     /**
      * Delete all flows.
      *
@@ -27,7 +27,10 @@ import org.openkilda.northbound.dto.v1.links.LinkMaxBandwidthRequest;
 import org.openkilda.northbound.dto.v1.links.LinkParametersDto;
 import org.openkilda.northbound.dto.v1.links.LinkPropsDto;
 import org.openkilda.northbound.dto.v1.links.LinkUnderMaintenanceDto;
+import org.openkilda.northbound.dto.v1.links.PathDto;
 import org.openkilda.northbound.service.LinkService;
+import org.openkilda.northbound.utils.stream.NdjsonResponseStream;
+import org.openkilda.northbound.utils.stream.NdjsonStreamFactory;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -59,6 +62,9 @@ public class LinkController extends BaseLinkController {
     @Autowired
     private LinkService linkService;
 
+    @Autowired
+    private NdjsonStreamFactory streamFactory;
+
     /**
      * Get all available links.
      *
@@ -75,6 +81,30 @@ public class LinkController extends BaseLinkController {
         return linkService.getLinks(srcSwitch, srcPort, dstSwitch, dstPort);
     }
 
+    /**
+     * Get all available links as newline delimited JSON.
+     *
+     * @return stream of links.
+     */
+    @ApiOperation(value = "Get all links, based on arguments, as a stream of newline delimited JSON.",
+            response = LinkDto.class, responseContainer = "List")
+    @GetMapping(path = "/links", produces = NdjsonResponseStream.MEDIA_TYPE_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public NdjsonResponseStream<LinkDto> streamLinks(
+            @RequestParam(value = "src_switch", required = false) SwitchId srcSwitch,
+            @RequestParam(value = "src_port", required = false) Integer srcPort,
+            @RequestParam(value = "dst_switch", required = false) SwitchId dstSwitch,
+            @RequestParam(value = "dst_port", required = false) Integer dstPort,
+            @ApiParam(value = "Key of the last link of the previous page, "
+                    + "formatted as <src_switch>_<src_port>_<dst_switch>_<dst_port>. Links are ordered by the key.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiParam(value = "Max number of links in the page. All links are streamed if not specified.")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return streamFactory.streamPage(
+                consumer -> linkService.streamLinks(srcSwitch, srcPort, dstSwitch, dstPort, consumer),
+                LinkController::makeLinkKey, cursor, limit);
+    }
+
     /**
      * Delete link.
      *
@@ -214,4 +244,11 @@ public class LinkController extends BaseLinkController {
         NetworkEndpoint destination = makeDestinationEndpoint(new SwitchId(link.getDstSwitch()), link.getDstPort());
         return linkService.writeBfdProperties(source, destination, link.isEnableBfd());
     }
+
+    private static String makeLinkKey(LinkDto link) {
+        PathDto source = link.getPath().get(0);
+        PathDto destination = link.getPath().get(1);
+        return String.format("%s_%d_%s_%d", source.getSwitchId(), source.getPortNo(),
+                destination.getSwitchId(), destination.getPortNo());
+    }
 }
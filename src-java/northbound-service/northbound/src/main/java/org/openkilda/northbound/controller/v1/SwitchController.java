@@ -45,6 +45,8 @@ import org.openkilda.northbound.dto.v1.switches.UnderMaintenanceDto;
 import org.openkilda.northbound.service.SwitchService;
 import org.openkilda.northbound.utils.ExtraAuthRequired;
 import org.openkilda.northbound.utils.RequestCorrelationId;
+import org.openkilda.northbound.utils.stream.NdjsonResponseStream;
+import org.openkilda.northbound.utils.stream.NdjsonStreamFactory;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -84,6 +86,9 @@ public class SwitchController extends BaseController {
     @Autowired
     private SwitchService switchService;
 
+    @Autowired
+    private NdjsonStreamFactory streamFactory;
+
     /**
      * Get all available switches.
      *
@@ -96,6 +101,26 @@ public class SwitchController extends BaseController {
         return switchService.getSwitches();
     }
 
+    /**
+     * Get all available switches as newline delimited JSON.
+     *
+     * @param cursor switch id of the last switch of the previous page.
+     * @param limit max number of switches in the page.
+     * @return stream of switches.
+     */
+    @ApiOperation(value = "Get all available switches as a stream of newline delimited JSON",
+            response = SwitchDto.class, responseContainer = "List")
+    @GetMapping(produces = NdjsonResponseStream.MEDIA_TYPE_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public NdjsonResponseStream<SwitchDto> streamSwitches(
+            @ApiParam(value = "Switch id of the last switch of the previous page. Switches are ordered by switch id.")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @ApiParam(value = "Max number of switches in the page. All switches are streamed if not specified.")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return streamFactory.streamPage(switchService::streamSwitches, item -> item.getSwitchId().toString(),
+                cursor, limit);
+    }
+
     /**
      * Get switch.
      *
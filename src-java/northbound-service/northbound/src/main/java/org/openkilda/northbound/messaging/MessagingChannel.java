@@ -20,6 +20,7 @@ import org.openkilda.messaging.info.InfoData;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The main component for sending messages to internal kilda components. All sent operations will be performed
@@ -49,6 +50,21 @@ public interface MessagingChannel {
      */
     CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message);
 
+    /**
+     * Sends the message to the specified topic and passes chunked responses for this request to the consumer as soon
+     * as they are received, so the whole response is never held in memory. Chunks are passed one by one in the order
+     * of receiving.
+     * <p/>
+     * If the consumer throws an exception, the request is completed exceptionally and the rest of chunks are skipped.
+     * Completing the returned future by the caller cancels the request in the same way.
+     *
+     * @param topic topic where the message should be sent.
+     * @param message data to be sent.
+     * @param consumer receiver of chunked responses.
+     * @return future which is completed when all chunks are passed to the consumer.
+     */
+    CompletableFuture<Void> sendAndStreamChunked(String topic, Message message, Consumer<InfoData> consumer);
+
     /**
      * Sends the message to the specified topic without waiting for a response.
      *
@@ -27,27 +27,21 @@ import org.openkilda.northbound.messaging.MessagingChannel;
 import org.openkilda.northbound.messaging.exception.MessageNotSentException;
 
 import com.google.common.annotations.VisibleForTesting;
-import org.apache.commons.collections4.map.PassiveExpiringMap;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import javax.annotation.PostConstruct;
+import java.util.function.Consumer;
 
 /**
  * Implementation of {@link MessagingChannel} for kafka.
@@ -61,34 +55,11 @@ public class KafkaMessagingChannel implements MessagingChannel {
      * Requests that are in progress of processing.
      */
     private final Map<String, CompletableFuture<InfoData>> pendingRequests = new ConcurrentHashMap<>();
-    private final Map<String, CompletableFuture<List<InfoData>>> pendingChunkedRequests = new ConcurrentHashMap<>();
-
-    /**
-     * Chains of chunked messages, it is filling by messages one by one as soon as the next linked message is received.
-     */
-    private Map<String, List<ChunkedInfoMessage>> messagesChains;
-
-    /**
-     * The storage for received chunked message ids. It is needed to identify whether we have already received specific
-     * chunked message or not in order to do not have duplicates, because current version of kafka do not guarantee
-     * exactly once delivery.
-     */
-    private Map<String, Set<String>> chunkedMessageIdsPerRequest = new ConcurrentHashMap<>();
-
-    @Value("${northbound.messages.expiration.minutes}")
-    private int expiredTime;
+    private final Map<String, PendingChunkedRequest> pendingChunkedRequests = new ConcurrentHashMap<>();
 
     @Autowired
     private MessageProducer messageProducer;
 
-    /**
-     * Creates storage for chains of messages.
-     */
-    @PostConstruct
-    public void setUp() {
-        messagesChains = new PassiveExpiringMap<>(expiredTime, TimeUnit.MINUTES, new ConcurrentHashMap<>());
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -111,11 +82,20 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     @Override
     public CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message) {
-        CompletableFuture<List<InfoData>> future = new CompletableFuture<>();
-        pendingChunkedRequests.put(message.getCorrelationId(), future);
+        List<InfoData> response = new ArrayList<>();
+        return sendAndStreamChunked(topic, message, response::add)
+                .thenApply(ignore -> response);
+    }
 
-        messagesChains.put(message.getCorrelationId(), new ArrayList<>());
-        chunkedMessageIdsPerRequest.put(message.getCorrelationId(), new HashSet<>());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> sendAndStreamChunked(String topic, Message message, Consumer<InfoData> consumer) {
+        PendingChunkedRequest request = new PendingChunkedRequest(consumer);
+        CompletableFuture<Void> future = request.getFuture();
+        pendingChunkedRequests.put(message.getCorrelationId(), request);
+        future.whenComplete((response, error) -> pendingChunkedRequests.remove(message.getCorrelationId(), request));
 
         ListenableFuture<SendResult<String, Message>> futureResult = messageProducer.send(topic, message);
         futureResult.addCallback(
@@ -123,12 +103,7 @@ public class KafkaMessagingChannel implements MessagingChannel {
                 error -> future.completeExceptionally(new MessageNotSentException(error.getMessage()))
         );
 
-        return future.whenComplete((response, error) -> {
-            pendingChunkedRequests.remove(message.getCorrelationId());
-
-            messagesChains.remove(message.getCorrelationId());
-            chunkedMessageIdsPerRequest.remove(message.getCorrelationId());
-        });
+        return future;
     }
 
     /**
@@ -142,8 +117,8 @@ public class KafkaMessagingChannel implements MessagingChannel {
     /**
      * Processes messages that come back to NB topics, usually messages come as a response to some request.
      * If this response is for pended request then such request will be marked as completed.
-     * Messages might be chunked and not chunked. If chunked we need to wait until we receive the last one
-     * and only then collect all responses and complete the request.
+     * Messages might be chunked and not chunked. Chunked messages are passed to the pending request as soon as they are
+     * received, the request is completed when the last one is received.
      *
      * @param message received message.
      */
@@ -165,8 +140,10 @@ public class KafkaMessagingChannel implements MessagingChannel {
 
             completeWithError(error);
         } else if (message instanceof InfoMessage) {
-            if (isChunkedPendingResponse(message)) {
-                processChunkedMessage((ChunkedInfoMessage) message);
+            PendingChunkedRequest chunkedRequest = message instanceof ChunkedInfoMessage
+                    ? pendingChunkedRequests.get(message.getCorrelationId()) : null;
+            if (chunkedRequest != null) {
+                chunkedRequest.onChunk((ChunkedInfoMessage) message);
             } else if (pendingRequests.containsKey(message.getCorrelationId())) {
                 InfoMessage infoMessage = (InfoMessage) message;
                 CompletableFuture<InfoData> request = pendingRequests.remove(message.getCorrelationId());
@@ -179,51 +156,18 @@ public class KafkaMessagingChannel implements MessagingChannel {
         }
     }
 
-    /**
-     * Performs searching and collecting all chunked messages into one chain if possible.
-     */
-    private synchronized void processChunkedMessage(ChunkedInfoMessage received) {
-        String requestId = received.getCorrelationId();
-        Set<String> associatedMessages = chunkedMessageIdsPerRequest.get(requestId);
-        if (!associatedMessages.add(received.getMessageId())) {
-            logger.debug("Skipping chunked message, it is already received: {}", received);
-            return;
-        }
-
-        List<ChunkedInfoMessage> chain = messagesChains.get(requestId);
-        if (received.getTotalMessages() != 0) {
-            chain.add(received);
-        }
-
-        if (chain.size() == received.getTotalMessages()) {
-            completeRequest(requestId, chain);
-        }
-    }
-
-    /**
-     * Completes pending request with received responses.
-     */
-    private void completeRequest(String requestId, List<ChunkedInfoMessage> chain) {
-        List<InfoData> response = chain.stream()
-                .map(ChunkedInfoMessage::getData)
-                .collect(Collectors.toList());
-
-        pendingChunkedRequests
-                .get(requestId)
-                .complete(response);
-    }
-
     /**
      * Completes a request with an error response.
      */
-    private synchronized void completeWithError(ErrorMessage error) {
+    private void completeWithError(ErrorMessage error) {
         String correlationId = error.getCorrelationId();
 
-        CompletableFuture request = null;
-        if (pendingRequests.containsKey(correlationId)) {
-            request = pendingRequests.remove(correlationId);
-        } else if (pendingChunkedRequests.containsKey(correlationId)) {
-            request = pendingChunkedRequests.remove(correlationId);
+        CompletableFuture<?> request = pendingRequests.remove(correlationId);
+        if (request == null) {
+            PendingChunkedRequest chunkedRequest = pendingChunkedRequests.remove(correlationId);
+            if (chunkedRequest != null) {
+                request = chunkedRequest.getFuture();
+            }
         }
 
         if (request != null) {
@@ -248,17 +192,13 @@ public class KafkaMessagingChannel implements MessagingChannel {
         return true;
     }
 
-    private boolean isChunkedPendingResponse(Message message) {
-        return message instanceof ChunkedInfoMessage && pendingChunkedRequests.containsKey(message.getCorrelationId());
-    }
-
     @VisibleForTesting
     Map<String, CompletableFuture<InfoData>> getPendingRequests() {
         return new HashMap<>(pendingRequests);
     }
 
     @VisibleForTesting
-    Map<String, CompletableFuture<List<InfoData>>> getPendingChunkedRequests() {
+    Map<String, PendingChunkedRequest> getPendingChunkedRequests() {
         return new HashMap<>(pendingChunkedRequests);
     }
 }
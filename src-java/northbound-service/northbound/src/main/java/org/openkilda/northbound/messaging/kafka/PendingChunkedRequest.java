@@ -0,0 +1,87 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.messaging.kafka;
+
+import org.openkilda.messaging.info.ChunkedInfoMessage;
+import org.openkilda.messaging.info.InfoData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Chunked request which is waiting for responses. Received chunks are passed to the consumer one by one, the request
+ * is completed as soon as the last chunk is passed.
+ * <p/>
+ * All chunks of the request are processed under the lock of the request itself, so the processing of chunks of
+ * different requests doesn't block each other.
+ */
+class PendingChunkedRequest {
+    private static final Logger logger = LoggerFactory.getLogger(PendingChunkedRequest.class);
+
+    private final Consumer<InfoData> consumer;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * The storage for received chunked message ids. It is needed to identify whether we have already received specific
+     * chunked message or not in order to do not have duplicates, because current version of kafka do not guarantee
+     * exactly once delivery.
+     */
+    private final Set<String> receivedMessageIds = new HashSet<>();
+    private int received;
+
+    PendingChunkedRequest(Consumer<InfoData> consumer) {
+        this.consumer = consumer;
+    }
+
+    CompletableFuture<Void> getFuture() {
+        return future;
+    }
+
+    /**
+     * Passes the chunk to the consumer and completes the request if it is the last one.
+     */
+    synchronized void onChunk(ChunkedInfoMessage chunk) {
+        if (future.isDone()) {
+            logger.debug("Skipping chunked message, the request is already completed: {}", chunk);
+            return;
+        }
+        if (!receivedMessageIds.add(chunk.getMessageId())) {
+            logger.debug("Skipping chunked message, it is already received: {}", chunk);
+            return;
+        }
+
+        if (chunk.getTotalMessages() != 0) {
+            received++;
+            try {
+                consumer.accept(chunk.getData());
+            } catch (Exception e) {
+                logger.warn("Failed to process chunked message of the request {}: {}",
+                        chunk.getCorrelationId(), e.getMessage());
+                future.completeExceptionally(e);
+                return;
+            }
+        }
+
+        if (received == chunk.getTotalMessages()) {
+            future.complete(null);
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * FlowService is for operations on flows, primarily against the Flow Topology.
@@ -138,6 +139,14 @@ public interface FlowService {
      */
     CompletableFuture<List<FlowResponsePayload>> getAllFlows();
 
+    /**
+     * Passes all the flows to the consumer as soon as they are received.
+     *
+     * @param consumer receiver of flows.
+     * @return future which is completed when all flows are passed to the consumer.
+     */
+    CompletableFuture<Void> streamAllFlows(Consumer<FlowResponsePayload> consumer);
+
     /**
      * Gets all the flows.
      *
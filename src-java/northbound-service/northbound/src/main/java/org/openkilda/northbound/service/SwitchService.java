@@ -49,6 +49,7 @@ import org.openkilda.northbound.dto.v2.switches.SwitchPropertiesDump;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface SwitchService {
 
@@ -58,6 +59,12 @@ public interface SwitchService {
      */
     CompletableFuture<List<SwitchDto>> getSwitches();
 
+    /**
+     * Pass all available switches to the consumer as soon as they are received.
+     * @return future which is completed when all switches are passed to the consumer.
+     */
+    CompletableFuture<Void> streamSwitches(Consumer<SwitchDto> consumer);
+
     /**
      * Get available switch.
      * @return switch.
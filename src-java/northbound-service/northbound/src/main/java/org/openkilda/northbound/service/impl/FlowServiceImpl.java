@@ -109,6 +109,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -347,6 +348,19 @@ public class FlowServiceImpl implements FlowService {
                 new FlowsDumpRequest(), correlationId, flowMapper::toFlowResponseOutput);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> streamAllFlows(Consumer<FlowResponsePayload> consumer) {
+        final String correlationId = RequestCorrelationId.getId();
+        logger.debug("Stream flows request processing");
+        CommandMessage request = new CommandMessage(
+                new FlowsDumpRequest(), System.currentTimeMillis(), correlationId, Destination.WFM);
+        return messagingChannel.sendAndStreamChunked(nbworkerTopic, request,
+                data -> consumer.accept(flowMapper.toFlowResponseOutput(((FlowResponse) data).getPayload())));
+    }
+
     /**
      * {@inheritDoc}
      */
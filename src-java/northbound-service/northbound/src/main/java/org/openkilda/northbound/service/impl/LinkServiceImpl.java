@@ -81,6 +81,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -128,9 +129,30 @@ public class LinkServiceImpl extends BaseService implements LinkService {
     @Override
     public CompletableFuture<List<LinkDto>> getLinks(SwitchId srcSwitch, Integer srcPort,
                                                      SwitchId dstSwitch, Integer dstPort) {
-        final String correlationId = RequestCorrelationId.getId();
         logger.debug("Get links request received");
-        GetLinksRequest request = null;
+        CommandMessage message = makeGetLinksMessage(srcSwitch, srcPort, dstSwitch, dstPort);
+
+        return messagingChannel.sendAndGetChunked(nbworkerTopic, message)
+                .thenApply(response -> response.stream()
+                        .map(IslInfoData.class::cast)
+                        .map(linkMapper::mapResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<Void> streamLinks(SwitchId srcSwitch, Integer srcPort,
+                                               SwitchId dstSwitch, Integer dstPort, Consumer<LinkDto> consumer) {
+        logger.debug("Stream links request received");
+        CommandMessage message = makeGetLinksMessage(srcSwitch, srcPort, dstSwitch, dstPort);
+
+        return messagingChannel.sendAndStreamChunked(nbworkerTopic, message,
+                data -> consumer.accept(linkMapper.mapResponse((IslInfoData) data)));
+    }
+
+    private CommandMessage makeGetLinksMessage(SwitchId srcSwitch, Integer srcPort,
+                                               SwitchId dstSwitch, Integer dstPort) {
+        final String correlationId = RequestCorrelationId.getId();
+        GetLinksRequest request;
         try {
             request = new GetLinksRequest(new NetworkEndpointMask(srcSwitch, srcPort),
                     new NetworkEndpointMask(dstSwitch, dstPort));
@@ -139,13 +161,7 @@ public class LinkServiceImpl extends BaseService implements LinkService {
             throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
                     e.getMessage(), "Can not parse arguments when create 'get links' request");
         }
-        CommandMessage message = new CommandMessage(request, System.currentTimeMillis(), correlationId);
-
-        return messagingChannel.sendAndGetChunked(nbworkerTopic, message)
-                .thenApply(response -> response.stream()
-                        .map(IslInfoData.class::cast)
-                        .map(linkMapper::mapResponse)
-                        .collect(Collectors.toList()));
+        return new CommandMessage(request, System.currentTimeMillis(), correlationId);
     }
 
     @Override
@@ -115,6 +115,7 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -175,6 +176,20 @@ public class SwitchServiceImpl extends BaseService implements SwitchService {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> streamSwitches(Consumer<SwitchDto> consumer) {
+        final String correlationId = RequestCorrelationId.getId();
+        logger.debug("Stream switches request received");
+        CommandMessage request = new CommandMessage(new GetSwitchesRequest(), System.currentTimeMillis(),
+                correlationId);
+
+        return messagingChannel.sendAndStreamChunked(nbworkerTopic, request,
+                data -> consumer.accept(switchMapper.toSwitchDto(((GetSwitchResponse) data).getPayload())));
+    }
+
     /**
      * {@inheritDoc}
      */
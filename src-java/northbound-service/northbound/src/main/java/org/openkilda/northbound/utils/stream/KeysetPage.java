@@ -0,0 +1,64 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.stream;
+
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Collects one page of items for the keyset (cursor-based) pagination. The page consists of items with the smallest
+ * keys which are greater than the cursor, in ascending order of keys. The cursor for the next page is the key of
+ * the last item of the page.
+ * <p/>
+ * Only the page itself is kept in memory, so the page can be selected from the dump of any size.
+ *
+ * @param <T> type of items.
+ */
+public class KeysetPage<T> implements Consumer<T> {
+    private final Function<T, String> keyFunction;
+    private final String cursor;
+    private final int limit;
+
+    private final TreeMap<String, T> items = new TreeMap<>();
+
+    public KeysetPage(Function<T, String> keyFunction, String cursor, int limit) {
+        this.keyFunction = keyFunction;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    @Override
+    public void accept(T item) {
+        String key = keyFunction.apply(item);
+        if (cursor != null && key.compareTo(cursor) <= 0) {
+            return;
+        }
+        if (items.size() == limit && key.compareTo(items.lastKey()) >= 0) {
+            return;
+        }
+
+        items.put(key, item);
+        if (items.size() > limit) {
+            items.pollLastEntry();
+        }
+    }
+
+    public Collection<T> getItems() {
+        return items.values();
+    }
+}
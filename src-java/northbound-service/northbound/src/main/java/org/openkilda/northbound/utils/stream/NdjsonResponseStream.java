@@ -0,0 +1,165 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Response which writes items as newline delimited JSON (NDJSON) as soon as they are produced, using chunked transfer
+ * encoding.
+ * <p/>
+ * Items are passed from the producer to the writer through the buffer. The producer is never blocked, because it is
+ * usually the thread which receives responses for all requests, and the dump source can't be paused. So if the client
+ * doesn't read the response fast enough, the rest of the dump is buffered in memory, as for a regular (not streamed)
+ * response, and the stream falls back to a fully buffered response. Exceeding of the buffer size is reported once.
+ *
+ * @param <T> type of items.
+ */
+public class NdjsonResponseStream<T> extends ResponseBodyEmitter implements Consumer<T> {
+    public static final String MEDIA_TYPE_VALUE = "application/x-ndjson";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonResponseStream.class);
+
+    private static final Object END_OF_STREAM = new Object();
+    private static final int MAX_ITEMS_PER_WRITE = 256;
+
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+    private final int bufferSize;
+    private boolean bufferSizeExceeded = false;
+
+    private volatile CompletableFuture<?> source;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    NdjsonResponseStream(long timeoutMillis, ObjectMapper objectMapper, int bufferSize) {
+        super(timeoutMillis);
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+
+        onTimeout(() -> abort(new StreamAbortedException("Timeout exceeded")));
+        onError(error -> abort(new StreamAbortedException("Client connection is broken")));
+    }
+
+    /**
+     * Passes the item to the writer. Never blocks, the item is kept in memory until the client reads it.
+     *
+     * @throws StreamAbortedException if the stream is aborted.
+     */
+    @Override
+    public void accept(T item) {
+        if (failure.get() != null) {
+            throw new StreamAbortedException("Stream is aborted", failure.get());
+        }
+        buffer.offer(item);
+        if (!bufferSizeExceeded && buffer.size() > bufferSize) {
+            bufferSizeExceeded = true;
+            logger.warn("Client doesn't read the stream fast enough, more than {} items are buffered", bufferSize);
+        }
+    }
+
+    /**
+     * Binds the stream with the source of items. The stream is finished as soon as the source is completed, the source
+     * is completed exceptionally if the stream is aborted.
+     */
+    void bind(CompletableFuture<?> source) {
+        this.source = source;
+        source.whenComplete((ignore, error) -> {
+            if (error != null) {
+                abort(error);
+            } else {
+                buffer.offer(END_OF_STREAM);
+            }
+        });
+    }
+
+    /**
+     * Writes buffered items into the response until the end of the stream. Must be executed in a dedicated thread.
+     */
+    void writeAll() {
+        List<Object> items = new ArrayList<>(MAX_ITEMS_PER_WRITE);
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        try {
+            boolean finished = false;
+            while (!finished) {
+                items.clear();
+                items.add(buffer.take());
+                buffer.drainTo(items, MAX_ITEMS_PER_WRITE - 1);
+
+                chunk.reset();
+                for (Object item : items) {
+                    if (item == END_OF_STREAM) {
+                        finished = true;
+                        break;
+                    }
+                    chunk.write(objectMapper.writeValueAsBytes(item));
+                    chunk.write('\n');
+                }
+                if (chunk.size() > 0) {
+                    send(chunk.toByteArray());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(new StreamAbortedException("Stream writer is interrupted"));
+        } catch (Exception e) {
+            abort(e);
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            logger.warn("Response stream is aborted: {}", error.getMessage());
+            completeWithError(error);
+        } else {
+            complete();
+        }
+    }
+
+    @Override
+    protected void extendResponse(ServerHttpResponse outputMessage) {
+        super.extendResponse(outputMessage);
+        outputMessage.getHeaders().setContentType(MEDIA_TYPE);
+    }
+
+    private void abort(Throwable error) {
+        if (!failure.compareAndSet(null, error)) {
+            return;
+        }
+
+        // wake up the writer, there is no need to write the rest of items
+        buffer.clear();
+        buffer.offer(END_OF_STREAM);
+
+        CompletableFuture<?> current = source;
+        if (current != null) {
+            current.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.stream;
+
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Creates {@link NdjsonResponseStream} for dumps, which are received as chunked responses. Each stream is written
+ * by a dedicated writer thread, so a slow client never blocks the processing of responses for other requests.
+ */
+@Component
+public class NdjsonStreamFactory {
+    @Value("${northbound.messages.expiration.minutes}")
+    private int expiredTime;
+
+    @Value("${northbound.stream.buffer.size}")
+    private int bufferSize;
+
+    @Autowired
+    private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+    private ObjectMapper objectMapper;
+
+    private final ExecutorService writers = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("ndjson-writer-%d")
+            .setDaemon(true)
+            .build());
+
+    /**
+     * Takes the object mapper of the JSON message converter, so streamed items are serialized in the same way as
+     * regular JSON responses.
+     */
+    @PostConstruct
+    public void init() {
+        objectMapper = requestMappingHandlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("There is no JSON message converter"));
+    }
+
+    /**
+     * Creates the stream which passes all items of the source to the client as soon as they are produced.
+     *
+     * @param source starts producing items into the provided consumer, the returned future must be completed when
+     *               all items are produced.
+     */
+    public <T> NdjsonResponseStream<T> stream(Function<Consumer<T>, CompletableFuture<?>> source) {
+        NdjsonResponseStream<T> stream = new NdjsonResponseStream<>(
+                TimeUnit.MINUTES.toMillis(expiredTime), objectMapper, bufferSize);
+        stream.bind(source.apply(stream));
+        writers.execute(stream::writeAll);
+        return stream;
+    }
+
+    /**
+     * Creates the stream which passes the page of items of the source to the client. See {@link KeysetPage} for
+     * the page selection. If the limit is not specified, all items after the cursor are passed as soon as they are
+     * produced.
+     *
+     * @param source starts producing items into the provided consumer, the returned future must be completed when
+     *               all items are produced.
+     * @param keyFunction provides the key of the item, which is used as the cursor.
+     * @param cursor the key of the last item of the previous page, or null for the first page.
+     * @param limit max number of items in the page.
+     */
+    public <T> NdjsonResponseStream<T> streamPage(Function<Consumer<T>, CompletableFuture<?>> source,
+                                                  Function<T, String> keyFunction, String cursor, Integer limit) {
+        if (limit == null) {
+            if (cursor == null) {
+                return stream(source);
+            }
+            return stream(consumer -> source.apply(item -> {
+                if (keyFunction.apply(item).compareTo(cursor) > 0) {
+                    consumer.accept(item);
+                }
+            }));
+        }
+
+        if (limit <= 0 || limit > bufferSize) {
+            throw new MessageException(ErrorType.PARAMETERS_INVALID,
+                    String.format("The limit must be in range from 1 to %d", bufferSize), "Invalid page limit");
+        }
+        return stream(consumer -> {
+            KeysetPage<T> page = new KeysetPage<>(keyFunction, cursor, limit);
+            CompletableFuture<?> pageSource = source.apply(page);
+            CompletableFuture<Void> result = pageSource.thenRun(() -> page.getItems().forEach(consumer));
+            // the stream aborts the returned future only, so pass the abort to the source
+            result.whenComplete((ignore, error) -> {
+                if (error != null) {
+                    pageSource.cancel(false);
+                }
+            });
+            return result;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+}
@@ -64,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Spring component which mocks WorkFlow Manager. This instance listens kafka ingoing requests and sends back
@@ -198,6 +199,12 @@ public class TestMessageMock implements MessagingChannel {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> sendAndStreamChunked(String topic, Message message, Consumer<InfoData> consumer) {
+        CompletableFuture<List<InfoData>> response = sendAndGetChunked(topic, message);
+        return response == null ? null : response.thenAccept(items -> items.forEach(consumer));
+    }
+
     @Override
     public void send(String topic, Message message) {
         if (message instanceof CommandMessage) {
@@ -51,6 +51,8 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -168,6 +170,46 @@ public class KafkaMessagingChannelTest {
         assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
     }
 
+    @Test
+    public void shouldStreamChunked() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int messagesAmount = 1000;
+
+        prepareChunkedResponses(requestId, timestamp, messagesAmount);
+        Message request = new Message(timestamp, requestId);
+
+        List<InfoData> received = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, received::add);
+        prepareResponses(CHUNKED_TOPIC);
+        future.get(10, TimeUnit.SECONDS);
+
+        assertEquals(messagesAmount, received.size());
+        assertEquals(messagesAmount, new HashSet<>(received).size());
+        assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldCompleteStreamExceptionallyIfConsumerFails() throws Exception {
+        thrown.expect(ExecutionException.class);
+
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+
+        prepareChunkedResponses(requestId, timestamp, 10);
+        Message request = new Message(timestamp, requestId);
+
+        CompletableFuture<Void> future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request, data -> {
+            throw new IllegalStateException("Stream is aborted");
+        });
+        prepareResponses(CHUNKED_TOPIC);
+        try {
+            future.get(1, TimeUnit.SECONDS);
+        } finally {
+            assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
+        }
+    }
+
     @Test
     public void shouldCompleteResponseExceptionallyIfResponseIsError() throws Exception {
         thrown.expect(ExecutionException.class);
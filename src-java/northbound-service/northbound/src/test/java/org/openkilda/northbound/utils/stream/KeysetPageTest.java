@@ -0,0 +1,62 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPageTest {
+    private static final List<String> ITEMS = Arrays.asList("f", "b", "h", "a", "e", "c", "g", "d");
+
+    @Test
+    public void shouldSelectFirstPage() {
+        KeysetPage<String> page = new KeysetPage<>(Function.identity(), null, 3);
+        ITEMS.forEach(page);
+
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(page.getItems()));
+    }
+
+    @Test
+    public void shouldSelectPageAfterCursor() {
+        KeysetPage<String> page = new KeysetPage<>(Function.identity(), "c", 3);
+        ITEMS.forEach(page);
+
+        assertEquals(Arrays.asList("d", "e", "f"), new ArrayList<>(page.getItems()));
+    }
+
+    @Test
+    public void shouldSelectLastIncompletePage() {
+        KeysetPage<String> page = new KeysetPage<>(Function.identity(), "f", 3);
+        ITEMS.forEach(page);
+
+        assertEquals(Arrays.asList("g", "h"), new ArrayList<>(page.getItems()));
+    }
+
+    @Test
+    public void shouldSelectEmptyPageAfterLastItem() {
+        KeysetPage<String> page = new KeysetPage<>(Function.identity(), "h", 3);
+        ITEMS.forEach(page);
+
+        assertEquals(Collections.emptyList(), new ArrayList<>(page.getItems()));
+    }
+}
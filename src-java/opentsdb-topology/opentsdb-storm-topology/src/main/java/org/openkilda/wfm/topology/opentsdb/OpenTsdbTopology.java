@@ -25,6 +25,8 @@ import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.opentsdb.OpenTsdbTopologyConfig.OpenTsdbConfig;
 import org.openkilda.wfm.topology.opentsdb.bolts.DatapointParseBolt;
 import org.openkilda.wfm.topology.opentsdb.bolts.OpenTSDBFilterBolt;
+import org.openkilda.wfm.topology.opentsdb.bolts.OpenTsdbWriterBolt;
+import org.openkilda.wfm.topology.opentsdb.bolts.OpenTsdbWriterBolt.WriterConfig;
 import org.openkilda.wfm.topology.utils.InfoDataTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -34,6 +36,7 @@ import org.apache.storm.kafka.spout.KafkaSpoutConfig;
 import org.apache.storm.opentsdb.bolt.OpenTsdbBolt;
 import org.apache.storm.opentsdb.bolt.TupleOpenTsdbDatapointMapper;
 import org.apache.storm.opentsdb.client.OpenTsdbClient;
+import org.apache.storm.topology.IRichBolt;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
@@ -79,9 +82,18 @@ public class OpenTsdbTopology extends AbstractTopology<OpenTsdbTopologyConfig> {
                 .shuffleGrouping(OTSDB_SPOUT_ID)
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
 
-        declareBolt(tb, new OpenTSDBFilterBolt(), OTSDB_FILTER_BOLT_ID)
+        declareBolt(tb, new OpenTSDBFilterBolt(openTsdbConfig.getFilterCapacity()), OTSDB_FILTER_BOLT_ID)
                 .fieldsGrouping(OTSDB_PARSE_BOLT_ID, new Fields("hash"));
 
+        IRichBolt openTsdbBolt = openTsdbConfig.isAsyncWriterEnabled()
+                ? createAsyncWriterBolt(openTsdbConfig) : createOpenTsdbBolt(openTsdbConfig);
+        declareBolt(tb, openTsdbBolt, OTSDB_BOLT_ID)
+                .shuffleGrouping(OTSDB_FILTER_BOLT_ID);
+
+        return tb.createTopology();
+    }
+
+    private OpenTsdbBolt createOpenTsdbBolt(OpenTsdbConfig openTsdbConfig) {
         OpenTsdbClient.Builder tsdbBuilder = OpenTsdbClient
                 .newBuilder(openTsdbConfig.getHosts())
                 .returnDetails();
@@ -92,10 +104,19 @@ public class OpenTsdbTopology extends AbstractTopology<OpenTsdbTopologyConfig> {
         OpenTsdbBolt openTsdbBolt = new OpenTsdbBolt(tsdbBuilder,
                 Collections.singletonList(TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER));
         openTsdbBolt.withBatchSize(openTsdbConfig.getBatchSize()).withFlushInterval(openTsdbConfig.getFlushInterval());
-        declareBolt(tb, openTsdbBolt, OTSDB_BOLT_ID)
-                .shuffleGrouping(OTSDB_FILTER_BOLT_ID);
+        return openTsdbBolt;
+    }
 
-        return tb.createTopology();
+    private OpenTsdbWriterBolt createAsyncWriterBolt(OpenTsdbConfig openTsdbConfig) {
+        return new OpenTsdbWriterBolt(WriterConfig.builder()
+                .url(openTsdbConfig.getHosts())
+                .batchSize(openTsdbConfig.getBatchSize())
+                .flushIntervalSecs(openTsdbConfig.getFlushInterval())
+                .maxInFlight(openTsdbConfig.getWriterMaxInFlight())
+                .maxRetries(openTsdbConfig.getWriterMaxRetries())
+                .timeoutMillis(openTsdbConfig.getTimeout())
+                .gzipEnabled(openTsdbConfig.isWriterGzipEnabled())
+                .build());
     }
 
     private void attachInput(TopologyBuilder topology) {
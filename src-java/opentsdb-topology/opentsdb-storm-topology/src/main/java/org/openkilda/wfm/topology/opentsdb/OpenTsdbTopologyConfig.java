@@ -20,6 +20,7 @@ import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Converter;
+import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.IgnoreKey;
 import com.sabre.oss.conf4j.annotation.Key;
 
@@ -51,5 +52,29 @@ public interface OpenTsdbTopologyConfig extends AbstractTopologyConfig {
 
         @Key("flush.interval")
         int getFlushInterval();
+
+        @Key("writer.async.enabled")
+        @Default("false")
+        boolean isAsyncWriterEnabled();
+
+        @Key("writer.max-in-flight")
+        @Default("4")
+        int getWriterMaxInFlight();
+
+        @Key("writer.max-retries")
+        @Default("3")
+        int getWriterMaxRetries();
+
+        @Key("writer.gzip.enabled")
+        @Default("true")
+        boolean isWriterGzipEnabled();
+
+        /**
+         * The max number of time series tracked by each filter bolt executor. The storage of an executor grows with
+         * the number of series, up to about 69MB for 1,000,000 series.
+         */
+        @Key("filter.capacity")
+        @Default("1000000")
+        int getFilterCapacity();
     }
 }
@@ -16,10 +16,12 @@
 package org.openkilda.wfm.topology.opentsdb.bolts;
 
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.wfm.topology.opentsdb.service.DatapointFingerprintStore;
 
-import lombok.Value;
 import org.apache.storm.Config;
 import org.apache.storm.Constants;
+import org.apache.storm.metric.api.CountMetric;
+import org.apache.storm.metric.api.IMetric;
 import org.apache.storm.opentsdb.bolt.TupleOpenTsdbDatapointMapper;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
@@ -30,7 +32,6 @@ import org.apache.storm.tuple.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -39,10 +40,13 @@ import java.util.stream.Stream;
 
 
 public class OpenTSDBFilterBolt extends BaseRichBolt {
+    public static final int DEFAULT_CAPACITY = 1_000_000;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenTSDBFilterBolt.class);
     private static final long MUTE_IF_NO_UPDATES_SECS = TimeUnit.MINUTES.toSeconds(10);
     private static final long MUTE_IF_NO_UPDATES_MILLIS = TimeUnit.SECONDS.toMillis(MUTE_IF_NO_UPDATES_SECS);
+    private static final long EVICTION_TICK_SECS = 10;
+    private static final int METRICS_BUCKET_SECS = 60;
 
     private static final Fields DECLARED_FIELDS =
             new Fields(TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER.getMetricField(),
@@ -50,18 +54,49 @@ public class OpenTSDBFilterBolt extends BaseRichBolt {
                     TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER.getValueField(),
                     TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER.getTagsField());
 
-    private Map<DatapointKey, Datapoint> storage = new HashMap<>();
+    private final int capacity;
+
+    private transient DatapointFingerprintStore storage;
+    private transient CountMetric hitCount;
+    private transient CountMetric missCount;
+    private transient CountMetric evictedCount;
     private OutputCollector collector;
 
+    public OpenTSDBFilterBolt() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates the bolt which tracks at most the specified number of time series. Datapoints of series beyond the
+     * capacity are written without deduplication.
+     * <p/>
+     * Each executor keeps its own {@link DatapointFingerprintStore}, so the memory cost is per executor.
+     */
+    public OpenTSDBFilterBolt(int capacity) {
+        this.capacity = capacity;
+    }
+
     @Override
     public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
         this.collector = collector;
+        storage = new DatapointFingerprintStore(capacity, MUTE_IF_NO_UPDATES_MILLIS);
+
+        hitCount = new CountMetric();
+        missCount = new CountMetric();
+        evictedCount = new CountMetric();
+        context.registerMetric("opentsdb-filter.fingerprint.hits", hitCount, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-filter.fingerprint.misses", missCount, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-filter.fingerprint.evicted", evictedCount, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-filter.fingerprint.size",
+                (IMetric) () -> storage.getSize(), METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-filter.fingerprint.rejected-total",
+                (IMetric) () -> storage.getRejectedCount(), METRICS_BUCKET_SECS);
     }
-    
+
     @Override
     public Map<String, Object> getComponentConfiguration() {
         Config conf = new Config();
-        conf.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, MUTE_IF_NO_UPDATES_SECS);
+        conf.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, EVICTION_TICK_SECS);
         return conf;
     }
 
@@ -72,11 +107,15 @@ public class OpenTSDBFilterBolt extends BaseRichBolt {
         if (isTickTuple(tuple)) {
             // opentsdb using current epoch time (date +%s) in seconds
             long now  = System.currentTimeMillis();
-            storage.entrySet().removeIf(entry ->  now - entry.getValue().getTime() > MUTE_IF_NO_UPDATES_MILLIS);
+            // Sweep the whole storage once per mute interval, the storage table grows with the number of series.
+            int evictionSlotsPerTick = (int) Math.max(1,
+                    (long) storage.getTableSize() * EVICTION_TICK_SECS / MUTE_IF_NO_UPDATES_SECS);
+            int evicted = storage.evictExpired(now, evictionSlotsPerTick);
+            evictedCount.incrBy(evicted);
 
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("storage after clean tulpe: {}", storage.toString());
-            }
+            LOGGER.debug("storage after clean tuple: size={}, capacity={}, evicted={}, total evicted={}, "
+                            + "rejected={}", storage.getSize(), storage.getCapacity(), evicted,
+                    storage.getEvictedCount(), storage.getRejectedCount());
 
             collector.ack(tuple);
             return;
@@ -89,15 +128,15 @@ public class OpenTSDBFilterBolt extends BaseRichBolt {
 
         Datapoint datapoint = (Datapoint) tuple.getValueByField("datapoint");
 
-        if (isUpdateRequired(datapoint)) {
-            addDatapoint(datapoint);
-
+        if (storage.update(datapoint)) {
+            missCount.incr();
             List<Object> stream = Stream.of(datapoint.getMetric(), datapoint.getTime(), datapoint.getValue(),
                     datapoint.getTags()).collect(Collectors.toList());
 
             LOGGER.debug("emit datapoint: {}", stream);
             collector.emit(stream);
         } else {
+            hitCount.incr();
             LOGGER.debug("skip datapoint: {}", datapoint);
         }
         collector.ack(tuple);
@@ -108,34 +147,6 @@ public class OpenTSDBFilterBolt extends BaseRichBolt {
         declarer.declare(DECLARED_FIELDS);
     }
 
-    private void addDatapoint(Datapoint datapoint) {
-        LOGGER.debug("adding datapoint: {}", datapoint);
-        LOGGER.debug("storage.size: {}", storage.size());
-        storage.put(new DatapointKey(datapoint.getMetric(), datapoint.getTags()), datapoint);
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("addDatapoint storage: {}", storage.toString());
-        }
-    }
-
-    private boolean isUpdateRequired(Datapoint datapoint) {
-        boolean update = true;
-        Datapoint prevDatapoint = storage.get(new DatapointKey(datapoint.getMetric(), datapoint.getTags()));
-
-        if (prevDatapoint != null) {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("prev: {} cur: {} equals: {} time_delta: {}",
-                        prevDatapoint,
-                        datapoint,
-                        prevDatapoint.getValue().equals(datapoint.getValue()),
-                        datapoint.getTime() - prevDatapoint.getTime()
-                );
-            }
-            update = !prevDatapoint.getValue().equals(datapoint.getValue())
-                    || datapoint.getTime() - prevDatapoint.getTime() >= MUTE_IF_NO_UPDATES_MILLIS;
-        }
-        return update;
-    }
-    
     private boolean isTickTuple(Tuple tuple) {
         String sourceComponent = tuple.getSourceComponent();
         String sourceStreamId = tuple.getSourceStreamId();
@@ -143,12 +154,4 @@ public class OpenTSDBFilterBolt extends BaseRichBolt {
         return Constants.SYSTEM_COMPONENT_ID.equals(sourceComponent)
                 && Constants.SYSTEM_TICK_STREAM_ID.equals(sourceStreamId);
     }
-
-    @Value
-    private static class DatapointKey {
-
-        private String metric;
-
-        private Map<String, String> tags;
-    }
 }
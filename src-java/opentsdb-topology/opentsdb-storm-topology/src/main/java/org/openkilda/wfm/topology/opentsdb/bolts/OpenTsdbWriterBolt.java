@@ -0,0 +1,323 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.bolts;
+
+import org.openkilda.messaging.Utils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.Config;
+import org.apache.storm.metric.api.CountMetric;
+import org.apache.storm.metric.api.IMetric;
+import org.apache.storm.metric.api.MeanReducer;
+import org.apache.storm.metric.api.ReducedMetric;
+import org.apache.storm.opentsdb.OpenTsdbMetricDatapoint;
+import org.apache.storm.opentsdb.bolt.TupleOpenTsdbDatapointMapper;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.topology.base.BaseRichBolt;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes datapoints into OpenTSDB over the HTTP API without blocking the executor on each request.
+ * <p/>
+ * Datapoints are collected into batches, which are serialized, optionally gzip compressed and posted by a pool of
+ * at most {@code maxInFlight} concurrent requests. Failed requests are retried with exponential backoff within the
+ * retry budget. Input tuples are acked (or failed) only when their batch is written, and the executor blocks while
+ * all requests are in flight, so a slow TSDB slows down the spout instead of growing queues.
+ * <p/>
+ * Reports write latency, queue depth and written/failed datapoints counters as Storm metrics.
+ */
+@Slf4j
+public class OpenTsdbWriterBolt extends BaseRichBolt {
+    private static final String PUT_PATH = "/api/put";
+    private static final long PERMIT_POLL_MILLIS = 100;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final int METRICS_BUCKET_SECS = 60;
+
+    private final WriterConfig config;
+
+    private transient OutputCollector collector;
+    private transient URL putUrl;
+    private transient List<Tuple> pending;
+    private transient Semaphore inFlightPermits;
+    private transient AtomicInteger inFlightTuples;
+    private transient ExecutorService executor;
+    private transient Queue<WriteResult> completed;
+
+    private transient ReducedMetric writeLatency;
+    private transient CountMetric writtenCount;
+    private transient CountMetric failedCount;
+
+    public OpenTsdbWriterBolt(WriterConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        this.collector = collector;
+        try {
+            putUrl = new URL(config.getUrl() + PUT_PATH);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(String.format("Invalid OpenTSDB url %s", config.getUrl()), e);
+        }
+        pending = new ArrayList<>(config.getBatchSize());
+        inFlightPermits = new Semaphore(config.getMaxInFlight());
+        inFlightTuples = new AtomicInteger();
+        completed = new ConcurrentLinkedQueue<>();
+        executor = Executors.newFixedThreadPool(config.getMaxInFlight(), new ThreadFactoryBuilder()
+                .setNameFormat("opentsdb-writer-" + context.getThisTaskId() + "-%d")
+                .setDaemon(true)
+                .build());
+
+        writeLatency = new ReducedMetric(new MeanReducer());
+        writtenCount = new CountMetric();
+        failedCount = new CountMetric();
+        context.registerMetric("opentsdb-writer.latency-ms", writeLatency, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-writer.written", writtenCount, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-writer.failed", failedCount, METRICS_BUCKET_SECS);
+        context.registerMetric("opentsdb-writer.queue-depth",
+                (IMetric) () -> pending.size() + inFlightTuples.get(), METRICS_BUCKET_SECS);
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        Config conf = new Config();
+        conf.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, config.getFlushIntervalSecs());
+        return conf;
+    }
+
+    @Override
+    public void execute(Tuple tuple) {
+        handleCompleted();
+
+        if (TupleUtils.isTick(tuple)) {
+            flush();
+            collector.ack(tuple);
+            return;
+        }
+
+        pending.add(tuple);
+        if (pending.size() >= config.getBatchSize()) {
+            flush();
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(config.getTimeoutMillis() * (config.getMaxRetries() + 1L),
+                    TimeUnit.MILLISECONDS)) {
+                log.warn("OpenTSDB writes haven't been completed on cleanup");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handleCompleted();
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        // no output
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Tuple> batch = pending;
+        pending = new ArrayList<>(config.getBatchSize());
+
+        try {
+            // All requests are in flight, block the executor until one of them completes.
+            while (!inFlightPermits.tryAcquire(PERMIT_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                handleCompleted();
+            }
+            // Let the completed request release its tuples, not only the permit.
+            handleCompleted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.forEach(collector::fail);
+            return;
+        }
+
+        byte[] body;
+        try {
+            body = encode(batch);
+        } catch (IOException e) {
+            inFlightPermits.release();
+            log.error("Unable to serialize {} datapoints", batch.size(), e);
+            batch.forEach(collector::fail);
+            return;
+        }
+
+        inFlightTuples.addAndGet(batch.size());
+        long startedAt = System.nanoTime();
+        executor.execute(() -> {
+            boolean success = false;
+            try {
+                success = writeWithRetries(body);
+            } finally {
+                completed.add(new WriteResult(batch, success, System.nanoTime() - startedAt));
+                inFlightTuples.addAndGet(-batch.size());
+                inFlightPermits.release();
+            }
+        });
+    }
+
+    /**
+     * Acks or fails tuples of completed writes. The output collector is used from the executor thread only.
+     */
+    private void handleCompleted() {
+        WriteResult result;
+        while ((result = completed.poll()) != null) {
+            writeLatency.update(TimeUnit.NANOSECONDS.toMillis(result.getDurationNanos()));
+            if (result.isSuccess()) {
+                writtenCount.incrBy(result.getTuples().size());
+                result.getTuples().forEach(collector::ack);
+            } else {
+                failedCount.incrBy(result.getTuples().size());
+                result.getTuples().forEach(collector::fail);
+            }
+        }
+    }
+
+    private byte[] encode(List<Tuple> batch) throws IOException {
+        List<Map<String, Object>> datapoints = new ArrayList<>(batch.size());
+        for (Tuple tuple : batch) {
+            OpenTsdbMetricDatapoint datapoint = TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER.getMetricPoint(tuple);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("metric", datapoint.getMetric());
+            entry.put("timestamp", datapoint.getTimestamp());
+            entry.put("value", datapoint.getValue());
+            entry.put("tags", datapoint.getTags());
+            datapoints.add(entry);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream output = config.isGzipEnabled() ? new GZIPOutputStream(buffer) : buffer) {
+            Utils.MAPPER.writeValue(output, datapoints);
+        }
+        return buffer.toByteArray();
+    }
+
+    private boolean writeWithRetries(byte[] body) {
+        for (int attempt = 0; attempt <= config.getMaxRetries(); attempt++) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS << Math.min(attempt - 1, 10));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            try {
+                int status = post(body);
+                if (status / 100 == 2) {
+                    return true;
+                }
+                if (status / 100 == 4) {
+                    // The TSDB has rejected the datapoints, retry or replay won't help.
+                    log.error("OpenTSDB has rejected the datapoints batch with status {}", status);
+                    return true;
+                }
+                log.warn("OpenTSDB write attempt {} has failed with status {}", attempt + 1, status);
+            } catch (IOException e) {
+                log.warn("OpenTSDB write attempt {} has failed: {}", attempt + 1, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private int post(byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) putUrl.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(config.getTimeoutMillis());
+            connection.setReadTimeout(config.getTimeoutMillis());
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(body.length);
+            connection.setRequestProperty("Content-Type", "application/json");
+            if (config.isGzipEnabled()) {
+                connection.setRequestProperty("Content-Encoding", "gzip");
+            }
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(body);
+            }
+
+            int status = connection.getResponseCode();
+            // Read out the response to let the connection be reused.
+            try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (input != null) {
+                    byte[] skipBuffer = new byte[1024];
+                    while (input.read(skipBuffer) >= 0) {
+                        // skip
+                    }
+                }
+            }
+            return status;
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    @Value
+    private static class WriteResult {
+        List<Tuple> tuples;
+        boolean success;
+        long durationNanos;
+    }
+
+    @Value
+    @Builder
+    public static class WriterConfig implements Serializable {
+        String url;
+        int batchSize;
+        int flushIntervalSecs;
+        int maxInFlight;
+        int maxRetries;
+        int timeoutMillis;
+        boolean gzipEnabled;
+    }
+}
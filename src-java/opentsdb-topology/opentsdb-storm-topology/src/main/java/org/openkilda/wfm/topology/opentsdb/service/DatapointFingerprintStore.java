@@ -0,0 +1,292 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.service;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Memory bounded storage of the last written value of each time series (metric plus tags).
+ * <p/>
+ * A series is identified by a 128 bit fingerprint of its metric and tags, so no strings or maps are retained.
+ * Fingerprints, times and values are kept in primitive arrays of an open addressing (linear probing) hash table.
+ * Expired series are evicted incrementally by {@link #evictExpired}, which sweeps a limited number of slots per call
+ * and continues from the previous position on the next one.
+ * <p/>
+ * Each table slot takes 33 bytes. The table starts small and is doubled as series are added, up to the size for the
+ * configured capacity at the load factor of 0.75. So 1,000,000 series take about 69MB at most.
+ */
+public class DatapointFingerprintStore {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private static final byte SLOT_EMPTY = 0;
+    private static final byte VALUE_NULL = 1;
+    private static final byte VALUE_LONG = 2;
+    private static final byte VALUE_DOUBLE = 3;
+
+    private static final int EVICTION_STEP_ON_OVERFLOW = 64;
+    private static final int INITIAL_TABLE_SIZE = 1024;
+
+    @Getter
+    private final int capacity;
+    private final long ttlMillis;
+    private final int maxTableSize;
+    private int mask;
+
+    private long[] fingerprintsHigh;
+    private long[] fingerprintsLow;
+    private long[] times;
+    private long[] values;
+    private byte[] valueTypes;
+
+    @Getter
+    private int size;
+    @Getter
+    private long evictedCount;
+    @Getter
+    private long rejectedCount;
+    private int evictionCursor;
+
+    /**
+     * Creates the storage.
+     *
+     * @param capacity max number of series to track.
+     * @param ttlMillis the time after which a series is written again even if its value hasn't changed.
+     */
+    public DatapointFingerprintStore(int capacity, long ttlMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Capacity must be positive, but was %d", capacity));
+        }
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+
+        // Keep the load factor at most 0.75 to keep probe sequences short.
+        this.maxTableSize = Integer.highestOneBit(Math.max(2, capacity + capacity / 3) - 1) << 1;
+        allocate(Math.min(INITIAL_TABLE_SIZE, maxTableSize));
+    }
+
+    public int getTableSize() {
+        return valueTypes.length;
+    }
+
+    /**
+     * Checks whether the datapoint must be written, i.e. its series is unknown, its value differs from the last
+     * written one or the last write is older than TTL. If so, the datapoint is remembered as the last written.
+     *
+     * @return true if the datapoint must be written.
+     */
+    public boolean update(Datapoint datapoint) {
+        if (datapoint.getTime() == null) {
+            return true;
+        }
+        final long time = datapoint.getTime();
+        byte[] fingerprint = fingerprint(datapoint).asBytes();
+        final long high = toLong(fingerprint, 0);
+        final long low = toLong(fingerprint, Long.BYTES);
+        byte valueType = valueTypeOf(datapoint.getValue());
+        long value = valueBitsOf(datapoint.getValue(), valueType);
+
+        int slot = (int) low & mask;
+        while (valueTypes[slot] != SLOT_EMPTY) {
+            if (fingerprintsHigh[slot] == high && fingerprintsLow[slot] == low) {
+                boolean changed = valueTypes[slot] != valueType || values[slot] != value
+                        || time - times[slot] >= ttlMillis;
+                if (changed) {
+                    write(slot, high, low, time, valueType, value);
+                }
+                return changed;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size >= capacity || isGrowthNeeded()) {
+            if (size >= capacity) {
+                evictExpired(time, EVICTION_STEP_ON_OVERFLOW);
+                if (size >= capacity) {
+                    rejectedCount++;
+                    return true;
+                }
+            }
+            if (isGrowthNeeded()) {
+                grow();
+            }
+            // The eviction or the growth might move entries, so search for an empty slot again.
+            slot = (int) low & mask;
+            while (valueTypes[slot] != SLOT_EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        write(slot, high, low, time, valueType, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes series which weren't written during TTL. Sweeps at most the specified number of table slots starting
+     * from the position where the previous sweep has stopped.
+     *
+     * @return the number of removed series.
+     */
+    public int evictExpired(long now, int maxSlots) {
+        int removed = 0;
+        int steps = Math.min(maxSlots, valueTypes.length);
+        for (int i = 0; i < steps; i++) {
+            if (valueTypes[evictionCursor] != SLOT_EMPTY && now - times[evictionCursor] > ttlMillis) {
+                // Backward shift may move another entry into the cursor position, so check it once more.
+                removeAt(evictionCursor);
+                removed++;
+            } else {
+                evictionCursor = (evictionCursor + 1) & mask;
+            }
+        }
+        evictedCount += removed;
+        return removed;
+    }
+
+    /**
+     * Removes all series.
+     */
+    public void clear() {
+        Arrays.fill(valueTypes, SLOT_EMPTY);
+        size = 0;
+        evictionCursor = 0;
+    }
+
+    private boolean isGrowthNeeded() {
+        int tableSize = valueTypes.length;
+        return tableSize < maxTableSize && size + 1 > tableSize - tableSize / 4;
+    }
+
+    private void grow() {
+        long[] oldFingerprintsHigh = fingerprintsHigh;
+        long[] oldFingerprintsLow = fingerprintsLow;
+        long[] oldTimes = times;
+        long[] oldValues = values;
+        byte[] oldValueTypes = valueTypes;
+
+        allocate(oldValueTypes.length * 2);
+        for (int i = 0; i < oldValueTypes.length; i++) {
+            if (oldValueTypes[i] != SLOT_EMPTY) {
+                int slot = (int) oldFingerprintsLow[i] & mask;
+                while (valueTypes[slot] != SLOT_EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                write(slot, oldFingerprintsHigh[i], oldFingerprintsLow[i], oldTimes[i], oldValueTypes[i],
+                        oldValues[i]);
+            }
+        }
+        evictionCursor = 0;
+    }
+
+    private void allocate(int tableSize) {
+        mask = tableSize - 1;
+        fingerprintsHigh = new long[tableSize];
+        fingerprintsLow = new long[tableSize];
+        times = new long[tableSize];
+        values = new long[tableSize];
+        valueTypes = new byte[tableSize];
+    }
+
+    private void write(int slot, long high, long low, long time, byte valueType, long value) {
+        fingerprintsHigh[slot] = high;
+        fingerprintsLow[slot] = low;
+        times[slot] = time;
+        valueTypes[slot] = valueType;
+        values[slot] = value;
+    }
+
+    /**
+     * Removes the entry and shifts the following entries of the probe sequence back, so no tombstones are needed.
+     */
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (valueTypes[next] != SLOT_EMPTY) {
+            int home = (int) fingerprintsLow[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                write(hole, fingerprintsHigh[next], fingerprintsLow[next], times[next], valueTypes[next],
+                        values[next]);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        valueTypes[hole] = SLOT_EMPTY;
+        size--;
+    }
+
+    private static HashCode fingerprint(Datapoint datapoint) {
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        putString(hasher, datapoint.getMetric());
+        Map<String, String> tags = datapoint.getTags();
+        if (tags == null) {
+            hasher.putInt(-1);
+        } else {
+            // Tags order depends on the map implementation, so hash them in the order of keys.
+            String[] keys = tags.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            hasher.putInt(keys.length);
+            for (String key : keys) {
+                putString(hasher, key);
+                putString(hasher, tags.get(key));
+            }
+        }
+        return hasher.hash();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length());
+            hasher.putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            result = (result << 8) | (bytes[i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static byte valueTypeOf(Number value) {
+        if (value == null) {
+            return VALUE_NULL;
+        }
+        return value instanceof Double || value instanceof Float ? VALUE_DOUBLE : VALUE_LONG;
+    }
+
+    private static long valueBitsOf(Number value, byte valueType) {
+        switch (valueType) {
+            case VALUE_LONG:
+                return value.longValue();
+            case VALUE_DOUBLE:
+                return Double.doubleToLongBits(value.doubleValue());
+            default:
+                return 0;
+        }
+    }
+}
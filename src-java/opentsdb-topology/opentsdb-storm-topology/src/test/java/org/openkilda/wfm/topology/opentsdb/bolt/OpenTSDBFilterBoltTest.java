@@ -24,6 +24,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -35,7 +36,9 @@ import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.wfm.topology.opentsdb.bolts.OpenTSDBFilterBolt;
 
+import org.apache.storm.metric.api.IMetric;
 import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
 import org.apache.storm.tuple.Tuple;
 import org.junit.Before;
 import org.junit.Test;
@@ -65,6 +68,9 @@ public class OpenTSDBFilterBoltTest {
     @Mock
     private OutputCollector outputCollector;
 
+    @Mock
+    private TopologyContext topologyContext;
+
     @Mock
     private Tuple tuple;
 
@@ -73,7 +79,7 @@ public class OpenTSDBFilterBoltTest {
 
     @Before
     public void init() {
-        Mockito.reset(outputCollector, tuple);
+        Mockito.reset(outputCollector, topologyContext, tuple);
 
         when(outputCollector.emit(anyList())).thenReturn(Collections.emptyList());
     }
@@ -82,7 +88,7 @@ public class OpenTSDBFilterBoltTest {
     public void shouldEmitMessage() throws Exception {
         mockTuple();
 
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
         target.execute(tuple);
 
         verify(outputCollector).emit(argumentCaptor.capture());
@@ -100,7 +106,7 @@ public class OpenTSDBFilterBoltTest {
     public void shouldEmitMessageOnlyOnce() throws Exception {
         mockTuple();
 
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
         target.execute(tuple);
         target.execute(tuple);
 
@@ -108,11 +114,25 @@ public class OpenTSDBFilterBoltTest {
         verify(outputCollector, times(2)).ack(any(Tuple.class));
     }
 
+    @Test
+    public void shouldCountFingerprintHitsAndMisses() throws Exception {
+        mockTuple();
+
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
+        target.execute(tuple);
+        target.execute(tuple);
+        target.execute(tuple);
+
+        assertEquals(1L, getRegisteredMetric("opentsdb-filter.fingerprint.misses").getValueAndReset());
+        assertEquals(2L, getRegisteredMetric("opentsdb-filter.fingerprint.hits").getValueAndReset());
+        assertEquals(1, getRegisteredMetric("opentsdb-filter.fingerprint.size").getValueAndReset());
+    }
+
     @Test
     public void shouldEmitMessageOnlyOnceBecauseOfInterval() throws Exception {
         mockTuple();
 
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
         target.execute(tuple);
 
         mockTuple(TIMESTAMP + TimeUnit.MINUTES.toMillis(10) - 1);
@@ -126,7 +146,7 @@ public class OpenTSDBFilterBoltTest {
     public void shouldEmitBothMessagesBecauseOfInterval() throws Exception {
         mockTuple();
 
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
         target.execute(tuple);
 
         mockTuple(TIMESTAMP + TimeUnit.MINUTES.toMillis(10) + 1);
@@ -139,7 +159,7 @@ public class OpenTSDBFilterBoltTest {
     @Test
     public void shouldEmitBothMessagesIfHashcodeConflicts() throws Exception {
         // given
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
 
         Datapoint infoData1 = new Datapoint("1", TIMESTAMP, singletonMap("key",  "a"), VALUE);
         Datapoint infoData2 = new Datapoint("2", TIMESTAMP, singletonMap("key",  "\u0040"), VALUE);
@@ -161,7 +181,7 @@ public class OpenTSDBFilterBoltTest {
     @Test
     public void shouldEmitAfterTickCleanup() throws Exception {
         // given
-        target.prepare(Collections.emptyMap(), null, outputCollector);
+        target.prepare(Collections.emptyMap(), topologyContext, outputCollector);
 
         when(tuple.contains(eq("datapoint"))).thenReturn(true);
 
@@ -191,6 +211,12 @@ public class OpenTSDBFilterBoltTest {
         verify(outputCollector, times(4)).ack(any(Tuple.class));
     }
 
+    private IMetric getRegisteredMetric(String name) {
+        ArgumentCaptor<IMetric> metric = ArgumentCaptor.forClass(IMetric.class);
+        verify(topologyContext).registerMetric(eq(name), metric.capture(), anyInt());
+        return metric.getValue();
+    }
+
     private void mockTuple(long timestamp) throws Exception {
         InfoData infoData = new Datapoint(METRIC, timestamp, Collections.emptyMap(), VALUE);
         when(tuple.contains(eq("datapoint"))).thenReturn(true);
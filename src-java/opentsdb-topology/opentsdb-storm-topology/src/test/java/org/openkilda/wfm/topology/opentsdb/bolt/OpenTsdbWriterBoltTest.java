@@ -0,0 +1,161 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.bolt;
+
+import static org.apache.storm.Constants.SYSTEM_COMPONENT_ID;
+import static org.apache.storm.Constants.SYSTEM_TICK_STREAM_ID;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+
+import org.openkilda.wfm.topology.opentsdb.bolts.OpenTsdbWriterBolt;
+import org.openkilda.wfm.topology.opentsdb.bolts.OpenTsdbWriterBolt.WriterConfig;
+
+import org.apache.storm.opentsdb.bolt.TupleOpenTsdbDatapointMapper;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Tuple;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class OpenTsdbWriterBoltTest {
+    private static final int OPENTSDB_PORT = 4244;
+    private static final HttpRequest REQUEST = HttpRequest.request().withMethod("POST").withPath("/api/put");
+    private static final long TIMESTAMP = System.currentTimeMillis();
+
+    private static ClientAndServer mockServer;
+
+    private OutputCollector collector;
+
+    @BeforeClass
+    public static void setupOnce() {
+        mockServer = startClientAndServer(OPENTSDB_PORT);
+    }
+
+    @AfterClass
+    public static void teardownOnce() {
+        mockServer.stop();
+    }
+
+    @Before
+    public void init() {
+        collector = mock(OutputCollector.class);
+    }
+
+    @After
+    public void cleanup() {
+        mockServer.reset();
+    }
+
+    @Test
+    public void shouldWriteCompressedBatchesAndAckTuples() {
+        mockServer.when(REQUEST).respond(HttpResponse.response().withStatusCode(204));
+        OpenTsdbWriterBolt bolt = prepareBolt(2, 2, 0);
+
+        bolt.execute(datapointTuple(1));
+        bolt.execute(datapointTuple(2));
+        bolt.execute(datapointTuple(3));
+        bolt.execute(tickTuple());
+        bolt.cleanup();
+
+        HttpRequest compressedRequest = HttpRequest.request().withMethod("POST").withPath("/api/put")
+                .withHeader("Content-Encoding", "gzip");
+        mockServer.verify(compressedRequest, VerificationTimes.exactly(2));
+        verify(collector, times(4)).ack(any(Tuple.class));
+        verify(collector, never()).fail(any(Tuple.class));
+    }
+
+    @Test
+    public void shouldFailTuplesWhenRetriesAreExhausted() {
+        mockServer.when(REQUEST).respond(HttpResponse.response().withStatusCode(503));
+        OpenTsdbWriterBolt bolt = prepareBolt(1, 1, 1);
+
+        bolt.execute(datapointTuple(1));
+        bolt.cleanup();
+
+        mockServer.verify(REQUEST, VerificationTimes.exactly(2));
+        verify(collector, never()).ack(any(Tuple.class));
+        verify(collector).fail(any(Tuple.class));
+    }
+
+    @Test
+    public void shouldBlockWhileAllRequestsAreInFlight() {
+        long delay = 500;
+        mockServer.when(REQUEST).respond(HttpResponse.response().withStatusCode(204)
+                .withDelay(new Delay(TimeUnit.MILLISECONDS, delay)));
+        OpenTsdbWriterBolt bolt = prepareBolt(1, 1, 0);
+
+        long startedAt = System.currentTimeMillis();
+        bolt.execute(datapointTuple(1));
+        bolt.execute(datapointTuple(2));
+        long elapsed = System.currentTimeMillis() - startedAt;
+
+        assertTrue(elapsed >= delay);
+        verify(collector).ack(any(Tuple.class));
+
+        bolt.cleanup();
+        verify(collector, times(2)).ack(any(Tuple.class));
+    }
+
+    private OpenTsdbWriterBolt prepareBolt(int batchSize, int maxInFlight, int maxRetries) {
+        OpenTsdbWriterBolt bolt = new OpenTsdbWriterBolt(WriterConfig.builder()
+                .url(String.format("http://localhost:%d", OPENTSDB_PORT))
+                .batchSize(batchSize)
+                .flushIntervalSecs(1)
+                .maxInFlight(maxInFlight)
+                .maxRetries(maxRetries)
+                .timeoutMillis(5000)
+                .gzipEnabled(true)
+                .build());
+        bolt.prepare(Collections.emptyMap(), mock(TopologyContext.class), collector);
+        return bolt;
+    }
+
+    private static Tuple datapointTuple(int value) {
+        TupleOpenTsdbDatapointMapper mapper = TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER;
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getSourceComponent()).thenReturn("filter");
+        when(tuple.getStringByField(mapper.getMetricField())).thenReturn("metric");
+        when(tuple.getLongByField(mapper.getTimestampField())).thenReturn(TIMESTAMP);
+        when(tuple.getValueByField(mapper.getTimestampField())).thenReturn(TIMESTAMP);
+        when(tuple.getValueByField(mapper.getValueField())).thenReturn(value);
+        when(tuple.getValueByField(mapper.getTagsField())).thenReturn(Collections.singletonMap("key", "value"));
+        return tuple;
+    }
+
+    private static Tuple tickTuple() {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getSourceComponent()).thenReturn(SYSTEM_COMPONENT_ID);
+        when(tuple.getSourceStreamId()).thenReturn(SYSTEM_TICK_STREAM_ID);
+        return tuple;
+    }
+}
@@ -0,0 +1,154 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class DatapointFingerprintStoreTest {
+    private static final long TTL = 600_000;
+    private static final long TIMESTAMP = 1651399200000L;
+    private static final int CAPACITY = 100;
+
+    private DatapointFingerprintStore store;
+
+    @Before
+    public void setUp() {
+        store = new DatapointFingerprintStore(CAPACITY, TTL);
+    }
+
+    @Test
+    public void shouldSkipSameValueWithinTtl() {
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP, 1)));
+        assertFalse(store.update(datapoint("metric", "a", TIMESTAMP + TTL - 1, 1)));
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP + TTL, 1)));
+        assertEquals(1, store.getSize());
+    }
+
+    @Test
+    public void shouldWriteChangedValue() {
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP, 1)));
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP + 1, 2)));
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP + 2, 2.5D)));
+        assertFalse(store.update(datapoint("metric", "a", TIMESTAMP + 3, 2.5D)));
+    }
+
+    @Test
+    public void shouldDistinguishSeriesByMetricAndTags() {
+        assertTrue(store.update(datapoint("metric", "a", TIMESTAMP, 1)));
+        assertTrue(store.update(datapoint("metric", "b", TIMESTAMP, 1)));
+        assertTrue(store.update(datapoint("other", "a", TIMESTAMP, 1)));
+        assertTrue(store.update(new Datapoint("metric", TIMESTAMP, null, 1)));
+        assertEquals(4, store.getSize());
+    }
+
+    @Test
+    public void shouldIgnoreTagsOrder() {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("switchid", "00:00:00:00:00:00:00:01");
+        tags.put("port", "1");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("port", "1");
+        reversed.put("switchid", "00:00:00:00:00:00:00:01");
+
+        assertTrue(store.update(new Datapoint("metric", TIMESTAMP, tags, 1)));
+        assertFalse(store.update(new Datapoint("metric", TIMESTAMP, reversed, 1)));
+    }
+
+    @Test
+    public void shouldEvictExpiredSeriesIncrementally() {
+        for (int i = 0; i < CAPACITY; i++) {
+            store.update(datapoint("metric", String.valueOf(i), i < CAPACITY / 2 ? TIMESTAMP : TIMESTAMP + TTL, 1));
+        }
+        assertEquals(CAPACITY, store.getSize());
+
+        long now = TIMESTAMP + TTL + 1;
+        int evicted = 0;
+        int sweeps = 0;
+        // Removals don't move the sweep position, so do a few cycles over the table.
+        while (sweeps * 10 < store.getTableSize() * 2) {
+            evicted += store.evictExpired(now, 10);
+            sweeps++;
+        }
+
+        assertEquals(CAPACITY / 2, evicted);
+        assertEquals(CAPACITY / 2, store.getSize());
+        assertEquals(CAPACITY / 2, store.getEvictedCount());
+        for (int i = CAPACITY / 2; i < CAPACITY; i++) {
+            assertFalse(store.update(datapoint("metric", String.valueOf(i), now, 1)));
+        }
+    }
+
+    @Test
+    public void shouldGrowTableWithNumberOfSeries() {
+        DatapointFingerprintStore largeStore = new DatapointFingerprintStore(100_000, TTL);
+        int initialTableSize = largeStore.getTableSize();
+        assertTrue(initialTableSize < 100_000);
+
+        int count = initialTableSize * 2;
+        for (int i = 0; i < count; i++) {
+            assertTrue(largeStore.update(datapoint("metric", String.valueOf(i), TIMESTAMP, 1)));
+        }
+
+        assertTrue(largeStore.getTableSize() > count);
+        assertEquals(count, largeStore.getSize());
+        for (int i = 0; i < count; i++) {
+            assertFalse(largeStore.update(datapoint("metric", String.valueOf(i), TIMESTAMP + 1, 1)));
+        }
+    }
+
+    @Test
+    public void shouldNotTrackSeriesBeyondCapacity() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(store.update(datapoint("metric", String.valueOf(i), TIMESTAMP, 1)));
+        }
+
+        assertTrue(store.update(datapoint("metric", "extra", TIMESTAMP, 1)));
+        assertTrue(store.update(datapoint("metric", "extra", TIMESTAMP, 1)));
+        assertEquals(CAPACITY, store.getSize());
+        assertEquals(2, store.getRejectedCount());
+    }
+
+    @Test
+    public void shouldReplaceExpiredSeriesWhenFull() {
+        for (int i = 0; i < CAPACITY; i++) {
+            store.update(datapoint("metric", String.valueOf(i), TIMESTAMP, 1));
+        }
+
+        long now = TIMESTAMP + TTL + 1;
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(store.update(datapoint("other", String.valueOf(i), now, 1)));
+        }
+        assertFalse(store.update(datapoint("other", "0", now, 1)));
+        assertEquals(0, store.getRejectedCount());
+        assertEquals(CAPACITY, store.getSize());
+    }
+
+    private static Datapoint datapoint(String metric, String port, long time, Number value) {
+        return new Datapoint(metric, time, ImmutableMap.of("switchid", "00:00:00:00:00:00:00:01", "port", port),
+                value);
+    }
+}
@@ -113,7 +113,8 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
     private void monotonicTick(TopologyBuilder topology) {
         MonotonicTick bolt = new MonotonicTick(
                 new MonotonicTick.ClockConfig()
-                        .addTickInterval(TickId.PERIODIC_PING, topologyConfig.getPingInterval()));
+                        // periodic ping ticks drive the ping schedule wheel, the ping interval is handled by it
+                        .addTickInterval(TickId.PERIODIC_PING, FlowFetcher.PERIODIC_PING_TICK_SECONDS));
 
         declareBolt(topology, bolt, MonotonicTick.BOLT_ID);
     }
@@ -141,7 +142,8 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
         FlowResourcesConfig flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
 
         FlowFetcher bolt = new FlowFetcher(persistenceManager, flowResourcesConfig,
-                topologyConfig.getPeriodicPingCacheExpirationInterval());
+                topologyConfig.getPeriodicPingCacheExpirationInterval(), topologyConfig.getPingInterval(),
+                topologyConfig.getMetricPrefix());
         declareBolt(topology, bolt, FlowFetcher.BOLT_ID)
                 // NOTE(tdurakov): global grouping is responsible for proper handling parallelism of 2
                 .globalGrouping(TickDeduplicator.BOLT_ID, TickDeduplicator.STREAM_PING_ID)
@@ -249,7 +251,8 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
     private void otsdbEncoder(TopologyBuilder topology) {
         OtsdbEncoder bolt = new OtsdbEncoder();
         declareBolt(topology, bolt, OtsdbEncoder.BOLT_ID)
-                .shuffleGrouping(StatsProducer.BOLT_ID);
+                .shuffleGrouping(StatsProducer.BOLT_ID)
+                .shuffleGrouping(FlowFetcher.BOLT_ID, FlowFetcher.STREAM_STATS_ID);
 
         KafkaBolt output = createKafkaBolt(topologyConfig.getKafkaOtsdbTopic());
         declareBolt(topology, output, ComponentId.OTSDB_OUTPUT.toString())
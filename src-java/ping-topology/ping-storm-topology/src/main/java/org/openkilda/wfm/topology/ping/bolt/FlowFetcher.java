@@ -21,6 +21,7 @@ import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.command.flow.FlowPingRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
 import org.openkilda.messaging.command.flow.YFlowPingRequest;
+import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.flow.FlowPingResponse;
 import org.openkilda.messaging.info.flow.YFlowPingResponse;
 import org.openkilda.model.Flow;
@@ -35,12 +36,13 @@ import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesManager;
+import org.openkilda.wfm.share.utils.MetricFormatter;
 import org.openkilda.wfm.topology.ping.model.GroupId;
 import org.openkilda.wfm.topology.ping.model.PingContext;
 import org.openkilda.wfm.topology.ping.model.PingContext.Kinds;
+import org.openkilda.wfm.topology.ping.model.PingTimingWheel;
 
 import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.topology.OutputFieldsDeclarer;
@@ -49,12 +51,13 @@ import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class FlowFetcher extends Abstract {
     public static final String BOLT_ID = ComponentId.FLOW_FETCHER.toString();
@@ -72,21 +75,38 @@ public class FlowFetcher extends Abstract {
             FIELD_ID_ON_DEMAND_RESPONSE, FIELD_ID_CONTEXT);
     public static final String STREAM_ON_DEMAND_RESPONSE_ID = "on_demand_response";
     public static final String STREAM_ON_DEMAND_Y_FLOW_RESPONSE_ID = "on_demand_y_flow_response";
+    public static final Fields STREAM_STATS_FIELDS = new Fields(
+            OtsdbEncoder.FIELD_ID_STATS_DATAPOINT, FIELD_ID_CONTEXT);
+    public static final String STREAM_STATS_ID = "stats";
+
     public static final int DIRECTION_COUNT_PER_FLOW = 2; // forward and reverse
 
+    /**
+     * Resolution of the periodic ping schedule, i.e. the interval of periodic ping ticks.
+     */
+    public static final int PERIODIC_PING_TICK_SECONDS = 1;
+
     private final FlowResourcesConfig flowResourcesConfig;
+    private final int pingIntervalTicks;
+    private final MetricFormatter metricFormatter;
     private transient FlowResourcesManager flowResourcesManager;
     private transient FlowRepository flowRepository;
     private transient YFlowRepository yFlowRepository;
-    private Set<FlowWithTransitEncapsulation> flowsSet;
+    private Map<String, FlowWithTransitEncapsulation> flows;
+    private PingTimingWheel<String> pingWheel;
     private long periodicPingCacheExpiryInterval;
     private long lastPeriodicPingCacheRefresh;
 
+    private long emittedSinceReport = 0;
+    private long ticksSinceReport = 0;
+
     public FlowFetcher(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig,
-                       long periodicPingCacheExpiryInterval) {
+                       long periodicPingCacheExpiryInterval, int pingInterval, String metricPrefix) {
         super(persistenceManager);
         this.flowResourcesConfig = flowResourcesConfig;
         this.periodicPingCacheExpiryInterval = TimeUnit.SECONDS.toMillis(periodicPingCacheExpiryInterval);
+        this.pingIntervalTicks = Math.max(1, pingInterval / PERIODIC_PING_TICK_SECONDS);
+        this.metricFormatter = new MetricFormatter(metricPrefix);
     }
 
     @Override
@@ -111,35 +131,56 @@ public class FlowFetcher extends Abstract {
 
     private void updatePeriodicPingHeap(Tuple input) throws PipelineException {
         PeriodicPingCommand periodicPingCommand = pullPeriodicPingRequest(input);
+        String flowId = periodicPingCommand.getFlowId();
+        Optional<FlowWithTransitEncapsulation> flow = Optional.empty();
         if (periodicPingCommand.isEnable()) {
-            flowRepository.findById(periodicPingCommand.getFlowId())
-                    .flatMap(flow -> {
-                        flowRepository.detach(flow);
-                        return getFlowWithTransitEncapsulation(flow);
-                    })
-                    .ifPresent(flowsSet::add);
+            flow = flowRepository.findById(flowId)
+                    .flatMap(entry -> {
+                        flowRepository.detach(entry);
+                        return getFlowWithTransitEncapsulation(entry);
+                    });
+        }
+
+        if (flow.isPresent()) {
+            schedulePeriodicPing(flow.get());
         } else {
-            flowsSet.removeIf(flowWithTransitEncapsulation ->
-                    flowWithTransitEncapsulation.getFlow().getFlowId().equals(periodicPingCommand.getFlowId()));
+            flows.remove(flowId);
+            pingWheel.remove(flowId);
         }
     }
 
     private void refreshHeap(Tuple input, boolean emitCacheExpiry) throws PipelineException {
-        log.debug("Handle periodic ping request");
-        Set<FlowWithTransitEncapsulation> flowsWithTransitEncapsulation =
-                flowRepository.findWithPeriodicPingsEnabled().stream()
-                        .peek(flowRepository::detach)
-                        .map(this::getFlowWithTransitEncapsulation)
-                        .flatMap(o -> o.isPresent() ? Stream.of(o.get()) : Stream.empty())
-                        .collect(Collectors.toSet());
+        log.debug("Refresh periodic ping cache");
+        Map<String, FlowWithTransitEncapsulation> actual = new HashMap<>();
+        for (Flow flow : flowRepository.findWithPeriodicPingsEnabled()) {
+            flowRepository.detach(flow);
+            getFlowWithTransitEncapsulation(flow)
+                    .ifPresent(entry -> actual.put(flow.getFlowId(), entry));
+        }
+
+        List<Flow> removed = new ArrayList<>();
+        for (Iterator<FlowWithTransitEncapsulation> iter = flows.values().iterator(); iter.hasNext(); ) {
+            Flow flow = iter.next().getFlow();
+            if (!actual.containsKey(flow.getFlowId())) {
+                iter.remove();
+                pingWheel.remove(flow.getFlowId());
+                removed.add(flow);
+            }
+        }
+        actual.values().forEach(this::schedulePeriodicPing);
+
         if (emitCacheExpiry) {
-            final CommandContext commandContext = pullContext(input);
-            emitCacheExpire(input, commandContext, flowsWithTransitEncapsulation);
+            emitCacheExpire(input, pullContext(input), removed);
         }
-        flowsSet = flowsWithTransitEncapsulation;
         lastPeriodicPingCacheRefresh = System.currentTimeMillis();
     }
 
+    private void schedulePeriodicPing(FlowWithTransitEncapsulation flow) {
+        String flowId = flow.getFlow().getFlowId();
+        flows.put(flowId, flow);
+        pingWheel.schedule(flowId, pingIntervalTicks);
+    }
+
     private void handlePeriodicRequest(Tuple input) throws PipelineException {
         log.debug("Handle periodic ping request");
 
@@ -147,7 +188,8 @@ public class FlowFetcher extends Abstract {
             refreshHeap(input, true);
         }
         final CommandContext commandContext = pullContext(input);
-        for (FlowWithTransitEncapsulation flow : flowsSet) {
+        for (String flowId : pingWheel.advance()) {
+            FlowWithTransitEncapsulation flow = flows.get(flowId);
             PingContext pingContext = PingContext.builder()
                     .group(new GroupId(DIRECTION_COUNT_PER_FLOW))
                     .kind(Kinds.PERIODIC)
@@ -156,8 +198,28 @@ public class FlowFetcher extends Abstract {
                     .transitEncapsulation(flow.getTransitEncapsulation())
                     .build();
             emit(input, pingContext, commandContext);
+            emittedSinceReport += 1;
+        }
+
+        ticksSinceReport += 1;
+        if (pingWheel.getWheelSize() <= ticksSinceReport) {
+            reportPeriodicPingRate(input, commandContext);
         }
+    }
+
+    private void reportPeriodicPingRate(Tuple input, CommandContext commandContext) throws PipelineException {
+        long seconds = ticksSinceReport * PERIODIC_PING_TICK_SECONDS;
+        double achieved = (double) emittedSinceReport / seconds;
+        double target = pingWheel.getTargetRate() / PERIODIC_PING_TICK_SECONDS;
+        log.debug("Periodic ping rate: achieved {} flows/s, target {} flows/s ({} flows scheduled)",
+                achieved, target, pingWheel.size());
+
+        long timestamp = pullValue(input, MonotonicTick.FIELD_ID_TIME_MILLIS, Long.class);
+        emitRateStats(input, commandContext, timestamp, "achieved", achieved);
+        emitRateStats(input, commandContext, timestamp, "target", target);
 
+        emittedSinceReport = 0;
+        ticksSinceReport = 0;
     }
 
     private void handleOnDemandRequest(Tuple input) throws PipelineException {
@@ -287,15 +349,22 @@ public class FlowFetcher extends Abstract {
         getOutput().emit(STREAM_ON_DEMAND_Y_FLOW_RESPONSE_ID, input, new Values(response, pullContext(input)));
     }
 
-    private void emitCacheExpire(Tuple input, CommandContext commandContext, Set<FlowWithTransitEncapsulation> flows) {
+    private void emitCacheExpire(Tuple input, CommandContext commandContext, List<Flow> removed) {
         OutputCollector collector = getOutput();
-        flowsSet.removeAll(flows);
-        for (FlowWithTransitEncapsulation flow : flowsSet) {
-            Values output = new Values(flow.getFlow(), commandContext);
+        for (Flow flow : removed) {
+            Values output = new Values(flow, commandContext);
             collector.emit(STREAM_EXPIRE_CACHE_ID, input, output);
         }
     }
 
+    private void emitRateStats(Tuple input, CommandContext commandContext, long timestamp, String type,
+                               double rate) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("type", type);
+        Datapoint datapoint = new Datapoint(metricFormatter.format("flow.ping.periodic.rate"), timestamp, tags, rate);
+        getOutput().emit(STREAM_STATS_ID, input, new Values(datapoint, commandContext));
+    }
+
     private FlowPingRequest pullOnDemandRequest(Tuple input) throws PipelineException {
         return pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, FlowPingRequest.class);
     }
@@ -314,6 +383,7 @@ public class FlowFetcher extends Abstract {
         outputManager.declareStream(STREAM_EXPIRE_CACHE_ID, STREAM_EXPIRE_CACHE_FIELDS);
         outputManager.declareStream(STREAM_ON_DEMAND_RESPONSE_ID, STREAM_ON_DEMAND_RESPONSE_FIELDS);
         outputManager.declareStream(STREAM_ON_DEMAND_Y_FLOW_RESPONSE_ID, STREAM_ON_DEMAND_RESPONSE_FIELDS);
+        outputManager.declareStream(STREAM_STATS_ID, STREAM_STATS_FIELDS);
     }
 
     @Override
@@ -324,6 +394,8 @@ public class FlowFetcher extends Abstract {
         flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
         yFlowRepository = persistenceManager.getRepositoryFactory().createYFlowRepository();
         flowResourcesManager = new FlowResourcesManager(persistenceManager, flowResourcesConfig);
+        flows = new HashMap<>();
+        pingWheel = new PingTimingWheel<>(pingIntervalTicks);
         try {
             refreshHeap(null, false);
         } catch (PipelineException e) {
@@ -333,7 +405,6 @@ public class FlowFetcher extends Abstract {
 
     @Value
     @AllArgsConstructor
-    @EqualsAndHashCode(exclude = {"transitEncapsulation"})
     private static class FlowWithTransitEncapsulation {
         Flow flow;
         String yFlowId;
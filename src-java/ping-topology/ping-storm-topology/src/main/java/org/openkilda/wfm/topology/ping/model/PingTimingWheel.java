@@ -0,0 +1,160 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.ping.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel for periodic pings.
+ *
+ * <p>Each entry gets a stable phase inside its own interval, derived from the key hash. So the entries are spread
+ * evenly across the ticks of the interval and keep their position when they are rescheduled or reloaded. Intervals
+ * longer than the wheel are handled by keeping the entry in its slot until the deadline tick comes.
+ */
+public class PingTimingWheel<K> {
+    private final List<Map<K, Entry<K>>> slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTick = 0;
+
+    public PingTimingWheel(int wheelSize) {
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Can't operate with requested wheel size == %d", getClass().getCanonicalName(), wheelSize));
+        }
+
+        slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Schedule the key with the interval in ticks. Already scheduled key with the same interval keeps its deadline.
+     *
+     * @return true if the schedule of the key was changed.
+     */
+    public boolean schedule(K key, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException(String.format("Invalid interval \"%d\" < 1", interval));
+        }
+
+        Entry<K> current = entries.get(key);
+        if (current != null) {
+            if (current.interval == interval) {
+                return false;
+            }
+            remove(key);
+        }
+
+        long phase = Math.floorMod(key.hashCode(), interval);
+        long next = currentTick + 1;
+        Entry<K> entry = new Entry<>(key, interval, next + Math.floorMod(phase - next, interval));
+        entries.put(key, entry);
+        slotOf(entry.deadline).put(key, entry);
+        return true;
+    }
+
+    /**
+     * Remove the key from the wheel.
+     *
+     * @return true if the key was scheduled.
+     */
+    public boolean remove(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        slotOf(entry.deadline).remove(key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int getWheelSize() {
+        return slots.size();
+    }
+
+    /**
+     * Move to the next tick and collect keys due on it. The collected keys are rescheduled to their next deadline.
+     */
+    public List<K> advance() {
+        currentTick += 1;
+
+        List<K> due = new ArrayList<>();
+        List<Entry<K>> rescheduled = new ArrayList<>();
+        Iterator<Entry<K>> iter = slotOf(currentTick).values().iterator();
+        while (iter.hasNext()) {
+            Entry<K> entry = iter.next();
+            if (currentTick < entry.deadline) {
+                continue;
+            }
+
+            due.add(entry.key);
+            iter.remove();
+            entry.deadline += entry.interval;
+            rescheduled.add(entry);
+        }
+
+        for (Entry<K> entry : rescheduled) {
+            slotOf(entry.deadline).put(entry.key, entry);
+        }
+        return due;
+    }
+
+    /**
+     * Expected amount of keys due per tick with the current schedule.
+     */
+    public double getTargetRate() {
+        double rate = 0;
+        for (Entry<K> entry : entries.values()) {
+            rate += 1.0 / entry.interval;
+        }
+        return rate;
+    }
+
+    private Map<K, Entry<K>> slotOf(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    private static class Entry<K> {
+        private final K key;
+        private final int interval;
+        private long deadline;
+
+        Entry(K key, int interval, long deadline) {
+            this.key = key;
+            this.interval = interval;
+            this.deadline = deadline;
+        }
+    }
+}
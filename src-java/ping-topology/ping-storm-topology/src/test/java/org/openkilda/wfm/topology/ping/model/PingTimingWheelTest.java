@@ -0,0 +1,125 @@
+/* Copyright 2022 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PingTimingWheelTest {
+    @Test
+    public void everyKeyIsDueOncePerInterval() {
+        PingTimingWheel<String> wheel = new PingTimingWheel<>(5);
+        List<String> keys = makeKeys(100);
+        for (String key : keys) {
+            wheel.schedule(key, 5);
+        }
+
+        Map<String, Integer> hits = new HashMap<>();
+        for (int i = 0; i < 5 * 3; i++) {
+            for (String key : wheel.advance()) {
+                hits.merge(key, 1, Integer::sum);
+            }
+        }
+
+        Assert.assertEquals(keys.size(), hits.size());
+        for (Integer count : hits.values()) {
+            Assert.assertEquals(3, count.intValue());
+        }
+    }
+
+    @Test
+    public void phaseIsStable() {
+        PingTimingWheel<String> wheel = new PingTimingWheel<>(4);
+        wheel.schedule("flow", 4);
+
+        long first = findDueTick(wheel, "flow");
+        Assert.assertEquals(first + 4, findDueTick(wheel, "flow"));
+
+        wheel.remove("flow");
+        Assert.assertTrue(wheel.advance().isEmpty());
+        wheel.schedule("flow", 4);
+        Assert.assertEquals(0, (findDueTick(wheel, "flow") - first) % 4);
+    }
+
+    @Test
+    public void loadIsSpreadAcrossInterval() {
+        int interval = 10;
+        PingTimingWheel<String> wheel = new PingTimingWheel<>(interval);
+        List<String> keys = makeKeys(50000);
+        for (String key : keys) {
+            wheel.schedule(key, interval);
+        }
+
+        int expected = keys.size() / interval;
+        for (int i = 0; i < interval; i++) {
+            int due = wheel.advance().size();
+            Assert.assertTrue(String.format("Tick load %d is too far from %d", due, expected),
+                    Math.abs(due - expected) < expected / 10);
+        }
+    }
+
+    @Test
+    public void intervalLongerThanWheel() {
+        PingTimingWheel<String> wheel = new PingTimingWheel<>(2);
+        wheel.schedule("flow", 5);
+
+        long first = findDueTick(wheel, "flow");
+        Assert.assertEquals(first + 5, findDueTick(wheel, "flow"));
+        Assert.assertEquals(first + 10, findDueTick(wheel, "flow"));
+    }
+
+    @Test
+    public void scheduleUpdate() {
+        PingTimingWheel<String> wheel = new PingTimingWheel<>(3);
+        Assert.assertTrue(wheel.schedule("flow", 3));
+        Assert.assertFalse(wheel.schedule("flow", 3));
+        Assert.assertTrue(wheel.schedule("flow", 6));
+
+        Assert.assertEquals(1, wheel.size());
+        Assert.assertEquals(1.0 / 6, wheel.getTargetRate(), 0.0001);
+
+        long first = findDueTick(wheel, "flow");
+        Assert.assertEquals(first + 6, findDueTick(wheel, "flow"));
+
+        Assert.assertTrue(wheel.remove("flow"));
+        Assert.assertFalse(wheel.remove("flow"));
+        Assert.assertFalse(wheel.contains("flow"));
+        Assert.assertEquals(0, wheel.getTargetRate(), 0.0001);
+    }
+
+    private long findDueTick(PingTimingWheel<String> wheel, String key) {
+        for (int i = 0; i < 100; i++) {
+            if (wheel.advance().contains(key)) {
+                return wheel.getCurrentTick();
+            }
+        }
+        throw new AssertionError(String.format("Key %s was not due in 100 ticks", key));
+    }
+
+    private List<String> makeKeys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(String.format("flow-%d", i));
+        }
+        return keys;
+    }
+}
@@ -101,7 +101,7 @@ public class PersistenceDataAdapter implements DataAdapter {
     @Override
     public Map<PathId, FlowPath> getFlowPaths() {
         if (flowPathCache == null) {
-            flowPathCache = flowPathRepository.findByIds(pathIds);
+            loadFlows();
         }
         return flowPathCache;
     }
@@ -109,11 +109,27 @@ public class PersistenceDataAdapter implements DataAdapter {
     @Override
     public Flow getFlow(PathId pathId) {
         if (flowCache == null) {
-            flowCache = flowPathRepository.findFlowsByPathIds(pathIds);
+            loadFlows();
         }
         return flowCache.get(pathId);
     }
 
+    /**
+     * Loads the flows which own the requested paths, with all paths, segments and switches at once.
+     */
+    private void loadFlows() {
+        flowCache = new HashMap<>();
+        flowPathCache = new HashMap<>();
+        for (Flow flow : flowRepository.findByPathIdsWithPaths(pathIds)) {
+            for (FlowPath path : flow.getPaths()) {
+                if (pathIds.contains(path.getPathId())) {
+                    flowCache.put(path.getPathId(), flow);
+                    flowPathCache.put(path.getPathId(), path);
+                }
+            }
+        }
+    }
+
     @Override
     public FlowTransitEncapsulation getTransitEncapsulation(PathId pathId, PathId oppositePathId) {
         if (encapsulationCache.get(pathId) == null) {
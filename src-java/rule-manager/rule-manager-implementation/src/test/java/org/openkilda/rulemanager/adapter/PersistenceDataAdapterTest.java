@@ -17,6 +17,7 @@ package org.openkilda.rulemanager.adapter;
 
 import static java.util.Collections.singleton;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -100,14 +101,8 @@ public class PersistenceDataAdapterTest {
     public void shouldProvideCorrectFlowPaths() {
         PathId pathId = new PathId("path1");
         Set<PathId> pathIds = Sets.newHashSet(pathId);
-        FlowPath flowPath = FlowPath.builder()
-                .pathId(pathId)
-                .srcSwitch(buildSwitch(SWITCH_ID_1, Collections.emptySet()))
-                .destSwitch(buildSwitch(SWITCH_ID_2, Collections.emptySet()))
-                .build();
-        Map<PathId, FlowPath> flowPaths = new HashMap<>();
-        flowPaths.put(pathId, flowPath);
-        when(flowPathRepository.findByIds(pathIds)).thenReturn(flowPaths);
+        Flow flow = buildFlow(pathId);
+        when(flowRepository.findByPathIdsWithPaths(pathIds)).thenReturn(singleton(flow));
 
         adapter = PersistenceDataAdapter.builder()
                 .pathIds(pathIds)
@@ -117,27 +112,22 @@ public class PersistenceDataAdapterTest {
         Map<PathId, FlowPath> actual = adapter.getFlowPaths();
 
         assertEquals(1, actual.size());
-        assertEquals(flowPath, actual.get(pathId));
+        assertEquals(flow.getForwardPath(), actual.get(pathId));
 
         adapter.getFlowPaths();
+        adapter.getFlow(pathId);
 
-        verify(flowPathRepository).findByIds(pathIds);
-        verifyNoMoreInteractions(flowPathRepository);
+        verify(flowRepository).findByPathIdsWithPaths(pathIds);
+        verifyNoMoreInteractions(flowRepository);
+        verifyNoInteractions(flowPathRepository);
     }
 
     @Test
     public void shouldProvideCorrectFlows() {
         PathId pathId = new PathId("path1");
         Set<PathId> pathIds = Sets.newHashSet(pathId);
-        Flow flow = Flow.builder()
-                .flowId("flow")
-                .srcSwitch(buildSwitch(SWITCH_ID_1, Collections.emptySet()))
-                .destSwitch(buildSwitch(SWITCH_ID_2, Collections.emptySet()))
-                .build();
-        flow.setForwardPathId(pathId);
-        Map<PathId, Flow> flows = new HashMap<>();
-        flows.put(pathId, flow);
-        when(flowPathRepository.findFlowsByPathIds(pathIds)).thenReturn(flows);
+        Flow flow = buildFlow(pathId);
+        when(flowRepository.findByPathIdsWithPaths(pathIds)).thenReturn(singleton(flow));
 
         adapter = PersistenceDataAdapter.builder()
                 .pathIds(pathIds)
@@ -147,11 +137,13 @@ public class PersistenceDataAdapterTest {
         Flow actual = adapter.getFlow(pathId);
 
         assertEquals(flow, actual);
+        assertNull(adapter.getFlow(flow.getReversePathId()));
 
         adapter.getFlow(new PathId("test"));
 
-        verify(flowPathRepository).findFlowsByPathIds(pathIds);
-        verifyNoMoreInteractions(flowPathRepository);
+        verify(flowRepository).findByPathIdsWithPaths(pathIds);
+        verifyNoMoreInteractions(flowRepository);
+        verifyNoInteractions(flowPathRepository);
     }
 
     @Test
@@ -307,4 +299,25 @@ public class PersistenceDataAdapterTest {
         verify(flowPathRepository).findYFlowsByPathIds(pathIds);
         verifyNoMoreInteractions(flowPathRepository);
     }
+
+    private Flow buildFlow(PathId forwardPathId) {
+        Switch srcSwitch = buildSwitch(SWITCH_ID_1, Collections.emptySet());
+        Switch destSwitch = buildSwitch(SWITCH_ID_2, Collections.emptySet());
+        Flow flow = Flow.builder()
+                .flowId("flow")
+                .srcSwitch(srcSwitch)
+                .destSwitch(destSwitch)
+                .build();
+        flow.setForwardPath(FlowPath.builder()
+                .pathId(forwardPathId)
+                .srcSwitch(srcSwitch)
+                .destSwitch(destSwitch)
+                .build());
+        flow.setReversePath(FlowPath.builder()
+                .pathId(new PathId("path2"))
+                .srcSwitch(destSwitch)
+                .destSwitch(srcSwitch)
+                .build());
+        return flow;
+    }
 }
@@ -48,15 +48,19 @@ import org.openkilda.wfm.topology.stats.bolts.metrics.FlowMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.FlowRttMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.MeterConfigMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.MeterStatsMetricGenBolt;
+import org.openkilda.wfm.topology.stats.bolts.metrics.MetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.PacketInOutMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.PortMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.SystemRuleMetricGenBolt;
 import org.openkilda.wfm.topology.stats.bolts.metrics.TableStatsMetricGenBolt;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.kafka.spout.KafkaSpoutConfig;
+import org.apache.storm.topology.BoltDeclarer;
+import org.apache.storm.topology.IRichBolt;
 import org.apache.storm.topology.TopologyBuilder;
 
 public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
@@ -135,9 +139,9 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
                 SERVER42_STATS_FLOW_RTT_SPOUT, config.getConsumerGroupId(), config.getSubscription().getTopicsString());
         declareSpout(topologyBuilder, new KafkaSpout<>(config), SERVER42_STATS_FLOW_RTT_SPOUT.name());
 
-        declareBolt(topologyBuilder,
+        declareMetricGenBolt(topologyBuilder,
                 new FlowRttMetricGenBolt(topologyConfig.getMetricPrefix(), ZooKeeperSpout.SPOUT_ID),
-                SERVER42_STATS_FLOW_RTT_METRIC_GEN.name())
+                SERVER42_STATS_FLOW_RTT_METRIC_GEN)
                 .shuffleGrouping(SERVER42_STATS_FLOW_RTT_SPOUT.name())
                 .allGrouping(ZooKeeperSpout.SPOUT_ID);
     }
@@ -154,36 +158,44 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
     }
 
     private void outgoingStatsBolts(TopologyBuilder topologyBuilder) {
-        declareBolt(topologyBuilder,
-                new PortMetricGenBolt(topologyConfig.getMetricPrefix()), PORT_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new PortMetricGenBolt(topologyConfig.getMetricPrefix()), PORT_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_OFS_ROUTER_BOLT.name(), SpeakerStatsRouterBolt.PORT_STATS_STREAM);
-        declareBolt(topologyBuilder,
-                new MeterConfigMetricGenBolt(topologyConfig.getMetricPrefix()), METER_CFG_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new MeterConfigMetricGenBolt(topologyConfig.getMetricPrefix()), METER_CFG_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_OFS_ROUTER_BOLT.name(), SpeakerStatsRouterBolt.METER_CFG_STATS_STREAM);
-        declareBolt(topologyBuilder,
-                new SystemRuleMetricGenBolt(topologyConfig.getMetricPrefix()), SYSTEM_RULE_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new SystemRuleMetricGenBolt(topologyConfig.getMetricPrefix()), SYSTEM_RULE_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_OFS_ROUTER_BOLT.name(), SpeakerStatsRouterBolt.SYSTEM_RULES_STATS_STREAM);
-        declareBolt(topologyBuilder,
-                new TableStatsMetricGenBolt(topologyConfig.getMetricPrefix()), TABLE_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new TableStatsMetricGenBolt(topologyConfig.getMetricPrefix()), TABLE_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_OFS_ROUTER_BOLT.name(), SpeakerStatsRouterBolt.TABLE_STATS_STREAM);
-        declareBolt(topologyBuilder,
+        declareMetricGenBolt(topologyBuilder,
                 new PacketInOutMetricGenBolt(topologyConfig.getMetricPrefix()),
-                PACKET_IN_OUT_STATS_METRIC_GEN_BOLT.name())
+                PACKET_IN_OUT_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_OFS_ROUTER_BOLT.name(), SpeakerStatsRouterBolt.PACKET_IN_OUT_STATS_STREAM);
     }
 
     private void outgoingStatsWithCacheBolts(TopologyBuilder topologyBuilder) {
-        declareBolt(topologyBuilder,
-                new FlowMetricGenBolt(topologyConfig.getMetricPrefix()), FLOW_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new FlowMetricGenBolt(topologyConfig.getMetricPrefix()), FLOW_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_CACHE_BOLT.name(), CacheBolt.FLOW_STATS_STREAM);
-        declareBolt(topologyBuilder,
-                new MeterStatsMetricGenBolt(topologyConfig.getMetricPrefix()), METER_STATS_METRIC_GEN_BOLT.name())
+        declareMetricGenBolt(topologyBuilder,
+                new MeterStatsMetricGenBolt(topologyConfig.getMetricPrefix()), METER_STATS_METRIC_GEN_BOLT)
                 .shuffleGrouping(STATS_CACHE_BOLT.name(), CacheBolt.METER_STATS_STREAM);
     }
 
+    private BoltDeclarer declareMetricGenBolt(TopologyBuilder topologyBuilder, MetricGenBolt bolt,
+                                              ComponentId boltId) {
+        bolt.setDatapointBatchSize(topologyConfig.getDatapointBatchSize());
+        return declareBolt(topologyBuilder, bolt, boltId.name());
+    }
+
     private void openTsdbBolt(TopologyBuilder topologyBuilder) {
-        declareBolt(topologyBuilder,
-                createKafkaBolt(topologyConfig.getKafkaOtsdbTopic()), STATS_OPENTSDB_BOLT.name())
+        IRichBolt kafkaBolt = topologyConfig.getDatapointBatchSize() > 0
+                ? makeKafkaBolt(topologyConfig.getKafkaOtsdbTopic(), ByteArraySerializer.class)
+                : createKafkaBolt(topologyConfig.getKafkaOtsdbTopic());
+        declareBolt(topologyBuilder, kafkaBolt, STATS_OPENTSDB_BOLT.name())
                 .shuffleGrouping(PORT_STATS_METRIC_GEN_BOLT.name())
                 .shuffleGrouping(METER_STATS_METRIC_GEN_BOLT.name())
                 .shuffleGrouping(METER_CFG_STATS_METRIC_GEN_BOLT.name())
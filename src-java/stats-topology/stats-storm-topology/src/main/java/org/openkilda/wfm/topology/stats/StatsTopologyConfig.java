@@ -59,4 +59,12 @@ public interface StatsTopologyConfig extends AbstractTopologyConfig {
     @Key("statistics.interval")
     @Default("60")
     int getStatisticsRequestInterval();
+
+    /**
+     * Max number of datapoints sent to OpenTSDB topology in a single binary batch. 0 means each datapoint is sent
+     * as a separate JSON message.
+     */
+    @Key("opentsdb.datapoint.batch.size")
+    @Default("0")
+    int getDatapointBatchSize();
 }
@@ -111,8 +111,8 @@ public class SpeakerStatsRouterBolt extends AbstractBolt {
                 flowEntries.add(entry);
             }
         }
-        FlowStatsData systemRuleStats = new FlowStatsData(data.getSwitchId(), systemRuleEntries);
-        FlowStatsData flowStats = new FlowStatsData(data.getSwitchId(), flowEntries);
+        FlowStatsData systemRuleStats = new FlowStatsData(data.getSwitchId(), systemRuleEntries, data.isDelta());
+        FlowStatsData flowStats = new FlowStatsData(data.getSwitchId(), flowEntries, data.isDelta());
 
         return new ImmutablePair<>(systemRuleStats, flowStats);
     }
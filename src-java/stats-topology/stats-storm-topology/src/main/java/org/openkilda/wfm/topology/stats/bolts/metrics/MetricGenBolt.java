@@ -19,6 +19,7 @@ import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.JsonEncodeException;
+import org.openkilda.wfm.share.metrics.DatapointBatchCodec;
 import org.openkilda.wfm.share.utils.MetricFormatter;
 import org.openkilda.wfm.topology.stats.service.TimeSeriesMeterEmitter;
 import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
@@ -27,7 +28,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,9 @@ import java.util.Map;
 public abstract class MetricGenBolt extends AbstractBolt implements TimeSeriesMeterEmitter {
     private MetricFormatter metricFormatter;
 
+    private int datapointBatchSize;
+    private final List<Datapoint> batch = new ArrayList<>();
+
     public MetricGenBolt(String metricPrefix) {
         this.metricFormatter = new MetricFormatter(metricPrefix);
     }
@@ -45,6 +51,25 @@ public abstract class MetricGenBolt extends AbstractBolt implements TimeSeriesMe
         this.metricFormatter = new MetricFormatter(metricPrefix);
     }
 
+    /**
+     * Makes the bolt emit datapoints produced from one input tuple as binary batches of up to the provided size,
+     * instead of a JSON message per datapoint.
+     *
+     * @param datapointBatchSize the max size of a batch, 0 disables batching.
+     */
+    public void setDatapointBatchSize(int datapointBatchSize) {
+        this.datapointBatchSize = datapointBatchSize;
+    }
+
+    @Override
+    protected void dispatch(Tuple input) throws Exception {
+        try {
+            super.dispatch(input);
+        } finally {
+            flushBatch();
+        }
+    }
+
     @Override
     public void emitPacketAndBytePoints(
             MetricFormatter formatter, long timestamp, long packetCount, long byteCount, Map<String, String> tags) {
@@ -59,6 +84,13 @@ public abstract class MetricGenBolt extends AbstractBolt implements TimeSeriesMe
             log.trace(
                     "Emit stats metric point: timestamp={}, metric={}, value={}, tags={}",
                     timestamp, formattedMetric, value, tag);
+            if (datapointBatchSize > 0) {
+                batch.add(new Datapoint(formattedMetric, timestamp, tag, value));
+                if (batch.size() >= datapointBatchSize) {
+                    flushBatch();
+                }
+                return;
+            }
             getOutput().emit(tuple(formattedMetric, timestamp, value, tag));
         } catch (JsonEncodeException e) {
             log.error("Error during serialization of datapoint", e);
@@ -77,6 +109,15 @@ public abstract class MetricGenBolt extends AbstractBolt implements TimeSeriesMe
         return Collections.singletonList(json);
     }
 
+    private void flushBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        log.trace("Emit batch of {} stats metric points", batch.size());
+        getOutput().emit(Collections.singletonList(DatapointBatchCodec.encode(batch)));
+        batch.clear();
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declare(new Fields(KafkaRecordTranslator.FIELD_ID_PAYLOAD));
@@ -237,7 +237,7 @@ public class KildaEntryCacheService {
 
     private void refreshCommonFlowsCache() {
         CacheAddUpdateHandler cacheHandler = new CacheAddUpdateHandler(cookieToFlow, switchAndMeterToFlow);
-        commonFlowRepository.findAll().stream()
+        commonFlowRepository.findAllWithPaths().stream()
                 .flatMap(flow -> flow.getPaths().stream())
                 .filter(Objects::nonNull)
                 .forEach(path -> {
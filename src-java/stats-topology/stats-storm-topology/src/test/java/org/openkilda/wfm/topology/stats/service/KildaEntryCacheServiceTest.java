@@ -141,7 +141,7 @@ public class KildaEntryCacheServiceTest {
     @Test
     public void shouldRefreshCommonFlowsCookieCache() {
         Flow flow = buildFlow();
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
@@ -261,7 +261,7 @@ public class KildaEntryCacheServiceTest {
                         .build())
                 .build());
 
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
@@ -316,7 +316,7 @@ public class KildaEntryCacheServiceTest {
                         .build())
                 .build());
 
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
@@ -373,7 +373,7 @@ public class KildaEntryCacheServiceTest {
                 .destSwitch(destSwitch)
                 .build();
 
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
@@ -441,7 +441,7 @@ public class KildaEntryCacheServiceTest {
     @Test
     public void shouldCacheServiceRefreshMeterCache() {
         Flow flow = buildFlow();
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
 
         service.activate();
 
@@ -531,7 +531,7 @@ public class KildaEntryCacheServiceTest {
                                 .endpoint(new FlowEndpoint(DST_SWITCH_ID, 2, 40)))
                 .build();
 
-        when(flowRepository.findAll()).thenReturn(Collections.emptyList());
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.emptyList());
         when(yFlowRepository.findAll()).thenReturn(Collections.singletonList(yFlow));
 
         service.activate();
@@ -563,6 +563,24 @@ public class KildaEntryCacheServiceTest {
                         yFlow.getYPoint(), Y_FLOW_Y_POINT, yFlow.getYFlowId(), yFlow.getMeterId()));
     }
 
+    @Test
+    public void shouldForwardOnlyReportedDeltaEntries() {
+        service.completeAndForwardFlowStats(new FlowStatsData(SRC_SWITCH_ID, asList(
+                new FlowStatsEntry(0, 1, 10, 100, 1, 2),
+                new FlowStatsEntry(0, 2, 20, 200, 1, 2)), false));
+        service.completeAndForwardFlowStats(new FlowStatsData(SRC_SWITCH_ID, Collections.singletonList(
+                new FlowStatsEntry(0, 2, 25, 250, 1, 2)), true));
+
+        verify(carrier, times(2)).emitFlowStats(cookieCacheCaptor.capture());
+        assertEquals(1, cookieCacheCaptor.getValue().getStatsEntries().size());
+        assertEquals(25, cookieCacheCaptor.getValue().getStatsEntries().get(0).getData().getPacketCount());
+
+        service.completeAndForwardMeterStats(new MeterStatsData(DST_SWITCH_ID, Collections.singletonList(
+                new MeterStatsEntry(FORWARD_METER_ID, 100, 10)), true));
+        verify(carrier).emitMeterStats(meterCacheCaptor.capture());
+        assertEquals(1, meterCacheCaptor.getValue().getStatsEntries().size());
+    }
+
     @Test
     public void shouldCompleteFlowStats() {
         Flow flow = buildFlow();
@@ -775,7 +793,7 @@ public class KildaEntryCacheServiceTest {
     @Test
     public void serviceActivationAndDeactivationTest() {
         Flow flow = buildFlow();
-        when(flowRepository.findAll()).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.singletonList(flow));
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         FlowStatsData flowStats = new FlowStatsData(SRC_SWITCH_ID, Collections.singletonList(
@@ -804,38 +822,38 @@ public class KildaEntryCacheServiceTest {
 
     @Test
     public void serviceSingleActivationTest() {
-        when(flowRepository.findAll()).thenReturn(Collections.emptyList());
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.emptyList());
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
 
-        verify(flowRepository, times(1)).findAll();
+        verify(flowRepository, times(1)).findAllWithPaths();
         verify(yFlowRepository, times(1)).findAll();
     }
 
     @Test
     public void serviceDoubleActivationTest() {
-        when(flowRepository.findAll()).thenReturn(Collections.emptyList());
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.emptyList());
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
         service.activate(); // second activation must not refresh cache
 
-        verify(flowRepository, times(1)).findAll();
+        verify(flowRepository, times(1)).findAllWithPaths();
         verify(yFlowRepository, times(1)).findAll();
     }
 
 
     @Test
     public void serviceActivationAfterDeactivationTest() {
-        when(flowRepository.findAll()).thenReturn(Collections.emptyList());
+        when(flowRepository.findAllWithPaths()).thenReturn(Collections.emptyList());
         when(yFlowRepository.findAll()).thenReturn(Collections.emptyList());
 
         service.activate();
         service.deactivate();
         service.activate();
 
-        verify(flowRepository, times(2)).findAll();
+        verify(flowRepository, times(2)).findAllWithPaths();
         verify(yFlowRepository, times(2)).findAll();
     }
 